@@ -0,0 +1,73 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.api;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.apiguardian.api.API;
+
+/**
+ * {@code @StatelessTestInstance} is a type-level annotation that is used to
+ * declare that instances of the annotated test class do not carry any state
+ * from one test method to the next other than the values of their fields.
+ *
+ * <p>For such test classes, the JUnit Jupiter engine reuses test instances
+ * across test methods even though the test class is configured with
+ * {@link TestInstance.Lifecycle#PER_METHOD @TestInstance(Lifecycle.PER_METHOD)}
+ * semantics. Each test method still receives a test instance that is not used
+ * by any other test method at the same time, but instead of instantiating the
+ * test class, resolving constructor parameters, and invoking
+ * {@link org.junit.jupiter.api.extension.TestInstancePostProcessor
+ * TestInstancePostProcessor} extensions for each test method, a previously
+ * used test instance is reset and handed out again. Resetting a test instance
+ * restores the values of all non-static, non-final fields declared in the
+ * test class and its superclasses to the values they had after the test
+ * instance was post-processed. The state of the objects referenced by these
+ * fields is <em>not</em> reset.
+ *
+ * <p>Callbacks that are invoked for each test method, such as
+ * {@link BeforeEach @BeforeEach} methods and
+ * {@link org.junit.jupiter.api.extension.BeforeEachCallback BeforeEachCallback}
+ * extensions, are invoked as usual.
+ * {@link org.junit.jupiter.api.extension.TestInstancePreDestroyCallback
+ * TestInstancePreDestroyCallback} extensions are invoked once for each reused
+ * test instance before {@link AfterAll @AfterAll} methods are executed.
+ *
+ * <p>Test instances are not reused for test methods that register additional
+ * extensions involved in creating or destroying test instances, for
+ * {@link Nested @Nested} test classes, or for
+ * {@link ClassTemplate @ClassTemplate} classes. Furthermore,
+ * {@code @StatelessTestInstance} has no effect on test classes that are
+ * configured with
+ * {@link TestInstance.Lifecycle#PER_CLASS @TestInstance(Lifecycle.PER_CLASS)}
+ * semantics.
+ *
+ * <p>{@code @StatelessTestInstance} may also be used as a meta-annotation in
+ * order to create a custom <em>composed annotation</em> that inherits the
+ * semantics of {@code @StatelessTestInstance}.
+ *
+ * @since 6.0
+ * @see TestInstance
+ */
+@Target({ ElementType.ANNOTATION_TYPE, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+@API(status = EXPERIMENTAL, since = "6.0")
+public @interface StatelessTestInstance {
+}
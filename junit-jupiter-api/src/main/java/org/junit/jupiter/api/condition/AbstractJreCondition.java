@@ -37,6 +37,11 @@ abstract class AbstractJreCondition<A extends Annotation> extends BooleanExecuti
 		super(annotationType, ENABLED_ON_CURRENT_JRE, DISABLED_ON_CURRENT_JRE, customDisabledReason);
 	}
 
+	@Override
+	public boolean isResultCacheable() {
+		return true;
+	}
+
 	protected final IntStream validatedVersions(JRE[] jres, int[] versions) {
 		String annotationName = super.annotationType.getSimpleName();
 
@@ -33,6 +33,11 @@ abstract class AbstractJreRangeCondition<A extends Annotation> extends BooleanEx
 		super(annotationType, ENABLED_ON_CURRENT_JRE, DISABLED_ON_CURRENT_JRE, customDisabledReason);
 	}
 
+	@Override
+	public boolean isResultCacheable() {
+		return true;
+	}
+
 	protected final boolean isCurrentVersionWithinRange(JRE minJre, JRE maxJre, int minVersion, int maxVersion) {
 		String annotationName = super.annotationType.getSimpleName();
 
@@ -42,6 +42,11 @@ abstract class AbstractOsBasedExecutionCondition<A extends Annotation> implement
 				.orElseGet(this::enabledByDefault);
 	}
 
+	@Override
+	public boolean isResultCacheable() {
+		return true;
+	}
+
 	abstract ConditionEvaluationResult evaluateExecutionCondition(A annotation);
 
 	String createReason(boolean enabled, boolean osSpecified, boolean archSpecified) {
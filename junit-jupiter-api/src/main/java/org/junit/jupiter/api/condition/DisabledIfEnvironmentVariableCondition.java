@@ -34,6 +34,11 @@ class DisabledIfEnvironmentVariableCondition
 		super(DisabledIfEnvironmentVariable.class);
 	}
 
+	@Override
+	public boolean isResultCacheable() {
+		return true;
+	}
+
 	@Override
 	protected ConditionEvaluationResult getNoDisabledConditionsEncounteredResult() {
 		return ENABLED;
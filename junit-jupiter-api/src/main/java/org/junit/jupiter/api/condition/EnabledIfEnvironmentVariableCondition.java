@@ -34,6 +34,11 @@ class EnabledIfEnvironmentVariableCondition
 		super(EnabledIfEnvironmentVariable.class);
 	}
 
+	@Override
+	public boolean isResultCacheable() {
+		return true;
+	}
+
 	@Override
 	protected ConditionEvaluationResult getNoDisabledConditionsEncounteredResult() {
 		return ENABLED;
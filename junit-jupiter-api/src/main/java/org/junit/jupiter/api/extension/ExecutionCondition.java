@@ -10,6 +10,7 @@
 
 package org.junit.jupiter.api.extension;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
 import org.apiguardian.api.API;
@@ -70,4 +71,26 @@ public interface ExecutionCondition extends Extension {
 	 */
 	ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context);
 
+	/**
+	 * Determine if the result of evaluating this condition may be cached.
+	 *
+	 * <p>If this method returns {@code true}, the result of evaluating this
+	 * condition must depend solely on the type of this condition and the
+	 * {@linkplain ExtensionContext#getElement() annotated element} of the
+	 * supplied {@link ExtensionContext} &mdash; for example, on annotations
+	 * declared on that element and on properties of the JVM that do not
+	 * change while tests are executed. The engine may then evaluate this
+	 * condition only once per element and reuse the result for the remainder
+	 * of the launcher session.
+	 *
+	 * <p>The default implementation returns {@code false}.
+	 *
+	 * @return {@code true} if results of this condition may be cached
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	default boolean isResultCacheable() {
+		return false;
+	}
+
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.api.extension;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.apiguardian.api.API;
+
+/**
+ * {@code @SharedResource} declares that the annotated test class requires the
+ * resource created by the supplied {@link SharedResourceFactory}.
+ *
+ * <p>As soon as the Jupiter engine starts executing, it starts creating all
+ * shared resources declared by the test classes that are about to be executed
+ * in parallel in the background. Before invoking any
+ * {@link BeforeAllCallback BeforeAllCallbacks} or
+ * {@link org.junit.jupiter.api.BeforeAll @BeforeAll} methods of a test class,
+ * the engine waits until the resources required by that class are available.
+ * Thus, a test class never waits for resources it does not require.
+ *
+ * <p>If the creation of a shared resource fails, all test classes that
+ * require it will fail with the exception thrown by the factory.
+ *
+ * @since 6.0
+ * @see SharedResourceFactory
+ * @see SharedResources
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@Repeatable(SharedResources.class)
+@API(status = EXPERIMENTAL, since = "6.0")
+public @interface SharedResource {
+
+	/**
+	 * The factory used to create the shared resource.
+	 */
+	Class<? extends SharedResourceFactory<?>> value();
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.api.extension;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import org.apiguardian.api.API;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+
+/**
+ * {@code SharedResourceFactory} defines the SPI for creating resources that
+ * are shared by all test classes within a {@code LauncherSession}.
+ *
+ * <p>Test classes declare the resources they require via
+ * {@link SharedResource @SharedResource}. Each resource is created at most
+ * once per launcher session and stored in the
+ * {@link ExtensionContext.StoreScope#LAUNCHER_SESSION LAUNCHER_SESSION}
+ * {@link ExtensionContext.Store Store} in the {@link #NAMESPACE} using the
+ * factory class as key. It may be retrieved as follows.
+ *
+ * <pre class="code">
+ * Database database = extensionContext
+ *     .getStore(StoreScope.LAUNCHER_SESSION, SharedResourceFactory.NAMESPACE)
+ *     .get(DatabaseFactory.class, Database.class);
+ * </pre>
+ *
+ * <p>If the created resource implements {@link AutoCloseable}, it will be
+ * closed when the launcher session is closed.
+ *
+ * <p>Implementations must provide a no-args constructor and may be
+ * instantiated and invoked on a thread other than the one executing the test
+ * classes that require the resource.
+ *
+ * @param <T> the type of the shared resource
+ * @since 6.0
+ * @see SharedResource
+ */
+@FunctionalInterface
+@API(status = EXPERIMENTAL, since = "6.0")
+public interface SharedResourceFactory<T> {
+
+	/**
+	 * The {@link Namespace} in which shared resources are stored.
+	 */
+	Namespace NAMESPACE = Namespace.create(SharedResourceFactory.class);
+
+	/**
+	 * Create the shared resource.
+	 *
+	 * @return the shared resource; never {@code null}
+	 * @throws Exception in case of failures
+	 */
+	T createResource() throws Exception;
+
+}
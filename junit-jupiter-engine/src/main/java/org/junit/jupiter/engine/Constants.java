@@ -13,6 +13,8 @@ package org.junit.jupiter.engine;
 import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 import static org.apiguardian.api.API.Status.STABLE;
+import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_ADAPTIVE_MAX_PARALLELISM_PROPERTY_NAME;
+import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME;
 import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_CUSTOM_CLASS_PROPERTY_NAME;
 import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_DYNAMIC_FACTOR_PROPERTY_NAME;
 import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_FIXED_MAX_POOL_SIZE_PROPERTY_NAME;
@@ -243,8 +245,8 @@ public final class Constants {
 	 * Property name used to select the
 	 * {@link ParallelExecutionConfigurationStrategy}: {@value}
 	 *
-	 * <p>Potential values: {@code dynamic} (default), {@code fixed}, or
-	 * {@code custom}.
+	 * <p>Potential values: {@code dynamic} (default), {@code fixed},
+	 * {@code adaptive}, or {@code custom}.
 	 *
 	 * @since 5.3
 	 */
@@ -311,6 +313,32 @@ public final class Constants {
 	public static final String PARALLEL_CONFIG_DYNAMIC_FACTOR_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
 			+ CONFIG_DYNAMIC_FACTOR_PROPERTY_NAME;
 
+	/**
+	 * Property name used to set the minimum parallelism for the
+	 * {@code adaptive} configuration strategy: {@value}
+	 *
+	 * <p>Value must be a positive integer; defaults to {@code 1}.
+	 *
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String PARALLEL_CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
+			+ CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME;
+
+	/**
+	 * Property name used to set the maximum parallelism for the
+	 * {@code adaptive} configuration strategy: {@value}
+	 *
+	 * <p>Value must be an integer and greater than or equal to
+	 * {@value #PARALLEL_CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME};
+	 * defaults to twice the number of available processors/cores.
+	 *
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String PARALLEL_CONFIG_ADAPTIVE_MAX_PARALLELISM_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
+			+ CONFIG_ADAPTIVE_MAX_PARALLELISM_PROPERTY_NAME;
+
 	/**
 	 * Property name used to specify the fully qualified class name of the
 	 * {@link ParallelExecutionConfigurationStrategy} to be used for the
@@ -464,6 +492,27 @@ public final class Constants {
 	@API(status = MAINTAINED, since = "5.13.3")
 	public static final String DEFAULT_TEST_CLASS_INSTANCE_CONSTRUCTION_EXTENSION_CONTEXT_SCOPE_PROPERTY_NAME = ExtensionContextScope.DEFAULT_SCOPE_PROPERTY_NAME;
 
+	/**
+	 * Property name used to set the strategy used to invoke test, lifecycle,
+	 * and factory methods: {@value}
+	 *
+	 * <h4>Supported Values</h4>
+	 *
+	 * <ul>
+	 * <li>{@code reflection}: invoke methods via
+	 * {@link java.lang.reflect.Method#invoke(Object, Object...)}</li>
+	 * <li>{@code method_handles}: invoke methods via cached
+	 * {@link java.lang.invoke.MethodHandle MethodHandles}, falling back to
+	 * reflection for methods that cannot be accessed via a {@code MethodHandle}</li>
+	 * </ul>
+	 *
+	 * <p>If not specified, the default is {@code reflection}.
+	 *
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String METHOD_INVOCATION_STRATEGY_PROPERTY_NAME = JupiterConfiguration.METHOD_INVOCATION_STRATEGY_PROPERTY_NAME;
+
 	private Constants() {
 		/* no-op */
 	}
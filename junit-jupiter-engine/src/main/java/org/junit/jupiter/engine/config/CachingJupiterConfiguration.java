@@ -31,6 +31,7 @@ import org.junit.jupiter.api.extension.TestInstantiationAwareExtension.Extension
 import org.junit.jupiter.api.io.CleanupMode;
 import org.junit.jupiter.api.io.TempDirFactory;
 import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.engine.support.MethodInvocationStrategy;
 import org.junit.platform.engine.reporting.OutputDirectoryProvider;
 
 /**
@@ -156,4 +157,10 @@ public class CachingJupiterConfiguration implements JupiterConfiguration {
 	public OutputDirectoryProvider getOutputDirectoryProvider() {
 		return delegate.getOutputDirectoryProvider();
 	}
+
+	@Override
+	public MethodInvocationStrategy getMethodInvocationStrategy() {
+		return (MethodInvocationStrategy) cache.computeIfAbsent(METHOD_INVOCATION_STRATEGY_PROPERTY_NAME,
+			__ -> delegate.getMethodInvocationStrategy());
+	}
 }
@@ -32,6 +32,7 @@ import org.junit.jupiter.api.extension.TestInstantiationAwareExtension.Extension
 import org.junit.jupiter.api.io.CleanupMode;
 import org.junit.jupiter.api.io.TempDirFactory;
 import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.engine.support.MethodInvocationStrategy;
 import org.junit.platform.commons.util.ClassNamePatternFilterUtils;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.ConfigurationParameters;
@@ -74,6 +75,9 @@ public class DefaultJupiterConfiguration implements JupiterConfiguration {
 	private static final EnumConfigurationParameterConverter<ExtensionContextScope> extensionContextScopeConverter = //
 		new EnumConfigurationParameterConverter<>(ExtensionContextScope.class, "extension context scope");
 
+	private static final EnumConfigurationParameterConverter<MethodInvocationStrategy> methodInvocationStrategyConverter = //
+		new EnumConfigurationParameterConverter<>(MethodInvocationStrategy.class, "method invocation strategy");
+
 	private final ConfigurationParameters configurationParameters;
 	private final OutputDirectoryProvider outputDirectoryProvider;
 
@@ -207,4 +211,10 @@ public class DefaultJupiterConfiguration implements JupiterConfiguration {
 	public OutputDirectoryProvider getOutputDirectoryProvider() {
 		return outputDirectoryProvider;
 	}
+
+	@Override
+	public MethodInvocationStrategy getMethodInvocationStrategy() {
+		return methodInvocationStrategyConverter.get(configurationParameters, METHOD_INVOCATION_STRATEGY_PROPERTY_NAME,
+			MethodInvocationStrategy.REFLECTION);
+	}
 }
@@ -30,6 +30,7 @@ import org.junit.jupiter.api.io.CleanupMode;
 import org.junit.jupiter.api.io.TempDirFactory;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.engine.support.MethodInvocationStrategy;
 import org.junit.platform.engine.reporting.OutputDirectoryProvider;
 
 /**
@@ -52,6 +53,7 @@ public interface JupiterConfiguration {
 	String DEFAULT_TEST_METHOD_ORDER_PROPERTY_NAME = MethodOrderer.DEFAULT_ORDER_PROPERTY_NAME;
 	String DEFAULT_TEST_CLASS_ORDER_PROPERTY_NAME = ClassOrderer.DEFAULT_ORDER_PROPERTY_NAME;
 	String DEFAULT_TEST_INSTANTIATION_EXTENSION_CONTEXT_SCOPE_PROPERTY_NAME = ExtensionContextScope.DEFAULT_SCOPE_PROPERTY_NAME;
+	String METHOD_INVOCATION_STRATEGY_PROPERTY_NAME = "junit.jupiter.execution.method.invocation.strategy";
 
 	Predicate<Class<? extends Extension>> getFilterForAutoDetectedExtensions();
 
@@ -88,4 +90,6 @@ public interface JupiterConfiguration {
 	ExtensionContextScope getDefaultTestInstantiationExtensionContextScope();
 
 	OutputDirectoryProvider getOutputDirectoryProvider();
+
+	MethodInvocationStrategy getMethodInvocationStrategy();
 }
@@ -35,6 +35,7 @@ import org.junit.jupiter.engine.config.JupiterConfiguration;
 import org.junit.jupiter.engine.execution.DefaultExecutableInvoker;
 import org.junit.jupiter.engine.extension.ExtensionContextInternal;
 import org.junit.jupiter.engine.extension.ExtensionRegistry;
+import org.junit.jupiter.engine.support.MethodInvocationStrategy;
 import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
@@ -261,6 +262,11 @@ abstract class AbstractExtensionContext<T extends TestDescriptor> implements Ext
 		return extensionRegistry.getExtensions(extensionType);
 	}
 
+	@Override
+	public MethodInvocationStrategy getMethodInvocationStrategy() {
+		return this.configuration.getMethodInvocationStrategy();
+	}
+
 	protected abstract Node.ExecutionMode getPlatformExecutionMode();
 
 	private ExecutionMode toJupiterExecutionMode(Node.ExecutionMode mode) {
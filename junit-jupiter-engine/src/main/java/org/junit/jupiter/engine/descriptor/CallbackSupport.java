@@ -16,6 +16,8 @@ import org.junit.jupiter.api.extension.Extension;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.engine.execution.JupiterEngineExecutionContext;
 import org.junit.jupiter.engine.extension.ExtensionRegistry;
+import org.junit.platform.engine.support.hierarchical.FlightRecordingSupport;
+import org.junit.platform.engine.support.hierarchical.FlightRecordingSupport.Recording;
 import org.junit.platform.engine.support.hierarchical.ThrowableCollector;
 
 /**
@@ -31,7 +33,7 @@ class CallbackSupport {
 		ThrowableCollector throwableCollector = context.getThrowableCollector();
 
 		for (T callback : registry.getExtensions(type)) {
-			throwableCollector.execute(() -> callbackInvoker.invoke(callback, extensionContext));
+			throwableCollector.execute(() -> invoke(type, callbackInvoker, callback, extensionContext));
 			if (throwableCollector.isNotEmpty()) {
 				break;
 			}
@@ -46,7 +48,20 @@ class CallbackSupport {
 		ThrowableCollector throwableCollector = context.getThrowableCollector();
 
 		forEachInReverseOrder(registry.getExtensions(type), //
-			callback -> throwableCollector.execute(() -> callbackInvoker.invoke(callback, extensionContext)));
+			callback -> throwableCollector.execute(() -> invoke(type, callbackInvoker, callback, extensionContext)));
+	}
+
+	private static <T extends Extension> void invoke(Class<T> type, CallbackInvoker<T> callbackInvoker, T callback,
+			ExtensionContext extensionContext) throws Throwable {
+
+		Recording recording = FlightRecordingSupport.extensionCallback(type, callback,
+			extensionContext::getUniqueId);
+		try {
+			callbackInvoker.invoke(callback, extensionContext);
+		}
+		finally {
+			recording.end();
+		}
 	}
 
 	@FunctionalInterface
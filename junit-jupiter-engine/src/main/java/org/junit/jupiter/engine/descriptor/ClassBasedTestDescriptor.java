@@ -26,6 +26,7 @@ import static org.junit.jupiter.engine.descriptor.LifecycleMethodUtils.findBefor
 import static org.junit.jupiter.engine.descriptor.LifecycleMethodUtils.findBeforeEachMethods;
 import static org.junit.jupiter.engine.descriptor.TestInstanceLifecycleUtils.getTestInstanceLifecycle;
 import static org.junit.jupiter.engine.support.JupiterThrowableCollectorFactory.createThrowableCollector;
+import static org.junit.platform.commons.support.AnnotationSupport.isAnnotated;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
@@ -39,6 +40,7 @@ import java.util.function.Supplier;
 
 import org.apiguardian.api.API;
 import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.StatelessTestInstance;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.api.extension.AfterAllCallback;
 import org.junit.jupiter.api.extension.BeforeAllCallback;
@@ -220,7 +222,7 @@ public abstract class ClassBasedTestDescriptor extends JupiterTestDescriptor
 
 		// @formatter:off
 		return context.extend()
-				.withTestInstancesProvider(testInstancesProvider(context, extensionContext))
+				.withTestInstancesProvider(testInstancesProvider(context, extensionContext, registry))
 				.withExtensionRegistry(registry)
 				.withExtensionContext(extensionContext)
 				.withThrowableCollector(throwableCollector)
@@ -232,7 +234,10 @@ public abstract class ClassBasedTestDescriptor extends JupiterTestDescriptor
 	public final JupiterEngineExecutionContext before(JupiterEngineExecutionContext context) {
 		ThrowableCollector throwableCollector = context.getThrowableCollector();
 
-		if (isPerClassLifecycle(context)) {
+		throwableCollector.execute(
+			() -> SharedResourceSupport.awaitSharedResources(getTestClass(), context.getLauncherStoreFacade()));
+
+		if (throwableCollector.isEmpty() && isPerClassLifecycle(context)) {
 			// Eagerly load test instance for BeforeAllCallbacks, if necessary,
 			// and store the instance in the ExtensionContext.
 			ClassExtensionContext extensionContext = (ClassExtensionContext) context.getExtensionContext();
@@ -263,6 +268,10 @@ public abstract class ClassBasedTestDescriptor extends JupiterTestDescriptor
 		ThrowableCollector throwableCollector = context.getThrowableCollector();
 		Throwable previousThrowable = throwableCollector.getThrowable();
 
+		if (context.getTestInstancesProvider() instanceof TestInstancePool testInstancePool) {
+			destroyPooledTestInstances(context, testInstancePool);
+		}
+
 		if (context.beforeAllMethodsExecuted()) {
 			invokeAfterAllMethods(context);
 		}
@@ -314,13 +323,39 @@ public abstract class ClassBasedTestDescriptor extends JupiterTestDescriptor
 	}
 
 	private TestInstancesProvider testInstancesProvider(JupiterEngineExecutionContext parentExecutionContext,
-			ClassExtensionContext ourExtensionContext) {
+			ClassExtensionContext ourExtensionContext, ExtensionRegistry ourExtensionRegistry) {
 
 		// For Lifecycle.PER_CLASS, ourExtensionContext.getTestInstances() is used to store the instance.
 		// Otherwise, extensionContext.getTestInstances() is always empty and we always create a new instance.
-		return (registry, context) -> ourExtensionContext.getTestInstances().orElseGet(
-			() -> instantiateAndPostProcessTestInstance(parentExecutionContext, ourExtensionContext, registry,
-				context));
+		TestInstancesProvider testInstancesProvider = (registry, context) -> ourExtensionContext.getTestInstances() //
+				.orElseGet(() -> instantiateAndPostProcessTestInstance(parentExecutionContext, ourExtensionContext,
+					registry, context));
+
+		// For stateless test classes with Lifecycle.PER_METHOD, new instances are only created
+		// if no previously used instance is available for reuse.
+		if (isTestInstanceReuseEnabled()) {
+			boolean resolvesConstructorParameters = this.testInstanceFactory == null
+					&& ReflectionUtils.getDeclaredConstructor(getTestClass()).getParameterCount() > 0;
+			return new TestInstancePool(getTestClass(), ourExtensionRegistry, resolvesConstructorParameters,
+				testInstancesProvider);
+		}
+		return testInstancesProvider;
+	}
+
+	private boolean isTestInstanceReuseEnabled() {
+		return this.classInfo.lifecycle == Lifecycle.PER_METHOD && supportsTestInstanceReuse()
+				&& isAnnotated(getTestClass(), StatelessTestInstance.class);
+	}
+
+	/**
+	 * Determine if test instances of this class may be reused across test
+	 * methods if the test class is declared to be
+	 * {@linkplain StatelessTestInstance stateless}.
+	 *
+	 * @since 6.0
+	 */
+	protected boolean supportsTestInstanceReuse() {
+		return false;
 	}
 
 	private TestInstances instantiateAndPostProcessTestInstance(JupiterEngineExecutionContext parentExecutionContext,
@@ -498,6 +533,17 @@ public abstract class ClassBasedTestDescriptor extends JupiterTestDescriptor
 			TestInstancePreDestroyCallback::preDestroyTestInstance);
 	}
 
+	private void destroyPooledTestInstances(JupiterEngineExecutionContext context, TestInstancePool testInstancePool) {
+		// Reused test instances are destroyed in the context of the test class
+		// since they outlive the test methods that used them.
+		ClassExtensionContext extensionContext = (ClassExtensionContext) context.getExtensionContext();
+		for (TestInstances testInstances : testInstancePool.drain()) {
+			extensionContext.setTestInstances(testInstances);
+			invokeTestInstancePreDestroyCallbacks(context);
+		}
+		extensionContext.setTestInstances(null);
+	}
+
 	private boolean isPerClassLifecycle(JupiterEngineExecutionContext context) {
 		return context.getExtensionContext().getTestInstanceLifecycle().orElse(
 			Lifecycle.PER_METHOD) == Lifecycle.PER_CLASS;
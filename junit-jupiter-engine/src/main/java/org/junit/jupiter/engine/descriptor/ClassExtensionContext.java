@@ -77,7 +77,7 @@ final class ClassExtensionContext extends AbstractExtensionContext<ClassBasedTes
 		return Optional.ofNullable(testInstances);
 	}
 
-	void setTestInstances(TestInstances testInstances) {
+	void setTestInstances(@Nullable TestInstances testInstances) {
 		this.testInstances = testInstances;
 	}
 
@@ -97,6 +97,11 @@ public class ClassTestDescriptor extends ClassBasedTestDescriptor {
 		return instantiateTestClass(Optional.empty(), registry, extensionContext);
 	}
 
+	@Override
+	protected boolean supportsTestInstanceReuse() {
+		return true;
+	}
+
 	// --- ResourceLockAware ---------------------------------------------------
 
 	@Override
@@ -62,6 +62,12 @@ public class JupiterEngineDescriptor extends EngineDescriptor implements Node<Ju
 		// @formatter:on
 	}
 
+	@Override
+	public JupiterEngineExecutionContext before(JupiterEngineExecutionContext context) {
+		SharedResourceSupport.startCreatingSharedResources(this, context.getLauncherStoreFacade());
+		return context;
+	}
+
 	@Override
 	public void cleanUp(JupiterEngineExecutionContext context) throws Exception {
 		context.close();
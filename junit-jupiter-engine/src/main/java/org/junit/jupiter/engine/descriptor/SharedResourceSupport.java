@@ -0,0 +1,140 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.descriptor;
+
+import static org.junit.platform.commons.support.AnnotationSupport.findRepeatableAnnotations;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.extension.ExtensionContext.Store;
+import org.junit.jupiter.api.extension.SharedResource;
+import org.junit.jupiter.api.extension.SharedResourceFactory;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.support.ReflectionSupport;
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.UnrecoverableExceptions;
+import org.junit.platform.engine.TestDescriptor;
+
+/**
+ * Support for creating {@linkplain SharedResource shared resources} in the
+ * launcher session store.
+ *
+ * <p>Resources are stored via
+ * {@link Store#getOrComputeIfAbsent(Object, java.util.function.Function)}
+ * which guarantees that each resource is created at most once and that
+ * concurrent callers for the same resource wait for its creation to complete
+ * while callers for other resources proceed independently.
+ *
+ * @since 6.0
+ */
+class SharedResourceSupport {
+
+	private static final Logger logger = LoggerFactory.getLogger(SharedResourceSupport.class);
+
+	private SharedResourceSupport() {
+		/* no-op */
+	}
+
+	/**
+	 * Start creating all shared resources declared by test classes in the
+	 * subtree of the supplied descriptor in the background.
+	 *
+	 * <p>Each resource is created on its own daemon thread. Failures are
+	 * memoized by the store and reported by the test classes that require
+	 * the failed resource.
+	 */
+	static void startCreatingSharedResources(TestDescriptor rootDescriptor, LauncherStoreFacade launcherStoreFacade) {
+		Set<Class<? extends SharedResourceFactory<?>>> factoryClasses = new LinkedHashSet<>();
+		rootDescriptor.accept(descriptor -> {
+			if (descriptor instanceof ClassBasedTestDescriptor classBasedTestDescriptor) {
+				factoryClasses.addAll(findFactoryClasses(classBasedTestDescriptor.getTestClass()));
+			}
+		});
+		if (factoryClasses.isEmpty()) {
+			return;
+		}
+		Store store = getStore(launcherStoreFacade);
+		ExecutorService executorService = Executors.newFixedThreadPool(factoryClasses.size(),
+			new SharedResourceThreadFactory());
+		try {
+			factoryClasses.forEach(
+				factoryClass -> executorService.execute(() -> getOrCreateSafely(store, factoryClass)));
+		}
+		finally {
+			executorService.shutdown();
+		}
+	}
+
+	/**
+	 * Wait until all shared resources declared by the supplied test class are
+	 * available, creating them on the current thread if necessary.
+	 */
+	static void awaitSharedResources(Class<?> testClass, LauncherStoreFacade launcherStoreFacade) {
+		Set<Class<? extends SharedResourceFactory<?>>> factoryClasses = findFactoryClasses(testClass);
+		if (!factoryClasses.isEmpty()) {
+			Store store = getStore(launcherStoreFacade);
+			factoryClasses.forEach(factoryClass -> getOrCreate(store, factoryClass));
+		}
+	}
+
+	private static Set<Class<? extends SharedResourceFactory<?>>> findFactoryClasses(Class<?> testClass) {
+		Set<Class<? extends SharedResourceFactory<?>>> factoryClasses = new LinkedHashSet<>();
+		findRepeatableAnnotations(testClass, SharedResource.class).forEach(
+			sharedResource -> factoryClasses.add(sharedResource.value()));
+		return factoryClasses;
+	}
+
+	private static Store getStore(LauncherStoreFacade launcherStoreFacade) {
+		return launcherStoreFacade.getSessionLevelStore(SharedResourceFactory.NAMESPACE);
+	}
+
+	private static void getOrCreateSafely(Store store, Class<? extends SharedResourceFactory<?>> factoryClass) {
+		try {
+			getOrCreate(store, factoryClass);
+		}
+		catch (Throwable t) {
+			UnrecoverableExceptions.rethrowIfUnrecoverable(t);
+			logger.debug(t, () -> "Failed to create shared resource via " + factoryClass.getName());
+		}
+	}
+
+	private static void getOrCreate(Store store, Class<? extends SharedResourceFactory<?>> factoryClass) {
+		store.getOrComputeIfAbsent(factoryClass, SharedResourceSupport::createResource);
+	}
+
+	private static Object createResource(Class<? extends SharedResourceFactory<?>> factoryClass) {
+		try {
+			return ReflectionSupport.newInstance(factoryClass).createResource();
+		}
+		catch (Exception ex) {
+			throw ExceptionUtils.throwAsUncheckedException(ex);
+		}
+	}
+
+	private static class SharedResourceThreadFactory implements ThreadFactory {
+
+		private static final AtomicInteger threadNumber = new AtomicInteger(1);
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "junit-shared-resource-" + threadNumber.getAndIncrement());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+
+}
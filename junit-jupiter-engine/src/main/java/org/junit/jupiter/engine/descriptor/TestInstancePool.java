@@ -0,0 +1,219 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.descriptor;
+
+import static org.junit.platform.commons.util.ReflectionUtils.HierarchyTraversalMode.TOP_DOWN;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.StatelessTestInstance;
+import org.junit.jupiter.api.extension.Extension;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.jupiter.api.extension.TestInstancePostProcessor;
+import org.junit.jupiter.api.extension.TestInstancePreConstructCallback;
+import org.junit.jupiter.api.extension.TestInstancePreDestroyCallback;
+import org.junit.jupiter.api.extension.TestInstances;
+import org.junit.jupiter.engine.execution.JupiterEngineExecutionContext;
+import org.junit.jupiter.engine.execution.TestInstancesProvider;
+import org.junit.jupiter.engine.extension.ExtensionRegistry;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.ReflectionUtils;
+
+/**
+ * {@link TestInstancesProvider} that reuses the test instances of a
+ * {@link StatelessTestInstance @StatelessTestInstance} test class across its
+ * test methods.
+ *
+ * <p>Test instances created by the delegate provider are leased to a single
+ * test method at a time. Once {@linkplain #releaseTestInstances released},
+ * the values of their non-static, non-final fields are reset to the values
+ * captured right after the test instances were created and post-processed,
+ * and they are kept for the next test method. Consequently, the pool grows to
+ * the number of test methods of the test class that are executed
+ * concurrently.
+ *
+ * <p>Test instances are only reused for test methods whose extension registry
+ * contains the same extensions involved in creating and destroying test
+ * instances as the extension registry of the test class.
+ *
+ * @since 6.0
+ */
+class TestInstancePool implements TestInstancesProvider {
+
+	private static final Logger logger = LoggerFactory.getLogger(TestInstancePool.class);
+
+	private static final List<Class<? extends Extension>> INSTANCE_LIFECYCLE_EXTENSION_TYPES = List.of(
+		TestInstancePreConstructCallback.class, TestInstancePostProcessor.class, TestInstancePreDestroyCallback.class);
+
+	private final Class<?> testClass;
+	private final TestInstancesProvider delegate;
+	private final List<Class<? extends Extension>> extensionTypes;
+	private final long[] classLevelExtensionCounts;
+
+	private final Deque<PooledTestInstances> idle = new ConcurrentLinkedDeque<>();
+	private final Map<TestInstances, PooledTestInstances> leased = new ConcurrentHashMap<>();
+
+	/**
+	 * @param resolvesConstructorParameters whether {@code ParameterResolver}
+	 * extensions are involved in creating test instances
+	 */
+	TestInstancePool(Class<?> testClass, ExtensionRegistry classLevelRegistry, boolean resolvesConstructorParameters,
+			TestInstancesProvider delegate) {
+		this.testClass = testClass;
+		this.delegate = delegate;
+		List<Class<? extends Extension>> extensionTypes = new ArrayList<>(INSTANCE_LIFECYCLE_EXTENSION_TYPES);
+		if (resolvesConstructorParameters) {
+			extensionTypes.add(ParameterResolver.class);
+		}
+		this.extensionTypes = extensionTypes;
+		this.classLevelExtensionCounts = countInstanceLifecycleExtensions(classLevelRegistry);
+	}
+
+	@Override
+	public TestInstances getTestInstances(ExtensionRegistry extensionRegistry,
+			JupiterEngineExecutionContext executionContext) {
+
+		if (!isReusableFor(extensionRegistry, executionContext)) {
+			return this.delegate.getTestInstances(extensionRegistry, executionContext);
+		}
+
+		PooledTestInstances pooled = this.idle.pollFirst();
+		if (pooled == null) {
+			TestInstances testInstances = this.delegate.getTestInstances(extensionRegistry, executionContext);
+			if (!executionContext.getThrowableCollector().isEmpty()) {
+				return testInstances;
+			}
+			pooled = PooledTestInstances.tryCreate(testInstances);
+			if (pooled == null) {
+				return testInstances;
+			}
+		}
+		else {
+			// Extensions registered programmatically from instance fields are
+			// initialized for each test method, just like for new instances.
+			executionContext.getExtensionRegistry().initializeExtensions(this.testClass,
+				pooled.testInstances.getInnermostInstance());
+		}
+		this.leased.put(pooled.testInstances, pooled);
+		return pooled.testInstances;
+	}
+
+	@Override
+	public boolean isReusable(TestInstances testInstances) {
+		return this.leased.containsKey(testInstances);
+	}
+
+	@Override
+	public void releaseTestInstances(TestInstances testInstances) {
+		PooledTestInstances pooled = this.leased.remove(testInstances);
+		if (pooled == null) {
+			return;
+		}
+		pooled.reset();
+		// Reuse the most recently released instances first since they are
+		// more likely to still be cached.
+		this.idle.offerFirst(pooled);
+	}
+
+	/**
+	 * Remove all idle test instances from this pool so that they can be
+	 * destroyed.
+	 */
+	List<TestInstances> drain() {
+		List<TestInstances> drained = new ArrayList<>(this.idle.size());
+		PooledTestInstances pooled;
+		while ((pooled = this.idle.pollFirst()) != null) {
+			drained.add(pooled.testInstances);
+		}
+		return drained;
+	}
+
+	private boolean isReusableFor(ExtensionRegistry extensionRegistry, JupiterEngineExecutionContext executionContext) {
+		// Test instances requested as enclosing instances of @Nested test
+		// classes are not reused since they are destroyed by the nested test.
+		boolean requestedForTestClass = executionContext.getExtensionContext().getTestClass() //
+				.filter(this.testClass::equals) //
+				.isPresent();
+		return requestedForTestClass && hasClassLevelInstanceLifecycleExtensions(extensionRegistry);
+	}
+
+	private boolean hasClassLevelInstanceLifecycleExtensions(ExtensionRegistry extensionRegistry) {
+		long[] extensionCounts = countInstanceLifecycleExtensions(extensionRegistry);
+		return Arrays.equals(extensionCounts, this.classLevelExtensionCounts);
+	}
+
+	private long[] countInstanceLifecycleExtensions(ExtensionRegistry extensionRegistry) {
+		return this.extensionTypes.stream() //
+				.mapToLong(extensionType -> extensionRegistry.stream(extensionType).count()) //
+				.toArray();
+	}
+
+	private static final class PooledTestInstances {
+
+		private final TestInstances testInstances;
+		private final Field[] fields;
+		private final @Nullable Object[] values;
+
+		static @Nullable PooledTestInstances tryCreate(TestInstances testInstances) {
+			Object instance = testInstances.getInnermostInstance();
+			try {
+				Field[] fields = ReflectionUtils.findFields(instance.getClass(), TestInstancePool::isResettable,
+					TOP_DOWN).stream() //
+						.map(ReflectionUtils::makeAccessible) //
+						.toArray(Field[]::new);
+				@Nullable
+				Object[] values = new Object[fields.length];
+				for (int i = 0; i < fields.length; i++) {
+					values[i] = fields[i].get(instance);
+				}
+				return new PooledTestInstances(testInstances, fields, values);
+			}
+			catch (Exception ex) {
+				logger.debug(ex, () -> "Cannot reuse test instances of " + instance.getClass().getName());
+				return null;
+			}
+		}
+
+		private PooledTestInstances(TestInstances testInstances, Field[] fields, @Nullable Object[] values) {
+			this.testInstances = testInstances;
+			this.fields = fields;
+			this.values = values;
+		}
+
+		void reset() {
+			Object instance = this.testInstances.getInnermostInstance();
+			for (int i = 0; i < this.fields.length; i++) {
+				try {
+					this.fields[i].set(instance, this.values[i]);
+				}
+				catch (IllegalAccessException ex) {
+					throw ExceptionUtils.throwAsUncheckedException(ex);
+				}
+			}
+		}
+
+	}
+
+	private static boolean isResettable(Field field) {
+		return ReflectionUtils.isNotStatic(field) && ReflectionUtils.isNotFinal(field) && !field.isSynthetic();
+	}
+
+}
@@ -168,10 +168,24 @@ public class TestMethodTestDescriptor extends MethodBasedTestDescriptor {
 
 	@Override
 	public void cleanUp(JupiterEngineExecutionContext context) throws Exception {
+		TestInstances reusableTestInstances = null;
 		if (isPerMethodLifecycle(context) && context.getExtensionContext().getTestInstance().isPresent()) {
-			invokeTestInstancePreDestroyCallbacks(context);
+			TestInstances testInstances = context.getExtensionContext().getRequiredTestInstances();
+			if (context.getTestInstancesProvider().isReusable(testInstances)) {
+				reusableTestInstances = testInstances;
+			}
+			else {
+				invokeTestInstancePreDestroyCallbacks(context);
+			}
 		}
 		context.getThrowableCollector().execute(() -> super.cleanUp(context));
+		// Reusable test instances are only released after the method-level
+		// store has been closed since its values may still use them.
+		if (reusableTestInstances != null) {
+			TestInstances testInstances = reusableTestInstances;
+			context.getThrowableCollector().execute(
+				() -> context.getTestInstancesProvider().releaseTestInstances(testInstances));
+		}
 		context.getThrowableCollector().assertEmpty();
 	}
 
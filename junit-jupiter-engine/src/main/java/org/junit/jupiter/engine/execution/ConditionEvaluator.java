@@ -12,10 +12,16 @@ package org.junit.jupiter.engine.execution;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
 
+import java.lang.reflect.AnnotatedElement;
+import java.util.Optional;
+
 import org.apiguardian.api.API;
 import org.junit.jupiter.api.extension.ConditionEvaluationResult;
 import org.junit.jupiter.api.extension.ExecutionCondition;
 import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ExtensionContext.Store;
+import org.junit.jupiter.api.extension.ExtensionContext.StoreScope;
 import org.junit.jupiter.engine.config.JupiterConfiguration;
 import org.junit.jupiter.engine.extension.ExtensionRegistry;
 import org.junit.platform.commons.logging.Logger;
@@ -25,6 +31,10 @@ import org.junit.platform.commons.util.StringUtils;
 /**
  * {@code ConditionEvaluator} evaluates {@link ExecutionCondition} extensions.
  *
+ * <p>Results of conditions that are
+ * {@linkplain ExecutionCondition#isResultCacheable() cacheable} are stored in
+ * the launcher session store per condition type and annotated element.
+ *
  * @since 5.0
  * @see ExecutionCondition
  */
@@ -36,6 +46,8 @@ public class ConditionEvaluator {
 	private static final ConditionEvaluationResult ENABLED = ConditionEvaluationResult.enabled(
 		"No 'disabled' conditions encountered");
 
+	private static final Namespace NAMESPACE = Namespace.create(ConditionEvaluator.class);
+
 	/**
 	 * Evaluate all {@link ExecutionCondition} extensions registered for the
 	 * supplied {@link ExtensionContext}.
@@ -59,6 +71,31 @@ public class ConditionEvaluator {
 	}
 
 	private ConditionEvaluationResult evaluate(ExecutionCondition condition, ExtensionContext context) {
+		Optional<AnnotatedElement> element = context.getElement();
+		if (condition.isResultCacheable() && element.isPresent()) {
+			return evaluateCached(condition, element.get(), context);
+		}
+		return evaluateUncached(condition, context);
+	}
+
+	private ConditionEvaluationResult evaluateCached(ExecutionCondition condition, AnnotatedElement element,
+			ExtensionContext context) {
+
+		Store store = context.getStore(StoreScope.LAUNCHER_SESSION, NAMESPACE);
+		CacheKey key = new CacheKey(condition.getClass(), element);
+		ConditionEvaluationResult result = store.get(key, ConditionEvaluationResult.class);
+		if (result == null) {
+			// Failures are not cached so that they are reported for each element.
+			result = evaluateUncached(condition, context);
+			store.put(key, result);
+		}
+		else {
+			logResult(condition.getClass(), result, context);
+		}
+		return result;
+	}
+
+	private ConditionEvaluationResult evaluateUncached(ExecutionCondition condition, ExtensionContext context) {
 		try {
 			ConditionEvaluationResult result = condition.evaluateExecutionCondition(context);
 			logResult(condition.getClass(), result, context);
@@ -80,4 +117,7 @@ public class ConditionEvaluator {
 			"Failed to evaluate condition [%s]%s".formatted(conditionType.getName(), cause), ex);
 	}
 
+	private record CacheKey(Class<?> conditionType, AnnotatedElement element) {
+	}
+
 }
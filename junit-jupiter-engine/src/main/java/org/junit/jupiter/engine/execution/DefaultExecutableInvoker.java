@@ -22,7 +22,6 @@ import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.extension.ExecutableInvoker;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.engine.extension.ExtensionRegistry;
-import org.junit.jupiter.engine.support.MethodReflectionUtils;
 import org.junit.platform.commons.util.ReflectionUtils;
 
 /**
@@ -52,7 +51,8 @@ public class DefaultExecutableInvoker implements ExecutableInvoker {
 		@Nullable
 		Object[] arguments = resolveParameters(method, Optional.ofNullable(target), extensionContext,
 			extensionRegistry);
-		return MethodReflectionUtils.invoke(method, target, arguments);
+		return InterceptingExecutableInvoker.getMethodInvocationStrategy(extensionContext).invoke(method, target,
+			arguments);
 	}
 
 }
@@ -26,7 +26,9 @@ import org.junit.jupiter.api.extension.InvocationInterceptor.Invocation;
 import org.junit.jupiter.api.extension.ParameterResolver;
 import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
 import org.junit.jupiter.engine.execution.InterceptingExecutableInvoker.ReflectiveInterceptorCall.VoidMethodInterceptorCall;
+import org.junit.jupiter.engine.extension.ExtensionContextInternal;
 import org.junit.jupiter.engine.extension.ExtensionRegistry;
+import org.junit.jupiter.engine.support.MethodInvocationStrategy;
 
 /**
  * {@code InterceptingExecutableInvoker} encapsulates the invocation of a
@@ -94,10 +96,17 @@ public class InterceptingExecutableInvoker {
 				: Optional.ofNullable(target));
 		@Nullable
 		Object[] arguments = resolveParameters(method, optionalTarget, extensionContext, extensionRegistry);
-		MethodInvocation<T> invocation = new MethodInvocation<>(method, optionalTarget, arguments);
+		MethodInvocation<T> invocation = new MethodInvocation<>(method, optionalTarget, arguments,
+			getMethodInvocationStrategy(extensionContext));
 		return invoke(invocation, invocation, extensionContext, extensionRegistry, interceptorCall);
 	}
 
+	static MethodInvocationStrategy getMethodInvocationStrategy(ExtensionContext extensionContext) {
+		return extensionContext instanceof ExtensionContextInternal internal //
+				? internal.getMethodInvocationStrategy() //
+				: MethodInvocationStrategy.REFLECTION;
+	}
+
 	private <E extends Executable, T> T invoke(Invocation<T> originalInvocation,
 			ReflectiveInvocationContext<E> invocationContext, ExtensionContext extensionContext,
 			ExtensionRegistry extensionRegistry, ReflectiveInterceptorCall<E, T> call) {
@@ -20,18 +20,21 @@ import java.util.Optional;
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.extension.InvocationInterceptor.Invocation;
 import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
-import org.junit.jupiter.engine.support.MethodReflectionUtils;
+import org.junit.jupiter.engine.support.MethodInvocationStrategy;
 
 class MethodInvocation<T extends @Nullable Object> implements Invocation<T>, ReflectiveInvocationContext<Method> {
 
 	private final Method method;
 	private final Optional<Object> target;
 	private final @Nullable Object[] arguments;
+	private final MethodInvocationStrategy invocationStrategy;
 
-	MethodInvocation(Method method, Optional<Object> target, @Nullable Object[] arguments) {
+	MethodInvocation(Method method, Optional<Object> target, @Nullable Object[] arguments,
+			MethodInvocationStrategy invocationStrategy) {
 		this.method = method;
 		this.target = target;
 		this.arguments = arguments;
+		this.invocationStrategy = invocationStrategy;
 	}
 
 	@Override
@@ -58,7 +61,7 @@ class MethodInvocation<T extends @Nullable Object> implements Invocation<T>, Ref
 	@SuppressWarnings({ "unchecked", "NullAway" })
 	public T proceed() {
 		var actualTarget = this.target.orElse(null);
-		return (T) MethodReflectionUtils.invoke(this.method, actualTarget, this.arguments);
+		return (T) this.invocationStrategy.invoke(this.method, actualTarget, this.arguments);
 	}
 
 }
@@ -35,6 +35,8 @@ import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.commons.util.StringUtils;
 import org.junit.platform.commons.util.UnrecoverableExceptions;
+import org.junit.platform.engine.support.hierarchical.FlightRecordingSupport;
+import org.junit.platform.engine.support.hierarchical.FlightRecordingSupport.Recording;
 
 /**
  * {@code ParameterResolutionUtils} provides support for dynamic resolution
@@ -119,7 +121,13 @@ public class ParameterResolutionUtils {
 		// Resolve remaining parameters dynamically
 		for (int i = start; i < parameters.length; i++) {
 			ParameterContext parameterContext = new DefaultParameterContext(parameters[i], i, target);
-			values[i] = resolveParameter(parameterContext, executable, extensionContext, extensionRegistry);
+			Recording recording = FlightRecordingSupport.parameterResolution(executable, i, parameters[i]);
+			try {
+				values[i] = resolveParameter(parameterContext, executable, extensionContext, extensionRegistry);
+			}
+			finally {
+				recording.end();
+			}
 		}
 		return values;
 	}
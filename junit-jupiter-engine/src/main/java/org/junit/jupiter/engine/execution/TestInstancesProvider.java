@@ -29,4 +29,24 @@ public interface TestInstancesProvider {
 
 	TestInstances getTestInstances(ExtensionRegistry extensionRegistry, JupiterEngineExecutionContext executionContext);
 
+	/**
+	 * Determine whether the supplied test instances, previously provided by
+	 * this provider, are reused once {@linkplain #releaseTestInstances
+	 * released} and must therefore not be destroyed by the current test.
+	 *
+	 * @since 6.0
+	 */
+	default boolean isReusable(TestInstances testInstances) {
+		return false;
+	}
+
+	/**
+	 * Release the supplied {@linkplain #isReusable reusable} test instances
+	 * once the current test no longer uses them.
+	 *
+	 * @since 6.0
+	 */
+	default void releaseTestInstances(TestInstances testInstances) {
+	}
+
 }
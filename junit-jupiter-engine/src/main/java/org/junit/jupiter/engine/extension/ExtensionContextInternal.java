@@ -17,6 +17,7 @@ import java.util.List;
 import org.apiguardian.api.API;
 import org.junit.jupiter.api.extension.Extension;
 import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.engine.support.MethodInvocationStrategy;
 
 /**
  * {@code ExtensionContextInternal} extends the {@link ExtensionContext} with internal API.
@@ -35,4 +36,13 @@ public interface ExtensionContextInternal extends ExtensionContext {
 	 * @return the list of extensions
 	 */
 	<E extends Extension> List<E> getExtensions(Class<E> extensionType);
+
+	/**
+	 * Returns the configured strategy for invoking test, lifecycle, and
+	 * factory methods.
+	 *
+	 * @return the method invocation strategy; never {@code null}
+	 * @since 6.0
+	 */
+	MethodInvocationStrategy getMethodInvocationStrategy();
 }
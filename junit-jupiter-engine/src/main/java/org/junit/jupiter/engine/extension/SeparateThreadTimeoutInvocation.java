@@ -10,13 +10,20 @@
 
 package org.junit.jupiter.engine.extension;
 
-import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static java.util.Objects.requireNonNullElse;
+import static org.junit.platform.commons.util.ExceptionUtils.throwAsUncheckedException;
 
+import java.io.Serial;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.extension.InvocationInterceptor.Invocation;
+import org.junit.platform.commons.JUnitException;
 
 /**
  * @since 5.9
@@ -25,13 +32,15 @@ class SeparateThreadTimeoutInvocation<T extends @Nullable Object> implements Inv
 
 	private final Invocation<T> delegate;
 	private final TimeoutDuration timeout;
+	private final ExecutorService executor;
 	private final Supplier<String> descriptionSupplier;
 	private final PreInterruptCallbackInvocation preInterruptCallback;
 
-	SeparateThreadTimeoutInvocation(Invocation<T> delegate, TimeoutDuration timeout,
+	SeparateThreadTimeoutInvocation(Invocation<T> delegate, TimeoutDuration timeout, ExecutorService executor,
 			Supplier<String> descriptionSupplier, PreInterruptCallbackInvocation preInterruptCallback) {
 		this.delegate = delegate;
 		this.timeout = timeout;
+		this.executor = executor;
 		this.descriptionSupplier = descriptionSupplier;
 		this.preInterruptCallback = preInterruptCallback;
 	}
@@ -39,14 +48,54 @@ class SeparateThreadTimeoutInvocation<T extends @Nullable Object> implements Inv
 	@Override
 	@SuppressWarnings("NullAway")
 	public T proceed() throws Throwable {
-		return assertTimeoutPreemptively(timeout.toDuration(), delegate::proceed, descriptionSupplier,
-			(__, ___, cause, testThread) -> {
-				TimeoutException exception = TimeoutExceptionFactory.create(descriptionSupplier.get(), timeout, null);
-				if (testThread != null) {
-					preInterruptCallback.executePreInterruptCallback(testThread, exception::addSuppressed);
-				}
-				exception.initCause(cause);
-				return exception;
-			});
+		AtomicReference<@Nullable Thread> threadReference = new AtomicReference<>();
+		Future<T> future = executor.submit(() -> {
+			threadReference.set(Thread.currentThread());
+			try {
+				return delegate.proceed();
+			}
+			catch (Throwable t) {
+				throw throwAsUncheckedException(t);
+			}
+			finally {
+				threadReference.set(null);
+			}
+		});
+		try {
+			return future.get(timeout.value(), timeout.unit());
+		}
+		catch (TimeoutException ex) {
+			throw createTimeoutException(threadReference.get());
+		}
+		catch (ExecutionException ex) {
+			throw requireNonNullElse(ex.getCause(), ex);
+		}
+		finally {
+			// Interrupts the invocation if it is still running
+			future.cancel(true);
+		}
 	}
+
+	private TimeoutException createTimeoutException(@Nullable Thread thread) {
+		TimeoutException exception = TimeoutExceptionFactory.create(descriptionSupplier.get(), timeout, null);
+		if (thread != null) {
+			ExecutionTimeoutException cause = new ExecutionTimeoutException(
+				"Execution timed out in thread " + thread.getName());
+			cause.setStackTrace(thread.getStackTrace());
+			preInterruptCallback.executePreInterruptCallback(thread, exception::addSuppressed);
+			exception.initCause(cause);
+		}
+		return exception;
+	}
+
+	private static class ExecutionTimeoutException extends JUnitException {
+
+		@Serial
+		private static final long serialVersionUID = 1L;
+
+		ExecutionTimeoutException(String message) {
+			super(message);
+		}
+	}
+
 }
@@ -12,11 +12,17 @@ package org.junit.jupiter.engine.extension;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
+import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Timeout.ThreadMode;
 import org.junit.jupiter.api.extension.ExtensionContext.Store;
 import org.junit.jupiter.api.extension.InvocationInterceptor.Invocation;
@@ -40,7 +46,8 @@ class TimeoutInvocationFactory {
 		Preconditions.notNull(timeoutInvocationParameters, "timeout invocation parameters must not be null");
 		if (threadMode == ThreadMode.SEPARATE_THREAD) {
 			return new SeparateThreadTimeoutInvocation<>(timeoutInvocationParameters.getInvocation(),
-				timeoutInvocationParameters.getTimeoutDuration(), timeoutInvocationParameters.getDescriptionSupplier(),
+				timeoutInvocationParameters.getTimeoutDuration(), getThreadExecutorForSeparateThreadInvocation(),
+				timeoutInvocationParameters.getDescriptionSupplier(),
 				timeoutInvocationParameters.getPreInterruptCallback());
 		}
 		return new SameThreadTimeoutInvocation<>(timeoutInvocationParameters.getInvocation(),
@@ -53,16 +60,21 @@ class TimeoutInvocationFactory {
 		return requireNonNull(store.getOrComputeIfAbsent(SingleThreadExecutorResource.class)).get();
 	}
 
+	private ExecutorService getThreadExecutorForSeparateThreadInvocation() {
+		return requireNonNull(store.getOrComputeIfAbsent(CachedThreadPoolExecutorResource.class)).get();
+	}
+
 	@SuppressWarnings({ "deprecation", "try" })
-	private static abstract class ExecutorResource implements Store.CloseableResource, AutoCloseable {
+	private static abstract class ExecutorResource<E extends ExecutorService>
+			implements Store.CloseableResource, AutoCloseable {
 
-		protected final ScheduledExecutorService executor;
+		protected final E executor;
 
-		ExecutorResource(ScheduledExecutorService executor) {
+		ExecutorResource(E executor) {
 			this.executor = executor;
 		}
 
-		ScheduledExecutorService get() {
+		E get() {
 			return executor;
 		}
 
@@ -78,15 +90,98 @@ class TimeoutInvocationFactory {
 	}
 
 	@SuppressWarnings("try")
-	static class SingleThreadExecutorResource extends ExecutorResource {
+	static class SingleThreadExecutorResource extends ExecutorResource<ScheduledExecutorService> {
 
 		@SuppressWarnings("unused")
 		SingleThreadExecutorResource() {
-			super(Executors.newSingleThreadScheduledExecutor(runnable -> {
+			super(createScheduledExecutor());
+		}
+
+		private static ScheduledExecutorService createScheduledExecutor() {
+			ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
 				Thread thread = new Thread(runnable, "junit-jupiter-timeout-watcher");
 				thread.setPriority(Thread.MAX_PRIORITY);
 				return thread;
-			}));
+			});
+			// Most timeouts are cancelled long before they expire; without this
+			// policy their tasks would remain in the queue until their deadline.
+			executor.setRemoveOnCancelPolicy(true);
+			return executor;
+		}
+	}
+
+	/**
+	 * Executor for {@link ThreadMode#SEPARATE_THREAD} invocations that reuses
+	 * idle threads across invocations and creates new threads on demand, for
+	 * example, while previously timed out invocations are still running.
+	 */
+	@SuppressWarnings("try")
+	static class CachedThreadPoolExecutorResource extends ExecutorResource<ExecutorService> {
+
+		@SuppressWarnings("unused")
+		CachedThreadPoolExecutorResource() {
+			super(new ThreadStateRestoringExecutor());
+		}
+
+		@Override
+		public void close() {
+			// All invocations have completed or timed out at this point, so
+			// there is no need to wait for invocations that ignore interrupts.
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Cached thread pool whose threads behave like new threads for each
+	 * invocation as far as possible.
+	 *
+	 * <p>Each invocation runs with the context class loader of the thread
+	 * submitting it, just like a thread created by that thread would. Changes
+	 * to the name, priority, uncaught exception handler, and context class
+	 * loader of a thread as well as its interrupt status are reverted once the
+	 * invocation has finished. Thread-local values cannot be reset; hence,
+	 * threads do not inherit the values of inheritable thread-local variables
+	 * so that those of one invocation are never visible to another.
+	 */
+	private static class ThreadStateRestoringExecutor extends ThreadPoolExecutor {
+
+		ThreadStateRestoringExecutor() {
+			super(0, Integer.MAX_VALUE, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(), new TimeoutThreadFactory());
+		}
+
+		@Override
+		public void execute(Runnable command) {
+			ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+			super.execute(() -> runRestoringThreadState(command, contextClassLoader));
+		}
+
+		private static void runRestoringThreadState(Runnable command, @Nullable ClassLoader contextClassLoader) {
+			Thread thread = Thread.currentThread();
+			String name = thread.getName();
+			int priority = thread.getPriority();
+			ClassLoader originalContextClassLoader = thread.getContextClassLoader();
+			thread.setContextClassLoader(contextClassLoader);
+			try {
+				command.run();
+			}
+			finally {
+				thread.setName(name);
+				thread.setPriority(priority);
+				thread.setUncaughtExceptionHandler(null);
+				thread.setContextClassLoader(originalContextClassLoader);
+				// Clears an interrupt caused by cancelling a timed out invocation
+				Thread.interrupted();
+			}
+		}
+	}
+
+	private static class TimeoutThreadFactory implements ThreadFactory {
+
+		private static final AtomicInteger threadNumber = new AtomicInteger(1);
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			return new Thread(null, runnable, "junit-timeout-thread-" + threadNumber.getAndIncrement(), 0, false);
 		}
 	}
 
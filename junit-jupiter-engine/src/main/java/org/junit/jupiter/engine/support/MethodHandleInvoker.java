@@ -0,0 +1,92 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.support;
+
+import static org.junit.platform.commons.util.ReflectionUtils.isStatic;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.support.ReflectionSupport;
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.commons.util.ReflectionUtils;
+
+/**
+ * Invokes methods via {@link MethodHandle MethodHandles} that are adapted to
+ * the uniform type {@code (Object, Object[])Object} and cached per
+ * {@link Method}.
+ *
+ * <p>Handles are cached in a {@link ClassValue} keyed by the declaring class
+ * of each method so that they do not prevent the class from being unloaded.
+ *
+ * @since 6.0
+ * @see MethodInvocationStrategy#METHOD_HANDLES
+ */
+class MethodHandleInvoker {
+
+	private static final Logger logger = LoggerFactory.getLogger(MethodHandleInvoker.class);
+
+	private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+	private static final ClassValue<Map<Method, Optional<MethodHandle>>> handlesByDeclaringClass = new ClassValue<>() {
+		@Override
+		protected Map<Method, Optional<MethodHandle>> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	static @Nullable Object invoke(Method method, @Nullable Object target, @Nullable Object[] arguments) {
+		Optional<MethodHandle> handle = handlesByDeclaringClass.get(method.getDeclaringClass()) //
+				.computeIfAbsent(method, MethodHandleInvoker::createHandle);
+		if (handle.isEmpty()) {
+			return ReflectionSupport.invokeMethod(method, target, arguments);
+		}
+		Preconditions.condition((target != null || isStatic(method)),
+			() -> String.format("Cannot invoke non-static method [%s] on a null target.", method.toGenericString()));
+		try {
+			return (Object) handle.get().invokeExact((Object) target, (Object[]) arguments);
+		}
+		catch (Throwable t) {
+			throw ExceptionUtils.throwAsUncheckedException(t);
+		}
+	}
+
+	private static Optional<MethodHandle> createHandle(Method method) {
+		try {
+			MethodHandle handle = MethodHandles.lookup().unreflect(ReflectionUtils.makeAccessible(method)).asFixedArity();
+			int parameterCount = method.getParameterCount();
+			if (isStatic(method)) {
+				handle = handle.asType(MethodType.genericMethodType(parameterCount)) //
+						.asSpreader(Object[].class, parameterCount);
+				handle = MethodHandles.dropArguments(handle, 0, Object.class);
+			}
+			else {
+				handle = handle.asType(MethodType.genericMethodType(parameterCount + 1)) //
+						.asSpreader(Object[].class, parameterCount);
+			}
+			return Optional.of(handle.asType(INVOKER_TYPE));
+		}
+		catch (Exception ex) {
+			logger.debug(ex, () -> "Falling back to reflection for method [%s]".formatted(method.toGenericString()));
+			return Optional.empty();
+		}
+	}
+
+}
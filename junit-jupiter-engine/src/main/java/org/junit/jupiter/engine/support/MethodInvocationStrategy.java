@@ -0,0 +1,79 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.support;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.junit.platform.commons.util.KotlinReflectionUtils.isKotlinSuspendingFunction;
+
+import java.lang.reflect.Method;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Strategy used by the Jupiter engine to invoke test, lifecycle, and
+ * factory methods.
+ *
+ * <p>The strategy can be configured via the
+ * {@value org.junit.jupiter.engine.config.JupiterConfiguration#METHOD_INVOCATION_STRATEGY_PROPERTY_NAME}
+ * configuration parameter.
+ *
+ * @since 6.0
+ * @see MethodReflectionUtils#invoke(Method, Object, Object[])
+ */
+@API(status = INTERNAL, since = "6.0")
+public enum MethodInvocationStrategy {
+
+	/**
+	 * Invoke methods via {@link Method#invoke(Object, Object...)}.
+	 *
+	 * <p>This is the default strategy.
+	 */
+	REFLECTION {
+		@Override
+		public @Nullable Object invoke(Method method, @Nullable Object target, @Nullable Object[] arguments) {
+			return MethodReflectionUtils.invoke(method, target, arguments);
+		}
+	},
+
+	/**
+	 * Invoke methods via {@link java.lang.invoke.MethodHandle MethodHandles}
+	 * that are created once per {@link Method} and cached for subsequent
+	 * invocations.
+	 *
+	 * <p>Falls back to {@link #REFLECTION} for methods that cannot be
+	 * unreflected (e.g., due to module access restrictions) and for Kotlin
+	 * suspending functions.
+	 */
+	METHOD_HANDLES {
+		@Override
+		public @Nullable Object invoke(Method method, @Nullable Object target, @Nullable Object[] arguments) {
+			if (isKotlinSuspendingFunction(method)) {
+				return MethodReflectionUtils.invoke(method, target, arguments);
+			}
+			return MethodHandleInvoker.invoke(method, target, arguments);
+		}
+	};
+
+	/**
+	 * Invoke the supplied method on the supplied target with the supplied
+	 * arguments.
+	 *
+	 * @param method the method to invoke; never {@code null}
+	 * @param target the target on which to invoke the method; may be
+	 * {@code null} for {@code static} methods
+	 * @param arguments the arguments to pass to the method; never {@code null}
+	 * @return the value returned by the method; {@code null} for {@code void}
+	 * methods
+	 */
+	public abstract @Nullable Object invoke(Method method, @Nullable Object target, @Nullable Object[] arguments);
+
+}
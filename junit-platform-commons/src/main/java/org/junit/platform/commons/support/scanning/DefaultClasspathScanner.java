@@ -24,8 +24,11 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
@@ -35,6 +38,7 @@ import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
 import org.junit.platform.commons.PreconditionViolationException;
 import org.junit.platform.commons.function.Try;
 import org.junit.platform.commons.logging.Logger;
@@ -64,12 +68,19 @@ public class DefaultClasspathScanner implements ClasspathScanner {
 		CLASSPATH_RESOURCE_PATH_SEPARATOR);
 	private static final char PACKAGE_SEPARATOR_CHAR = '.';
 	private static final String PACKAGE_SEPARATOR_STRING = String.valueOf(PACKAGE_SEPARATOR_CHAR);
+	private static final String JAR_ENTRY_SEPARATOR = "!/";
 
 	/**
 	 * Malformed class name InternalError like reported in #401.
 	 */
 	private static final String MALFORMED_CLASS_NAME_ERROR_MESSAGE = "Malformed class name";
 
+	/**
+	 * Class files found per scanned URI while
+	 * {@link #withCachedScanResults(Supplier)} is active on the current thread.
+	 */
+	private static final ThreadLocal<@Nullable Map<ScanKey, List<ClassFile>>> classFileCache = new ThreadLocal<>();
+
 	private final Supplier<ClassLoader> classLoaderSupplier;
 
 	private final BiFunction<String, ClassLoader, Try<Class<?>>> loadClass;
@@ -81,6 +92,36 @@ public class DefaultClasspathScanner implements ClasspathScanner {
 		this.loadClass = loadClass;
 	}
 
+	/**
+	 * Execute the supplied action while caching the class files found when
+	 * scanning for classes on the current thread.
+	 *
+	 * <p>While the action is executed, each classpath root is only traversed
+	 * once per base package and class loader. Subsequent scans of the same
+	 * root apply their {@link ClassFilter} to the cached class names. This is
+	 * useful when multiple discovery requests that are executed one after
+	 * another select overlapping packages, e.g. for multiple suites.
+	 *
+	 * <p>Nested invocations share the cache of the outermost invocation.
+	 *
+	 * @param action the action to execute; never {@code null}
+	 * @return the result of the action
+	 * @since 6.0
+	 */
+	@API(status = INTERNAL, since = "6.0")
+	public static <T> T withCachedScanResults(Supplier<T> action) {
+		if (classFileCache.get() != null) {
+			return action.get();
+		}
+		classFileCache.set(new HashMap<>());
+		try {
+			return action.get();
+		}
+		finally {
+			classFileCache.remove();
+		}
+	}
+
 	@Override
 	public List<Class<?>> scanForClassesInPackage(String basePackageName, ClassFilter classFilter) {
 		Preconditions.condition(
@@ -136,12 +177,64 @@ public class DefaultClasspathScanner implements ClasspathScanner {
 
 	private List<Class<?>> findClassesForUri(URI baseUri, String basePackageName, ClassFilter classFilter) {
 		List<Class<?>> classes = new ArrayList<>();
+		for (ClassFile classFile : findClassFilesForUri(baseUri, basePackageName)) {
+			processClassFileSafely(classFile, classFilter, classes::add);
+		}
+		return classes;
+	}
+
+	private List<ClassFile> findClassFilesForUri(URI baseUri, String basePackageName) {
+		Map<ScanKey, List<ClassFile>> cache = classFileCache.get();
+		if (cache == null) {
+			return walkClassFilesForUri(baseUri, basePackageName);
+		}
+		return cache.computeIfAbsent(new ScanKey(getClassLoader(), baseUri, basePackageName),
+			key -> walkClassFilesForUri(baseUri, basePackageName));
+	}
+
+	private List<ClassFile> walkClassFilesForUri(URI baseUri, String basePackageName) {
+		Optional<JarEntryIndex.Directory> jarDirectory = JarEntryIndex.findDirectory(baseUri);
+		if (jarDirectory.isPresent()) {
+			return findClassFilesInJar(baseUri, jarDirectory.get(), basePackageName);
+		}
+		List<ClassFile> classFiles = new ArrayList<>();
 		// @formatter:off
 		walkFilesForUri(baseUri, ClasspathFilters.classFiles(),
 				(baseDir, file) ->
-						processClassFileSafely(baseDir, basePackageName, classFilter, file, classes::add));
+						determineClassFileSafely(baseDir, basePackageName, file, classFiles::add));
 		// @formatter:on
-		return classes;
+		return classFiles;
+	}
+
+	/**
+	 * Find class files in the supplied directory of a jar file using its
+	 * {@link JarEntryIndex} so that entry names are filtered before any
+	 * objects are created for them.
+	 */
+	private List<ClassFile> findClassFilesInJar(URI baseUri, JarEntryIndex.Directory directory,
+			String basePackageName) {
+		List<ClassFile> classFiles = new ArrayList<>();
+		try {
+			JarEntryIndex index = JarEntryIndex.get(directory.jarFile());
+			Preconditions.condition(index.containsDirectory(directory.name()),
+				() -> "baseDir must exist: " + directory.name());
+			String classNamePrefix = basePackageName.isEmpty() ? "" : basePackageName + PACKAGE_SEPARATOR_CHAR;
+			int directoryNameLength = directory.name().length();
+			index.forEachClassFile(directory.name(), entryName -> {
+				String relativeClassName = entryName.substring(directoryNameLength,
+					entryName.length() - CLASS_FILE_SUFFIX.length());
+				classFiles.add(new ClassFile(
+					classNamePrefix + relativeClassName.replace(CLASSPATH_RESOURCE_PATH_SEPARATOR, PACKAGE_SEPARATOR_CHAR),
+					() -> directory.jarFile().toAbsolutePath() + JAR_ENTRY_SEPARATOR + entryName));
+			});
+		}
+		catch (PreconditionViolationException ex) {
+			throw ex;
+		}
+		catch (Exception ex) {
+			logger.warn(ex, () -> "Error scanning files for URI " + baseUri);
+		}
+		return classFiles;
 	}
 
 	/**
@@ -188,10 +281,21 @@ public class DefaultClasspathScanner implements ClasspathScanner {
 		}
 	}
 
-	private void processClassFileSafely(Path baseDir, String basePackageName, ClassFilter classFilter, Path classFile,
-			Consumer<Class<?>> classConsumer) {
+	private void determineClassFileSafely(Path baseDir, String basePackageName, Path classFile,
+			Consumer<ClassFile> classFileConsumer) {
 		try {
 			String fullyQualifiedClassName = determineFullyQualifiedClassName(baseDir, basePackageName, classFile);
+			classFileConsumer.accept(new ClassFile(fullyQualifiedClassName, () -> describe(classFile)));
+		}
+		catch (Throwable throwable) {
+			handleThrowable(() -> describe(classFile), throwable);
+		}
+	}
+
+	private void processClassFileSafely(ClassFile classFile, ClassFilter classFilter,
+			Consumer<Class<?>> classConsumer) {
+		try {
+			String fullyQualifiedClassName = classFile.className();
 			if (classFilter.match(fullyQualifiedClassName)) {
 				try {
 					// @formatter:off
@@ -202,12 +306,12 @@ public class DefaultClasspathScanner implements ClasspathScanner {
 					// @formatter:on
 				}
 				catch (InternalError internalError) {
-					handleInternalError(classFile, fullyQualifiedClassName, internalError);
+					handleInternalError(classFile.location(), fullyQualifiedClassName, internalError);
 				}
 			}
 		}
 		catch (Throwable throwable) {
-			handleThrowable(classFile, throwable);
+			handleThrowable(classFile.location(), throwable);
 		}
 	}
 
@@ -223,7 +327,7 @@ public class DefaultClasspathScanner implements ClasspathScanner {
 			// @formatter:on
 		}
 		catch (Throwable throwable) {
-			handleThrowable(resourceFile, throwable);
+			handleThrowable(() -> describe(resourceFile), throwable);
 		}
 	}
 
@@ -279,7 +383,7 @@ public class DefaultClasspathScanner implements ClasspathScanner {
 		return subpackageName;
 	}
 
-	private void handleInternalError(Path classFile, String fullyQualifiedClassName, InternalError ex) {
+	private void handleInternalError(Supplier<String> classFile, String fullyQualifiedClassName, InternalError ex) {
 		if (MALFORMED_CLASS_NAME_ERROR_MESSAGE.equals(ex.getMessage())) {
 			logMalformedClassName(classFile, fullyQualifiedClassName, ex);
 		}
@@ -288,16 +392,17 @@ public class DefaultClasspathScanner implements ClasspathScanner {
 		}
 	}
 
-	private void handleThrowable(Path classFile, Throwable throwable) {
+	private void handleThrowable(Supplier<String> classFile, Throwable throwable) {
 		UnrecoverableExceptions.rethrowIfUnrecoverable(throwable);
 		logGenericFileProcessingException(classFile, throwable);
 	}
 
-	private void logMalformedClassName(Path classFile, String fullyQualifiedClassName, InternalError ex) {
+	private void logMalformedClassName(Supplier<String> classFile, String fullyQualifiedClassName,
+			InternalError ex) {
 		try {
 			logger.debug(ex,
 				() -> "The java.lang.Class loaded from path [%s] has a malformed class name [%s].".formatted(
-					classFile.toAbsolutePath(), fullyQualifiedClassName));
+					classFile.get(), fullyQualifiedClassName));
 		}
 		catch (Throwable t) {
 			UnrecoverableExceptions.rethrowIfUnrecoverable(t);
@@ -306,9 +411,13 @@ public class DefaultClasspathScanner implements ClasspathScanner {
 		}
 	}
 
-	private void logGenericFileProcessingException(Path classpathFile, Throwable throwable) {
+	private void logGenericFileProcessingException(Supplier<String> classpathFile, Throwable throwable) {
 		logger.debug(throwable,
-			() -> "Failed to load [%s] during classpath scanning.".formatted(classpathFile.toAbsolutePath()));
+			() -> "Failed to load [%s] during classpath scanning.".formatted(classpathFile.get()));
+	}
+
+	private static String describe(Path classpathFile) {
+		return classpathFile.toAbsolutePath().toString();
 	}
 
 	private ClassLoader getClassLoader() {
@@ -356,4 +465,17 @@ public class DefaultClasspathScanner implements ClasspathScanner {
 		}
 	}
 
+	/**
+	 * A class file found while scanning.
+	 *
+	 * @param className the fully qualified name of the class
+	 * @param location a description of the location of the class file that
+	 * is only computed when needed for logging
+	 */
+	private record ClassFile(String className, Supplier<String> location) {
+	}
+
+	private record ScanKey(ClassLoader classLoader, URI baseUri, String basePackageName) {
+	}
+
 }
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.support.scanning;
+
+import static java.util.Collections.synchronizedMap;
+import static org.junit.platform.commons.support.scanning.ClasspathFilters.CLASS_FILE_SUFFIX;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.junit.platform.commons.util.LruCache;
+
+/**
+ * Sorted index of the entry names of a jar file.
+ *
+ * <p>The index is read from the central directory of the jar file via
+ * {@link ZipFile} instead of walking a {@code ZipFileSystem}, so that no
+ * {@link Path} objects need to be created for its entries. Indexes are
+ * cached per jar file and reused as long as the size and last modified time
+ * of the jar file do not change.
+ *
+ * @since 6.0
+ */
+final class JarEntryIndex {
+
+	private static final String FILE_URI_SCHEME = "file";
+	private static final String JAR_URI_PREFIX = CloseablePath.JAR_URI_SCHEME + ':';
+	private static final String JAR_FILE_EXTENSION = ".jar";
+	private static final String JAR_URI_SEPARATOR = "!/";
+	private static final char ENTRY_NAME_SEPARATOR = '/';
+
+	private static final String PACKAGE_INFO_FILE_NAME = "package-info" + CLASS_FILE_SUFFIX;
+	private static final String MODULE_INFO_FILE_NAME = "module-info" + CLASS_FILE_SUFFIX;
+
+	private static final int MAX_CACHED_INDEXES = 15;
+
+	private static final Map<Path, JarEntryIndex> cache = synchronizedMap(new LruCache<>(MAX_CACHED_INDEXES));
+
+	private final long size;
+	private final FileTime lastModifiedTime;
+	private final String[] entryNames;
+
+	/**
+	 * Find the directory within a local jar file that the supplied URI
+	 * refers to.
+	 *
+	 * <p>Supports {@code jar:file:...!/<directory>} URIs and {@code file:}
+	 * URIs of jar files. Returns an empty {@code Optional} for all other URIs,
+	 * including those of nested jar files.
+	 */
+	static Optional<Directory> findDirectory(URI uri) {
+		try {
+			String uriString = uri.toString();
+			if (uriString.startsWith(JAR_URI_PREFIX)) {
+				// Parsing: jar:<url>!/[<entry>], see java.net.JarURLConnection
+				int separatorIndex = uriString.indexOf(JAR_URI_SEPARATOR);
+				if (separatorIndex < 0 || separatorIndex != uriString.lastIndexOf(JAR_URI_SEPARATOR)) {
+					return Optional.empty();
+				}
+				URI jarUri = new URI(uriString.substring(JAR_URI_PREFIX.length(), separatorIndex));
+				if (!FILE_URI_SCHEME.equals(jarUri.getScheme())) {
+					return Optional.empty();
+				}
+				String entryName = uriString.substring(separatorIndex + JAR_URI_SEPARATOR.length());
+				return Optional.of(new Directory(Path.of(jarUri), toDirectoryName(entryName)));
+			}
+			if (FILE_URI_SCHEME.equals(uri.getScheme()) && uri.getPath().endsWith(JAR_FILE_EXTENSION)) {
+				return Optional.of(new Directory(Path.of(uri), ""));
+			}
+		}
+		catch (URISyntaxException | IllegalArgumentException ex) {
+			// fall through
+		}
+		return Optional.empty();
+	}
+
+	private static String toDirectoryName(String entryName) {
+		if (entryName.isEmpty() || entryName.charAt(entryName.length() - 1) == ENTRY_NAME_SEPARATOR) {
+			return entryName;
+		}
+		return entryName + ENTRY_NAME_SEPARATOR;
+	}
+
+	/**
+	 * Get the index of the supplied jar file, reading it if it has not been
+	 * cached yet or if the jar file has changed since it was read.
+	 */
+	static JarEntryIndex get(Path jarFile) throws IOException {
+		BasicFileAttributes attributes = Files.readAttributes(jarFile, BasicFileAttributes.class);
+		JarEntryIndex index = cache.get(jarFile);
+		if (index == null || !index.isUpToDate(attributes)) {
+			index = read(jarFile, attributes);
+			cache.put(jarFile, index);
+		}
+		return index;
+	}
+
+	private static JarEntryIndex read(Path jarFile, BasicFileAttributes attributes) throws IOException {
+		try (ZipFile zipFile = new ZipFile(jarFile.toFile())) {
+			String[] entryNames = zipFile.stream().map(ZipEntry::getName).toArray(String[]::new);
+			Arrays.sort(entryNames);
+			return new JarEntryIndex(attributes, entryNames);
+		}
+	}
+
+	private JarEntryIndex(BasicFileAttributes attributes, String[] entryNames) {
+		this.size = attributes.size();
+		this.lastModifiedTime = attributes.lastModifiedTime();
+		this.entryNames = entryNames;
+	}
+
+	private boolean isUpToDate(BasicFileAttributes attributes) {
+		return size == attributes.size() && lastModifiedTime.equals(attributes.lastModifiedTime());
+	}
+
+	/**
+	 * Determine whether the supplied directory exists in this jar file,
+	 * either as an explicit entry or implicitly as the parent of an entry.
+	 */
+	boolean containsDirectory(String directoryName) {
+		if (directoryName.isEmpty()) {
+			return true;
+		}
+		int index = firstIndexOf(directoryName);
+		return index < entryNames.length && entryNames[index].startsWith(directoryName);
+	}
+
+	/**
+	 * Pass the names of all class files, excluding {@code package-info} and
+	 * {@code module-info} class files, in the supplied directory and its
+	 * subdirectories to the supplied consumer.
+	 */
+	void forEachClassFile(String directoryName, Consumer<String> entryNameConsumer) {
+		for (int i = firstIndexOf(directoryName); i < entryNames.length; i++) {
+			String entryName = entryNames[i];
+			if (!entryName.startsWith(directoryName)) {
+				break;
+			}
+			if (isClassFile(entryName)) {
+				entryNameConsumer.accept(entryName);
+			}
+		}
+	}
+
+	private int firstIndexOf(String prefix) {
+		int index = Arrays.binarySearch(entryNames, prefix);
+		return index < 0 ? -index - 1 : index;
+	}
+
+	private static boolean isClassFile(String entryName) {
+		return entryName.endsWith(CLASS_FILE_SUFFIX) //
+				&& !isFileNamed(entryName, PACKAGE_INFO_FILE_NAME) //
+				&& !isFileNamed(entryName, MODULE_INFO_FILE_NAME);
+	}
+
+	private static boolean isFileNamed(String entryName, String fileName) {
+		int fileNameIndex = entryName.length() - fileName.length();
+		return entryName.endsWith(fileName) //
+				&& (fileNameIndex == 0 || entryName.charAt(fileNameIndex - 1) == ENTRY_NAME_SEPARATOR);
+	}
+
+	/**
+	 * A directory within a local jar file.
+	 *
+	 * @param jarFile the path of the jar file
+	 * @param name the entry name of the directory, ending with {@code /}
+	 * unless it denotes the root of the jar file
+	 */
+	record Directory(Path jarFile, String name) {
+	}
+
+}
@@ -10,8 +10,11 @@
 
 package org.junit.platform.commons.util;
 
+import static java.util.Collections.unmodifiableMap;
 import static java.util.Objects.requireNonNull;
 import static java.util.function.Predicate.isEqual;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
 import static java.util.stream.Collectors.toCollection;
 import static java.util.stream.Collectors.toSet;
 import static org.apiguardian.api.API.Status.INTERNAL;
@@ -25,10 +28,14 @@ import java.lang.module.ResolvedModule;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -118,6 +125,49 @@ public class ModuleUtils {
 		return scan(moduleReferences, filter, ModuleUtils.class.getClassLoader());
 	}
 
+	/**
+	 * Find all {@linkplain Class classes} for the given module names.
+	 *
+	 * <p>The contents of the modules are listed and their classes are loaded
+	 * concurrently; the class-level predicate of the supplied filter is
+	 * applied on the calling thread.
+	 *
+	 * @param moduleNames the names of the modules to scan; never {@code null}
+	 * and never containing {@code null} or <em>empty</em> names
+	 * @param filter the class filter to apply; never {@code null}
+	 * @return an immutable map from each supplied module name to an immutable
+	 * list of all classes found in the module, in the iteration order of the
+	 * supplied names; never {@code null}
+	 * @since 6.0
+	 */
+	@API(status = INTERNAL, since = "6.0")
+	public static Map<String, List<Class<?>>> findAllClassesInModules(Collection<String> moduleNames,
+			ClassFilter filter) {
+		Preconditions.notNull(moduleNames, "Module names must not be null");
+		moduleNames.forEach(name -> Preconditions.notBlank(name, "Module name must not be null or empty"));
+		Preconditions.notNull(filter, "Class filter must not be null");
+
+		logger.debug(() -> "Looking for classes in modules: " + moduleNames);
+		Set<String> requestedNames = Set.copyOf(moduleNames);
+		// @formatter:off
+		Map<String, Set<ModuleReference>> moduleReferences = streamResolvedModules(requestedNames::contains)
+				.collect(groupingBy(ResolvedModule::name, mapping(ResolvedModule::reference, toSet())));
+		// @formatter:on
+		ClassLoader loader = ModuleUtils.class.getClassLoader();
+		Map<String, List<Class<?>>> result = new LinkedHashMap<>();
+		for (String moduleName : moduleNames) {
+			result.put(moduleName, List.of());
+		}
+		Map<String, List<Class<?>>> candidates = new ConcurrentHashMap<>();
+		// @formatter:off
+		Stream<Map.Entry<String, Set<ModuleReference>>> entries = moduleReferences.entrySet().stream();
+		(moduleReferences.size() > 1 ? entries.parallel() : entries)
+				.forEach(entry -> candidates.put(entry.getKey(), loadCandidates(entry.getValue(), filter, loader)));
+		// @formatter:on
+		candidates.forEach((moduleName, classes) -> result.put(moduleName, applyClassPredicate(classes, filter)));
+		return unmodifiableMap(result);
+	}
+
 	/**
 	 * Find all {@linkplain Resource resources} for the given module name.
 	 *
@@ -173,14 +223,34 @@ public class ModuleUtils {
 	 * filter, and loader.
 	 */
 	private static List<Class<?>> scan(Set<ModuleReference> references, ClassFilter filter, ClassLoader loader) {
+		List<Class<?>> classes = applyClassPredicate(loadCandidates(references, filter, loader), filter);
+		logger.debug(() -> "Found " + classes.size() + " classes: " + classes);
+		return classes;
+	}
+
+	/**
+	 * Load all classes in the supplied module references whose names match the
+	 * supplied class filter, scanning the references concurrently.
+	 */
+	private static List<Class<?>> loadCandidates(Set<ModuleReference> references, ClassFilter filter,
+			ClassLoader loader) {
 		logger.debug(() -> "Scanning " + references.size() + " module references: " + references);
 		ModuleReferenceClassScanner scanner = new ModuleReferenceClassScanner(filter, loader);
-		List<Class<?>> classes = new ArrayList<>();
-		for (ModuleReference reference : references) {
-			classes.addAll(scanner.scan(reference));
-		}
-		logger.debug(() -> "Found " + classes.size() + " classes: " + classes);
-		return List.copyOf(classes);
+		// @formatter:off
+		Stream<ModuleReference> stream = references.stream();
+		return (references.size() > 1 ? stream.parallel() : stream)
+				.map(scanner::loadCandidates)
+				.flatMap(List::stream)
+				.toList();
+		// @formatter:on
+	}
+
+	/**
+	 * Apply the class-level predicate of the supplied filter on the calling
+	 * thread since it is not required to be thread-safe.
+	 */
+	private static List<Class<?>> applyClassPredicate(List<Class<?>> candidates, ClassFilter filter) {
+		return candidates.stream().filter(filter::match).toList();
 	}
 
 	/**
@@ -206,6 +276,12 @@ public class ModuleUtils {
 	 */
 	static class ModuleReferenceClassScanner {
 
+		/**
+		 * Minimum number of candidate classes in a module for which they are
+		 * loaded concurrently.
+		 */
+		private static final int PARALLEL_LOADING_THRESHOLD = 64;
+
 		private final ClassFilter classFilter;
 		private final ClassLoader classLoader;
 
@@ -218,6 +294,27 @@ public class ModuleUtils {
 		 * Scan module reference for classes that potentially contain testable methods.
 		 */
 		List<Class<?>> scan(ModuleReference reference) {
+			return applyClassPredicate(loadCandidates(reference), classFilter);
+		}
+
+		/**
+		 * Load all classes in the module reference whose names match the class
+		 * filter without applying its class-level predicate.
+		 *
+		 * <p>If the module contains enough candidates, they are loaded
+		 * concurrently while preserving their order.
+		 */
+		List<Class<?>> loadCandidates(ModuleReference reference) {
+			List<String> classNames = listClassNames(reference);
+			Stream<String> stream = classNames.stream();
+			// @formatter:off
+			return (classNames.size() >= PARALLEL_LOADING_THRESHOLD ? stream.parallel() : stream)
+					.<Class<?>> map(this::loadClassUnchecked)
+					.toList();
+			// @formatter:on
+		}
+
+		private List<String> listClassNames(ModuleReference reference) {
 			try (ModuleReader reader = reference.open()) {
 				try (Stream<String> names = reader.list()) {
 					// @formatter:off
@@ -225,8 +322,6 @@ public class ModuleUtils {
 							.map(this::className)
 							.filter(name -> !name.equals("module-info"))
 							.filter(classFilter::match)
-							.<Class<?>> map(this::loadClassUnchecked)
-							.filter(classFilter::match)
 							.toList();
 					// @formatter:on
 				}
@@ -16,6 +16,7 @@
  */
 module org.junit.platform.console {
 
+	requires static java.management;
 	requires static org.apiguardian.api;
 	requires static transitive org.jspecify;
 
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console.options;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.platform.console.options.CommandResult.SUCCESS;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.console.tasks.ConsoleDaemon;
+
+import picocli.CommandLine;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+import picocli.CommandLine.Parameters;
+
+@Command(//
+		name = "daemon", //
+		description = "Start a daemon that executes subsequent requests in a warm JVM, " //
+				+ "or send a request to a running daemon" //
+)
+class DaemonCommand extends BaseCommand<Integer> implements CommandLine.IExitCodeGenerator {
+
+	@Option(names = "--port", paramLabel = "PORT", description = "Loopback port the daemon listens on. " //
+			+ "When starting a daemon, 0 selects a free port (default: ${DEFAULT-VALUE}).")
+	private int port;
+
+	@Nullable
+	@Option(names = "--port-file", paramLabel = "FILE", description = "Write the port of the started daemon to the specified file.")
+	private Path portFile;
+
+	@Nullable
+	@Option(names = "--token-file", paramLabel = "FILE", description = "File containing the secret token that " //
+			+ "authorizes requests. When starting a daemon, it is created with owner-only permissions and " //
+			+ "deleted when the daemon stops (default: ~/.junit/daemon/<PORT>.token).")
+	private Path tokenFile;
+
+	@Option(names = "--stop", description = "Stop the daemon listening on the specified port.")
+	private boolean stop;
+
+	@Parameters(paramLabel = "ARGS", description = "Arguments of a request to send to the daemon listening " //
+			+ "on the specified port, e.g. 'execute --scan-classpath'.")
+	private List<String> requestArgs = List.of();
+
+	@Override
+	protected Integer execute(PrintWriter out) {
+		try {
+			if (stop) {
+				return ConsoleDaemon.stop(port, readToken(), commandSpec.commandLine().getErr());
+			}
+			if (!requestArgs.isEmpty()) {
+				return ConsoleDaemon.run(port, readToken(), requestArgs.toArray(new String[0]), out,
+					commandSpec.commandLine().getErr());
+			}
+			return serve(out);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	private int serve(PrintWriter out) throws IOException {
+		try (ConsoleDaemon daemon = ConsoleDaemon.bind(port)) {
+			CommandFacade commandFacade = new CommandFacade(daemon.getConsoleTestExecutorFactory());
+			daemon.writeTokenFile(getTokenFile(daemon.getPort()));
+			if (portFile != null) {
+				Files.writeString(portFile, String.valueOf(daemon.getPort()), UTF_8);
+			}
+			out.printf("Daemon listening on port %d%n", daemon.getPort());
+			out.flush();
+			daemon.serve((args, requestOut, requestErr) -> {
+				if (args.length > 0 && "daemon".equals(args[0])) {
+					requestErr.println("Daemons cannot be started by a daemon");
+					return CommandResult.FAILURE;
+				}
+				return commandFacade.run(args, requestOut, requestErr).getExitCode();
+			});
+		}
+		return SUCCESS;
+	}
+
+	private String readToken() throws IOException {
+		return ConsoleDaemon.readTokenFile(getTokenFile(port));
+	}
+
+	private Path getTokenFile(int port) {
+		Path tokenFile = this.tokenFile;
+		return tokenFile == null ? ConsoleDaemon.getDefaultTokenFile(port) : tokenFile;
+	}
+
+	@Override
+	public int getExitCode() {
+		Integer exitCode = commandSpec.commandLine().getExecutionResult();
+		return exitCode == null ? SUCCESS : exitCode;
+	}
+
+}
@@ -17,6 +17,7 @@ import java.nio.file.Path;
 import java.util.Optional;
 
 import org.jspecify.annotations.Nullable;
+import org.junit.platform.console.tasks.ClassDataSharingArchive;
 import org.junit.platform.console.tasks.ConsoleTestExecutor;
 import org.junit.platform.launcher.listeners.TestExecutionSummary;
 
@@ -53,14 +54,19 @@ class ExecuteTestsCommand extends BaseCommand<TestExecutionSummary> implements C
 	@ArgGroup(validate = false, order = 6, heading = "%n@|bold REPORTING|@%n%n")
 	ReportingOptions reportingOptions;
 
+	@ArgGroup(validate = false, order = 7, heading = "%n@|bold STARTUP|@%n%n")
+	StartupOptions startupOptions;
+
 	ExecuteTestsCommand(ConsoleTestExecutor.Factory consoleTestExecutorFactory) {
 		this.consoleTestExecutorFactory = consoleTestExecutorFactory;
 	}
 
 	@Override
 	protected TestExecutionSummary execute(PrintWriter out) {
-		return consoleTestExecutorFactory.create(toTestDiscoveryOptions(), toTestConsoleOutputOptions()) //
-				.execute(out, getReportsDir());
+		TestExecutionSummary summary = consoleTestExecutorFactory.create(toTestDiscoveryOptions(),
+			toTestConsoleOutputOptions()).execute(out, getReportsDir());
+		getClassDataArchive().ifPresent(file -> new ClassDataSharingArchive(file).dumpIfNecessary(out));
+		return summary;
 	}
 
 	Optional<Path> getReportsDir() {
@@ -71,6 +77,10 @@ class ExecuteTestsCommand extends BaseCommand<TestExecutionSummary> implements C
 		return Optional.ofNullable(reportingOptions);
 	}
 
+	Optional<Path> getClassDataArchive() {
+		return Optional.ofNullable(startupOptions).flatMap(StartupOptions::getClassDataArchive);
+	}
+
 	TestDiscoveryOptions toTestDiscoveryOptions() {
 		return this.discoveryOptions == null //
 				? new TestDiscoveryOptions() //
@@ -107,4 +117,17 @@ class ExecuteTestsCommand extends BaseCommand<TestExecutionSummary> implements C
 		}
 	}
 
+	static class StartupOptions {
+
+		@Nullable
+		@Option(names = "--class-data-archive", paramLabel = "FILE", description = "Create a class data sharing archive " //
+				+ "of the classes loaded during this run to speed up the startup of subsequent runs that are started " //
+				+ "with -XX:SharedArchiveFile=FILE. Requires the JVM to be started with -XX:+RecordDynamicDumpInfo.")
+		private Path classDataArchive;
+
+		Optional<Path> getClassDataArchive() {
+			return Optional.ofNullable(classDataArchive);
+		}
+	}
+
 }
@@ -91,7 +91,8 @@ class MainCommand implements Runnable, IExitCodeGenerator {
 		CommandLine commandLine = new CommandLine(this) //
 				.addSubcommand(new DiscoverTestsCommand(consoleTestExecutorFactory)) //
 				.addSubcommand(new ExecuteTestsCommand(consoleTestExecutorFactory)) //
-				.addSubcommand(new ListTestEnginesCommand());
+				.addSubcommand(new ListTestEnginesCommand()) //
+				.addSubcommand(new DaemonCommand());
 		return runCommand(commandLine, args, outputStreamConfig);
 	}
 
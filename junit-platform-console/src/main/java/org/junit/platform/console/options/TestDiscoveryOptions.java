@@ -62,6 +62,7 @@ public class TestDiscoveryOptions {
 	private List<IterationSelector> selectedIterations = emptyList();
 	private List<UniqueIdSelector> selectedUniqueIds = emptyList();
 	private List<DiscoverySelectorIdentifier> selectorIdentifiers = emptyList();
+	private @Nullable Path failedTestsJournal;
 
 	private List<String> includedClassNamePatterns = singletonList(STANDARD_INCLUDE_PATTERN);
 	private List<String> excludedClassNamePatterns = emptyList();
@@ -201,6 +202,14 @@ public class TestDiscoveryOptions {
 		this.selectorIdentifiers = selectorIdentifiers;
 	}
 
+	public @Nullable Path getFailedTestsJournal() {
+		return this.failedTestsJournal;
+	}
+
+	public void setFailedTestsJournal(@Nullable Path failedTestsJournal) {
+		this.failedTestsJournal = failedTestsJournal;
+	}
+
 	public List<DiscoverySelector> getExplicitSelectors() {
 		List<DiscoverySelector> selectors = new ArrayList<>();
 		selectors.addAll(getSelectedUniqueIds());
@@ -29,6 +29,7 @@ import org.junit.platform.engine.discovery.ModuleSelector;
 import org.junit.platform.engine.discovery.PackageSelector;
 import org.junit.platform.engine.discovery.UniqueIdSelector;
 import org.junit.platform.engine.discovery.UriSelector;
+import org.junit.platform.launcher.listeners.FailedTestTrackingListener;
 
 import picocli.CommandLine;
 import picocli.CommandLine.ArgGroup;
@@ -110,6 +111,13 @@ class TestDiscoveryOptionsMixin {
 				description = "Select a unique id for test discovery. This option can be repeated.")
 		private final List<UniqueIdSelector> selectedUniqueIds = new ArrayList<>();
 
+		@Nullable
+		@Option(names = "--rerun-failed", paramLabel = "FILE", arity = "1", description = "Select the tests listed in the supplied journal of failed tests for test discovery. " //
+				+ "The journal is written to the output directory by a previous test run if the " //
+				+ FailedTestTrackingListener.LISTENER_ENABLED_PROPERTY_NAME + " configuration parameter is set to true. " //
+				+ "This option cannot be combined with other selector options.")
+		private Path failedTestsJournal;
+
 		@Option(names = "--select", paramLabel = "PREFIX:VALUE", arity = "1..*", converter = SelectorConverter.Identifier.class, //
 				description = "Select via a prefixed identifier (e.g. method:com.acme.Foo#m selects the m() method in the com.acme.Foo class). "
 						+ "This option can be repeated.")
@@ -133,6 +141,7 @@ class TestDiscoveryOptionsMixin {
 			result.setSelectedIterations(this.selectedIterations);
 			result.setSelectedUniqueId(this.selectedUniqueIds);
 			result.setSelectorIdentifiers(this.selectorIdentifiers);
+			result.setFailedTestsJournal(this.failedTestsJournal);
 		}
 	}
 
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console.tasks;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.support.ReflectionSupport;
+
+/**
+ * Dynamic <em>class data sharing</em> (AppCDS) archive of the classes loaded
+ * while running tests.
+ *
+ * <p>A JVM can only use an archive if it is started with
+ * {@code -XX:SharedArchiveFile=<file>}. Subsequent runs that are started that
+ * way skip parsing and verifying the archived classes of the launcher, the
+ * test engines, and the test dependencies on the JVM's class path. Classes
+ * loaded from additional classpath entries supplied to the console launcher
+ * are loaded by a custom class loader and are never archived.
+ *
+ * <p>Creating an archive requires the {@code java.management} module. If it
+ * is not available, a message is printed instead.
+ *
+ * @since 6.0
+ */
+@API(status = INTERNAL, since = "6.0")
+public class ClassDataSharingArchive {
+
+	private static final String SHARED_ARCHIVE_FILE_OPTION = "-XX:SharedArchiveFile=";
+	private static final String ARCHIVE_CLASSES_AT_EXIT_OPTION = "-XX:ArchiveClassesAtExit=";
+	private static final String RECORD_DYNAMIC_DUMP_INFO_OPTION = "-XX:+RecordDynamicDumpInfo";
+
+	private static final AtomicBoolean dynamicallyDumped = new AtomicBoolean();
+
+	private final Path file;
+	private final @Nullable List<String> inputArguments;
+	private final Consumer<Path> dynamicDumper;
+	private final AtomicBoolean dumped;
+
+	public ClassDataSharingArchive(Path file) {
+		// lambda instead of method reference so Management is only loaded if available
+		this(file, isManagementAvailable() ? Management.getInputArguments() : null,
+			archiveFile -> Management.dynamicDump(archiveFile), dynamicallyDumped);
+	}
+
+	/**
+	 * @param inputArguments the input arguments of the current JVM or
+	 * {@code null} if the {@code java.management} module is not available
+	 */
+	ClassDataSharingArchive(Path file, @Nullable List<String> inputArguments, Consumer<Path> dynamicDumper,
+			AtomicBoolean dumped) {
+		this.file = file.toAbsolutePath();
+		this.inputArguments = inputArguments;
+		this.dynamicDumper = dynamicDumper;
+		this.dumped = dumped;
+	}
+
+	/**
+	 * Dump the classes loaded so far into the archive file unless the current
+	 * JVM already uses it or creates it on exit.
+	 *
+	 * <p>Dumping at runtime requires the JVM to be started with
+	 * {@code -XX:+RecordDynamicDumpInfo}; otherwise, the JVM options
+	 * that are required to create the archive are printed. Since a JVM only
+	 * supports a single dynamic dump, subsequent calls have no effect.
+	 *
+	 * <p>Failing to create the archive does not affect the outcome of the
+	 * test run; a warning is printed instead.
+	 */
+	public void dumpIfNecessary(PrintWriter out) {
+		List<String> inputArguments = this.inputArguments;
+		if (inputArguments == null) {
+			out.printf("Cannot create class data sharing archive %s: the java.management module is not available.%n",
+				file);
+			out.flush();
+			return;
+		}
+		if (hasOption(inputArguments, SHARED_ARCHIVE_FILE_OPTION)) {
+			return;
+		}
+		if (hasOption(inputArguments, ARCHIVE_CLASSES_AT_EXIT_OPTION)) {
+			out.printf("Class data sharing archive will be written to %s on exit.%n", file);
+		}
+		else if (inputArguments.contains(RECORD_DYNAMIC_DUMP_INFO_OPTION)) {
+			if (!dumped.compareAndSet(false, true)) {
+				// the JVM only supports a single dynamic dump, e.g. in a daemon
+				return;
+			}
+			try {
+				dynamicDumper.accept(file);
+			}
+			catch (JUnitException ex) {
+				Throwable cause = ex.getCause() == null ? ex : ex.getCause();
+				out.printf("WARNING: Failed to create class data sharing archive %s: %s%n", file, cause);
+				out.flush();
+				return;
+			}
+			out.printf("Created class data sharing archive %s.%n", file);
+		}
+		else {
+			out.printf("Cannot create class data sharing archive %s: start the JVM with %s%s or %s.%n", file,
+				ARCHIVE_CLASSES_AT_EXIT_OPTION, file, RECORD_DYNAMIC_DUMP_INFO_OPTION);
+			out.flush();
+			return;
+		}
+		out.printf("Start subsequent runs with %s%s to use it.%n", SHARED_ARCHIVE_FILE_OPTION, file);
+		out.flush();
+	}
+
+	private boolean hasOption(List<String> inputArguments, String prefix) {
+		return inputArguments.stream() //
+				.filter(argument -> argument.startsWith(prefix)) //
+				.map(argument -> Path.of(argument.substring(prefix.length())).toAbsolutePath()) //
+				.anyMatch(file::equals);
+	}
+
+	private static boolean isManagementAvailable() {
+		return ReflectionSupport.tryToLoadClass("java.lang.management.ManagementFactory").toOptional().isPresent();
+	}
+
+	/**
+	 * Confines all references to the optional {@code java.management} module.
+	 */
+	private static final class Management {
+
+		static List<String> getInputArguments() {
+			return ManagementFactory.getRuntimeMXBean().getInputArguments();
+		}
+
+		static void dynamicDump(Path file) {
+			try {
+				ManagementFactory.getPlatformMBeanServer().invoke(
+					new ObjectName("com.sun.management:type=DiagnosticCommand"), "vmCds",
+					new Object[] { new String[] { "dynamic_dump", file.toString() } },
+					new String[] { String[].class.getName() });
+			}
+			catch (JMException | RuntimeException ex) {
+				throw new JUnitException("Failed to create class data sharing archive " + file, ex);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,497 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console.tasks;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.ClassLoaderUtils;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherSession;
+import org.junit.platform.launcher.core.LauncherFactory;
+
+/**
+ * Long-running server that executes console launcher requests of local
+ * clients in a warm JVM.
+ *
+ * <p>The daemon listens on a loopback socket and handles one request at a
+ * time. Since other users of the same machine can connect to loopback
+ * sockets as well, each daemon generates a secret token that clients have to
+ * present with every request; see {@link #writeTokenFile(Path)}. Test engines and listeners are loaded once per
+ * {@link LauncherSession} which is kept open for as long as the class loader
+ * for the additional classpath entries of the requests does not change; see
+ * {@link ReusableClassLoaders}.
+ *
+ * <h2>Protocol</h2>
+ *
+ * <p>All values are written via {@link DataOutputStream}. A client sends the
+ * token of the daemon and either {@code "stop"} or {@code "run"} followed by
+ * the number of arguments and the arguments themselves, each as
+ * {@linkplain DataOutputStream#writeUTF modified UTF-8}. The daemon answers with a sequence of frames consisting
+ * of a type byte and a payload: {@code 1} and {@code 2} are followed by text
+ * written to the standard output or error stream, respectively, including
+ * text written to {@link System#out} and {@link System#err} while the request
+ * is handled, and {@code 0}
+ * is followed by the exit code as an {@code int} and terminates the response.
+ * Invalid requests are answered with an error message and a non-zero exit
+ * code; they do not affect subsequent requests.
+ *
+ * @since 6.0
+ */
+@API(status = INTERNAL, since = "6.0")
+public class ConsoleDaemon implements AutoCloseable {
+
+	private static final Logger logger = LoggerFactory.getLogger(ConsoleDaemon.class);
+
+	private static final String RUN_COMMAND = "run";
+	private static final String STOP_COMMAND = "stop";
+
+	private static final byte EXIT_CODE_FRAME = 0;
+	private static final byte STANDARD_OUTPUT_FRAME = 1;
+	private static final byte STANDARD_ERROR_FRAME = 2;
+
+	private static final int MAX_FRAME_LENGTH = 8192;
+
+	private static final int FAILURE_EXIT_CODE = -1;
+
+	private static final int MAX_ARGUMENT_COUNT = 65_536;
+
+	private static final int REQUEST_TIMEOUT_MILLIS = 10_000;
+
+	private final ServerSocket serverSocket;
+	private final String token = generateToken();
+	private final ReusableClassLoaders classLoaders = new ReusableClassLoaders();
+
+	private @Nullable LauncherSession session;
+	private @Nullable ClassLoader sessionClassLoader;
+	private @Nullable Path tokenFile;
+	private volatile boolean stopped;
+
+	/**
+	 * Create a daemon that listens on the supplied port of the loopback
+	 * address; {@code 0} selects a free port.
+	 */
+	public static ConsoleDaemon bind(int port) throws IOException {
+		return new ConsoleDaemon(new ServerSocket(port, 50, InetAddress.getLoopbackAddress()));
+	}
+
+	private ConsoleDaemon(ServerSocket serverSocket) {
+		this.serverSocket = serverSocket;
+	}
+
+	/**
+	 * Get the port this daemon is listening on.
+	 */
+	public int getPort() {
+		return serverSocket.getLocalPort();
+	}
+
+	/**
+	 * Get the default location of the token file of the daemon listening on
+	 * the supplied port: {@code ~/.junit/daemon/<port>.token}.
+	 */
+	public static Path getDefaultTokenFile(int port) {
+		return Path.of(System.getProperty("user.home"), ".junit", "daemon", port + ".token");
+	}
+
+	/**
+	 * Write the token clients of this daemon have to present to the supplied
+	 * file and delete it when this daemon is {@linkplain #close() closed}.
+	 *
+	 * <p>On file systems that support POSIX permissions, the file and any
+	 * directories created for it are only accessible by the current user.
+	 * Otherwise, the file inherits the permissions of its directory.
+	 */
+	public synchronized void writeTokenFile(Path file) throws IOException {
+		Path directory = file.toAbsolutePath().getParent();
+		if (directory != null) {
+			Files.createDirectories(directory, ownerOnly("rwx------"));
+		}
+		// never write the token to a file another user may have created
+		Files.deleteIfExists(file);
+		Files.createFile(file, ownerOnly("rw-------"));
+		Files.writeString(file, token, UTF_8);
+		this.tokenFile = file;
+	}
+
+	/**
+	 * Read the token of a daemon from the supplied file.
+	 *
+	 * @see #writeTokenFile(Path)
+	 */
+	public static String readTokenFile(Path file) throws IOException {
+		return Files.readString(file, UTF_8).strip();
+	}
+
+	private static FileAttribute<?>[] ownerOnly(String permissions) {
+		if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+			return new FileAttribute<?>[] {
+					PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString(permissions)) };
+		}
+		return new FileAttribute<?>[0];
+	}
+
+	private static String generateToken() {
+		byte[] bytes = new byte[32];
+		new SecureRandom().nextBytes(bytes);
+		return HexFormat.of().formatHex(bytes);
+	}
+
+	/**
+	 * Get a factory for {@link ConsoleTestExecutor} instances that reuse the
+	 * launcher session and class loaders of this daemon.
+	 */
+	public ConsoleTestExecutor.Factory getConsoleTestExecutorFactory() {
+		return (discoveryOptions, outputOptions) -> new ConsoleTestExecutor(discoveryOptions, outputOptions,
+			this::getClassLoader, this::getLauncher);
+	}
+
+	/**
+	 * Handle requests until a client sends a stop request or this daemon is
+	 * {@linkplain #close() closed}.
+	 */
+	public void serve(RequestHandler requestHandler) throws IOException {
+		while (!stopped) {
+			Socket socket;
+			try {
+				socket = serverSocket.accept();
+			}
+			catch (SocketException ex) {
+				if (stopped) {
+					return;
+				}
+				throw ex;
+			}
+			try (socket) {
+				handle(socket, requestHandler);
+			}
+			catch (IOException | RuntimeException ex) {
+				// e.g. the client disconnected or did not send a complete request in time
+				logger.warn(ex, () -> "Failed to handle daemon request");
+			}
+		}
+	}
+
+	private void handle(Socket socket, RequestHandler requestHandler) throws IOException {
+		// a stalled client must not block subsequent requests forever
+		socket.setSoTimeout(REQUEST_TIMEOUT_MILLIS);
+		DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+		int exitCode;
+		try (PrintWriter stdout = new PrintWriter(new FrameWriter(out, STANDARD_OUTPUT_FRAME));
+				PrintWriter stderr = new PrintWriter(new FrameWriter(out, STANDARD_ERROR_FRAME))) {
+			exitCode = handle(in, stdout, stderr, requestHandler);
+		}
+		writeExitCode(out, exitCode);
+	}
+
+	private int handle(DataInputStream in, PrintWriter stdout, PrintWriter stderr, RequestHandler requestHandler)
+			throws IOException {
+		if (!isAuthorized(in.readUTF())) {
+			stderr.println("Invalid daemon token");
+			return FAILURE_EXIT_CODE;
+		}
+		String command = in.readUTF();
+		if (STOP_COMMAND.equals(command)) {
+			stopped = true;
+			return 0;
+		}
+		if (!RUN_COMMAND.equals(command)) {
+			stderr.println("Unknown daemon command: " + command);
+			return FAILURE_EXIT_CODE;
+		}
+		int argumentCount = in.readInt();
+		if (argumentCount < 0 || argumentCount > MAX_ARGUMENT_COUNT) {
+			stderr.println("Invalid number of arguments: " + argumentCount);
+			return FAILURE_EXIT_CODE;
+		}
+		String[] args = new String[argumentCount];
+		for (int i = 0; i < args.length; i++) {
+			args[i] = in.readUTF();
+		}
+		try {
+			return handleRedirectingStandardStreams(args, stdout, stderr, requestHandler);
+		}
+		catch (RuntimeException ex) {
+			stderr.println("Failed to handle daemon request");
+			ex.printStackTrace(stderr);
+			return FAILURE_EXIT_CODE;
+		}
+	}
+
+	/**
+	 * Invoke the supplied request handler while {@link System#out} and
+	 * {@link System#err} write to the client so that the output of tests is
+	 * not written to the console of the daemon.
+	 */
+	private static int handleRedirectingStandardStreams(String[] args, PrintWriter stdout, PrintWriter stderr,
+			RequestHandler requestHandler) {
+		PrintStream originalOut = System.out;
+		PrintStream originalErr = System.err;
+		try (PrintStream redirectedOut = new PrintStream(new WriterOutputStream(stdout), true, UTF_8);
+				PrintStream redirectedErr = new PrintStream(new WriterOutputStream(stderr), true, UTF_8)) {
+			System.setOut(redirectedOut);
+			System.setErr(redirectedErr);
+			try {
+				return requestHandler.handle(args, stdout, stderr);
+			}
+			finally {
+				System.setOut(originalOut);
+				System.setErr(originalErr);
+			}
+		}
+	}
+
+	private boolean isAuthorized(String token) {
+		return MessageDigest.isEqual(this.token.getBytes(UTF_8), token.getBytes(UTF_8));
+	}
+
+	private static void writeExitCode(DataOutputStream out, int exitCode) throws IOException {
+		out.writeByte(EXIT_CODE_FRAME);
+		out.writeInt(exitCode);
+		out.flush();
+	}
+
+	private synchronized Optional<ClassLoader> getClassLoader(List<Path> additionalClasspathEntries) {
+		Optional<ClassLoader> classLoader = classLoaders.getClassLoader(additionalClasspathEntries);
+		if (classLoader.orElseGet(ClassLoaderUtils::getDefaultClassLoader) != sessionClassLoader) {
+			// the session may reference classes of retired class loaders
+			closeSession();
+			classLoaders.closeRetiredClassLoaders();
+		}
+		return classLoader;
+	}
+
+	private synchronized Launcher getLauncher() {
+		// called while the class loader for the request is the context class loader
+		ClassLoader classLoader = ClassLoaderUtils.getDefaultClassLoader();
+		LauncherSession session = this.session;
+		if (session == null || classLoader != sessionClassLoader) {
+			closeSession();
+			session = LauncherFactory.openSession();
+			this.session = session;
+			this.sessionClassLoader = classLoader;
+		}
+		return session.getLauncher();
+	}
+
+	private void closeSession() {
+		LauncherSession session = this.session;
+		if (session != null) {
+			this.session = null;
+			this.sessionClassLoader = null;
+			session.close();
+		}
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		stopped = true;
+		try {
+			serverSocket.close();
+		}
+		finally {
+			closeSession();
+			classLoaders.close();
+			Path tokenFile = this.tokenFile;
+			if (tokenFile != null) {
+				this.tokenFile = null;
+				Files.deleteIfExists(tokenFile);
+			}
+		}
+	}
+
+	/**
+	 * Send the supplied arguments to the daemon listening on the supplied
+	 * port and write its output to the supplied writers.
+	 *
+	 * @param token the token of the daemon; see {@link #readTokenFile(Path)}
+	 * @return the exit code of the request
+	 */
+	public static int run(int port, String token, String[] args, PrintWriter out, PrintWriter err)
+			throws IOException {
+		return send(port, token, RUN_COMMAND, args, out, err);
+	}
+
+	/**
+	 * Request the daemon listening on the supplied port to stop after the
+	 * current request.
+	 *
+	 * @param token the token of the daemon; see {@link #readTokenFile(Path)}
+	 * @return the exit code of the request
+	 */
+	public static int stop(int port, String token, PrintWriter err) throws IOException {
+		try (PrintWriter out = new PrintWriter(Writer.nullWriter())) {
+			return send(port, token, STOP_COMMAND, null, out, err);
+		}
+	}
+
+	private static int send(int port, String token, String command, String @Nullable [] args, PrintWriter out,
+			PrintWriter err) throws IOException {
+		try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+			DataOutputStream request = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+			request.writeUTF(token);
+			request.writeUTF(command);
+			if (args != null) {
+				request.writeInt(args.length);
+				for (String arg : args) {
+					request.writeUTF(arg);
+				}
+			}
+			request.flush();
+			DataInputStream response = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+			while (true) {
+				byte frameType = response.readByte();
+				switch (frameType) {
+					case EXIT_CODE_FRAME -> {
+						out.flush();
+						err.flush();
+						return response.readInt();
+					}
+					case STANDARD_OUTPUT_FRAME -> out.write(response.readUTF());
+					case STANDARD_ERROR_FRAME -> err.write(response.readUTF());
+					default -> throw new JUnitException("Unknown daemon frame type: " + frameType);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Handles a request of a client.
+	 */
+	@FunctionalInterface
+	public interface RequestHandler {
+
+		/**
+		 * Handle the supplied arguments and return the exit code.
+		 */
+		int handle(String[] args, PrintWriter out, PrintWriter err);
+
+	}
+
+	/**
+	 * Writes text as frames of the supplied type.
+	 */
+	private static class FrameWriter extends Writer {
+
+		private final DataOutputStream out;
+		private final byte frameType;
+
+		FrameWriter(DataOutputStream out, byte frameType) {
+			super(out);
+			this.out = out;
+			this.frameType = frameType;
+		}
+
+		@Override
+		public void write(char[] buffer, int offset, int length) throws IOException {
+			synchronized (lock) {
+				for (int start = offset; start < offset + length; start += MAX_FRAME_LENGTH) {
+					int end = Math.min(start + MAX_FRAME_LENGTH, offset + length);
+					out.writeByte(frameType);
+					out.writeUTF(new String(buffer, start, end - start));
+				}
+			}
+		}
+
+		@Override
+		public void flush() throws IOException {
+			synchronized (lock) {
+				out.flush();
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			// the underlying stream is owned by the daemon
+			flush();
+		}
+	}
+
+	/**
+	 * Decodes UTF-8 encoded bytes and writes the resulting text to a writer.
+	 */
+	private static class WriterOutputStream extends OutputStream {
+
+		private final Writer writer;
+		private final CharsetDecoder decoder = UTF_8.newDecoder() //
+				.onMalformedInput(CodingErrorAction.REPLACE) //
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		private final ByteBuffer bytes = ByteBuffer.allocate(MAX_FRAME_LENGTH);
+		// decoding UTF-8 never yields more chars than bytes
+		private final CharBuffer chars = CharBuffer.allocate(MAX_FRAME_LENGTH);
+
+		WriterOutputStream(Writer writer) {
+			this.writer = writer;
+		}
+
+		@Override
+		public synchronized void write(int b) throws IOException {
+			write(new byte[] { (byte) b }, 0, 1);
+		}
+
+		@Override
+		public synchronized void write(byte[] buffer, int offset, int length) throws IOException {
+			int end = offset + length;
+			int start = offset;
+			while (start < end) {
+				int count = Math.min(end - start, bytes.remaining());
+				bytes.put(buffer, start, count);
+				start += count;
+				bytes.flip();
+				// incomplete multi-byte sequences remain in the buffer
+				decoder.decode(bytes, chars, false);
+				bytes.compact();
+				writer.write(chars.array(), 0, chars.position());
+				chars.clear();
+			}
+		}
+
+		@Override
+		public synchronized void flush() throws IOException {
+			writer.flush();
+		}
+	}
+
+}
@@ -19,9 +19,11 @@ import java.io.PrintWriter;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.apiguardian.api.API;
@@ -50,6 +52,7 @@ public class ConsoleTestExecutor {
 	private final TestDiscoveryOptions discoveryOptions;
 	private final TestConsoleOutputOptions outputOptions;
 	private final Supplier<Launcher> launcherSupplier;
+	private final Function<List<Path>, Optional<ClassLoader>> classLoaderFactory;
 	private final CustomClassLoaderCloseStrategy classLoaderCloseStrategy;
 
 	public ConsoleTestExecutor(TestDiscoveryOptions discoveryOptions, TestConsoleOutputOptions outputOptions) {
@@ -70,9 +73,30 @@ public class ConsoleTestExecutor {
 
 	private ConsoleTestExecutor(TestDiscoveryOptions discoveryOptions, TestConsoleOutputOptions outputOptions,
 			CustomClassLoaderCloseStrategy classLoaderCloseStrategy, Supplier<Launcher> launcherSupplier) {
+		this(discoveryOptions, outputOptions, ConsoleTestExecutor::createCustomClassLoader, classLoaderCloseStrategy,
+			launcherSupplier);
+	}
+
+	/**
+	 * Create a new {@code ConsoleTestExecutor} that obtains class loaders for
+	 * additional classpath entries and launchers from the supplied factories
+	 * which are responsible for releasing them.
+	 *
+	 * @since 6.0
+	 */
+	ConsoleTestExecutor(TestDiscoveryOptions discoveryOptions, TestConsoleOutputOptions outputOptions,
+			Function<List<Path>, Optional<ClassLoader>> classLoaderFactory, Supplier<Launcher> launcherSupplier) {
+		this(discoveryOptions, outputOptions, classLoaderFactory, CustomClassLoaderCloseStrategy.KEEP_OPEN,
+			launcherSupplier);
+	}
+
+	private ConsoleTestExecutor(TestDiscoveryOptions discoveryOptions, TestConsoleOutputOptions outputOptions,
+			Function<List<Path>, Optional<ClassLoader>> classLoaderFactory,
+			CustomClassLoaderCloseStrategy classLoaderCloseStrategy, Supplier<Launcher> launcherSupplier) {
 		this.discoveryOptions = discoveryOptions;
 		this.outputOptions = outputOptions;
 		this.launcherSupplier = launcherSupplier;
+		this.classLoaderFactory = classLoaderFactory;
 		this.classLoaderCloseStrategy = classLoaderCloseStrategy;
 	}
 
@@ -89,7 +113,9 @@ public class ConsoleTestExecutor {
 	}
 
 	private CustomContextClassLoaderExecutor createCustomContextClassLoaderExecutor() {
-		return new CustomContextClassLoaderExecutor(createCustomClassLoader(), classLoaderCloseStrategy);
+		List<Path> additionalClasspathEntries = discoveryOptions.getExistingAdditionalClasspathEntries();
+		return new CustomContextClassLoaderExecutor(classLoaderFactory.apply(additionalClasspathEntries),
+			classLoaderCloseStrategy);
 	}
 
 	private void discoverTests(PrintWriter out) {
@@ -117,14 +143,15 @@ public class ConsoleTestExecutor {
 
 	private TestExecutionSummary executeTests(PrintWriter out, Optional<Path> reportsDir) {
 		Launcher launcher = launcherSupplier.get();
-		SummaryGeneratingListener summaryListener = registerListeners(out, reportsDir, launcher);
+		SummaryGeneratingListener summaryListener = new SummaryGeneratingListener();
+		TestExecutionListener[] listeners = createListeners(summaryListener, out, reportsDir);
 
 		PrintStream originalOut = System.out;
 		PrintStream originalErr = System.err;
 		try (StandardStreamsHandler standardStreamsHandler = new StandardStreamsHandler()) {
 			standardStreamsHandler.redirectStandardStreams(outputOptions.getStdoutPath(),
 				outputOptions.getStderrPath());
-			launchTests(launcher, reportsDir);
+			launchTests(launcher, reportsDir, listeners);
 		}
 		finally {
 			System.setOut(originalOut);
@@ -139,17 +166,16 @@ public class ConsoleTestExecutor {
 		return summary;
 	}
 
-	private void launchTests(Launcher launcher, Optional<Path> reportsDir) {
+	private void launchTests(Launcher launcher, Optional<Path> reportsDir, TestExecutionListener[] listeners) {
 		LauncherDiscoveryRequestBuilder discoveryRequestBuilder = toDiscoveryRequestBuilder(discoveryOptions);
 		reportsDir.ifPresent(dir -> discoveryRequestBuilder.configurationParameter(OUTPUT_DIR_PROPERTY_NAME,
 			dir.toAbsolutePath().toString()));
-		launcher.execute(discoveryRequestBuilder.build());
+		launcher.execute(discoveryRequestBuilder.build(), listeners);
 	}
 
-	private Optional<ClassLoader> createCustomClassLoader() {
-		List<Path> additionalClasspathEntries = discoveryOptions.getExistingAdditionalClasspathEntries();
+	private static Optional<ClassLoader> createCustomClassLoader(List<Path> additionalClasspathEntries) {
 		if (!additionalClasspathEntries.isEmpty()) {
-			URL[] urls = additionalClasspathEntries.stream().map(this::toURL).toArray(URL[]::new);
+			URL[] urls = toURLs(additionalClasspathEntries);
 			ClassLoader parentClassLoader = ClassLoaderUtils.getDefaultClassLoader();
 			ClassLoader customClassLoader = URLClassLoader.newInstance(urls, parentClassLoader);
 			return Optional.of(customClassLoader);
@@ -157,7 +183,11 @@ public class ConsoleTestExecutor {
 		return Optional.empty();
 	}
 
-	private URL toURL(Path path) {
+	static URL[] toURLs(List<Path> paths) {
+		return paths.stream().map(ConsoleTestExecutor::toURL).toArray(URL[]::new);
+	}
+
+	private static URL toURL(Path path) {
 		try {
 			return path.toUri().toURL();
 		}
@@ -166,15 +196,18 @@ public class ConsoleTestExecutor {
 		}
 	}
 
-	private SummaryGeneratingListener registerListeners(PrintWriter out, Optional<Path> reportsDir, Launcher launcher) {
-		// always register summary generating listener
-		SummaryGeneratingListener summaryListener = new SummaryGeneratingListener();
-		launcher.registerTestExecutionListeners(summaryListener);
-		// optionally, register test plan execution details printing listener
-		createDetailsPrintingListener(out).ifPresent(launcher::registerTestExecutionListeners);
-		// optionally, register XML reports writing listener
-		createXmlWritingListener(out, reportsDir).ifPresent(launcher::registerTestExecutionListeners);
-		return summaryListener;
+	private TestExecutionListener[] createListeners(SummaryGeneratingListener summaryListener, PrintWriter out,
+			Optional<Path> reportsDir) {
+		// Listeners are passed per execution rather than registered with the
+		// launcher so that the launcher may be reused for subsequent executions.
+		List<TestExecutionListener> listeners = new ArrayList<>();
+		// always use summary generating listener
+		listeners.add(summaryListener);
+		// optionally, use test plan execution details printing listener
+		createDetailsPrintingListener(out).ifPresent(listeners::add);
+		// optionally, use XML reports writing listener
+		createXmlWritingListener(out, reportsDir).ifPresent(listeners::add);
+		return listeners.toArray(new TestExecutionListener[0]);
 	}
 
 	private Optional<DetailsPrintingListener> createDetailsPrintingListener(PrintWriter out) {
@@ -53,6 +53,10 @@ class DiscoveryRequestCreator {
 		LauncherDiscoveryRequestBuilder requestBuilder = request();
 		List<? extends DiscoverySelector> selectors = createDiscoverySelectors(options);
 		requestBuilder.selectors(selectors);
+		Path failedTestsJournal = options.getFailedTestsJournal();
+		if (failedTestsJournal != null) {
+			requestBuilder.selectFailedTests(failedTestsJournal);
+		}
 		addFilters(requestBuilder, options, selectors);
 		requestBuilder.configurationParameters(options.getConfigurationParameters());
 		requestBuilder.configurationParametersResources(
@@ -62,6 +66,12 @@ class DiscoveryRequestCreator {
 
 	private static List<? extends DiscoverySelector> createDiscoverySelectors(TestDiscoveryOptions options) {
 		List<DiscoverySelector> explicitSelectors = options.getExplicitSelectors();
+		if (options.getFailedTestsJournal() != null) {
+			Preconditions.condition(
+				explicitSelectors.isEmpty() && !options.isScanClasspath() && !options.isScanModulepath(),
+				"Rerunning failed tests and using other selectors at the same time is not supported");
+			return List.of();
+		}
 		if (options.isScanClasspath()) {
 			Preconditions.condition(explicitSelectors.isEmpty(),
 				"Scanning the classpath and using explicit selectors at the same time is not supported");
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console.tasks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.util.ClassLoaderUtils;
+
+/**
+ * Class loaders for additional classpath entries that are reused as long as
+ * the entries they were created for remain unchanged.
+ *
+ * <p>The regular files such as dependency JARs that precede the first
+ * directory of the classpath are loaded by a parent class loader that is only
+ * replaced if one of them is added, removed, or modified. All remaining
+ * entries, starting with the first directory such as an output directory of a
+ * build, are loaded by a child class loader that is replaced whenever one of
+ * them changes. Thus, classes and resources are looked up in the order of the
+ * classpath entries.
+ *
+ * <p>Class loaders that have been replaced are retired and must be closed
+ * via {@link #closeRetiredClassLoaders()} once they are no longer in use.
+ *
+ * @since 6.0
+ */
+class ReusableClassLoaders implements AutoCloseable {
+
+	private final List<URLClassLoader> retiredClassLoaders = new ArrayList<>();
+
+	private @Nullable CachedClassLoader leadingFiles;
+
+	private @Nullable CachedClassLoader remainingEntries;
+
+	synchronized Optional<ClassLoader> getClassLoader(List<Path> classpathEntries) {
+		if (classpathEntries.isEmpty()) {
+			return Optional.empty();
+		}
+		int firstDirectory = indexOfFirstDirectory(classpathEntries);
+		List<Path> files = classpathEntries.subList(0, firstDirectory);
+		List<Path> entries = classpathEntries.subList(firstDirectory, classpathEntries.size());
+
+		CachedClassLoader leadingFiles = this.leadingFiles;
+		if (leadingFiles == null || !leadingFiles.isUpToDate(files)) {
+			retire(leadingFiles);
+			leadingFiles = CachedClassLoader.create(files, ClassLoaderUtils.getDefaultClassLoader());
+			this.leadingFiles = leadingFiles;
+			retire(this.remainingEntries);
+			this.remainingEntries = null;
+		}
+
+		CachedClassLoader remainingEntries = this.remainingEntries;
+		if (remainingEntries == null || !remainingEntries.isUpToDate(entries)) {
+			retire(remainingEntries);
+			remainingEntries = CachedClassLoader.create(entries, leadingFiles.classLoader);
+			this.remainingEntries = remainingEntries;
+		}
+		return Optional.of(remainingEntries.classLoader);
+	}
+
+	private static int indexOfFirstDirectory(List<Path> classpathEntries) {
+		for (int i = 0; i < classpathEntries.size(); i++) {
+			if (Files.isDirectory(classpathEntries.get(i))) {
+				return i;
+			}
+		}
+		return classpathEntries.size();
+	}
+
+	private void retire(@Nullable CachedClassLoader cachedClassLoader) {
+		if (cachedClassLoader != null) {
+			retiredClassLoaders.add(cachedClassLoader.classLoader);
+		}
+	}
+
+	synchronized void closeRetiredClassLoaders() {
+		try {
+			for (URLClassLoader classLoader : retiredClassLoaders) {
+				classLoader.close();
+			}
+		}
+		catch (IOException ex) {
+			throw new JUnitException("Failed to close custom class loader", ex);
+		}
+		finally {
+			retiredClassLoaders.clear();
+		}
+	}
+
+	@Override
+	public synchronized void close() {
+		retire(remainingEntries);
+		retire(leadingFiles);
+		remainingEntries = null;
+		leadingFiles = null;
+		closeRetiredClassLoaders();
+	}
+
+	private record CachedClassLoader(URLClassLoader classLoader, List<EntryState> entryStates) {
+
+		static CachedClassLoader create(List<Path> entries, ClassLoader parent) {
+			URLClassLoader classLoader = URLClassLoader.newInstance(ConsoleTestExecutor.toURLs(entries), parent);
+			return new CachedClassLoader(classLoader, EntryState.of(entries));
+		}
+
+		boolean isUpToDate(List<Path> entries) {
+			return entryStates.equals(EntryState.of(entries));
+		}
+	}
+
+	/**
+	 * The state of a classpath entry: the number and total size of the files
+	 * it consists of and their most recent modification time.
+	 */
+	private record EntryState(Path path, long fileCount, long totalSize, long lastModified) {
+
+		static List<EntryState> of(List<Path> entries) {
+			return entries.stream().map(EntryState::of).toList();
+		}
+
+		private static EntryState of(Path entry) {
+			if (Files.notExists(entry)) {
+				return new EntryState(entry, 0, 0, 0);
+			}
+			long fileCount = 0;
+			long totalSize = 0;
+			long lastModified = 0;
+			try (Stream<Path> files = Files.walk(entry)) {
+				for (Path file : (Iterable<Path>) files::iterator) {
+					BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+					fileCount++;
+					totalSize += attributes.size();
+					lastModified = Math.max(lastModified, attributes.lastModifiedTime().toMillis());
+				}
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+			return new EntryState(entry, fileCount, totalSize, lastModified);
+		}
+	}
+
+}
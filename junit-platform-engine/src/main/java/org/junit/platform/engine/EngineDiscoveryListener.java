@@ -13,6 +13,8 @@ package org.junit.platform.engine;
 import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
+import java.time.Duration;
+
 import org.apiguardian.api.API;
 
 /**
@@ -67,4 +69,43 @@ public interface EngineDiscoveryListener {
 	default void issueEncountered(UniqueId engineId, DiscoveryIssue issue) {
 	}
 
+	/**
+	 * Called after a test engine has asked one of its resolvers to resolve a
+	 * discovery selector.
+	 *
+	 * <p>The supplied duration only includes the time spent in the resolver
+	 * itself; time spent resolving other selectors the resolver depends on is
+	 * reported separately for those selectors. Test engines are not required
+	 * to call this method; it is intended to allow profiling test discovery
+	 * and only needs to be called if {@link #isProfilingEnabled()} returns
+	 * {@code true}.
+	 *
+	 * @param engineId the unique ID of the engine descriptor
+	 * @param selector the selector that was to be resolved
+	 * @param resolverClass the class of the resolver that was invoked
+	 * @param duration the time spent in the resolver
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	default void selectorResolverInvoked(UniqueId engineId, DiscoverySelector selector, Class<?> resolverClass,
+			Duration duration) {
+	}
+
+	/**
+	 * Determine whether this listener profiles test discovery.
+	 *
+	 * <p>Test engines may check this method once per discovery request and
+	 * skip measuring the time spent in their resolvers if it returns
+	 * {@code false}.
+	 *
+	 * @return {@code true} if this listener should be notified of the time
+	 * spent during test discovery; {@code false} by default
+	 * @since 6.0
+	 * @see #selectorResolverInvoked
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	default boolean isProfilingEnabled() {
+		return false;
+	}
+
 }
@@ -169,19 +169,41 @@ public abstract class AbstractTestDescriptor implements TestDescriptor {
 		this.children.addAll(orderedChildren);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>This implementation searches children whose unique ID is a prefix of
+	 * the supplied one first and only searches the remaining children if the
+	 * descriptor was not found among them.
+	 */
 	@Override
 	public Optional<? extends TestDescriptor> findByUniqueId(UniqueId uniqueId) {
 		Preconditions.notNull(uniqueId, "UniqueId must not be null");
 		if (getUniqueId().equals(uniqueId)) {
 			return Optional.of(this);
 		}
-		// @formatter:off
-		return this.children.stream()
-				.map(child -> child.findByUniqueId(uniqueId))
-				.filter(Optional::isPresent)
-				.findAny()
-				.orElse(Optional.empty());
-		// @formatter:on
+		// Unique IDs of descendants usually extend the ones of their ancestors,
+		// so children whose unique ID is a prefix are searched first which
+		// avoids visiting most of the tree if the descriptor is present.
+		List<TestDescriptor> otherChildren = new ArrayList<>();
+		for (TestDescriptor child : new ArrayList<>(this.children)) {
+			if (uniqueId.hasPrefix(child.getUniqueId())) {
+				Optional<? extends TestDescriptor> result = child.findByUniqueId(uniqueId);
+				if (result.isPresent()) {
+					return result;
+				}
+			}
+			else {
+				otherChildren.add(child);
+			}
+		}
+		for (TestDescriptor child : otherChildren) {
+			Optional<? extends TestDescriptor> result = child.findByUniqueId(uniqueId);
+			if (result.isPresent()) {
+				return result;
+			}
+		}
+		return Optional.empty();
 	}
 
 	@Override
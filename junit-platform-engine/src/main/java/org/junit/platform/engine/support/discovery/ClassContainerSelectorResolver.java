@@ -17,9 +17,15 @@ import static org.junit.platform.commons.support.ReflectionSupport.findAllClasse
 import static org.junit.platform.engine.support.discovery.SelectorResolver.Resolution.selectors;
 import static org.junit.platform.engine.support.discovery.SelectorResolver.Resolution.unresolved;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.support.scanning.ClassFilter;
+import org.junit.platform.commons.util.ModuleUtils;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.discovery.ClasspathRootSelector;
 import org.junit.platform.engine.discovery.DiscoverySelectors;
@@ -33,10 +39,24 @@ class ClassContainerSelectorResolver implements SelectorResolver {
 
 	private final Predicate<Class<?>> classFilter;
 	private final Predicate<String> classNameFilter;
+	private final Set<String> selectedModuleNames;
+
+	private @Nullable Map<String, List<Class<?>>> prefetchedModuleClasses;
 
 	ClassContainerSelectorResolver(Predicate<Class<?>> classFilter, Predicate<String> classNameFilter) {
+		this(classFilter, classNameFilter, Set.of());
+	}
+
+	/**
+	 * @param selectedModuleNames the names of all modules selected by the
+	 * discovery request; if there is more than one, they are scanned
+	 * concurrently when the first {@link ModuleSelector} is resolved
+	 */
+	ClassContainerSelectorResolver(Predicate<Class<?>> classFilter, Predicate<String> classNameFilter,
+			Set<String> selectedModuleNames) {
 		this.classFilter = Preconditions.notNull(classFilter, "classFilter must not be null");
 		this.classNameFilter = Preconditions.notNull(classNameFilter, "classNameFilter must not be null");
+		this.selectedModuleNames = Preconditions.notNull(selectedModuleNames, "selectedModuleNames must not be null");
 	}
 
 	@Override
@@ -46,7 +66,24 @@ class ClassContainerSelectorResolver implements SelectorResolver {
 
 	@Override
 	public Resolution resolve(ModuleSelector selector, Context context) {
-		return classSelectors(findAllClassesInModule(selector.getModuleName(), classFilter, classNameFilter));
+		String moduleName = selector.getModuleName();
+		List<Class<?>> classes = getPrefetchedModuleClasses().remove(moduleName);
+		if (classes == null) {
+			classes = findAllClassesInModule(moduleName, classFilter, classNameFilter);
+		}
+		return classSelectors(classes);
+	}
+
+	private Map<String, List<Class<?>>> getPrefetchedModuleClasses() {
+		Map<String, List<Class<?>>> moduleClasses = this.prefetchedModuleClasses;
+		if (moduleClasses == null) {
+			moduleClasses = selectedModuleNames.size() > 1 //
+					? new HashMap<>(ModuleUtils.findAllClassesInModules(selectedModuleNames,
+						ClassFilter.of(classNameFilter, classFilter))) //
+					: new HashMap<>();
+			this.prefetchedModuleClasses = moduleClasses;
+		}
+		return moduleClasses;
 	}
 
 	@Override
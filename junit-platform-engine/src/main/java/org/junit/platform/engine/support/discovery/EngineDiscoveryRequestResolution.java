@@ -17,6 +17,7 @@ import static org.junit.platform.engine.SelectorResolutionResult.failed;
 import static org.junit.platform.engine.SelectorResolutionResult.resolved;
 import static org.junit.platform.engine.SelectorResolutionResult.unresolved;
 
+import java.time.Duration;
 import java.util.ArrayDeque;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -68,6 +69,8 @@ class EngineDiscoveryRequestResolution {
 	private final Map<UniqueId, Match> resolvedUniqueIds = new LinkedHashMap<>();
 	private final Queue<DiscoverySelector> remainingSelectors = new ArrayDeque<>();
 	private final Map<DiscoverySelector, Context> contextBySelector = new HashMap<>();
+	private final boolean profilingEnabled;
+	private long nanosSpentInResolvers;
 
 	EngineDiscoveryRequestResolution(EngineDiscoveryRequest request, TestDescriptor engineDescriptor,
 			List<SelectorResolver> resolvers, List<TestDescriptor.Visitor> visitors) {
@@ -76,6 +79,7 @@ class EngineDiscoveryRequestResolution {
 		this.resolvers = resolvers;
 		this.visitors = visitors;
 		this.defaultContext = new DefaultContext(null);
+		this.profilingEnabled = request.getDiscoveryListener().isProfilingEnabled();
 		this.resolvedUniqueIds.put(engineDescriptor.getUniqueId(), Match.exact(engineDescriptor));
 	}
 
@@ -184,9 +188,12 @@ class EngineDiscoveryRequestResolution {
 
 	private Optional<Resolution> resolve(DiscoverySelector selector,
 			Function<SelectorResolver, Resolution> resolutionFunction) {
+		Function<SelectorResolver, Resolution> resolverInvocation = profilingEnabled
+				? resolver -> resolveTimed(selector, resolver, resolutionFunction)
+				: resolutionFunction;
 		// @formatter:off
 		return resolvers.stream()
-				.map(resolutionFunction)
+				.map(resolverInvocation)
 				.filter(Resolution::isResolved)
 				.findFirst()
 				.map(resolution -> {
@@ -199,6 +206,27 @@ class EngineDiscoveryRequestResolution {
 		// @formatter:on
 	}
 
+	/**
+	 * Apply the supplied resolution function to the supplied resolver and
+	 * report the time spent in the resolver, excluding the time spent in
+	 * nested invocations of resolvers for other selectors.
+	 */
+	private Resolution resolveTimed(DiscoverySelector selector, SelectorResolver resolver,
+			Function<SelectorResolver, Resolution> resolutionFunction) {
+		long nanosSpentInResolversBefore = nanosSpentInResolvers;
+		long start = System.nanoTime();
+		try {
+			return resolutionFunction.apply(resolver);
+		}
+		finally {
+			long elapsed = System.nanoTime() - start;
+			long nested = nanosSpentInResolvers - nanosSpentInResolversBefore;
+			nanosSpentInResolvers = nanosSpentInResolversBefore + elapsed;
+			request.getDiscoveryListener().selectorResolverInvoked(engineDescriptor.getUniqueId(), selector,
+				resolver.getClass(), Duration.ofNanos(elapsed - nested));
+		}
+	}
+
 	private class DefaultContext implements Context {
 
 		@Nullable
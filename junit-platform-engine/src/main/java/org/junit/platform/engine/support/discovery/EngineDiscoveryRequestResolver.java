@@ -16,7 +16,9 @@ import static org.apiguardian.api.API.Status.MAINTAINED;
 import static org.apiguardian.api.API.Status.STABLE;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -213,7 +215,13 @@ public class EngineDiscoveryRequestResolver<T extends TestDescriptor> {
 				Function<InitializationContext<T>, Predicate<Class<?>>> classFilterCreator) {
 			Preconditions.notNull(classFilterCreator, "classFilterCreator must not be null");
 			return addSelectorResolver(context -> new ClassContainerSelectorResolver(classFilterCreator.apply(context),
-				context.getClassNameFilter()));
+				context.getClassNameFilter(), selectedModuleNames(context.getDiscoveryRequest())));
+		}
+
+		private static Set<String> selectedModuleNames(EngineDiscoveryRequest request) {
+			return request.getSelectorsByType(ModuleSelector.class).stream() //
+					.map(ModuleSelector::getModuleName) //
+					.collect(toCollection(LinkedHashSet::new));
 		}
 
 		/**
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Base class for {@link ResourceLock} implementations that acquire their
+ * underlying locks via {@link ForkJoinPool#managedBlock} and record
+ * contention in {@link ResourceLockStatistics}.
+ *
+ * @since 6.0
+ */
+abstract class AbstractResourceLock implements ResourceLock {
+
+	private final List<ExclusiveResource> resources;
+	private final ResourceLockStatistics statistics;
+
+	AbstractResourceLock(List<ExclusiveResource> resources, ResourceLockStatistics statistics) {
+		this.resources = resources;
+		this.statistics = statistics;
+	}
+
+	@Override
+	public final List<ExclusiveResource> getResources() {
+		return this.resources;
+	}
+
+	@Override
+	public final ResourceLock acquire() throws InterruptedException {
+		LockManagedBlocker blocker = new LockManagedBlocker();
+		if (this.statistics.isEnabled()) {
+			long startTime = System.nanoTime();
+			ForkJoinPool.managedBlock(blocker);
+			this.statistics.recordAcquisition(this.resources, System.nanoTime() - startTime, blocker.blocked);
+		}
+		else {
+			ForkJoinPool.managedBlock(blocker);
+		}
+		return this;
+	}
+
+	/**
+	 * Record that a task requiring this lock was deferred because it was
+	 * incompatible with the locks held by the current thread.
+	 */
+	final void taskDeferred() {
+		this.statistics.recordDeferral(this.resources);
+	}
+
+	/**
+	 * Try to acquire the underlying locks without blocking.
+	 *
+	 * @return {@code true} if all underlying locks were acquired
+	 */
+	abstract boolean tryAcquireLocks();
+
+	/**
+	 * Acquire the underlying locks, blocking until they are available.
+	 */
+	abstract void acquireLocks() throws InterruptedException;
+
+	private class LockManagedBlocker implements ForkJoinPool.ManagedBlocker {
+
+		private volatile boolean acquired;
+		private volatile boolean blocked;
+
+		@Override
+		public boolean block() throws InterruptedException {
+			if (!this.acquired) {
+				this.blocked = true;
+				acquireLocks();
+				this.acquired = true;
+			}
+			return true;
+		}
+
+		@Override
+		public boolean isReleasable() {
+			return this.acquired || (this.acquired = tryAcquireLocks());
+		}
+
+	}
+
+}
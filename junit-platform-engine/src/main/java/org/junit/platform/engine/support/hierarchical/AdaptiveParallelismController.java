@@ -0,0 +1,175 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+import java.util.function.LongSupplier;
+
+import org.junit.platform.commons.function.Try;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+
+/**
+ * Periodically adjusts the parallelism of a {@link ForkJoinPool} within the
+ * bounds of an {@link AdaptiveParallelExecutionConfiguration}.
+ *
+ * <p>Each sample compares the CPU time consumed by the current process to
+ * the capacity of the {@linkplain Runtime#availableProcessors() available
+ * processors} which, on container-aware JVMs, already reflects the CPU quota
+ * of the container. If all workers are busy, tasks are queued, and the CPU
+ * is underutilized, the workers are presumably waiting for I/O or other
+ * external resources, so the parallelism is increased. If the CPU is
+ * saturated and the parallelism exceeds the number of available processors,
+ * it is decreased again. Workers that are blocked in a join or a
+ * {@link ForkJoinPool.ManagedBlocker} are compensated for by the pool itself
+ * up to its maximum pool size.
+ *
+ * <p>Changing the parallelism of a running pool requires
+ * {@code ForkJoinPool.setParallelism(int)} which is only available on Java
+ * 19 and later; on earlier versions, the initial parallelism is kept.
+ *
+ * @since 6.0
+ */
+class AdaptiveParallelismController implements AutoCloseable {
+
+	private static final Logger logger = LoggerFactory.getLogger(AdaptiveParallelismController.class);
+
+	static final Duration SAMPLING_INTERVAL = Duration.ofMillis(250);
+
+	static final double LOW_CPU_UTILIZATION = 0.75;
+	static final double HIGH_CPU_UTILIZATION = 0.95;
+
+	private final ForkJoinPool forkJoinPool;
+	private final Method setParallelismMethod;
+	private final LongSupplier cpuTimeNanos;
+	private final IntConsumer parallelismListener;
+	private final int minParallelism;
+	private final int maxParallelism;
+	private final int availableProcessors;
+	private final ScheduledExecutorService scheduler;
+
+	private long lastCpuTime;
+	private long lastSampleTime;
+
+	static Optional<AdaptiveParallelismController> start(ForkJoinPool forkJoinPool,
+			AdaptiveParallelExecutionConfiguration configuration, IntConsumer parallelismListener) {
+		Optional<Method> setParallelismMethod = Try.call(
+			() -> ForkJoinPool.class.getMethod("setParallelism", int.class)).toOptional();
+		if (setParallelismMethod.isEmpty()) {
+			logger.config(() -> "Keeping initial parallelism since ForkJoinPool does not support changing it");
+			return Optional.empty();
+		}
+		if (currentProcessCpuTimeNanos() < 0) {
+			logger.config(() -> "Keeping initial parallelism since the CPU time of the process is not available");
+			return Optional.empty();
+		}
+		return Optional.of(new AdaptiveParallelismController(forkJoinPool, setParallelismMethod.get(),
+			AdaptiveParallelismController::currentProcessCpuTimeNanos, parallelismListener, configuration,
+			Runtime.getRuntime().availableProcessors()));
+	}
+
+	private static long currentProcessCpuTimeNanos() {
+		return ProcessHandle.current().info().totalCpuDuration().map(Duration::toNanos).orElse(-1L);
+	}
+
+	private AdaptiveParallelismController(ForkJoinPool forkJoinPool, Method setParallelismMethod,
+			LongSupplier cpuTimeNanos, IntConsumer parallelismListener,
+			AdaptiveParallelExecutionConfiguration configuration, int availableProcessors) {
+		this.forkJoinPool = forkJoinPool;
+		this.setParallelismMethod = setParallelismMethod;
+		this.cpuTimeNanos = cpuTimeNanos;
+		this.parallelismListener = parallelismListener;
+		this.minParallelism = configuration.getMinParallelism();
+		this.maxParallelism = configuration.getMaxParallelism();
+		this.availableProcessors = availableProcessors;
+		this.lastCpuTime = cpuTimeNanos.getAsLong();
+		this.lastSampleTime = System.nanoTime();
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "junit-adaptive-parallelism");
+			thread.setDaemon(true);
+			return thread;
+		});
+		long intervalMillis = SAMPLING_INTERVAL.toMillis();
+		this.scheduler.scheduleWithFixedDelay(this::adjust, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+	}
+
+	private void adjust() {
+		long cpuTime = cpuTimeNanos.getAsLong();
+		long sampleTime = System.nanoTime();
+		long elapsedTime = sampleTime - lastSampleTime;
+		if (cpuTime < 0 || elapsedTime <= 0) {
+			return;
+		}
+		double cpuUtilization = (double) (cpuTime - lastCpuTime) / ((double) elapsedTime * availableProcessors);
+		lastCpuTime = cpuTime;
+		lastSampleTime = sampleTime;
+
+		int currentParallelism = forkJoinPool.getParallelism();
+		Sample sample = new Sample(cpuUtilization, forkJoinPool.getActiveThreadCount(),
+			forkJoinPool.getQueuedTaskCount() + forkJoinPool.getQueuedSubmissionCount());
+		int newParallelism = computeParallelism(currentParallelism, sample, minParallelism, maxParallelism,
+			availableProcessors);
+		if (newParallelism != currentParallelism) {
+			try {
+				setParallelismMethod.invoke(forkJoinPool, newParallelism);
+			}
+			catch (Exception ex) {
+				logger.warn(ex, () -> "Failed to change parallelism to " + newParallelism);
+				return;
+			}
+			logger.config(() -> "Changed parallelism from %d to %d (%s)".formatted(currentParallelism, newParallelism,
+				sample));
+			parallelismListener.accept(newParallelism);
+		}
+	}
+
+	/**
+	 * Compute the parallelism to be used after observing the supplied
+	 * sample.
+	 */
+	static int computeParallelism(int currentParallelism, Sample sample, int minParallelism, int maxParallelism,
+			int availableProcessors) {
+		int step = Math.max(1, currentParallelism / 4);
+		if (sample.queuedTasks() > 0 && sample.activeThreads() >= currentParallelism
+				&& sample.cpuUtilization() < LOW_CPU_UTILIZATION) {
+			return Math.min(maxParallelism, currentParallelism + step);
+		}
+		int lowerBound = Math.max(minParallelism, availableProcessors);
+		if (sample.cpuUtilization() > HIGH_CPU_UTILIZATION && currentParallelism > lowerBound) {
+			return Math.max(lowerBound, currentParallelism - step);
+		}
+		return currentParallelism;
+	}
+
+	@Override
+	public void close() {
+		scheduler.shutdownNow();
+	}
+
+	/**
+	 * Observed utilization of the CPU and the fork-join pool.
+	 *
+	 * @param cpuUtilization CPU time consumed by the process divided by the
+	 * capacity of the available processors since the previous sample
+	 * @param activeThreads number of workers executing or stealing tasks
+	 * @param queuedTasks number of tasks waiting to be executed
+	 */
+	record Sample(double cpuUtilization, int activeThreads, long queuedTasks) {
+	}
+
+}
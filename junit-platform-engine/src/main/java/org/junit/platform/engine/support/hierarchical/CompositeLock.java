@@ -12,7 +12,6 @@ package org.junit.platform.engine.support.hierarchical;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.locks.Lock;
 
 import org.junit.platform.commons.util.Preconditions;
@@ -21,37 +20,30 @@ import org.junit.platform.commons.util.ToStringBuilder;
 /**
  * @since 1.3
  */
-class CompositeLock implements ResourceLock {
+class CompositeLock extends AbstractResourceLock {
 
-	private final List<ExclusiveResource> resources;
 	private final List<Lock> locks;
 	private final boolean exclusive;
 
 	CompositeLock(List<ExclusiveResource> resources, List<Lock> locks) {
+		this(resources, locks, ResourceLockStatistics.DISABLED);
+	}
+
+	CompositeLock(List<ExclusiveResource> resources, List<Lock> locks, ResourceLockStatistics statistics) {
+		super(List.copyOf(resources), statistics);
 		Preconditions.condition(resources.size() == locks.size(), "Resources and locks must have the same size");
-		this.resources = List.copyOf(resources);
 		this.locks = Preconditions.notEmpty(locks, "Locks must not be empty");
 		this.exclusive = resources.stream().anyMatch(
 			resource -> resource.getLockMode() == ExclusiveResource.LockMode.READ_WRITE);
 	}
 
-	@Override
-	public List<ExclusiveResource> getResources() {
-		return resources;
-	}
-
 	// for tests only
 	List<Lock> getLocks() {
 		return this.locks;
 	}
 
 	@Override
-	public ResourceLock acquire() throws InterruptedException {
-		ForkJoinPool.managedBlock(new CompositeLockManagedBlocker());
-		return this;
-	}
-
-	private void acquireAllLocks() throws InterruptedException {
+	void acquireLocks() throws InterruptedException {
 		List<Lock> acquiredLocks = new ArrayList<>(this.locks.size());
 		try {
 			for (Lock lock : this.locks) {
@@ -65,6 +57,25 @@ class CompositeLock implements ResourceLock {
 		}
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>If any lock is unavailable, all locks acquired so far are released
+	 * again so that no locks are held while waiting.
+	 */
+	@Override
+	boolean tryAcquireLocks() {
+		List<Lock> acquiredLocks = new ArrayList<>(this.locks.size());
+		for (Lock lock : this.locks) {
+			if (!lock.tryLock()) {
+				release(acquiredLocks);
+				return false;
+			}
+			acquiredLocks.add(lock);
+		}
+		return true;
+	}
+
 	@Override
 	public void release() {
 		release(this.locks);
@@ -84,28 +95,8 @@ class CompositeLock implements ResourceLock {
 	@Override
 	public String toString() {
 		return new ToStringBuilder(this) //
-				.append("resources", resources) //
+				.append("resources", getResources()) //
 				.toString();
 	}
 
-	private class CompositeLockManagedBlocker implements ForkJoinPool.ManagedBlocker {
-
-		private volatile boolean acquired;
-
-		@Override
-		public boolean block() throws InterruptedException {
-			if (!this.acquired) {
-				acquireAllLocks();
-				this.acquired = true;
-			}
-			return true;
-		}
-
-		@Override
-		public boolean isReleasable() {
-			return this.acquired;
-		}
-
-	}
-
 }
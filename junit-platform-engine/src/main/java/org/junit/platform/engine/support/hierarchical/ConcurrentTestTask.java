@@ -0,0 +1,76 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import org.apiguardian.api.API;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService.TestTask;
+import org.junit.platform.engine.support.hierarchical.Node.ExecutionMode;
+
+/**
+ * {@link TestTask} that executes an arbitrary action
+ * {@linkplain ExecutionMode#CONCURRENT concurrently} while holding the
+ * supplied {@link ResourceLock}.
+ *
+ * <p>Test engines that do not extend {@link HierarchicalTestEngine} may use
+ * this class to submit their work to a
+ * {@link HierarchicalTestExecutorService}, typically in combination with
+ * locks obtained from a {@link LockManager}.
+ *
+ * @since 6.0
+ * @see LockManager
+ * @see FixedParallelExecutionConfiguration
+ */
+@API(status = EXPERIMENTAL, since = "6.0")
+public final class ConcurrentTestTask implements TestTask {
+
+	private final TestDescriptor testDescriptor;
+	private final ResourceLock resourceLock;
+	private final Runnable action;
+
+	/**
+	 * Create a new {@code ConcurrentTestTask}.
+	 *
+	 * @param testDescriptor the test descriptor the action is executed for;
+	 * never {@code null}
+	 * @param resourceLock the resource lock to hold while executing the
+	 * action; never {@code null}
+	 * @param action the action to execute; never {@code null}
+	 */
+	public ConcurrentTestTask(TestDescriptor testDescriptor, ResourceLock resourceLock, Runnable action) {
+		this.testDescriptor = testDescriptor;
+		this.resourceLock = resourceLock;
+		this.action = action;
+	}
+
+	@Override
+	public ExecutionMode getExecutionMode() {
+		return ExecutionMode.CONCURRENT;
+	}
+
+	@Override
+	public ResourceLock getResourceLock() {
+		return this.resourceLock;
+	}
+
+	@Override
+	public TestDescriptor getTestDescriptor() {
+		return this.testDescriptor;
+	}
+
+	@Override
+	public void execute() {
+		this.action.run();
+	}
+
+}
@@ -11,6 +11,7 @@
 package org.junit.platform.engine.support.hierarchical;
 
 import static java.util.Objects.requireNonNull;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 import static org.apiguardian.api.API.Status.STABLE;
 
@@ -89,6 +90,57 @@ public enum DefaultParallelExecutionConfigurationStrategy implements ParallelExe
 		}
 	},
 
+	/**
+	 * Starts with a parallelism equal to the number of available
+	 * processors/cores and adjusts it during execution based on the CPU
+	 * utilization of the current process and the number of busy workers and
+	 * queued tasks, within the bounds of the
+	 * {@value #CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME} and
+	 * {@value #CONFIG_ADAPTIVE_MAX_PARALLELISM_PROPERTY_NAME} configuration
+	 * parameters.
+	 *
+	 * <p>Adjusting the parallelism during execution requires Java 19 or
+	 * later; on earlier versions, the initial parallelism is kept.
+	 *
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	ADAPTIVE {
+		@Override
+		public ParallelExecutionConfiguration createConfiguration(ConfigurationParameters configurationParameters) {
+			int availableProcessors = Runtime.getRuntime().availableProcessors();
+
+			int minParallelism = configurationParameters.get(CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME,
+				Integer::valueOf).orElse(1);
+
+			Preconditions.condition(minParallelism > 0,
+				() -> "Parallelism '%d' specified via configuration parameter '%s' must be greater than 0".formatted(
+					minParallelism, CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME));
+
+			int maxParallelism = configurationParameters.get(CONFIG_ADAPTIVE_MAX_PARALLELISM_PROPERTY_NAME,
+				Integer::valueOf).orElse(Math.max(minParallelism, 2 * availableProcessors));
+
+			Preconditions.condition(maxParallelism >= minParallelism,
+				() -> "Parallelism '%d' specified via configuration parameter '%s' must be greater than or equal to %d".formatted(
+					maxParallelism, CONFIG_ADAPTIVE_MAX_PARALLELISM_PROPERTY_NAME, minParallelism));
+
+			int parallelism = Math.min(Math.max(availableProcessors, minParallelism), maxParallelism);
+
+			int maxPoolSize = configurationParameters.get(CONFIG_ADAPTIVE_MAX_POOL_SIZE_PROPERTY_NAME,
+				Integer::valueOf).orElse(maxParallelism + 256);
+
+			Preconditions.condition(maxPoolSize >= maxParallelism,
+				() -> "Maximum pool size '%d' specified via configuration parameter '%s' must be greater than or equal to %d".formatted(
+					maxPoolSize, CONFIG_ADAPTIVE_MAX_POOL_SIZE_PROPERTY_NAME, maxParallelism));
+
+			boolean saturate = configurationParameters.get(CONFIG_ADAPTIVE_SATURATE_PROPERTY_NAME,
+				Boolean::valueOf).orElse(true);
+
+			return new AdaptiveParallelExecutionConfiguration(parallelism, minParallelism, maxParallelism,
+				maxPoolSize, KEEP_ALIVE_SECONDS, __ -> saturate);
+		}
+	},
+
 	/**
 	 * Allows the specification of a custom {@link ParallelExecutionConfigurationStrategy}
 	 * implementation via the mandatory {@value #CONFIG_CUSTOM_CLASS_PROPERTY_NAME}
@@ -113,13 +165,13 @@ public enum DefaultParallelExecutionConfigurationStrategy implements ParallelExe
 		}
 	};
 
-	private static final int KEEP_ALIVE_SECONDS = 30;
+	static final int KEEP_ALIVE_SECONDS = 30;
 
 	/**
 	 * Property name used to determine the desired configuration strategy.
 	 *
-	 * <p>Value must be one of {@code dynamic}, {@code fixed}, or
-	 * {@code custom}.
+	 * <p>Value must be one of {@code dynamic}, {@code fixed},
+	 * {@code adaptive}, or {@code custom}.
 	 */
 	public static final String CONFIG_STRATEGY_PROPERTY_NAME = "strategy";
 
@@ -207,6 +259,62 @@ public enum DefaultParallelExecutionConfigurationStrategy implements ParallelExe
 	@API(status = MAINTAINED, since = "1.13.3")
 	public static final String CONFIG_DYNAMIC_SATURATE_PROPERTY_NAME = "dynamic.saturate";
 
+	/**
+	 * Property name used to determine the minimum parallelism for the
+	 * {@link #ADAPTIVE} configuration strategy.
+	 *
+	 * <p>Value must be a positive integer; defaults to {@code 1}.
+	 *
+	 * @since 6.0
+	 * @see #ADAPTIVE
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME = "adaptive.min-parallelism";
+
+	/**
+	 * Property name used to determine the maximum parallelism for the
+	 * {@link #ADAPTIVE} configuration strategy.
+	 *
+	 * <p>Value must be an integer and greater than or equal to
+	 * {@value #CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME}; defaults to
+	 * twice the number of available processors/cores.
+	 *
+	 * @since 6.0
+	 * @see #ADAPTIVE
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String CONFIG_ADAPTIVE_MAX_PARALLELISM_PROPERTY_NAME = "adaptive.max-parallelism";
+
+	/**
+	 * Property name used to configure the maximum pool size of the underlying
+	 * fork-join pool for the {@link #ADAPTIVE} configuration strategy.
+	 *
+	 * <p>Value must be an integer and greater than or equal to
+	 * {@value #CONFIG_ADAPTIVE_MAX_PARALLELISM_PROPERTY_NAME}; defaults to
+	 * {@code 256 + adaptive.max-parallelism}.
+	 *
+	 * @since 6.0
+	 * @see #ADAPTIVE
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String CONFIG_ADAPTIVE_MAX_POOL_SIZE_PROPERTY_NAME = "adaptive.max-pool-size";
+
+	/**
+	 * Property name used to disable saturation of the underlying fork-join pool
+	 * for the {@link #ADAPTIVE} configuration strategy.
+	 *
+	 * <p>When set to {@code false} the underlying fork-join pool will reject
+	 * additional tasks if all available workers are busy and the maximum
+	 * pool-size would be exceeded.
+	 * <p>Value must either {@code true} or {@code false}; defaults to {@code true}.
+	 *
+	 * @since 6.0
+	 * @see #ADAPTIVE
+	 * @see #CONFIG_ADAPTIVE_MAX_POOL_SIZE_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String CONFIG_ADAPTIVE_SATURATE_PROPERTY_NAME = "adaptive.saturate";
+
 	/**
 	 * Property name used to specify the fully qualified class name of the
 	 * {@link ParallelExecutionConfigurationStrategy} to be used by the
@@ -216,6 +324,27 @@ public enum DefaultParallelExecutionConfigurationStrategy implements ParallelExe
 	 */
 	public static final String CONFIG_CUSTOM_CLASS_PROPERTY_NAME = "custom.class";
 
+	/**
+	 * Property name used to enable collecting contention statistics for
+	 * {@linkplain ResourceLock resource locks}: {@value}
+	 *
+	 * <p>When enabled, the number of acquisitions, contended acquisitions,
+	 * and deferred tasks as well as the time spent waiting are collected per
+	 * {@link ExclusiveResource} and published as a
+	 * {@linkplain org.junit.platform.engine.reporting.ReportEntry report entry}
+	 * for the engine descriptor once all of its children have been executed.
+	 *
+	 * <p>Unlike the other property names declared by this class, this one is
+	 * not relative to an engine-specific prefix but used as is.
+	 *
+	 * <p>Value must be either {@code true} or {@code false}; defaults to
+	 * {@code false}.
+	 *
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String RESOURCE_LOCK_STATISTICS_ENABLED_PROPERTY_NAME = "junit.platform.execution.resource.lock.statistics.enabled";
+
 	static ParallelExecutionConfigurationStrategy getStrategy(ConfigurationParameters configurationParameters) {
 		return valueOf(
 			configurationParameters.get(CONFIG_STRATEGY_PROPERTY_NAME).orElse("dynamic").toUpperCase(Locale.ROOT));
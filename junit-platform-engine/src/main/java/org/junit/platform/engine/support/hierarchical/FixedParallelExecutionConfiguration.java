@@ -0,0 +1,44 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import org.apiguardian.api.API;
+
+/**
+ * {@link ParallelExecutionConfiguration} with a fixed parallelism.
+ *
+ * <p>The resulting configuration is equivalent to the one created by the
+ * {@link DefaultParallelExecutionConfigurationStrategy#FIXED FIXED} strategy
+ * with default values for all optional configuration parameters. It is
+ * intended for test engines that do not extend {@link HierarchicalTestEngine}
+ * but read the desired parallelism from their own configuration parameter.
+ *
+ * @since 6.0
+ * @see ForkJoinPoolHierarchicalTestExecutorService#ForkJoinPoolHierarchicalTestExecutorService(ParallelExecutionConfiguration)
+ * @see ConcurrentTestTask
+ */
+@API(status = EXPERIMENTAL, since = "6.0")
+public final class FixedParallelExecutionConfiguration extends DefaultParallelExecutionConfiguration {
+
+	/**
+	 * Create a new {@code FixedParallelExecutionConfiguration} with the
+	 * supplied parallelism.
+	 *
+	 * @param parallelism the desired parallelism; must be greater than zero
+	 */
+	public FixedParallelExecutionConfiguration(int parallelism) {
+		super(parallelism, parallelism, parallelism + 256, parallelism,
+			DefaultParallelExecutionConfigurationStrategy.KEEP_ALIVE_SECONDS, __ -> true);
+	}
+
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.util.stream.Collectors.joining;
+
+import java.lang.reflect.Executable;
+import java.lang.reflect.Parameter;
+import java.util.function.Supplier;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.support.hierarchical.FlightRecordingSupport.Recording;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService.TestTask;
+
+/**
+ * Java Flight Recorder (JFR) events emitted during test execution.
+ *
+ * <p>Events are only allocated if their {@linkplain EventType event type} is
+ * enabled. Must only be used via {@link FlightRecordingSupport}.
+ *
+ * @since 6.0
+ */
+final class FlightRecordingEvents {
+
+	private static final EventType NODE_PHASE = EventType.getEventType(NodePhaseEvent.class);
+	private static final EventType RESOURCE_LOCK_ACQUISITION = EventType.getEventType(
+		ResourceLockAcquisitionEvent.class);
+	private static final EventType TASK_DEFERRED = EventType.getEventType(TaskDeferredEvent.class);
+	private static final EventType EXTENSION_CALLBACK = EventType.getEventType(ExtensionCallbackEvent.class);
+	private static final EventType PARAMETER_RESOLUTION = EventType.getEventType(ParameterResolutionEvent.class);
+
+	private FlightRecordingEvents() {
+		/* no-op */
+	}
+
+	static Recording nodePhase(TestDescriptor testDescriptor, String phase) {
+		if (!NODE_PHASE.isEnabled()) {
+			return Recording.NOOP;
+		}
+		NodePhaseEvent event = new NodePhaseEvent();
+		event.begin();
+		return () -> {
+			event.end();
+			if (event.shouldCommit()) {
+				event.uniqueId = testDescriptor.getUniqueId().toString();
+				event.displayName = testDescriptor.getDisplayName();
+				event.phase = phase;
+				event.commit();
+			}
+		};
+	}
+
+	static Recording resourceLockAcquisition(ResourceLock resourceLock) {
+		if (!RESOURCE_LOCK_ACQUISITION.isEnabled()) {
+			return Recording.NOOP;
+		}
+		ResourceLockAcquisitionEvent event = new ResourceLockAcquisitionEvent();
+		event.begin();
+		return () -> {
+			event.end();
+			if (event.shouldCommit()) {
+				event.resources = resourceLock.getResources().stream() //
+						.map(resource -> resource.getKey() + " (" + resource.getLockMode() + ")") //
+						.collect(joining(", "));
+				event.exclusive = resourceLock.isExclusive();
+				event.commit();
+			}
+		};
+	}
+
+	static void taskDeferred(TestTask testTask) {
+		if (!TASK_DEFERRED.isEnabled()) {
+			return;
+		}
+		TaskDeferredEvent event = new TaskDeferredEvent();
+		if (event.shouldCommit()) {
+			event.task = testTask.toString();
+			event.commit();
+		}
+	}
+
+	static Recording extensionCallback(Class<?> callbackType, Object extension, Supplier<String> uniqueId) {
+		if (!EXTENSION_CALLBACK.isEnabled()) {
+			return Recording.NOOP;
+		}
+		ExtensionCallbackEvent event = new ExtensionCallbackEvent();
+		event.begin();
+		return () -> {
+			event.end();
+			if (event.shouldCommit()) {
+				event.callbackType = callbackType.getSimpleName();
+				event.extensionClass = extension.getClass().getName();
+				event.uniqueId = uniqueId.get();
+				event.commit();
+			}
+		};
+	}
+
+	static Recording parameterResolution(Executable executable, int index, Parameter parameter) {
+		if (!PARAMETER_RESOLUTION.isEnabled()) {
+			return Recording.NOOP;
+		}
+		ParameterResolutionEvent event = new ParameterResolutionEvent();
+		event.begin();
+		return () -> {
+			event.end();
+			if (event.shouldCommit()) {
+				event.executable = executable.toGenericString();
+				event.index = index;
+				event.parameterType = parameter.getParameterizedType().getTypeName();
+				event.commit();
+			}
+		};
+	}
+
+	@Category({ "JUnit", "Execution" })
+	@StackTrace(false)
+	abstract static class ExecutionEvent extends Event {
+	}
+
+	@Label("Node Phase")
+	@Name("org.junit.NodePhase")
+	static class NodePhaseEvent extends ExecutionEvent {
+
+		@Label("Unique Id")
+		@Nullable
+		String uniqueId;
+
+		@Label("Display Name")
+		@Nullable
+		String displayName;
+
+		@Label("Phase")
+		@Nullable
+		String phase;
+	}
+
+	@Label("Resource Lock Acquisition")
+	@Name("org.junit.ResourceLockAcquisition")
+	static class ResourceLockAcquisitionEvent extends ExecutionEvent {
+
+		@Label("Resources")
+		@Nullable
+		String resources;
+
+		@Label("Exclusive")
+		boolean exclusive;
+	}
+
+	@Label("Task Deferred")
+	@Name("org.junit.TaskDeferred")
+	static class TaskDeferredEvent extends ExecutionEvent {
+
+		@Label("Task")
+		@Nullable
+		String task;
+	}
+
+	@Label("Extension Callback")
+	@Name("org.junit.ExtensionCallback")
+	static class ExtensionCallbackEvent extends ExecutionEvent {
+
+		@Label("Callback Type")
+		@Nullable
+		String callbackType;
+
+		@Label("Extension Class")
+		@Nullable
+		String extensionClass;
+
+		@Label("Unique Id")
+		@Nullable
+		String uniqueId;
+	}
+
+	@Label("Parameter Resolution")
+	@Name("org.junit.ParameterResolution")
+	static class ParameterResolutionEvent extends ExecutionEvent {
+
+		@Label("Executable")
+		@Nullable
+		String executable;
+
+		@Label("Parameter Index")
+		int index;
+
+		@Label("Parameter Type")
+		@Nullable
+		String parameterType;
+	}
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.lang.reflect.Executable;
+import java.lang.reflect.Parameter;
+import java.util.function.Supplier;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.support.ReflectionSupport;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService.TestTask;
+
+/**
+ * Emits Java Flight Recorder (JFR) events during test execution, if JFR is
+ * available.
+ *
+ * <p>This class does not reference any JFR types in its signatures so that
+ * it can be used regardless of whether the {@code jdk.jfr} module is
+ * present; all JFR types are confined to {@link FlightRecordingEvents}.
+ *
+ * @since 6.0
+ */
+@API(status = INTERNAL, since = "6.0")
+public final class FlightRecordingSupport {
+
+	private static final boolean AVAILABLE = computeAvailability();
+
+	private FlightRecordingSupport() {
+		/* no-op */
+	}
+
+	/**
+	 * Determine whether JFR is available in the current runtime.
+	 */
+	public static boolean isAvailable() {
+		return AVAILABLE;
+	}
+
+	/**
+	 * Start recording the invocation of an extension callback of the supplied
+	 * type.
+	 *
+	 * @param callbackType the type of the callback that is invoked
+	 * @param extension the extension whose callback is invoked
+	 * @param uniqueId supplier of the unique ID of the node the callback is
+	 * invoked for; only called if the event is committed
+	 */
+	public static Recording extensionCallback(Class<?> callbackType, Object extension, Supplier<String> uniqueId) {
+		return AVAILABLE ? FlightRecordingEvents.extensionCallback(callbackType, extension, uniqueId) : Recording.NOOP;
+	}
+
+	/**
+	 * Start recording the resolution of the supplied parameter.
+	 */
+	public static Recording parameterResolution(Executable executable, int index, Parameter parameter) {
+		return AVAILABLE ? FlightRecordingEvents.parameterResolution(executable, index, parameter) : Recording.NOOP;
+	}
+
+	/**
+	 * Start recording the supplied phase of executing the node for the
+	 * supplied descriptor.
+	 */
+	static Recording nodePhase(TestDescriptor testDescriptor, String phase) {
+		return AVAILABLE ? FlightRecordingEvents.nodePhase(testDescriptor, phase) : Recording.NOOP;
+	}
+
+	/**
+	 * Start recording the time spent waiting to acquire the supplied lock.
+	 */
+	static Recording resourceLockAcquisition(ResourceLock resourceLock) {
+		return AVAILABLE && !(resourceLock instanceof NopLock)
+				? FlightRecordingEvents.resourceLockAcquisition(resourceLock)
+				: Recording.NOOP;
+	}
+
+	/**
+	 * Record that the supplied task was deferred because it requires locks
+	 * that are incompatible with the ones held by the current thread.
+	 */
+	static void taskDeferred(TestTask testTask) {
+		if (AVAILABLE) {
+			FlightRecordingEvents.taskDeferred(testTask);
+		}
+	}
+
+	private static boolean computeAvailability() {
+		return System.getProperty("org.graalvm.nativeimage.imagecode") == null //
+				&& ReflectionSupport.tryToLoadClass("jdk.jfr.FlightRecorder").toOptional().isPresent();
+	}
+
+	/**
+	 * A recording in progress.
+	 */
+	@API(status = INTERNAL, since = "6.0")
+	@FunctionalInterface
+	public interface Recording {
+
+		Recording NOOP = () -> {
+		};
+
+		/**
+		 * End this recording and commit its event, if enabled.
+		 */
+		void end();
+
+	}
+
+}
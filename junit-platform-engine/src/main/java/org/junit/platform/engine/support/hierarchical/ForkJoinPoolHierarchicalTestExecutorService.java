@@ -41,6 +41,7 @@ import org.junit.platform.commons.function.Try;
 import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.commons.util.ExceptionUtils;
 import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.FlightRecordingSupport.Recording;
 
 /**
  * A {@link ForkJoinPool}-based
@@ -58,7 +59,8 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 	final ForkJoinPool forkJoinPool;
 
 	private final TaskEventListener taskEventListener;
-	private final int parallelism;
+	private final @Nullable AdaptiveParallelismController adaptiveParallelismController;
+	private volatile int parallelism;
 	private final ThreadLocal<ThreadLock> threadLocks = ThreadLocal.withInitial(ThreadLock::new);
 
 	/**
@@ -88,6 +90,13 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 		this.taskEventListener = taskEventListener;
 		parallelism = forkJoinPool.getParallelism();
 		LoggerFactory.getLogger(getClass()).config(() -> "Using ForkJoinPool with parallelism of " + parallelism);
+		adaptiveParallelismController = configuration instanceof AdaptiveParallelExecutionConfiguration adaptive //
+				? AdaptiveParallelismController.start(forkJoinPool, adaptive, this::setParallelism).orElse(null) //
+				: null;
+	}
+
+	private void setParallelism(int parallelism) {
+		this.parallelism = parallelism;
 	}
 
 	private static ParallelExecutionConfiguration createConfiguration(ConfigurationParameters configurationParameters) {
@@ -217,6 +226,9 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 
 	@Override
 	public void close() {
+		if (adaptiveParallelismController != null) {
+			adaptiveParallelismController.close();
+		}
 		forkJoinPool.shutdownNow();
 	}
 
@@ -266,12 +278,16 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 			if (!threadLock.areAllHeldLocksCompatibleWith(resourceLock)) {
 				threadLock.addDeferredTask(this);
 				taskEventListener.deferred(testTask);
+				FlightRecordingSupport.taskDeferred(testTask);
+				if (resourceLock instanceof AbstractResourceLock lock) {
+					lock.taskDeferred();
+				}
 				// Return false to indicate that this task is not done yet
 				// this means that .join() will wait.
 				return false;
 			}
 			try ( //
-					ResourceLock lock = resourceLock.acquire(); //
+					ResourceLock lock = acquire(resourceLock); //
 					@SuppressWarnings("unused")
 					ThreadLock.NestedResourceLock nested = threadLock.withNesting(lock) //
 			) {
@@ -283,6 +299,16 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 			}
 		}
 
+		private ResourceLock acquire(ResourceLock resourceLock) throws InterruptedException {
+			Recording recording = FlightRecordingSupport.resourceLockAcquisition(resourceLock);
+			try {
+				return resourceLock.acquire();
+			}
+			finally {
+				recording.end();
+			}
+		}
+
 		@Override
 		public String toString() {
 			return "ExclusiveTask [" + testTask + "]";
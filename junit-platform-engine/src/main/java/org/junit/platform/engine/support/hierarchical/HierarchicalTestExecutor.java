@@ -10,6 +10,8 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.RESOURCE_LOCK_STATISTICS_ENABLED_PROPERTY_NAME;
+
 import java.util.concurrent.Future;
 
 import org.jspecify.annotations.Nullable;
@@ -50,7 +52,13 @@ class HierarchicalTestExecutor<C extends EngineExecutionContext> {
 	Future<@Nullable Void> execute() {
 		TestDescriptor rootTestDescriptor = this.request.getRootTestDescriptor();
 		EngineExecutionListener executionListener = this.request.getEngineExecutionListener();
-		NodeExecutionAdvisor executionAdvisor = new NodeTreeWalker().walk(rootTestDescriptor);
+		ResourceLockStatistics lockStatistics = createResourceLockStatistics();
+		if (lockStatistics.isEnabled()) {
+			executionListener = new ResourceLockStatisticsReporter(executionListener, rootTestDescriptor,
+				lockStatistics);
+		}
+		NodeExecutionAdvisor executionAdvisor = new NodeTreeWalker(new LockManager(lockStatistics)).walk(
+			rootTestDescriptor);
 		NodeTestTaskContext taskContext = new NodeTestTaskContext(executionListener, this.executorService,
 			this.throwableCollectorFactory, executionAdvisor);
 		NodeTestTask<C> rootTestTask = new NodeTestTask<>(taskContext, rootTestDescriptor);
@@ -58,4 +66,10 @@ class HierarchicalTestExecutor<C extends EngineExecutionContext> {
 		return this.executorService.submit(rootTestTask);
 	}
 
+	private ResourceLockStatistics createResourceLockStatistics() {
+		boolean enabled = this.request.getConfigurationParameters().getBoolean(
+			RESOURCE_LOCK_STATISTICS_ENABLED_PROPERTY_NAME).orElse(false);
+		return enabled ? ResourceLockStatistics.create() : ResourceLockStatistics.DISABLED;
+	}
+
 }
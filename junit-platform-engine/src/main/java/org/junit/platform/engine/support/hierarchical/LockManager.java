@@ -14,7 +14,9 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.junit.platform.commons.util.CollectionUtils.getOnlyElement;
+import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.GLOBAL_KEY;
 import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.GLOBAL_READ;
 import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.GLOBAL_READ_WRITE;
 import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ;
@@ -28,25 +30,58 @@ import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+import org.apiguardian.api.API;
+
 /**
+ * Provides {@link ResourceLock ResourceLocks} for {@link ExclusiveResource
+ * ExclusiveResources}.
+ *
+ * <p>All locks obtained from the same {@code LockManager} for resources with
+ * the same {@linkplain ExclusiveResource#getKey() key} are backed by the same
+ * underlying lock. Test engines that do not extend
+ * {@link HierarchicalTestEngine} may use a single instance to synchronize
+ * the execution of tasks they submit to a
+ * {@link HierarchicalTestExecutorService}.
+ *
  * @since 1.3
  */
-class LockManager {
+@API(status = EXPERIMENTAL, since = "6.0")
+public class LockManager {
 
 	private final Map<String, ReadWriteLock> locksByKey = new ConcurrentHashMap<>();
+	private final ResourceLockStatistics statistics;
 	private final SingleLock globalReadLock;
 	private final SingleLock globalReadWriteLock;
 
 	public LockManager() {
-		globalReadLock = new SingleLock(GLOBAL_READ, toLock(GLOBAL_READ));
-		globalReadWriteLock = new SingleLock(GLOBAL_READ_WRITE, toLock(GLOBAL_READ_WRITE));
+		this(ResourceLockStatistics.DISABLED);
 	}
 
-	ResourceLock getLockForResources(Collection<ExclusiveResource> resources) {
+	LockManager(ResourceLockStatistics statistics) {
+		this.statistics = statistics;
+		globalReadLock = new SingleLock(GLOBAL_READ, toLock(GLOBAL_READ), statistics);
+		globalReadWriteLock = new SingleLock(GLOBAL_READ_WRITE, toLock(GLOBAL_READ_WRITE), statistics);
+	}
+
+	/**
+	 * Get a lock for the supplied resources that acquires the locks for all
+	 * of them in a globally consistent order.
+	 *
+	 * @param resources the resources to lock; never {@code null} but
+	 * potentially empty
+	 * @return the lock; never {@code null}
+	 */
+	public ResourceLock getLockForResources(Collection<ExclusiveResource> resources) {
 		return toResourceLock(toDistinctSortedResources(resources));
 	}
 
-	ResourceLock getLockForResource(ExclusiveResource resource) {
+	/**
+	 * Get a lock for the supplied resource.
+	 *
+	 * @param resource the resource to lock; never {@code null}
+	 * @return the lock; never {@code null}
+	 */
+	public ResourceLock getLockForResource(ExclusiveResource resource) {
 		return toResourceLock(singletonList(resource));
 	}
 
@@ -73,7 +108,7 @@ class LockManager {
 		return switch (resources.size()) {
 			case 0 -> NopLock.INSTANCE;
 			case 1 -> toSingleLock(getOnlyElement(resources));
-			default -> new CompositeLock(resources, toLocks(resources));
+			default -> new CompositeLock(resources, toLocks(resources), statistics);
 		};
 	}
 
@@ -84,7 +119,7 @@ class LockManager {
 		if (GLOBAL_READ_WRITE.equals(resource)) {
 			return globalReadWriteLock;
 		}
-		return new SingleLock(resource, toLock(resource));
+		return new SingleLock(resource, toLock(resource), statistics);
 	}
 
 	private List<Lock> toLocks(List<ExclusiveResource> resources) {
@@ -92,8 +127,14 @@ class LockManager {
 	}
 
 	private Lock toLock(ExclusiveResource resource) {
-		ReadWriteLock lock = this.locksByKey.computeIfAbsent(resource.getKey(), key -> new ReentrantReadWriteLock());
+		ReadWriteLock lock = this.locksByKey.computeIfAbsent(resource.getKey(), LockManager::createReadWriteLock);
 		return resource.getLockMode() == READ ? lock.readLock() : lock.writeLock();
 	}
 
+	private static ReadWriteLock createReadWriteLock(String key) {
+		// The global lock is acquired for reading by almost all tasks and
+		// only rarely for writing, e.g. by isolated tests.
+		return GLOBAL_KEY.equals(key) ? new StripedReadWriteLock() : new ReentrantReadWriteLock();
+	}
+
 }
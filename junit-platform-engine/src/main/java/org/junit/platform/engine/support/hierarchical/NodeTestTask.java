@@ -35,6 +35,7 @@ import org.junit.platform.commons.util.UnrecoverableExceptions;
 import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.hierarchical.FlightRecordingSupport.Recording;
 import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService.TestTask;
 import org.junit.platform.engine.support.hierarchical.Node.DynamicTestExecutor;
 import org.junit.platform.engine.support.hierarchical.Node.ExecutionMode;
@@ -137,7 +138,13 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 	}
 
 	private void prepare() {
-		requiredThrowableCollector().execute(() -> context = node.prepare(requireNonNull(parentContext)));
+		Recording recording = FlightRecordingSupport.nodePhase(testDescriptor, "prepare");
+		try {
+			requiredThrowableCollector().execute(() -> context = node.prepare(requireNonNull(parentContext)));
+		}
+		finally {
+			recording.end();
+		}
 
 		// Clear reference to parent context to allow it to be garbage collected.
 		// See https://github.com/junit-team/junit-framework/issues/1578
@@ -164,7 +171,13 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 							.collect(toCollection(ArrayList::new));
 					// @formatter:on
 
-					context = node.before(requiredContext());
+					Recording beforeRecording = FlightRecordingSupport.nodePhase(testDescriptor, "before");
+					try {
+						context = node.before(requiredContext());
+					}
+					finally {
+						beforeRecording.end();
+					}
 
 					final DynamicTestExecutor dynamicTestExecutor = new DefaultDynamicTestExecutor();
 					context = node.execute(requiredContext(), dynamicTestExecutor);
@@ -177,13 +190,25 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 					throwableCollector.execute(dynamicTestExecutor::awaitFinished);
 				});
 
-				throwableCollector.execute(() -> node.after(requiredContext()));
+				Recording afterRecording = FlightRecordingSupport.nodePhase(testDescriptor, "after");
+				try {
+					throwableCollector.execute(() -> node.after(requiredContext()));
+				}
+				finally {
+					afterRecording.end();
+				}
 			});
 		});
 	}
 
 	private void cleanUp() {
-		requiredThrowableCollector().execute(() -> node.cleanUp(requiredContext()));
+		Recording recording = FlightRecordingSupport.nodePhase(testDescriptor, "cleanUp");
+		try {
+			requiredThrowableCollector().execute(() -> node.cleanUp(requiredContext()));
+		}
+		finally {
+			recording.end();
+		}
 	}
 
 	private void reportCompletion() {
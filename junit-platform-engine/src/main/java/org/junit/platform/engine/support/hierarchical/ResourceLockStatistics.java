@@ -0,0 +1,183 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.util.Comparator.comparing;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.platform.engine.reporting.ReportEntry;
+
+/**
+ * Contention statistics for the {@linkplain ResourceLock resource locks}
+ * handed out by a {@link LockManager}, collected per
+ * {@link ExclusiveResource}.
+ *
+ * <p>The time spent waiting to acquire a lock for multiple resources is
+ * attributed to each of them. Instances created via {@link #DISABLED} do not
+ * record anything.
+ *
+ * @since 6.0
+ * @see DefaultParallelExecutionConfigurationStrategy#RESOURCE_LOCK_STATISTICS_ENABLED_PROPERTY_NAME
+ */
+final class ResourceLockStatistics {
+
+	static final ResourceLockStatistics DISABLED = new ResourceLockStatistics(false);
+
+	private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+	private final boolean enabled;
+	private final Map<ExclusiveResource, Entry> entries = new ConcurrentHashMap<>();
+
+	static ResourceLockStatistics create() {
+		return new ResourceLockStatistics(true);
+	}
+
+	private ResourceLockStatistics(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	boolean isEnabled() {
+		return this.enabled;
+	}
+
+	/**
+	 * Record that locks for the supplied resources were acquired after
+	 * waiting for the supplied number of nanoseconds.
+	 *
+	 * @param contended whether the locks were held by another thread when
+	 * the acquisition started
+	 */
+	void recordAcquisition(List<ExclusiveResource> resources, long waitNanos, boolean contended) {
+		if (this.enabled) {
+			for (ExclusiveResource resource : resources) {
+				getEntry(resource).recordAcquisition(waitNanos, contended);
+			}
+		}
+	}
+
+	/**
+	 * Record that a task requiring locks for the supplied resources was
+	 * deferred because they were incompatible with the locks held by the
+	 * current thread.
+	 */
+	void recordDeferral(List<ExclusiveResource> resources) {
+		if (this.enabled) {
+			for (ExclusiveResource resource : resources) {
+				getEntry(resource).deferrals.increment();
+			}
+		}
+	}
+
+	private Entry getEntry(ExclusiveResource resource) {
+		return this.entries.computeIfAbsent(resource, __ -> new Entry());
+	}
+
+	/**
+	 * Create a {@link ReportEntry} with one key-value pair per resource,
+	 * ordered by the total time spent waiting for it, starting with the
+	 * longest.
+	 */
+	ReportEntry toReportEntry() {
+		Map<String, String> keyValuePairs = new LinkedHashMap<>();
+		this.entries.entrySet().stream() //
+				.sorted(comparing((Map.Entry<ExclusiveResource, Entry> entry) -> entry.getValue().waitNanos.sum()) //
+						.reversed() //
+						.thenComparing(Map.Entry::getKey, ExclusiveResource.COMPARATOR)) //
+				.forEach(entry -> keyValuePairs.put(toReportKey(entry.getKey()), entry.getValue().toString()));
+		return ReportEntry.from(keyValuePairs);
+	}
+
+	boolean isEmpty() {
+		return this.entries.isEmpty();
+	}
+
+	// for tests only
+	Map<ExclusiveResource, Entry> getEntries() {
+		return this.entries;
+	}
+
+	private static String toReportKey(ExclusiveResource resource) {
+		return "resourceLock[" + resource.getKey() + "|" + resource.getLockMode() + "]";
+	}
+
+	/**
+	 * Statistics for a single resource.
+	 *
+	 * <p>Waiting times of contended acquisitions are recorded in a histogram
+	 * with power-of-two buckets in nanoseconds.
+	 */
+	static final class Entry {
+
+		private static final int BUCKET_COUNT = Long.SIZE;
+
+		final LongAdder acquisitions = new LongAdder();
+		final LongAdder contendedAcquisitions = new LongAdder();
+		final LongAdder deferrals = new LongAdder();
+		final LongAdder waitNanos = new LongAdder();
+		final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+		private final AtomicLongArray contendedWaitHistogram = new AtomicLongArray(BUCKET_COUNT);
+
+		private void recordAcquisition(long waitNanos, boolean contended) {
+			this.acquisitions.increment();
+			this.waitNanos.add(waitNanos);
+			this.maxWaitNanos.accumulate(waitNanos);
+			if (contended) {
+				this.contendedAcquisitions.increment();
+				this.contendedWaitHistogram.incrementAndGet(bucketIndex(waitNanos));
+			}
+		}
+
+		private static int bucketIndex(long nanos) {
+			return BUCKET_COUNT - 1 - Long.numberOfLeadingZeros(Math.max(1, nanos));
+		}
+
+		/**
+		 * Estimate the supplied percentile of the waiting times of contended
+		 * acquisitions as the upper bound of the bucket containing it.
+		 */
+		long estimateContendedWaitNanos(double percentile) {
+			long count = this.contendedAcquisitions.sum();
+			if (count == 0) {
+				return 0;
+			}
+			long rank = (long) Math.ceil(percentile * count);
+			long seen = 0;
+			for (int i = 0; i < BUCKET_COUNT; i++) {
+				seen += this.contendedWaitHistogram.get(i);
+				if (seen >= rank) {
+					long upperBound = i < BUCKET_COUNT - 2 ? (2L << i) - 1 : Long.MAX_VALUE;
+					return Math.min(this.maxWaitNanos.get(), upperBound);
+				}
+			}
+			return this.maxWaitNanos.get();
+		}
+
+		@Override
+		public String toString() {
+			return String.format(Locale.ROOT,
+				"acquisitions=%d, contended=%d, deferred=%d, wait=%.3f ms, contended wait p50=%.3f ms, p90=%.3f ms, p99=%.3f ms, max=%.3f ms",
+				this.acquisitions.sum(), this.contendedAcquisitions.sum(), this.deferrals.sum(),
+				this.waitNanos.sum() / NANOS_PER_MILLI, estimateContendedWaitNanos(0.5) / NANOS_PER_MILLI,
+				estimateContendedWaitNanos(0.9) / NANOS_PER_MILLI, estimateContendedWaitNanos(0.99) / NANOS_PER_MILLI,
+				this.maxWaitNanos.get() / NANOS_PER_MILLI);
+		}
+
+	}
+
+}
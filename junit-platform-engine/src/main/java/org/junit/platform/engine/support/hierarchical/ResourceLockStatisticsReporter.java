@@ -0,0 +1,72 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import org.junit.platform.engine.EngineExecutionListener;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.reporting.FileEntry;
+import org.junit.platform.engine.reporting.ReportEntry;
+
+/**
+ * {@link EngineExecutionListener} that publishes {@link ResourceLockStatistics}
+ * as a {@link ReportEntry} for the root {@link TestDescriptor} right before
+ * its execution is reported as finished.
+ *
+ * @since 6.0
+ */
+class ResourceLockStatisticsReporter implements EngineExecutionListener {
+
+	private final EngineExecutionListener delegate;
+	private final TestDescriptor rootTestDescriptor;
+	private final ResourceLockStatistics statistics;
+
+	ResourceLockStatisticsReporter(EngineExecutionListener delegate, TestDescriptor rootTestDescriptor,
+			ResourceLockStatistics statistics) {
+		this.delegate = delegate;
+		this.rootTestDescriptor = rootTestDescriptor;
+		this.statistics = statistics;
+	}
+
+	@Override
+	public void dynamicTestRegistered(TestDescriptor testDescriptor) {
+		delegate.dynamicTestRegistered(testDescriptor);
+	}
+
+	@Override
+	public void executionSkipped(TestDescriptor testDescriptor, String reason) {
+		delegate.executionSkipped(testDescriptor, reason);
+	}
+
+	@Override
+	public void executionStarted(TestDescriptor testDescriptor) {
+		delegate.executionStarted(testDescriptor);
+	}
+
+	@Override
+	public void executionFinished(TestDescriptor testDescriptor, TestExecutionResult testExecutionResult) {
+		if (testDescriptor == rootTestDescriptor && !statistics.isEmpty()) {
+			delegate.reportingEntryPublished(testDescriptor, statistics.toReportEntry());
+		}
+		delegate.executionFinished(testDescriptor, testExecutionResult);
+	}
+
+	@Override
+	public void reportingEntryPublished(TestDescriptor testDescriptor, ReportEntry entry) {
+		delegate.reportingEntryPublished(testDescriptor, entry);
+	}
+
+	@Override
+	public void fileEntryPublished(TestDescriptor testDescriptor, FileEntry file) {
+		delegate.fileEntryPublished(testDescriptor, file);
+	}
+
+}
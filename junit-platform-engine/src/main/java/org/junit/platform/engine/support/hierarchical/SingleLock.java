@@ -13,8 +13,6 @@ package org.junit.platform.engine.support.hierarchical;
 import static java.util.Collections.singletonList;
 import static org.junit.platform.commons.util.CollectionUtils.getOnlyElement;
 
-import java.util.List;
-import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.locks.Lock;
 
 import org.junit.platform.commons.util.ToStringBuilder;
@@ -22,19 +20,17 @@ import org.junit.platform.commons.util.ToStringBuilder;
 /**
  * @since 1.3
  */
-class SingleLock implements ResourceLock {
+class SingleLock extends AbstractResourceLock {
 
-	private final List<ExclusiveResource> resources;
 	private final Lock lock;
 
 	SingleLock(ExclusiveResource resource, Lock lock) {
-		this.resources = singletonList(resource);
-		this.lock = lock;
+		this(resource, lock, ResourceLockStatistics.DISABLED);
 	}
 
-	@Override
-	public List<ExclusiveResource> getResources() {
-		return resources;
+	SingleLock(ExclusiveResource resource, Lock lock, ResourceLockStatistics statistics) {
+		super(singletonList(resource), statistics);
+		this.lock = lock;
 	}
 
 	// for tests only
@@ -43,9 +39,13 @@ class SingleLock implements ResourceLock {
 	}
 
 	@Override
-	public ResourceLock acquire() throws InterruptedException {
-		ForkJoinPool.managedBlock(new SingleLockManagedBlocker());
-		return this;
+	boolean tryAcquireLocks() {
+		return this.lock.tryLock();
+	}
+
+	@Override
+	void acquireLocks() throws InterruptedException {
+		this.lock.lockInterruptibly();
 	}
 
 	@Override
@@ -55,33 +55,14 @@ class SingleLock implements ResourceLock {
 
 	@Override
 	public boolean isExclusive() {
-		return resources.get(0).getLockMode() == ExclusiveResource.LockMode.READ_WRITE;
+		return getResources().get(0).getLockMode() == ExclusiveResource.LockMode.READ_WRITE;
 	}
 
 	@Override
 	public String toString() {
 		return new ToStringBuilder(this) //
-				.append("resource", getOnlyElement(resources)) //
+				.append("resource", getOnlyElement(getResources())) //
 				.toString();
 	}
 
-	private class SingleLockManagedBlocker implements ForkJoinPool.ManagedBlocker {
-
-		private volatile boolean acquired;
-
-		@Override
-		public boolean block() throws InterruptedException {
-			if (!this.acquired) {
-				SingleLock.this.lock.lockInterruptibly();
-				this.acquired = true;
-			}
-			return true;
-		}
-
-		@Override
-		public boolean isReleasable() {
-			return this.acquired || (this.acquired = SingleLock.this.lock.tryLock());
-		}
-
-	}
 }
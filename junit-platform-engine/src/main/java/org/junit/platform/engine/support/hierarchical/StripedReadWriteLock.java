@@ -0,0 +1,345 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * {@link ReadWriteLock} tuned for resources that are almost exclusively
+ * locked for reading by many threads concurrently.
+ *
+ * <p>Instead of a single shared counter, readers are counted in stripes that
+ * reside on separate cache lines; each thread always uses the same stripe.
+ * Acquiring the read lock therefore does not contend with readers on other
+ * stripes as long as no writer is present. Writers announce themselves via
+ * a flag that makes new readers wait and then wait for the readers on all
+ * stripes to drain, which makes acquiring the write lock comparatively
+ * expensive.
+ *
+ * <p>Both locks are reentrant and a thread holding the write lock may also
+ * acquire the read lock, like with
+ * {@link java.util.concurrent.locks.ReentrantReadWriteLock}. Upgrading from
+ * the read to the write lock is not supported. Neither lock supports
+ * {@linkplain Lock#newCondition() conditions}.
+ *
+ * @since 6.0
+ */
+final class StripedReadWriteLock implements ReadWriteLock {
+
+	private static final int MAX_STRIPES = 64;
+
+	/**
+	 * Number of {@code long} slots per stripe so that each stripe resides on
+	 * its own cache line, even with adjacent cache line prefetching.
+	 */
+	private static final int PADDING = 16;
+
+	private static final long WRITER_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+	private final AtomicLongArray readerCounts;
+	private final int stripeMask;
+	private final ThreadLocal<ReadHolds> readHolds;
+	private final ReentrantLock writerLock = new ReentrantLock();
+	private final ReadLock readLock = new ReadLock();
+	private final WriteLock writeLock = new WriteLock();
+
+	private volatile boolean writerPresent;
+	private volatile @Nullable Thread waitingWriter;
+
+	StripedReadWriteLock() {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	StripedReadWriteLock(int concurrencyLevel) {
+		int stripes = Math.min(MAX_STRIPES, Integer.highestOneBit(Math.max(1, concurrencyLevel - 1)) << 1);
+		this.readerCounts = new AtomicLongArray(stripes * PADDING);
+		this.stripeMask = stripes - 1;
+		this.readHolds = ThreadLocal.withInitial(this::newReadHolds);
+	}
+
+	@SuppressWarnings("deprecation")
+	private ReadHolds newReadHolds() {
+		long threadId = Thread.currentThread().getId();
+		int hash = (int) (threadId ^ (threadId >>> 32)) * 0x9E3779B9;
+		return new ReadHolds((hash & stripeMask) * PADDING);
+	}
+
+	@Override
+	public Lock readLock() {
+		return this.readLock;
+	}
+
+	@Override
+	public Lock writeLock() {
+		return this.writeLock;
+	}
+
+	// for tests only
+	boolean hasReaders() {
+		return readerCount() != 0;
+	}
+
+	private long readerCount() {
+		long count = 0;
+		for (int i = 0; i <= this.stripeMask; i++) {
+			count += this.readerCounts.get(i * PADDING);
+		}
+		return count;
+	}
+
+	private boolean tryAcquireRead(ReadHolds holds) {
+		if (holds.count > 0) {
+			holds.count++;
+			return true;
+		}
+		this.readerCounts.incrementAndGet(holds.stripe);
+		if (!this.writerPresent) {
+			holds.count = 1;
+			holds.counted = true;
+			return true;
+		}
+		releaseReaderCount(holds);
+		if (this.writerLock.isHeldByCurrentThread()) {
+			// Downgrade: the current thread holds the write lock which already
+			// excludes all other readers, so it does not need to be counted
+			// until it releases the write lock.
+			holds.count = 1;
+			holds.counted = false;
+			return true;
+		}
+		return false;
+	}
+
+	private void releaseReaderCount(ReadHolds holds) {
+		long remaining = this.readerCounts.decrementAndGet(holds.stripe);
+		Thread writer = this.waitingWriter;
+		if (remaining == 0 && writer != null) {
+			LockSupport.unpark(writer);
+		}
+	}
+
+	private void releaseRead() {
+		ReadHolds holds = this.readHolds.get();
+		if (holds.count <= 0) {
+			throw new IllegalMonitorStateException("Read lock is not held by current thread");
+		}
+		if (--holds.count == 0 && holds.counted) {
+			holds.counted = false;
+			releaseReaderCount(holds);
+		}
+	}
+
+	private boolean tryAcquireWrite() {
+		if (!this.writerLock.tryLock()) {
+			return false;
+		}
+		if (this.writerLock.getHoldCount() > 1 || announceWriterIfNoReaders()) {
+			return true;
+		}
+		this.writerLock.unlock();
+		return false;
+	}
+
+	private boolean announceWriterIfNoReaders() {
+		this.writerPresent = true;
+		if (readerCount() == 0) {
+			return true;
+		}
+		this.writerPresent = false;
+		return false;
+	}
+
+	private void acquireWrite(boolean interruptibly) throws InterruptedException {
+		if (interruptibly) {
+			this.writerLock.lockInterruptibly();
+		}
+		else {
+			this.writerLock.lock();
+		}
+		if (this.writerLock.getHoldCount() > 1) {
+			return;
+		}
+		this.writerPresent = true;
+		this.waitingWriter = Thread.currentThread();
+		boolean interrupted = false;
+		try {
+			while (readerCount() != 0) {
+				LockSupport.parkNanos(this, WRITER_PARK_NANOS);
+				if (Thread.interrupted()) {
+					if (interruptibly) {
+						this.writerPresent = false;
+						this.writerLock.unlock();
+						throw new InterruptedException();
+					}
+					interrupted = true;
+				}
+			}
+		}
+		finally {
+			this.waitingWriter = null;
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private void releaseWrite() {
+		if (!this.writerLock.isHeldByCurrentThread()) {
+			throw new IllegalMonitorStateException("Write lock is not held by current thread");
+		}
+		if (this.writerLock.getHoldCount() == 1) {
+			ReadHolds holds = this.readHolds.get();
+			if (holds.count > 0 && !holds.counted) {
+				// Keep holding the read lock acquired while holding the write lock
+				this.readerCounts.incrementAndGet(holds.stripe);
+				holds.counted = true;
+			}
+			this.writerPresent = false;
+		}
+		this.writerLock.unlock();
+	}
+
+	private static final class ReadHolds {
+
+		final int stripe;
+		int count;
+		boolean counted;
+
+		ReadHolds(int stripe) {
+			this.stripe = stripe;
+		}
+
+	}
+
+	private final class ReadLock implements Lock {
+
+		@Override
+		public void lock() {
+			ReadHolds holds = readHolds.get();
+			while (!tryAcquireRead(holds)) {
+				awaitWriter();
+			}
+		}
+
+		@Override
+		public void lockInterruptibly() throws InterruptedException {
+			ReadHolds holds = readHolds.get();
+			while (!tryAcquireRead(holds)) {
+				writerLock.lockInterruptibly();
+				writerLock.unlock();
+			}
+		}
+
+		private void awaitWriter() {
+			writerLock.lock();
+			writerLock.unlock();
+		}
+
+		@Override
+		public boolean tryLock() {
+			return tryAcquireRead(readHolds.get());
+		}
+
+		@Override
+		public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+			ReadHolds holds = readHolds.get();
+			long deadline = System.nanoTime() + unit.toNanos(time);
+			while (!tryAcquireRead(holds)) {
+				long remaining = deadline - System.nanoTime();
+				if (remaining <= 0 || !writerLock.tryLock(remaining, TimeUnit.NANOSECONDS)) {
+					return false;
+				}
+				writerLock.unlock();
+			}
+			return true;
+		}
+
+		@Override
+		public void unlock() {
+			releaseRead();
+		}
+
+		@Override
+		public Condition newCondition() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public String toString() {
+			return "StripedReadWriteLock.ReadLock@" + Integer.toHexString(System.identityHashCode(this));
+		}
+
+	}
+
+	private final class WriteLock implements Lock {
+
+		@Override
+		public void lock() {
+			try {
+				acquireWrite(false);
+			}
+			catch (InterruptedException e) {
+				// only thrown by interruptible acquisitions
+				throw new IllegalStateException(e);
+			}
+		}
+
+		@Override
+		public void lockInterruptibly() throws InterruptedException {
+			acquireWrite(true);
+		}
+
+		@Override
+		public boolean tryLock() {
+			return tryAcquireWrite();
+		}
+
+		@Override
+		public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+			long deadline = System.nanoTime() + unit.toNanos(time);
+			while (!tryAcquireWrite()) {
+				if (System.nanoTime() - deadline >= 0) {
+					return false;
+				}
+				if (Thread.interrupted()) {
+					throw new InterruptedException();
+				}
+				LockSupport.parkNanos(this, WRITER_PARK_NANOS);
+			}
+			return true;
+		}
+
+		@Override
+		public void unlock() {
+			releaseWrite();
+		}
+
+		@Override
+		public Condition newCondition() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public String toString() {
+			return "StripedReadWriteLock.WriteLock@" + Integer.toHexString(System.identityHashCode(this));
+		}
+
+	}
+
+}
@@ -10,18 +10,19 @@
 
 package org.junit.platform.engine.support.store;
 
-import static java.util.Comparator.comparing;
 import static java.util.Objects.requireNonNull;
 import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 import static org.junit.platform.commons.util.ReflectionUtils.getWrapperType;
 import static org.junit.platform.commons.util.ReflectionUtils.isAssignableTo;
 
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.Iterator;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -40,6 +41,10 @@ import org.junit.platform.engine.support.hierarchical.ThrowableCollector;
  * {@link #NamespacedHierarchicalStore(NamespacedHierarchicalStore, CloseAction)}
  * constructor.
  *
+ * <p>Values are stored per namespace so that lookups do not allocate
+ * intermediate keys. In addition, stored values are appended to a queue in
+ * insertion order so that they can be closed in reverse insertion order.
+ *
  * <p>This class is thread-safe. Please note, however, that thread safety is
  * not guaranteed while the {@link #close()} method is being invoked.
  *
@@ -49,9 +54,9 @@ import org.junit.platform.engine.support.hierarchical.ThrowableCollector;
 @API(status = MAINTAINED, since = "1.13.3")
 public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 
-	private final AtomicInteger insertOrderSequence = new AtomicInteger();
+	private final ConcurrentMap<N, ConcurrentMap<Object, StoredValue<N>>> storedValues = new ConcurrentHashMap<>();
 
-	private final ConcurrentMap<CompositeKey<N>, StoredValue> storedValues = new ConcurrentHashMap<>(4);
+	private final ConcurrentLinkedDeque<StoredValue<N>> insertionOrder = new ConcurrentLinkedDeque<>();
 
 	private final @Nullable NamespacedHierarchicalStore<N> parentStore;
 
@@ -129,13 +134,22 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 	public void close() {
 		if (!this.closed) {
 			try {
-				if (this.closeAction != null) {
+				CloseAction<N> closeAction = this.closeAction;
+				if (closeAction != null) {
+					// Evaluate all values before closing any of them so that an
+					// unrecoverable exception aborts closing altogether.
+					List<EvaluatedValue<N>> evaluatedValues = new ArrayList<>(this.insertionOrder.size());
+					Iterator<StoredValue<N>> reverseInsertionOrder = this.insertionOrder.descendingIterator();
+					while (reverseInsertionOrder.hasNext()) {
+						EvaluatedValue<N> evaluatedValue = reverseInsertionOrder.next().evaluateSafely();
+						if (evaluatedValue != null && evaluatedValue.value != null) {
+							evaluatedValues.add(evaluatedValue);
+						}
+					}
 					ThrowableCollector throwableCollector = new ThrowableCollector(__ -> false);
-					this.storedValues.entrySet().stream() //
-							.map(e -> e.getValue().evaluateSafely(e.getKey())) //
-							.filter(it -> it != null && it.value != null) //
-							.sorted(EvaluatedValue.REVERSE_INSERT_ORDER) //
-							.forEach(it -> throwableCollector.execute(() -> it.close(this.closeAction)));
+					for (EvaluatedValue<N> evaluatedValue : evaluatedValues) {
+						throwableCollector.execute(() -> evaluatedValue.close(closeAction));
+					}
 					throwableCollector.assertEmpty();
 				}
 			}
@@ -156,7 +170,7 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 	 * closed
 	 */
 	public @Nullable Object get(N namespace, Object key) {
-		StoredValue storedValue = getStoredValue(new CompositeKey<>(namespace, key));
+		StoredValue<N> storedValue = getStoredValue(namespace, key);
 		return StoredValue.evaluateIfNotNull(storedValue);
 	}
 
@@ -192,11 +206,10 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 	public <K, V extends @Nullable Object> @Nullable Object getOrComputeIfAbsent(N namespace, K key,
 			Function<? super K, ? extends V> defaultCreator) {
 		Preconditions.notNull(defaultCreator, "defaultCreator must not be null");
-		CompositeKey<N> compositeKey = new CompositeKey<>(namespace, key);
-		StoredValue storedValue = getStoredValue(compositeKey);
+		StoredValue<N> storedValue = getStoredValue(namespace, key);
 		if (storedValue == null) {
-			storedValue = this.storedValues.computeIfAbsent(compositeKey,
-				__ -> newStoredValue(new MemoizingSupplier(() -> {
+			storedValue = getOrCreateStoredValues(namespace).computeIfAbsent(key,
+				__ -> newStoredValue(namespace, key, new MemoizingSupplier(() -> {
 					rejectIfClosed();
 					return defaultCreator.apply(key);
 				})));
@@ -243,7 +256,9 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 	public @Nullable Object put(N namespace, Object key, @Nullable Object value)
 			throws NamespacedHierarchicalStoreException {
 		rejectIfClosed();
-		StoredValue oldValue = this.storedValues.put(new CompositeKey<>(namespace, key), newStoredValue(() -> value));
+		ConcurrentMap<Object, StoredValue<N>> values = getOrCreateStoredValues(namespace);
+		StoredValue<N> oldValue = values.put(key, newStoredValue(namespace, key, () -> value));
+		removeFromInsertionOrder(oldValue);
 		return StoredValue.evaluateIfNotNull(oldValue);
 	}
 
@@ -262,7 +277,10 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 	 */
 	public @Nullable Object remove(N namespace, Object key) {
 		rejectIfClosed();
-		StoredValue previous = this.storedValues.remove(new CompositeKey<>(namespace, key));
+		validateNamespaceAndKey(namespace, key);
+		ConcurrentMap<Object, StoredValue<N>> values = this.storedValues.get(namespace);
+		StoredValue<N> previous = values != null ? values.remove(key) : null;
+		removeFromInsertionOrder(previous);
 		return StoredValue.evaluateIfNotNull(previous);
 	}
 
@@ -287,21 +305,48 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 		return castToRequiredType(key, value, requiredType);
 	}
 
-	private StoredValue newStoredValue(Supplier<@Nullable Object> value) {
-		return new StoredValue(this.insertOrderSequence.getAndIncrement(), value);
+	private ConcurrentMap<Object, StoredValue<N>> getOrCreateStoredValues(N namespace) {
+		Preconditions.notNull(namespace, "namespace must not be null");
+		ConcurrentMap<Object, StoredValue<N>> values = this.storedValues.get(namespace);
+		if (values == null) {
+			values = this.storedValues.computeIfAbsent(namespace, __ -> new ConcurrentHashMap<>());
+		}
+		return values;
+	}
+
+	private StoredValue<N> newStoredValue(N namespace, Object key, Supplier<@Nullable Object> value) {
+		Preconditions.notNull(key, "key must not be null");
+		StoredValue<N> storedValue = new StoredValue<>(namespace, key, value);
+		this.insertionOrder.addLast(storedValue);
+		return storedValue;
 	}
 
-	private @Nullable StoredValue getStoredValue(CompositeKey<N> compositeKey) {
-		StoredValue storedValue = this.storedValues.get(compositeKey);
+	private void removeFromInsertionOrder(@Nullable StoredValue<N> storedValue) {
 		if (storedValue != null) {
-			return storedValue;
+			// Searching from the end is cheap for recently inserted values
+			this.insertionOrder.removeLastOccurrence(storedValue);
 		}
-		if (this.parentStore != null) {
-			return this.parentStore.getStoredValue(compositeKey);
+	}
+
+	private @Nullable StoredValue<N> getStoredValue(N namespace, Object key) {
+		validateNamespaceAndKey(namespace, key);
+		for (NamespacedHierarchicalStore<N> store = this; store != null; store = store.parentStore) {
+			ConcurrentMap<Object, StoredValue<N>> values = store.storedValues.get(namespace);
+			if (values != null) {
+				StoredValue<N> storedValue = values.get(key);
+				if (storedValue != null) {
+					return storedValue;
+				}
+			}
 		}
 		return null;
 	}
 
+	private static void validateNamespaceAndKey(Object namespace, Object key) {
+		Preconditions.notNull(namespace, "namespace must not be null");
+		Preconditions.notNull(key, "key must not be null");
+	}
+
 	@SuppressWarnings("unchecked")
 	private <T> @Nullable T castToRequiredType(Object key, @Nullable Object value, Class<T> requiredType) {
 		Preconditions.notNull(requiredType, "requiredType must not be null");
@@ -327,20 +372,11 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 		}
 	}
 
-	private record CompositeKey<N>(N namespace, Object key) {
-
-		CompositeKey {
-			Preconditions.notNull(namespace, "namespace must not be null");
-			Preconditions.notNull(key, "key must not be null");
-		}
-
-	}
-
-	private record StoredValue(int order, Supplier<@Nullable Object> supplier) {
+	private record StoredValue<N>(N namespace, Object key, Supplier<@Nullable Object> supplier) {
 
-		private <N> @Nullable EvaluatedValue<N> evaluateSafely(CompositeKey<N> compositeKey) {
+		private @Nullable EvaluatedValue<N> evaluateSafely() {
 			try {
-				return new EvaluatedValue<>(compositeKey, this.order, evaluate());
+				return new EvaluatedValue<>(this, evaluate());
 			}
 			catch (Throwable t) {
 				UnrecoverableExceptions.rethrowIfUnrecoverable(t);
@@ -352,20 +388,17 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 			return this.supplier.get();
 		}
 
-		static @Nullable Object evaluateIfNotNull(@Nullable StoredValue value) {
+		static @Nullable Object evaluateIfNotNull(@Nullable StoredValue<?> value) {
 			return value != null ? value.evaluate() : null;
 		}
 
 	}
 
-	private record EvaluatedValue<N>(CompositeKey<N> compositeKey, int order, @Nullable Object value) {
-
-		private static final Comparator<EvaluatedValue<?>> REVERSE_INSERT_ORDER = comparing(
-			(EvaluatedValue<?> it) -> it.order).reversed();
+	private record EvaluatedValue<N>(StoredValue<N> storedValue, @Nullable Object value) {
 
 		private void close(CloseAction<N> closeAction) throws Throwable {
 			if (this.value != null) {
-				closeAction.close(this.compositeKey.namespace, this.compositeKey.key, this.value);
+				closeAction.close(this.storedValue.namespace, this.storedValue.key, this.value);
 			}
 		}
 
@@ -43,6 +43,11 @@ module org.junit.platform.launcher {
 	uses org.junit.platform.launcher.PostDiscoveryFilter;
 	uses org.junit.platform.launcher.TestExecutionListener;
 
-	provides org.junit.platform.launcher.TestExecutionListener
-			with org.junit.platform.launcher.listeners.UniqueIdTrackingListener;
+	provides org.junit.platform.launcher.LauncherDiscoveryListener with
+			org.junit.platform.launcher.listeners.ExecutionMetricsListener,
+			org.junit.platform.launcher.listeners.discovery.DiscoveryProfilingListener;
+	provides org.junit.platform.launcher.TestExecutionListener with
+			org.junit.platform.launcher.listeners.ExecutionMetricsListener,
+			org.junit.platform.launcher.listeners.FailedTestTrackingListener,
+			org.junit.platform.launcher.listeners.UniqueIdTrackingListener;
 }
@@ -10,8 +10,11 @@
 
 package org.junit.platform.launcher;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
+import java.time.Duration;
+
 import org.apiguardian.api.API;
 import org.junit.platform.engine.EngineDiscoveryListener;
 import org.junit.platform.engine.UniqueId;
@@ -88,4 +91,16 @@ public interface LauncherDiscoveryListener extends EngineDiscoveryListener {
 	default void engineDiscoveryFinished(UniqueId engineId, EngineDiscoveryResult result) {
 	}
 
+	/**
+	 * Called after a {@link PostDiscoveryFilter} has been applied to the
+	 * discovered tests and containers of all engines.
+	 *
+	 * @param filter the applied filter
+	 * @param duration the total time spent in the filter
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	default void postDiscoveryFilterApplied(PostDiscoveryFilter filter, Duration duration) {
+	}
+
 }
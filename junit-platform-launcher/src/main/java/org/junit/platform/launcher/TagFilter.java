@@ -14,7 +14,6 @@ import static java.util.Arrays.asList;
 import static org.apiguardian.api.API.Status.STABLE;
 
 import java.util.List;
-import java.util.Set;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -25,6 +24,7 @@ import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.FilterResult;
 import org.junit.platform.engine.TestTag;
 import org.junit.platform.launcher.tagexpression.TagExpression;
+import org.junit.platform.launcher.tagexpression.TagExpressionMatcher;
 
 /**
  * Factory methods for creating {@link PostDiscoveryFilter PostDiscoveryFilters}
@@ -130,10 +130,9 @@ public final class TagFilter {
 	private static PostDiscoveryFilter includeMatching(List<String> tagExpressions) {
 		Supplier<@Nullable String> inclusionReason = () -> inclusionReasonExpressionSatisfy(tagExpressions);
 		Supplier<@Nullable String> exclusionReason = () -> exclusionReasonExpressionNotSatisfy(tagExpressions);
-		List<TagExpression> parsedTagExpressions = parseAll(tagExpressions);
+		TagExpressionMatcher matcher = compileAll(tagExpressions);
 		return descriptor -> {
-			Set<TestTag> tags = descriptor.getTags();
-			boolean included = parsedTagExpressions.stream().anyMatch(expression -> expression.evaluate(tags));
+			boolean included = matcher.matches(descriptor.getTags());
 
 			return FilterResult.includedIf(included, inclusionReason, exclusionReason);
 		};
@@ -150,10 +149,9 @@ public final class TagFilter {
 	private static PostDiscoveryFilter excludeMatching(List<String> tagExpressions) {
 		Supplier<@Nullable String> inclusionReason = () -> inclusionReasonExpressionNotSatisfy(tagExpressions);
 		Supplier<@Nullable String> exclusionReason = () -> exclusionReasonExpressionSatisfy(tagExpressions);
-		List<TagExpression> parsedTagExpressions = parseAll(tagExpressions);
+		TagExpressionMatcher matcher = compileAll(tagExpressions);
 		return descriptor -> {
-			Set<TestTag> tags = descriptor.getTags();
-			boolean included = parsedTagExpressions.stream().noneMatch(expression -> expression.evaluate(tags));
+			boolean included = !matcher.matches(descriptor.getTags());
 
 			return FilterResult.includedIf(included, inclusionReason, exclusionReason);
 		};
@@ -171,8 +169,8 @@ public final class TagFilter {
 		return tagExpressions.stream().map(String::strip).sorted().collect(Collectors.joining(","));
 	}
 
-	private static List<TagExpression> parseAll(List<String> tagExpressions) {
-		return tagExpressions.stream().map(TagFilter::parse).toList();
+	private static TagExpressionMatcher compileAll(List<String> tagExpressions) {
+		return TagExpressionMatcher.compile(tagExpressions.stream().map(TagFilter::parse).toList());
 	}
 
 	private static TagExpression parse(@Nullable String tagExpression) {
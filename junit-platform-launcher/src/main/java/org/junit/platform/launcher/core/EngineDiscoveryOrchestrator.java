@@ -15,6 +15,7 @@ import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.junit.platform.engine.Filter.composeFilters;
 import static org.junit.platform.launcher.core.LauncherPhase.getDiscoveryIssueFailurePhase;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
@@ -180,7 +181,7 @@ public class EngineDiscoveryOrchestrator {
 		List<PostDiscoveryFilter> filters = new LinkedList<>(postDiscoveryFilters);
 		filters.addAll(request.getPostDiscoveryFilters());
 
-		applyPostDiscoveryFilters(testEngineDescriptors, filters);
+		applyPostDiscoveryFilters(testEngineDescriptors, filters, request.getDiscoveryListener());
 		prune(testEngineDescriptors);
 
 		return testEngineDescriptors;
@@ -222,8 +223,15 @@ public class EngineDiscoveryOrchestrator {
 	}
 
 	private void applyPostDiscoveryFilters(Map<TestEngine, EngineResultInfo> testEngineDescriptors,
-			List<PostDiscoveryFilter> filters) {
-		Filter<TestDescriptor> postDiscoveryFilter = composeFilters(filters);
+			List<PostDiscoveryFilter> filters, LauncherDiscoveryListener listener) {
+		if (filters.isEmpty()) {
+			return;
+		}
+		List<TimedPostDiscoveryFilter> timedFilters = listener.isProfilingEnabled()
+				? filters.stream().map(TimedPostDiscoveryFilter::new).toList()
+				: List.of();
+		Filter<TestDescriptor> postDiscoveryFilter = timedFilters.isEmpty() ? composeFilters(filters)
+				: composeFilters(timedFilters);
 		Map<String, List<TestDescriptor>> excludedTestDescriptorsByReason = new LinkedHashMap<>();
 		TestDescriptor.Visitor removeExcludedTestDescriptors = descriptor -> {
 			FilterResult filterResult = postDiscoveryFilter.apply(descriptor);
@@ -233,6 +241,7 @@ public class EngineDiscoveryOrchestrator {
 			}
 		};
 		acceptInAllTestEngines(testEngineDescriptors, removeExcludedTestDescriptors);
+		timedFilters.forEach(filter -> listener.postDiscoveryFilterApplied(filter.delegate, filter.getDuration()));
 		logTestDescriptorExclusionReasons(excludedTestDescriptorsByReason);
 	}
 
@@ -274,4 +283,33 @@ public class EngineDiscoveryOrchestrator {
 		testEngineResults.values().forEach(result -> result.getRootDescriptor().accept(visitor));
 	}
 
+	/**
+	 * Measures the total time spent in a {@link PostDiscoveryFilter}.
+	 */
+	private static class TimedPostDiscoveryFilter implements Filter<TestDescriptor> {
+
+		private final PostDiscoveryFilter delegate;
+		private long nanos;
+
+		TimedPostDiscoveryFilter(PostDiscoveryFilter delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public FilterResult apply(TestDescriptor descriptor) {
+			long start = System.nanoTime();
+			try {
+				return delegate.apply(descriptor);
+			}
+			finally {
+				nanos += System.nanoTime() - start;
+			}
+		}
+
+		Duration getDuration() {
+			return Duration.ofNanos(nanos);
+		}
+
+	}
+
 }
@@ -10,25 +10,35 @@
 
 package org.junit.platform.launcher.core;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 import static org.apiguardian.api.API.Status.STABLE;
 import static org.junit.platform.launcher.LauncherConstants.OUTPUT_DIR_PROPERTY_NAME;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.apiguardian.api.API;
 import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.PreconditionViolationException;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.DiscoveryFilter;
 import org.junit.platform.engine.DiscoverySelector;
 import org.junit.platform.engine.Filter;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.engine.discovery.UniqueIdSelector;
 import org.junit.platform.engine.reporting.OutputDirectoryProvider;
 import org.junit.platform.launcher.EngineFilter;
 import org.junit.platform.launcher.LauncherConstants;
@@ -36,6 +46,7 @@ import org.junit.platform.launcher.LauncherDiscoveryListener;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
 import org.junit.platform.launcher.PostDiscoveryFilter;
 import org.junit.platform.launcher.core.LauncherConfigurationParameters.Builder;
+import org.junit.platform.launcher.listeners.FailedTestTrackingListener;
 import org.junit.platform.launcher.listeners.OutputDir;
 import org.junit.platform.launcher.listeners.discovery.LauncherDiscoveryListeners;
 
@@ -152,6 +163,36 @@ public final class LauncherDiscoveryRequestBuilder {
 		return this;
 	}
 
+	/**
+	 * Add a {@link UniqueIdSelector} to the request for each unique ID in the
+	 * supplied journal of failed tests.
+	 *
+	 * <p>The journal is expected to contain one unique ID per line, encoded
+	 * using UTF-8, as written by the {@link FailedTestTrackingListener}. Blank
+	 * lines are ignored. If the journal is empty, no selectors are added.
+	 *
+	 * @param journalFile the journal of failed tests to read; never
+	 * {@code null}
+	 * @return this builder for method chaining
+	 * @throws JUnitException if the journal cannot be read
+	 * @since 6.0
+	 * @see FailedTestTrackingListener
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public LauncherDiscoveryRequestBuilder selectFailedTests(Path journalFile) {
+		Preconditions.notNull(journalFile, "journalFile must not be null");
+		try (Stream<String> lines = Files.lines(journalFile, UTF_8)) {
+			lines.map(String::strip) //
+					.filter(line -> !line.isEmpty()) //
+					.map(DiscoverySelectors::selectUniqueId) //
+					.forEach(this.selectors::add);
+		}
+		catch (IOException | UncheckedIOException ex) {
+			throw new JUnitException("Failed to read journal of failed tests: " + journalFile, ex);
+		}
+		return this;
+	}
+
 	/**
 	 * Add all supplied {@code filters} to the request.
 	 *
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.junit.platform.launcher.listeners;
+
+import static java.util.Collections.unmodifiableMap;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apiguardian.api.API;
+
+/**
+ * Registry of {@linkplain Histogram histograms} of the durations of the
+ * {@linkplain Phase phases} of test discovery and execution, in nanoseconds,
+ * aggregated by {@linkplain Dimension engine, class, and tag}.
+ *
+ * @since 6.0
+ * @see ExecutionMetricsListener
+ */
+@API(status = EXPERIMENTAL, since = "6.0")
+public final class ExecutionMetrics {
+
+	private final Map<Metric, Histogram> histograms = new ConcurrentHashMap<>();
+
+	ExecutionMetrics() {
+	}
+
+	void record(Dimension dimension, String name, Phase phase, long durationNanos) {
+		Metric metric = new Metric(dimension, name, phase);
+		Histogram histogram = histograms.get(metric);
+		if (histogram == null) {
+			histogram = histograms.computeIfAbsent(metric, __ -> new Histogram());
+		}
+		histogram.record(durationNanos);
+	}
+
+	/**
+	 * Get the histogram for the supplied dimension, name, and phase, if any
+	 * durations have been recorded for it.
+	 */
+	public Optional<Histogram> getHistogram(Dimension dimension, String name, Phase phase) {
+		return Optional.ofNullable(histograms.get(new Metric(dimension, name, phase)));
+	}
+
+	/**
+	 * Get an unmodifiable view of all histograms recorded so far.
+	 */
+	public Map<Metric, Histogram> getHistograms() {
+		return unmodifiableMap(histograms);
+	}
+
+	/**
+	 * Identifies a {@link Histogram} of an {@code ExecutionMetrics} registry.
+	 *
+	 * @param dimension the dimension the durations are aggregated by
+	 * @param name the name of the engine, class, or tag
+	 * @param phase the phase whose durations are recorded
+	 */
+	public record Metric(Dimension dimension, String name, Phase phase) {
+	}
+
+	/**
+	 * Dimension durations are aggregated by.
+	 */
+	public enum Dimension {
+
+		/**
+		 * The ID of the test engine.
+		 */
+		ENGINE,
+
+		/**
+		 * The fully qualified name of the test class.
+		 */
+		CLASS,
+
+		/**
+		 * The name of a tag of the test or container.
+		 */
+		TAG;
+
+		String getLabel() {
+			return name().toLowerCase(Locale.ROOT);
+		}
+	}
+
+	/**
+	 * Phase of test discovery and execution.
+	 *
+	 * <p>Since the phases of execution are derived from the events reported
+	 * by test engines, {@link #BEFORE} and {@link #AFTER} only apply to
+	 * containers and include all work done by the engine before executing
+	 * the first child and after the last child finished, respectively.
+	 * Callbacks executed around each test, such as {@code @BeforeEach}
+	 * methods in JUnit Jupiter, are included in {@link #TEST}.
+	 */
+	public enum Phase {
+
+		/**
+		 * Discovery of the tests of a test engine.
+		 */
+		DISCOVERY,
+
+		/**
+		 * Preparation of a container until its first child is started, e.g.
+		 * instantiating the test class and invoking {@code @BeforeAll}
+		 * methods.
+		 */
+		BEFORE,
+
+		/**
+		 * Execution of a test, including callbacks executed around it.
+		 */
+		TEST,
+
+		/**
+		 * Cleanup of a container after its last child finished, e.g.
+		 * invoking {@code @AfterAll} methods.
+		 */
+		AFTER;
+
+		String getLabel() {
+			return name().toLowerCase(Locale.ROOT);
+		}
+	}
+
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.junit.platform.launcher.listeners;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.EngineDiscoveryResult;
+import org.junit.platform.launcher.LauncherDiscoveryListener;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.listeners.ExecutionMetrics.Dimension;
+import org.junit.platform.launcher.listeners.ExecutionMetrics.Phase;
+
+/**
+ * {@link TestExecutionListener} and {@link LauncherDiscoveryListener} that
+ * records the durations of test discovery and execution in
+ * {@link ExecutionMetrics} and writes them to the
+ * {@linkplain org.junit.platform.engine.reporting.OutputDirectoryProvider#getRootDirectory()
+ * root output directory} once the execution of a test plan has finished.
+ *
+ * <p>Metrics are written to {@value #JSON_FILE_NAME} and, in the Prometheus
+ * text exposition format, to {@value #PROMETHEUS_FILE_NAME}.
+ *
+ * <p>This listener is registered automatically via Java's
+ * {@link java.util.ServiceLoader} mechanism, both as
+ * {@link LauncherDiscoveryListener} and as {@link TestExecutionListener}, but
+ * disabled by default; set the {@value #LISTENER_ENABLED_PROPERTY_NAME}
+ * configuration parameter to {@code true} to enable it. The discovery
+ * durations recorded by the instance registered as discovery listener are
+ * handed over to the instance executing the resulting test plan. Like other
+ * automatically registered listeners, it can be deactivated via the
+ * {@value org.junit.platform.launcher.LauncherConstants#DEACTIVATE_LISTENERS_PATTERN_PROPERTY_NAME}
+ * configuration parameter. Instances that are registered explicitly, e.g. to
+ * access the recorded {@linkplain #getMetrics() metrics} in process, have to
+ * be enabled the same way and need to be registered as
+ * {@link LauncherDiscoveryListener} as well in order to record discovery
+ * durations.
+ *
+ * <p>The metrics of a test plan are available until the discovery or
+ * execution of the next test plan starts.
+ *
+ * @since 6.0
+ */
+@API(status = EXPERIMENTAL, since = "6.0")
+public class ExecutionMetricsListener implements LauncherDiscoveryListener, TestExecutionListener {
+
+	/**
+	 * Property name used to enable the automatically registered
+	 * {@code ExecutionMetricsListener}: {@value}
+	 */
+	public static final String LISTENER_ENABLED_PROPERTY_NAME = "junit.platform.listeners.metrics.enabled";
+
+	/**
+	 * Name of the file the metrics are written to as JSON: {@value}
+	 */
+	public static final String JSON_FILE_NAME = "junit-platform-metrics.json";
+
+	/**
+	 * Name of the file the metrics are written to in the Prometheus text
+	 * exposition format: {@value}
+	 */
+	public static final String PROMETHEUS_FILE_NAME = "junit-platform-metrics.prom";
+
+	private static final Logger logger = LoggerFactory.getLogger(ExecutionMetricsListener.class);
+
+	/**
+	 * Metrics containing discovery durations that have not yet been picked up
+	 * by the instance executing the discovered test plan, keyed by the
+	 * configuration parameters shared by the discovery request and the test
+	 * plan.
+	 */
+	private static final Map<ConfigurationParameters, ExecutionMetrics> pendingMetrics = Collections.synchronizedMap(
+		new WeakHashMap<>());
+
+	private final Map<UniqueId, Long> engineDiscoveryStarts = new ConcurrentHashMap<>();
+	private final Map<UniqueId, Timing> timings = new ConcurrentHashMap<>();
+
+	private volatile ExecutionMetrics metrics = new ExecutionMetrics();
+	private volatile boolean completed;
+	private volatile boolean enabled;
+	private volatile @Nullable TestPlan testPlan;
+
+	/**
+	 * Get the metrics of the current or, if none is running, the most
+	 * recently executed test plan.
+	 */
+	public ExecutionMetrics getMetrics() {
+		return metrics;
+	}
+
+	@Override
+	public void launcherDiscoveryStarted(LauncherDiscoveryRequest request) {
+		ConfigurationParameters configurationParameters = request.getConfigurationParameters();
+		// Discovery always starts a new test plan, even for instances that are
+		// only registered as discovery listener and thus never complete one.
+		metrics = new ExecutionMetrics();
+		completed = false;
+		enabled = isEnabled(configurationParameters);
+		if (enabled) {
+			pendingMetrics.put(configurationParameters, metrics);
+		}
+	}
+
+	@Override
+	public void engineDiscoveryStarted(UniqueId engineId) {
+		if (enabled) {
+			engineDiscoveryStarts.put(engineId, System.nanoTime());
+		}
+	}
+
+	@Override
+	public void engineDiscoveryFinished(UniqueId engineId, EngineDiscoveryResult result) {
+		Long start = engineDiscoveryStarts.remove(engineId);
+		if (start != null) {
+			metrics.record(Dimension.ENGINE, engineId.getLastSegment().getValue(), Phase.DISCOVERY,
+				System.nanoTime() - start);
+		}
+	}
+
+	@Override
+	public void testPlanExecutionStarted(TestPlan testPlan) {
+		ConfigurationParameters configurationParameters = testPlan.getConfigurationParameters();
+		start(configurationParameters);
+		ExecutionMetrics discoveryMetrics = pendingMetrics.remove(configurationParameters);
+		if (enabled && discoveryMetrics != null) {
+			metrics = discoveryMetrics;
+		}
+		this.testPlan = testPlan;
+	}
+
+	private void start(ConfigurationParameters configurationParameters) {
+		if (completed) {
+			metrics = new ExecutionMetrics();
+			completed = false;
+		}
+		enabled = isEnabled(configurationParameters);
+	}
+
+	private static boolean isEnabled(ConfigurationParameters configurationParameters) {
+		return configurationParameters.getBoolean(LISTENER_ENABLED_PROPERTY_NAME).orElse(false);
+	}
+
+	@Override
+	public void executionStarted(TestIdentifier testIdentifier) {
+		if (!enabled) {
+			return;
+		}
+		long now = System.nanoTime();
+		timings.put(testIdentifier.getUniqueIdObject(), new Timing(now));
+		getParentTiming(testIdentifier).ifPresent(
+			parent -> parent.firstChildStarted.accumulateAndGet(now, Math::min));
+	}
+
+	@Override
+	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+		Timing timing = timings.remove(testIdentifier.getUniqueIdObject());
+		if (timing == null) {
+			return;
+		}
+		long now = System.nanoTime();
+		if (testIdentifier.isTest()) {
+			record(testIdentifier, Phase.TEST, now - timing.started);
+		}
+		else {
+			long firstChildStarted = timing.firstChildStarted.get();
+			long lastChildFinished = timing.lastChildFinished.get();
+			if (firstChildStarted == Long.MAX_VALUE) {
+				record(testIdentifier, Phase.BEFORE, now - timing.started);
+			}
+			else {
+				record(testIdentifier, Phase.BEFORE, firstChildStarted - timing.started);
+				if (lastChildFinished != Long.MIN_VALUE) {
+					record(testIdentifier, Phase.AFTER, now - lastChildFinished);
+				}
+			}
+		}
+		getParentTiming(testIdentifier).ifPresent(
+			parent -> parent.lastChildFinished.accumulateAndGet(now, Math::max));
+	}
+
+	private Optional<Timing> getParentTiming(TestIdentifier testIdentifier) {
+		return testIdentifier.getParentIdObject().map(timings::get);
+	}
+
+	private void record(TestIdentifier testIdentifier, Phase phase, long durationNanos) {
+		ExecutionMetrics metrics = this.metrics;
+		testIdentifier.getUniqueIdObject().getEngineId().ifPresent(
+			engineId -> metrics.record(Dimension.ENGINE, engineId, phase, durationNanos));
+		Optional<String> className = phase == Phase.TEST ? findClassName(testIdentifier)
+				: getClassName(testIdentifier);
+		className.ifPresent(name -> metrics.record(Dimension.CLASS, name, phase, durationNanos));
+		testIdentifier.getTags().forEach(tag -> metrics.record(Dimension.TAG, tag.getName(), phase, durationNanos));
+	}
+
+	/**
+	 * Get the name of the class the supplied container represents, if any.
+	 *
+	 * <p>Callbacks of other containers, e.g. those of test templates, are not
+	 * attributed to the enclosing class.
+	 */
+	private Optional<String> getClassName(TestIdentifier testIdentifier) {
+		return testIdentifier.getSource() //
+				.filter(ClassSource.class::isInstance) //
+				.map(source -> ((ClassSource) source).getClassName());
+	}
+
+	/**
+	 * Find the name of the class the supplied test is declared in.
+	 */
+	private Optional<String> findClassName(TestIdentifier testIdentifier) {
+		TestPlan testPlan = this.testPlan;
+		Optional<TestIdentifier> current = Optional.of(testIdentifier);
+		while (current.isPresent()) {
+			TestSource source = current.get().getSource().orElse(null);
+			if (source instanceof ClassSource classSource) {
+				return Optional.of(classSource.getClassName());
+			}
+			if (source instanceof MethodSource methodSource) {
+				return Optional.of(methodSource.getClassName());
+			}
+			current = testPlan == null ? Optional.empty() : testPlan.getParent(current.get());
+		}
+		return Optional.empty();
+	}
+
+	@Override
+	public void testPlanExecutionFinished(TestPlan testPlan) {
+		this.testPlan = null;
+		this.completed = true;
+		this.timings.clear();
+		if (enabled) {
+			writeReports(testPlan);
+		}
+	}
+
+	private void writeReports(TestPlan testPlan) {
+		Path outputDir = null;
+		try {
+			outputDir = testPlan.getOutputDirectoryProvider().getRootDirectory();
+			Files.createDirectories(outputDir);
+			MetricsReportWriter writer = new MetricsReportWriter(metrics);
+			writer.writeJson(outputDir.resolve(JSON_FILE_NAME));
+			writer.writePrometheus(outputDir.resolve(PROMETHEUS_FILE_NAME));
+		}
+		catch (Exception ex) {
+			Path dir = outputDir;
+			logger.error(ex, () -> "Failed to write execution metrics to " + dir);
+		}
+	}
+
+	private static final class Timing {
+
+		private final long started;
+		private final AtomicLong firstChildStarted = new AtomicLong(Long.MAX_VALUE);
+		private final AtomicLong lastChildFinished = new AtomicLong(Long.MIN_VALUE);
+
+		private Timing(long started) {
+			this.started = started;
+		}
+	}
+
+}
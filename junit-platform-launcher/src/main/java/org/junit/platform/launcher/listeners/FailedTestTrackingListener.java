@@ -0,0 +1,148 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.listeners;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.io.BufferedWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * {@code FailedTestTrackingListener} is a {@link TestExecutionListener} that
+ * tracks the {@linkplain TestIdentifier#getUniqueId() unique IDs} of all tests
+ * and containers that {@linkplain TestExecutionResult.Status#FAILED failed}
+ * during the execution of the {@link TestPlan} and writes them to a journal
+ * once execution of the {@code TestPlan} has
+ * {@linkplain #testPlanExecutionFinished(TestPlan) finished}.
+ *
+ * <p>The journal is written to {@value #JOURNAL_FILE_NAME} in the
+ * {@linkplain org.junit.platform.engine.reporting.OutputDirectoryProvider#getRootDirectory()
+ * root output directory}. It contains one unique ID per line, encoded using
+ * UTF-8 and sorted lexicographically. Unique IDs of failed descendants of a
+ * failed container are omitted since rerunning the container reruns them as
+ * well. If no tests failed, the journal is empty.
+ *
+ * <p>The failed tests can be rerun by passing the journal to
+ * {@link org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder#selectFailedTests(Path)}
+ * or to the {@code --rerun-failed} option of the {@code ConsoleLauncher}. They
+ * are then selected by their unique IDs which allows test engines to resolve
+ * them without scanning the classpath.
+ *
+ * <p>The {@code FailedTestTrackingListener} is registered automatically via
+ * Java's {@link java.util.ServiceLoader} mechanism but disabled by default;
+ * set the {@value #LISTENER_ENABLED_PROPERTY_NAME} configuration parameter to
+ * {@code true} to enable it.
+ *
+ * @since 6.0
+ * @see UniqueIdTrackingListener
+ */
+@API(status = EXPERIMENTAL, since = "6.0")
+public class FailedTestTrackingListener implements TestExecutionListener {
+
+	/**
+	 * Property name used to enable the {@code FailedTestTrackingListener}: {@value}
+	 */
+	public static final String LISTENER_ENABLED_PROPERTY_NAME = "junit.platform.listeners.failed.tracking.enabled";
+
+	/**
+	 * Name of the journal file the unique IDs of failed tests are written to: {@value}
+	 */
+	public static final String JOURNAL_FILE_NAME = "junit-platform-failed-tests.txt";
+
+	private static final Logger logger = LoggerFactory.getLogger(FailedTestTrackingListener.class);
+
+	private final Set<UniqueId> failedUniqueIds = ConcurrentHashMap.newKeySet();
+
+	private boolean enabled;
+
+	public FailedTestTrackingListener() {
+		// to avoid missing-explicit-ctor warning
+	}
+
+	@Override
+	public void testPlanExecutionStarted(TestPlan testPlan) {
+		this.enabled = testPlan.getConfigurationParameters().getBoolean(LISTENER_ENABLED_PROPERTY_NAME).orElse(false);
+		this.failedUniqueIds.clear();
+	}
+
+	@Override
+	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+		if (this.enabled && testExecutionResult.getStatus() == TestExecutionResult.Status.FAILED) {
+			this.failedUniqueIds.add(testIdentifier.getUniqueIdObject());
+		}
+	}
+
+	@Override
+	public void testPlanExecutionFinished(TestPlan testPlan) {
+		if (this.enabled) {
+			writeJournal(testPlan, getUniqueIdsToRerun());
+		}
+		this.failedUniqueIds.clear();
+	}
+
+	/**
+	 * Get the sorted unique IDs of all failed tests and containers that are
+	 * not descendants of another failed container.
+	 */
+	private List<String> getUniqueIdsToRerun() {
+		return this.failedUniqueIds.stream() //
+				.filter(uniqueId -> !hasFailedAncestor(uniqueId)) //
+				.map(UniqueId::toString) //
+				.sorted() //
+				.toList();
+	}
+
+	private boolean hasFailedAncestor(UniqueId uniqueId) {
+		UniqueId current = uniqueId;
+		while (current.getSegments().size() > 1) {
+			current = current.removeLastSegment();
+			if (this.failedUniqueIds.contains(current)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void writeJournal(TestPlan testPlan, List<String> uniqueIds) {
+		Path outputDir = null;
+		try {
+			outputDir = testPlan.getOutputDirectoryProvider().getRootDirectory();
+			Files.createDirectories(outputDir);
+			Path journalFile = outputDir.resolve(JOURNAL_FILE_NAME);
+			try (BufferedWriter writer = Files.newBufferedWriter(journalFile, UTF_8)) {
+				for (String uniqueId : uniqueIds) {
+					writer.write(uniqueId);
+					writer.newLine();
+				}
+			}
+			logger.debug(() -> "Wrote unique IDs of %d failed tests to %s".formatted(uniqueIds.size(), journalFile));
+		}
+		catch (Exception ex) {
+			Path dir = outputDir;
+			logger.error(ex, () -> "Failed to write unique IDs of failed tests to " + dir);
+		}
+	}
+
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.listeners;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.util.Preconditions;
+
+/**
+ * Lock-free histogram of non-negative values, typically durations in
+ * nanoseconds.
+ *
+ * <p>Values are counted in buckets whose width grows with their magnitude
+ * so that each recorded value is represented with a relative error of at
+ * most {@code 1/32} while the memory footprint remains independent of the
+ * number of recorded values. Buckets are allocated lazily, one order of
+ * magnitude at a time, so that histograms of values spanning only a few
+ * orders of magnitude remain small.
+ *
+ * <p>The minimum, maximum, count, and total of the recorded values are
+ * tracked exactly.
+ *
+ * @since 6.0
+ */
+@API(status = EXPERIMENTAL, since = "6.0")
+public final class Histogram {
+
+	private static final int SUB_BUCKET_BITS = 6;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT / 2;
+	private static final int ROW_COUNT = Long.SIZE - SUB_BUCKET_BITS + 1;
+
+	private final AtomicReferenceArray<@Nullable AtomicLongArray> rows = new AtomicReferenceArray<>(ROW_COUNT);
+	private final AtomicLong count = new AtomicLong();
+	private final AtomicLong total = new AtomicLong();
+	private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+	private final AtomicLong max = new AtomicLong();
+
+	Histogram() {
+	}
+
+	void record(long value) {
+		Preconditions.condition(value >= 0, () -> "value must not be negative: " + value);
+		int row = row(value);
+		getOrCreateRow(row).incrementAndGet(indexInRow(value, row));
+		count.incrementAndGet();
+		total.addAndGet(value);
+		min.accumulateAndGet(value, Math::min);
+		max.accumulateAndGet(value, Math::max);
+	}
+
+	private AtomicLongArray getOrCreateRow(int row) {
+		AtomicLongArray buckets = rows.get(row);
+		if (buckets == null) {
+			AtomicLongArray newBuckets = new AtomicLongArray(row == 0 ? SUB_BUCKET_COUNT : SUB_BUCKET_HALF_COUNT);
+			buckets = rows.compareAndExchange(row, null, newBuckets);
+			if (buckets == null) {
+				buckets = newBuckets;
+			}
+		}
+		return buckets;
+	}
+
+	/**
+	 * Get the number of recorded values.
+	 */
+	public long getCount() {
+		return count.get();
+	}
+
+	/**
+	 * Get the sum of all recorded values.
+	 */
+	public long getTotal() {
+		return total.get();
+	}
+
+	/**
+	 * Get the smallest recorded value or {@code 0} if no values have been
+	 * recorded.
+	 */
+	public long getMin() {
+		return getCount() == 0 ? 0 : min.get();
+	}
+
+	/**
+	 * Get the largest recorded value or {@code 0} if no values have been
+	 * recorded.
+	 */
+	public long getMax() {
+		return max.get();
+	}
+
+	/**
+	 * Get the value that the supplied percentage of recorded values are less
+	 * than or equal to, within the precision of this histogram.
+	 *
+	 * @param percentile the percentile to compute; must be between {@code 0}
+	 * and {@code 100}
+	 * @return the value at the percentile or {@code 0} if no values have been
+	 * recorded
+	 */
+	public long getValueAtPercentile(double percentile) {
+		Preconditions.condition(percentile >= 0 && percentile <= 100,
+			() -> "percentile must be between 0 and 100: " + percentile);
+		long count = getCount();
+		if (count == 0) {
+			return 0;
+		}
+		long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+		long seen = 0;
+		for (int row = 0; row < ROW_COUNT; row++) {
+			AtomicLongArray buckets = rows.get(row);
+			if (buckets == null) {
+				continue;
+			}
+			for (int index = 0; index < buckets.length(); index++) {
+				seen += buckets.get(index);
+				if (seen >= rank) {
+					return Math.max(getMin(), Math.min(getMax(), highestEquivalentValue(row, index)));
+				}
+			}
+		}
+		// only reachable if values were recorded concurrently
+		return getMax();
+	}
+
+	private static int row(long value) {
+		return Math.max(0, Long.SIZE - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS);
+	}
+
+	private static int indexInRow(long value, int row) {
+		return row == 0 ? (int) value : (int) (value >>> row) - SUB_BUCKET_HALF_COUNT;
+	}
+
+	private static long highestEquivalentValue(int row, int index) {
+		if (row == 0) {
+			return index;
+		}
+		long lowestEquivalentValue = (long) (SUB_BUCKET_HALF_COUNT + index) << row;
+		return lowestEquivalentValue + (1L << row) - 1;
+	}
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.junit.platform.launcher.listeners;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Comparator.comparing;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.junit.platform.launcher.listeners.ExecutionMetrics.Metric;
+
+/**
+ * Writes {@link ExecutionMetrics} as JSON or in the Prometheus text
+ * exposition format.
+ *
+ * @since 6.0
+ */
+class MetricsReportWriter {
+
+	private static final double[] PERCENTILES = { 50, 90, 99, 100 };
+
+	private static final String PROMETHEUS_METRIC_NAME = "junit_execution_duration_seconds";
+
+	private final List<Map.Entry<Metric, Histogram>> entries;
+
+	MetricsReportWriter(ExecutionMetrics metrics) {
+		this.entries = metrics.getHistograms().entrySet().stream() //
+				.sorted(comparing((Map.Entry<Metric, Histogram> entry) -> entry.getKey().dimension()) //
+						.thenComparing(entry -> entry.getKey().name()) //
+						.thenComparing(entry -> entry.getKey().phase())) //
+				.toList();
+	}
+
+	void writeJson(Path file) throws IOException {
+		try (Writer writer = Files.newBufferedWriter(file, UTF_8)) {
+			writer.write("{\"metrics\":[");
+			for (int i = 0; i < entries.size(); i++) {
+				Metric metric = entries.get(i).getKey();
+				Histogram histogram = entries.get(i).getValue();
+				writer.write(i == 0 ? "\n" : ",\n");
+				writer.write("{\"dimension\":\"%s\",\"name\":%s,\"phase\":\"%s\",\"count\":%d,\"totalNanos\":%d,\"minNanos\":%d".formatted(
+					metric.dimension().getLabel(), toJsonString(metric.name()), metric.phase().getLabel(),
+					histogram.getCount(), histogram.getTotal(), histogram.getMin()));
+				for (double percentile : PERCENTILES) {
+					writer.write(",\"p%sNanos\":%d".formatted(formatPercentile(percentile),
+						histogram.getValueAtPercentile(percentile)));
+				}
+				writer.write("}");
+			}
+			writer.write("\n]}\n");
+		}
+	}
+
+	void writePrometheus(Path file) throws IOException {
+		try (Writer writer = Files.newBufferedWriter(file, UTF_8)) {
+			writer.write("# HELP %s Durations of the phases of test discovery and execution.\n".formatted(
+				PROMETHEUS_METRIC_NAME));
+			writer.write("# TYPE %s summary\n".formatted(PROMETHEUS_METRIC_NAME));
+			for (Map.Entry<Metric, Histogram> entry : entries) {
+				Metric metric = entry.getKey();
+				Histogram histogram = entry.getValue();
+				String labels = "dimension=\"%s\",name=\"%s\",phase=\"%s\"".formatted(metric.dimension().getLabel(),
+					escapeLabelValue(metric.name()), metric.phase().getLabel());
+				for (double percentile : PERCENTILES) {
+					writer.write("%s{%s,quantile=\"%s\"} %s\n".formatted(PROMETHEUS_METRIC_NAME, labels,
+						formatDouble(percentile / 100), toSeconds(histogram.getValueAtPercentile(percentile))));
+				}
+				writer.write("%s_sum{%s} %s\n".formatted(PROMETHEUS_METRIC_NAME, labels,
+					toSeconds(histogram.getTotal())));
+				writer.write("%s_count{%s} %d\n".formatted(PROMETHEUS_METRIC_NAME, labels, histogram.getCount()));
+			}
+		}
+	}
+
+	private static String formatPercentile(double percentile) {
+		return formatDouble(percentile).replace('.', '_');
+	}
+
+	private static String formatDouble(double value) {
+		return value == Math.rint(value) ? String.valueOf((long) value) : String.valueOf(value);
+	}
+
+	private static String toSeconds(long nanos) {
+		return String.format(Locale.ROOT, "%.9f", nanos / 1e9);
+	}
+
+	private static String toJsonString(String value) {
+		StringBuilder builder = new StringBuilder(value.length() + 2).append('"');
+		for (char c : value.toCharArray()) {
+			switch (c) {
+				case '"' -> builder.append("\\\"");
+				case '\\' -> builder.append("\\\\");
+				case '\n' -> builder.append("\\n");
+				case '\r' -> builder.append("\\r");
+				case '\t' -> builder.append("\\t");
+				default -> {
+					if (c < 0x20) {
+						builder.append("\\u%04x".formatted((int) c));
+					}
+					else {
+						builder.append(c);
+					}
+				}
+			}
+		}
+		return builder.append('"').toString();
+	}
+
+	private static String escapeLabelValue(String value) {
+		return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+	}
+
+}
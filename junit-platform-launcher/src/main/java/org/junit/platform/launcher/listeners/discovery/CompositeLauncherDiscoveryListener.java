@@ -12,6 +12,7 @@ package org.junit.platform.launcher.listeners.discovery;
 
 import static org.junit.platform.commons.util.CollectionUtils.forEachInReverseOrder;
 
+import java.time.Duration;
 import java.util.List;
 
 import org.junit.platform.engine.DiscoveryIssue;
@@ -21,6 +22,7 @@ import org.junit.platform.engine.UniqueId;
 import org.junit.platform.launcher.EngineDiscoveryResult;
 import org.junit.platform.launcher.LauncherDiscoveryListener;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.PostDiscoveryFilter;
 
 /**
  * @since 1.6
@@ -64,4 +66,20 @@ class CompositeLauncherDiscoveryListener implements LauncherDiscoveryListener {
 		listeners.forEach(delegate -> delegate.issueEncountered(engineId, issue));
 	}
 
+	@Override
+	public void selectorResolverInvoked(UniqueId engineId, DiscoverySelector selector, Class<?> resolverClass,
+			Duration duration) {
+		listeners.forEach(delegate -> delegate.selectorResolverInvoked(engineId, selector, resolverClass, duration));
+	}
+
+	@Override
+	public void postDiscoveryFilterApplied(PostDiscoveryFilter filter, Duration duration) {
+		listeners.forEach(delegate -> delegate.postDiscoveryFilterApplied(filter, duration));
+	}
+
+	@Override
+	public boolean isProfilingEnabled() {
+		return listeners.stream().anyMatch(LauncherDiscoveryListener::isProfilingEnabled);
+	}
+
 }
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.listeners.discovery;
+
+import static java.util.Comparator.comparingLong;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.discovery.ClassSelector;
+import org.junit.platform.engine.discovery.MethodSelector;
+import org.junit.platform.engine.discovery.NestedClassSelector;
+import org.junit.platform.engine.discovery.NestedMethodSelector;
+import org.junit.platform.engine.discovery.PackageSelector;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+
+/**
+ * Aggregated durations of a single test discovery, broken down by engine,
+ * selector resolver, selector type, package, selector, and
+ * {@link PostDiscoveryFilter}.
+ *
+ * <p>All durations are in nanoseconds. Selector durations only include the
+ * time spent in selector resolvers so that the durations of all selectors of
+ * an engine add up to the time its resolvers took in total. Classpath scans
+ * are not timed separately; their duration is part of the duration of the
+ * selector that requested them.
+ *
+ * @since 6.0
+ * @see DiscoveryProfilingListener
+ */
+final class DiscoveryProfile {
+
+	static final int MAX_REPORTED_ENTRIES = 25;
+
+	private static final String DEFAULT_PACKAGE = "(default package)";
+
+	private final Map<UniqueId, Long> engines = new LinkedHashMap<>();
+	private final Map<Class<?>, Entry> resolvers = new HashMap<>();
+	private final Map<Class<?>, Entry> selectorTypes = new HashMap<>();
+	private final Map<String, Entry> packages = new HashMap<>();
+	private final Map<DiscoverySelector, Entry> selectors = new HashMap<>();
+	private final Map<String, Entry> filters = new LinkedHashMap<>();
+
+	private long totalNanos;
+
+	synchronized void recordEngine(UniqueId engineId, long nanos) {
+		engines.merge(engineId, nanos, Long::sum);
+	}
+
+	synchronized void recordResolver(DiscoverySelector selector, Class<?> resolverClass, long nanos) {
+		record(resolvers, resolverClass, nanos);
+		record(selectorTypes, selector.getClass(), nanos);
+		record(selectors, selector, nanos);
+		findPackageName(selector).ifPresent(packageName -> record(packages, packageName, nanos));
+	}
+
+	synchronized void recordFilter(PostDiscoveryFilter filter, long nanos) {
+		record(filters, filter.toString(), nanos);
+	}
+
+	synchronized void recordTotal(long nanos) {
+		totalNanos += nanos;
+	}
+
+	synchronized long getTotalNanos() {
+		return totalNanos;
+	}
+
+	synchronized Map<String, Entry> getResolvers() {
+		return byName(resolvers, Class::getName);
+	}
+
+	synchronized Map<String, Entry> getPackages() {
+		return byName(packages, Function.identity());
+	}
+
+	synchronized Map<String, Entry> getFilters() {
+		return byName(filters, Function.identity());
+	}
+
+	/**
+	 * Write this profile as a human-readable report to the supplied writer.
+	 */
+	synchronized void writeReport(Writer writer) throws IOException {
+		writer.write("Test discovery took %s%n".formatted(formatMillis(totalNanos)));
+
+		writeSection(writer, "Engines", "", byName(engines, UniqueId::toString).entrySet().stream() //
+				.map(entry -> new Row(entry.getKey(), entry.getValue(), -1)) //
+				.toList());
+		writeSection(writer, "Selector resolvers", "invocations", rows(byName(resolvers, Class::getName)));
+		writeSection(writer, "Selector types", "invocations", rows(byName(selectorTypes, Class::getSimpleName)));
+		writeSection(writer, "Packages", "invocations", rows(byName(packages, Function.identity())));
+		writeSection(writer, "Selectors", "invocations", rows(byName(selectors, DiscoveryProfile::describe)));
+		writeSection(writer, "Post-discovery filters", "", rows(byName(filters, Function.identity())).stream() //
+				.map(row -> new Row(row.name(), row.nanos(), -1)) //
+				.toList());
+	}
+
+	private static void writeSection(Writer writer, String title, String countLabel, List<Row> rows)
+			throws IOException {
+		if (rows.isEmpty()) {
+			return;
+		}
+		writer.write("%n%s%n".formatted(title));
+		writer.write("%14s  %11s  %s%n".formatted("time", countLabel, "name"));
+		List<Row> sortedRows = rows.stream() //
+				.sorted(comparingLong(Row::nanos).reversed()) //
+				.limit(MAX_REPORTED_ENTRIES) //
+				.toList();
+		for (Row row : sortedRows) {
+			String count = row.count() < 0 ? "" : String.valueOf(row.count());
+			writer.write("%14s  %11s  %s%n".formatted(formatMillis(row.nanos()), count, row.name()));
+		}
+		if (rows.size() > sortedRows.size()) {
+			writer.write("%14s  %11s  (%d more)%n".formatted("", "", rows.size() - sortedRows.size()));
+		}
+	}
+
+	private static List<Row> rows(Map<String, Entry> entries) {
+		return entries.entrySet().stream() //
+				.map(entry -> new Row(entry.getKey(), entry.getValue().nanos, entry.getValue().count)) //
+				.toList();
+	}
+
+	private static String formatMillis(long nanos) {
+		return "%.3f ms".formatted(nanos / 1_000_000.0);
+	}
+
+	private static <K> void record(Map<K, Entry> entries, K key, long nanos) {
+		entries.computeIfAbsent(key, __ -> new Entry()).add(nanos);
+	}
+
+	private static <K, V> Map<String, V> byName(Map<K, V> entries, Function<? super K, String> nameFunction) {
+		Map<String, V> result = new LinkedHashMap<>();
+		entries.forEach((key, value) -> result.put(nameFunction.apply(key), value));
+		return result;
+	}
+
+	private static String describe(DiscoverySelector selector) {
+		return selector.toIdentifier().map(Object::toString).orElseGet(selector::toString);
+	}
+
+	private static Optional<String> findPackageName(DiscoverySelector selector) {
+		if (selector instanceof PackageSelector packageSelector) {
+			return Optional.of(packageNameOrDefault(packageSelector.getPackageName()));
+		}
+		if (selector instanceof ClassSelector classSelector) {
+			return Optional.of(packageNameOf(classSelector.getClassName()));
+		}
+		if (selector instanceof NestedClassSelector nestedClassSelector) {
+			return Optional.of(packageNameOf(nestedClassSelector.getNestedClassName()));
+		}
+		if (selector instanceof MethodSelector methodSelector) {
+			return Optional.of(packageNameOf(methodSelector.getClassName()));
+		}
+		if (selector instanceof NestedMethodSelector nestedMethodSelector) {
+			return Optional.of(packageNameOf(nestedMethodSelector.getNestedClassName()));
+		}
+		return Optional.empty();
+	}
+
+	private static String packageNameOf(String className) {
+		int lastDot = className.lastIndexOf('.');
+		return packageNameOrDefault(lastDot < 0 ? "" : className.substring(0, lastDot));
+	}
+
+	private static String packageNameOrDefault(String packageName) {
+		return packageName.isEmpty() ? DEFAULT_PACKAGE : packageName;
+	}
+
+	/**
+	 * Number of recorded durations and their sum in nanoseconds.
+	 */
+	static final class Entry {
+
+		private int count;
+		private long nanos;
+
+		private void add(long nanos) {
+			this.count++;
+			this.nanos += nanos;
+		}
+
+		int getCount() {
+			return count;
+		}
+
+		long getNanos() {
+			return nanos;
+		}
+	}
+
+	private record Row(String name, long nanos, int count) {
+	}
+
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.listeners.discovery;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.launcher.EngineDiscoveryResult;
+import org.junit.platform.launcher.LauncherDiscoveryListener;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+
+/**
+ * {@link LauncherDiscoveryListener} that profiles test discovery and writes
+ * a report to {@value #REPORT_FILE_NAME} in the
+ * {@linkplain org.junit.platform.engine.reporting.OutputDirectoryProvider#getRootDirectory()
+ * root output directory} once discovery has finished.
+ *
+ * <p>The report breaks down the time spent discovering tests by engine,
+ * selector resolver, selector type, package, individual selector (such as
+ * selected classpath roots, packages, and classes), and
+ * {@link PostDiscoveryFilter}. Only the resolution of selectors is profiled:
+ * the time spent scanning a classpath root or package is attributed to the
+ * selector that requested the scan as a whole and is not broken down by the
+ * packages and classes found while scanning. Likewise, the package breakdown
+ * only covers the packages of selected packages, classes, and methods.
+ * Selector-based durations are only available
+ * for test engines that report
+ * {@linkplain org.junit.platform.engine.EngineDiscoveryListener#selectorResolverInvoked
+ * resolver invocations}, such as all engines based on
+ * {@link org.junit.platform.engine.support.discovery.EngineDiscoveryRequestResolver}.
+ *
+ * <p>This listener is registered automatically via Java's
+ * {@link java.util.ServiceLoader} mechanism but disabled by default; set the
+ * {@value #LISTENER_ENABLED_PROPERTY_NAME} configuration parameter to
+ * {@code true} to enable it. Instances created via
+ * {@link LauncherDiscoveryListeners#profiling()} are always enabled.
+ *
+ * @since 6.0
+ * @see LauncherDiscoveryListeners#profiling()
+ */
+@API(status = EXPERIMENTAL, since = "6.0")
+public class DiscoveryProfilingListener implements LauncherDiscoveryListener {
+
+	/**
+	 * Property name used to enable the automatically registered
+	 * {@code DiscoveryProfilingListener}: {@value}
+	 */
+	public static final String LISTENER_ENABLED_PROPERTY_NAME = "junit.platform.listeners.discovery.profiling.enabled";
+
+	/**
+	 * Name of the file the discovery profile is written to: {@value}
+	 */
+	public static final String REPORT_FILE_NAME = "junit-platform-discovery-profile.txt";
+
+	private static final Logger logger = LoggerFactory.getLogger(DiscoveryProfilingListener.class);
+
+	private final boolean requiresEnabledProperty;
+	private final Map<UniqueId, Long> engineDiscoveryStarts = new ConcurrentHashMap<>();
+
+	private volatile DiscoveryProfile profile = new DiscoveryProfile();
+	private volatile boolean enabled;
+	private int depth;
+	private long discoveryStart;
+
+	/**
+	 * Create a new {@code DiscoveryProfilingListener} that is only enabled if
+	 * the {@value #LISTENER_ENABLED_PROPERTY_NAME} configuration parameter is
+	 * set to {@code true}.
+	 */
+	public DiscoveryProfilingListener() {
+		this(true);
+	}
+
+	DiscoveryProfilingListener(boolean requiresEnabledProperty) {
+		this.requiresEnabledProperty = requiresEnabledProperty;
+	}
+
+	/**
+	 * Get the profile of the current or, if none is running, the most
+	 * recent test discovery.
+	 */
+	DiscoveryProfile getProfile() {
+		return profile;
+	}
+
+	@Override
+	public synchronized void launcherDiscoveryStarted(LauncherDiscoveryRequest request) {
+		if (depth++ > 0) {
+			return;
+		}
+		enabled = !requiresEnabledProperty
+				|| request.getConfigurationParameters().getBoolean(LISTENER_ENABLED_PROPERTY_NAME).orElse(false);
+		if (enabled) {
+			profile = new DiscoveryProfile();
+			discoveryStart = System.nanoTime();
+		}
+	}
+
+	@Override
+	public synchronized void launcherDiscoveryFinished(LauncherDiscoveryRequest request) {
+		if (--depth > 0 || !enabled) {
+			return;
+		}
+		profile.recordTotal(System.nanoTime() - discoveryStart);
+		engineDiscoveryStarts.clear();
+		writeReport(request);
+	}
+
+	@Override
+	public void engineDiscoveryStarted(UniqueId engineId) {
+		if (enabled) {
+			engineDiscoveryStarts.put(engineId, System.nanoTime());
+		}
+	}
+
+	@Override
+	public void engineDiscoveryFinished(UniqueId engineId, EngineDiscoveryResult result) {
+		Long start = engineDiscoveryStarts.remove(engineId);
+		if (start != null) {
+			profile.recordEngine(engineId, System.nanoTime() - start);
+		}
+	}
+
+	@Override
+	public void selectorResolverInvoked(UniqueId engineId, DiscoverySelector selector, Class<?> resolverClass,
+			Duration duration) {
+		if (enabled) {
+			profile.recordResolver(selector, resolverClass, duration.toNanos());
+		}
+	}
+
+	@Override
+	public void postDiscoveryFilterApplied(PostDiscoveryFilter filter, Duration duration) {
+		if (enabled) {
+			profile.recordFilter(filter, duration.toNanos());
+		}
+	}
+
+	@Override
+	public boolean isProfilingEnabled() {
+		return enabled;
+	}
+
+	private void writeReport(LauncherDiscoveryRequest request) {
+		Path outputDir = null;
+		try {
+			outputDir = request.getOutputDirectoryProvider().getRootDirectory();
+			Files.createDirectories(outputDir);
+			Path reportFile = outputDir.resolve(REPORT_FILE_NAME);
+			try (Writer writer = Files.newBufferedWriter(reportFile, UTF_8)) {
+				profile.writeReport(writer);
+			}
+			logger.info(() -> "Wrote test discovery profile to " + reportFile);
+		}
+		catch (Exception ex) {
+			Path dir = outputDir;
+			logger.error(ex, () -> "Failed to write test discovery profile to " + dir);
+		}
+	}
+
+}
@@ -11,6 +11,7 @@
 package org.junit.platform.launcher.listeners.discovery;
 
 import static java.util.stream.Collectors.joining;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
@@ -63,6 +64,18 @@ public class LauncherDiscoveryListeners {
 		return new LoggingLauncherDiscoveryListener();
 	}
 
+	/**
+	 * Create a {@link LauncherDiscoveryListener} that profiles test discovery
+	 * and writes a report once discovery has finished.
+	 *
+	 * @since 6.0
+	 * @see DiscoveryProfilingListener
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static LauncherDiscoveryListener profiling() {
+		return new DiscoveryProfilingListener(false);
+	}
+
 	@API(status = INTERNAL, since = "1.6")
 	public static LauncherDiscoveryListener composite(List<LauncherDiscoveryListener> listeners) {
 		Preconditions.notNull(listeners, "listeners must not be null");
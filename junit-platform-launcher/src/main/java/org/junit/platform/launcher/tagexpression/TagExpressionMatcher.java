@@ -0,0 +1,190 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.tagexpression;
+
+import static java.util.Objects.requireNonNull;
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongPredicate;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.TestTag;
+import org.junit.platform.launcher.tagexpression.TagExpressions.And;
+import org.junit.platform.launcher.tagexpression.TagExpressions.Any;
+import org.junit.platform.launcher.tagexpression.TagExpressions.None;
+import org.junit.platform.launcher.tagexpression.TagExpressions.Not;
+import org.junit.platform.launcher.tagexpression.TagExpressions.Or;
+import org.junit.platform.launcher.tagexpression.TagExpressions.Tag;
+
+/**
+ * Matches collections of {@linkplain TestTag tags} against a list of
+ * {@linkplain TagExpression tag expressions} which are compiled upfront.
+ *
+ * <p>Each tag referenced by the expressions is assigned an id which is used
+ * as its bit in a {@code long} mask; an additional bit is set if the
+ * collection contains any tags at all to support {@code any()} and
+ * {@code none()}. Evaluating the expressions against a collection of tags
+ * thus only requires a lookup per tag to compute its mask. If the
+ * expressions reference only a few tags, the results for all possible masks
+ * are computed upfront as well.
+ *
+ * <p>Expressions that were not created by the {@link Parser} or that
+ * reference too many distinct tags are evaluated as is.
+ *
+ * @since 6.0
+ */
+@API(status = INTERNAL, since = "6.0")
+public final class TagExpressionMatcher {
+
+	/**
+	 * Maximum number of bits of a mask for which the results for all
+	 * possible masks are computed upfront.
+	 */
+	private static final int MAX_TRUTH_TABLE_BITS = 12;
+
+	/**
+	 * Compile the supplied tag expressions into a matcher that matches a
+	 * collection of tags if at least one of the expressions evaluates to
+	 * {@code true} for it.
+	 *
+	 * @param expressions the tag expressions to compile; never {@code null}
+	 * @return the compiled matcher; never {@code null}
+	 */
+	public static TagExpressionMatcher compile(List<TagExpression> expressions) {
+		Preconditions.notNull(expressions, "expressions must not be null");
+		Map<TestTag, Integer> tagIds = new HashMap<>();
+		for (TagExpression expression : expressions) {
+			if (!collectTagIds(expression, tagIds) || tagIds.size() >= Long.SIZE) {
+				return new TagExpressionMatcher(expressions, null, 0, tags -> false);
+			}
+		}
+		long anyTagMask = 1L << tagIds.size();
+		LongPredicate predicate = mask -> false;
+		for (TagExpression expression : expressions) {
+			predicate = predicate.or(compile(expression, tagIds, anyTagMask));
+		}
+		int bits = tagIds.size() + 1;
+		if (bits <= MAX_TRUTH_TABLE_BITS) {
+			predicate = truthTable(predicate, bits);
+		}
+		return new TagExpressionMatcher(expressions, tagIds, anyTagMask, predicate);
+	}
+
+	private static boolean collectTagIds(TagExpression expression, Map<TestTag, Integer> tagIds) {
+		if (expression instanceof Tag tag) {
+			tagIds.putIfAbsent(tag.testTag(), tagIds.size());
+			return true;
+		}
+		if (expression instanceof Any || expression instanceof None) {
+			return true;
+		}
+		if (expression instanceof Not not) {
+			return collectTagIds(not.toNegate(), tagIds);
+		}
+		if (expression instanceof And and) {
+			return collectTagIds(and.lhs(), tagIds) && collectTagIds(and.rhs(), tagIds);
+		}
+		if (expression instanceof Or or) {
+			return collectTagIds(or.lhs(), tagIds) && collectTagIds(or.rhs(), tagIds);
+		}
+		return false;
+	}
+
+	private static LongPredicate compile(TagExpression expression, Map<TestTag, Integer> tagIds, long anyTagMask) {
+		if (expression instanceof Tag tag) {
+			long tagMask = 1L << requireNonNull(tagIds.get(tag.testTag()));
+			return mask -> (mask & tagMask) != 0;
+		}
+		if (expression instanceof Any) {
+			return mask -> (mask & anyTagMask) != 0;
+		}
+		if (expression instanceof None) {
+			return mask -> (mask & anyTagMask) == 0;
+		}
+		if (expression instanceof Not not) {
+			return compile(not.toNegate(), tagIds, anyTagMask).negate();
+		}
+		if (expression instanceof And and) {
+			return compile(and.lhs(), tagIds, anyTagMask).and(compile(and.rhs(), tagIds, anyTagMask));
+		}
+		if (expression instanceof Or or) {
+			return compile(or.lhs(), tagIds, anyTagMask).or(compile(or.rhs(), tagIds, anyTagMask));
+		}
+		throw new IllegalStateException("Unsupported tag expression: " + expression);
+	}
+
+	private static LongPredicate truthTable(LongPredicate predicate, int bits) {
+		int size = 1 << bits;
+		long[] table = new long[(size + Long.SIZE - 1) / Long.SIZE];
+		for (int mask = 0; mask < size; mask++) {
+			if (predicate.test(mask)) {
+				table[mask / Long.SIZE] |= 1L << mask;
+			}
+		}
+		return mask -> (table[(int) (mask / Long.SIZE)] & (1L << mask)) != 0;
+	}
+
+	private final List<TagExpression> expressions;
+	private final @Nullable Map<TestTag, Integer> tagIds;
+	private final long anyTagMask;
+	private final LongPredicate predicate;
+
+	private TagExpressionMatcher(List<TagExpression> expressions, @Nullable Map<TestTag, Integer> tagIds,
+			long anyTagMask, LongPredicate predicate) {
+		this.expressions = List.copyOf(expressions);
+		this.tagIds = tagIds;
+		this.anyTagMask = anyTagMask;
+		this.predicate = predicate;
+	}
+
+	/**
+	 * Determine whether at least one of the compiled tag expressions
+	 * evaluates to {@code true} for the supplied collection of tags.
+	 *
+	 * @param tags the tags to match; never {@code null}
+	 * @return {@code true} if the tags match; {@code false} otherwise
+	 */
+	public boolean matches(Collection<TestTag> tags) {
+		Map<TestTag, Integer> tagIds = this.tagIds;
+		if (tagIds == null) {
+			for (TagExpression expression : expressions) {
+				if (expression.evaluate(tags)) {
+					return true;
+				}
+			}
+			return false;
+		}
+		return predicate.test(toMask(tags, tagIds));
+	}
+
+	private long toMask(Collection<TestTag> tags, Map<TestTag, Integer> tagIds) {
+		if (tags.isEmpty()) {
+			return 0;
+		}
+		long mask = anyTagMask;
+		if (!tagIds.isEmpty()) {
+			for (TestTag tag : tags) {
+				Integer id = tagIds.get(tag);
+				if (id != null) {
+					mask |= 1L << id;
+				}
+			}
+		}
+		return mask;
+	}
+
+}
@@ -20,88 +20,123 @@ import org.junit.platform.engine.TestTag;
 class TagExpressions {
 
 	static TagExpression tag(String tag) {
-		TestTag testTag = TestTag.create(tag);
-		return new TagExpression() {
-			@Override
-			public boolean evaluate(Collection<TestTag> tags) {
-				return tags.contains(testTag);
-			}
-
-			@Override
-			public String toString() {
-				return testTag.getName();
-			}
-		};
+		return new Tag(TestTag.create(tag));
 	}
 
 	static TagExpression none() {
-		return new TagExpression() {
-			@Override
-			public boolean evaluate(Collection<TestTag> tags) {
-				return tags.isEmpty();
-			}
-
-			@Override
-			public String toString() {
-				return "none()";
-			}
-		};
+		return new None();
 	}
 
 	static TagExpression any() {
-		return new TagExpression() {
-			@Override
-			public boolean evaluate(Collection<TestTag> tags) {
-				return !tags.isEmpty();
-			}
-
-			@Override
-			public String toString() {
-				return "any()";
-			}
-		};
+		return new Any();
 	}
 
 	static TagExpression not(TagExpression toNegate) {
-		return new TagExpression() {
-			@Override
-			public boolean evaluate(Collection<TestTag> tags) {
-				return !toNegate.evaluate(tags);
-			}
-
-			@Override
-			public String toString() {
-				return "!" + toNegate;
-			}
-		};
+		return new Not(toNegate);
 	}
 
 	static TagExpression and(TagExpression lhs, TagExpression rhs) {
-		return new TagExpression() {
-			@Override
-			public boolean evaluate(Collection<TestTag> tags) {
-				return lhs.evaluate(tags) && rhs.evaluate(tags);
-			}
-
-			@Override
-			public String toString() {
-				return "(" + lhs + " & " + rhs + ")";
-			}
-		};
+		return new And(lhs, rhs);
 	}
 
 	static TagExpression or(TagExpression lhs, TagExpression rhs) {
-		return new TagExpression() {
-			@Override
-			public boolean evaluate(Collection<TestTag> tags) {
-				return lhs.evaluate(tags) || rhs.evaluate(tags);
-			}
-
-			@Override
-			public String toString() {
-				return "(" + lhs + " | " + rhs + ")";
-			}
-		};
+		return new Or(lhs, rhs);
+	}
+
+	/**
+	 * @since 6.0
+	 */
+	record Tag(TestTag testTag) implements TagExpression {
+
+		@Override
+		public boolean evaluate(Collection<TestTag> tags) {
+			return tags.contains(testTag);
+		}
+
+		@Override
+		public String toString() {
+			return testTag.getName();
+		}
+	}
+
+	/**
+	 * @since 6.0
+	 */
+	record None() implements TagExpression {
+
+		@Override
+		public boolean evaluate(Collection<TestTag> tags) {
+			return tags.isEmpty();
+		}
+
+		@Override
+		public String toString() {
+			return "none()";
+		}
+	}
+
+	/**
+	 * @since 6.0
+	 */
+	record Any() implements TagExpression {
+
+		@Override
+		public boolean evaluate(Collection<TestTag> tags) {
+			return !tags.isEmpty();
+		}
+
+		@Override
+		public String toString() {
+			return "any()";
+		}
+	}
+
+	/**
+	 * @since 6.0
+	 */
+	record Not(TagExpression toNegate) implements TagExpression {
+
+		@Override
+		public boolean evaluate(Collection<TestTag> tags) {
+			return !toNegate.evaluate(tags);
+		}
+
+		@Override
+		public String toString() {
+			return "!" + toNegate;
+		}
+	}
+
+	/**
+	 * @since 6.0
+	 */
+	record And(TagExpression lhs, TagExpression rhs) implements TagExpression {
+
+		@Override
+		public boolean evaluate(Collection<TestTag> tags) {
+			return lhs.evaluate(tags) && rhs.evaluate(tags);
+		}
+
+		@Override
+		public String toString() {
+			return "(" + lhs + " & " + rhs + ")";
+		}
+	}
+
+	/**
+	 * @since 6.0
+	 */
+	record Or(TagExpression lhs, TagExpression rhs) implements TagExpression {
+
+		@Override
+		public boolean evaluate(Collection<TestTag> tags) {
+			return lhs.evaluate(tags) || rhs.evaluate(tags);
+		}
+
+		@Override
+		public String toString() {
+			return "(" + lhs + " | " + rhs + ")";
+		}
 	}
 
 }
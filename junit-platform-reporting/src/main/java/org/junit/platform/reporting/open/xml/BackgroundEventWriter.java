@@ -0,0 +1,149 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.reporting.open.xml;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Consumer;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.util.UnrecoverableExceptions;
+import org.opentest4j.reporting.events.api.DocumentWriter;
+import org.opentest4j.reporting.events.root.Events;
+
+/**
+ * Applies write actions to a {@link DocumentWriter} on a dedicated background
+ * thread so that serializing events does not block the threads reporting
+ * them.
+ *
+ * <p>Actions are buffered in a bounded queue and applied in the order in
+ * which they were submitted. If the queue is full, submitting threads wait
+ * until the background thread has caught up.
+ *
+ * @since 6.0
+ */
+class BackgroundEventWriter implements AutoCloseable {
+
+	private static final Consumer<DocumentWriter<Events>> END_OF_EVENTS = __ -> {
+	};
+
+	private final BlockingQueue<Consumer<DocumentWriter<Events>>> queue;
+	private final DocumentWriter<Events> delegate;
+	private final Thread thread;
+
+	private volatile @Nullable Throwable failure;
+
+	BackgroundEventWriter(DocumentWriter<Events> delegate, int capacity) {
+		this.delegate = delegate;
+		this.queue = new ArrayBlockingQueue<>(capacity);
+		this.thread = new Thread(this::processEvents, "junit-open-test-report-writer");
+		this.thread.setDaemon(true);
+		this.thread.start();
+	}
+
+	/**
+	 * Submit the supplied action to be applied to the underlying
+	 * {@link DocumentWriter} on the background thread.
+	 */
+	void write(Consumer<DocumentWriter<Events>> action) {
+		if (!queue.offer(action)) {
+			putUninterruptibly(action);
+		}
+	}
+
+	private void putUninterruptibly(Consumer<DocumentWriter<Events>> action) {
+		boolean interrupted = false;
+		try {
+			while (true) {
+				try {
+					queue.put(action);
+					return;
+				}
+				catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+		}
+		finally {
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private void processEvents() {
+		while (true) {
+			Consumer<DocumentWriter<Events>> action;
+			try {
+				action = queue.take();
+			}
+			catch (InterruptedException e) {
+				continue;
+			}
+			if (action == END_OF_EVENTS) {
+				return;
+			}
+			if (failure == null) {
+				try {
+					action.accept(delegate);
+				}
+				catch (Throwable t) {
+					UnrecoverableExceptions.rethrowIfUnrecoverable(t);
+					failure = t;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Wait until all submitted actions have been applied and close the
+	 * underlying {@link DocumentWriter}.
+	 *
+	 * @throws IOException if applying an action or closing the underlying
+	 * writer failed
+	 */
+	@Override
+	public void close() throws IOException {
+		putUninterruptibly(END_OF_EVENTS);
+		joinUninterruptibly();
+		try {
+			delegate.close();
+		}
+		finally {
+			Throwable failure = this.failure;
+			if (failure != null) {
+				throw new IOException("Failed to write event", failure);
+			}
+		}
+	}
+
+	private void joinUninterruptibly() {
+		boolean interrupted = false;
+		try {
+			while (true) {
+				try {
+					thread.join();
+					return;
+				}
+				catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+		}
+		finally {
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+}
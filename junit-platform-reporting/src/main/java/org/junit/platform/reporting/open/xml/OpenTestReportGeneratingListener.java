@@ -62,6 +62,7 @@ import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 import org.apiguardian.api.API;
 import org.jspecify.annotations.Nullable;
@@ -102,10 +103,14 @@ public class OpenTestReportGeneratingListener implements TestExecutionListener {
 
 	static final String ENABLED_PROPERTY_NAME = "junit.platform.reporting.open.xml.enabled";
 	static final String GIT_ENABLED_PROPERTY_NAME = "junit.platform.reporting.open.xml.git.enabled";
+	static final String ASYNC_ENABLED_PROPERTY_NAME = "junit.platform.reporting.open.xml.async.enabled";
+
+	private static final int ASYNC_QUEUE_CAPACITY = 8192;
 
 	private final AtomicInteger idCounter = new AtomicInteger();
 	private final Map<UniqueId, String> inProgressIds = new ConcurrentHashMap<>();
 	private DocumentWriter<Events> eventsFileWriter = DocumentWriter.noop();
+	private @Nullable BackgroundEventWriter backgroundEventWriter;
 	private final Path workingDir;
 
 	private @Nullable Path outputDir;
@@ -133,6 +138,9 @@ public class OpenTestReportGeneratingListener implements TestExecutionListener {
 			Path eventsXml = outputDir.resolve("open-test-report.xml");
 			try {
 				eventsFileWriter = Events.createDocumentWriter(namespaceRegistry, eventsXml);
+				if (isAsyncEnabled(config)) {
+					backgroundEventWriter = new BackgroundEventWriter(eventsFileWriter, ASYNC_QUEUE_CAPACITY);
+				}
 				reportInfrastructure(config);
 			}
 			catch (Exception e) {
@@ -149,8 +157,29 @@ public class OpenTestReportGeneratingListener implements TestExecutionListener {
 		return config.getBoolean(GIT_ENABLED_PROPERTY_NAME).orElse(false);
 	}
 
+	private boolean isAsyncEnabled(ConfigurationParameters config) {
+		return config.getBoolean(ASYNC_ENABLED_PROPERTY_NAME).orElse(false);
+	}
+
+	/**
+	 * Apply the supplied action to the events file writer, either directly or
+	 * on the background thread if asynchronous writing is enabled.
+	 *
+	 * <p>Since the action may be applied later, it must not access any mutable
+	 * state of this listener.
+	 */
+	private void write(Consumer<DocumentWriter<Events>> action) {
+		BackgroundEventWriter backgroundEventWriter = this.backgroundEventWriter;
+		if (backgroundEventWriter == null) {
+			action.accept(eventsFileWriter);
+		}
+		else {
+			backgroundEventWriter.write(action);
+		}
+	}
+
 	private void reportInfrastructure(ConfigurationParameters config) {
-		eventsFileWriter.append(infrastructure(), infrastructure -> {
+		write(writer -> writer.append(infrastructure(), infrastructure -> {
 			try {
 				String hostName = InetAddress.getLocalHost().getHostName();
 				infrastructure.append(hostName(hostName));
@@ -168,7 +197,7 @@ public class OpenTestReportGeneratingListener implements TestExecutionListener {
 			if (isGitEnabled(config)) {
 				GitInfoCollector.get(workingDir).ifPresent(git -> addGitInfo(infrastructure, git));
 			}
-		});
+		}));
 	}
 
 	private void addGitInfo(Infrastructure infrastructure, GitInfoCollector git) {
@@ -187,13 +216,19 @@ public class OpenTestReportGeneratingListener implements TestExecutionListener {
 	@Override
 	public void testPlanExecutionFinished(TestPlan testPlan) {
 		try {
-			eventsFileWriter.close();
+			if (backgroundEventWriter != null) {
+				backgroundEventWriter.close();
+			}
+			else {
+				eventsFileWriter.close();
+			}
 		}
 		catch (IOException e) {
 			throw new UncheckedIOException("Failed to close XML events file", e);
 		}
 		finally {
 			eventsFileWriter = DocumentWriter.noop();
+			backgroundEventWriter = null;
 		}
 	}
 
@@ -201,12 +236,13 @@ public class OpenTestReportGeneratingListener implements TestExecutionListener {
 	public void executionSkipped(TestIdentifier testIdentifier, String reason) {
 		String id = String.valueOf(idCounter.incrementAndGet());
 		reportStarted(testIdentifier, id);
-		eventsFileWriter.append(finished(id, Instant.now()), //
+		Instant now = Instant.now();
+		write(writer -> writer.append(finished(id, now), //
 			finished -> finished.append(result(Result.Status.SKIPPED), result -> {
 				if (isNotBlank(reason)) {
 					result.append(reason(reason));
 				}
-			}));
+			})));
 	}
 
 	@Override
@@ -217,8 +253,13 @@ public class OpenTestReportGeneratingListener implements TestExecutionListener {
 	}
 
 	private void reportStarted(TestIdentifier testIdentifier, String id) {
-		eventsFileWriter.append(started(id, Instant.now(), testIdentifier.getDisplayName()), started -> {
-			testIdentifier.getParentIdObject().ifPresent(parentId -> started.withParentId(inProgressIds.get(parentId)));
+		Instant now = Instant.now();
+		@Nullable
+		String parentId = testIdentifier.getParentIdObject().map(inProgressIds::get).orElse(null);
+		write(writer -> writer.append(started(id, now, testIdentifier.getDisplayName()), started -> {
+			if (parentId != null) {
+				started.withParentId(parentId);
+			}
 			started.append(metadata(), metadata -> {
 				if (!testIdentifier.getTags().isEmpty()) {
 					metadata.append(tags(), tags -> //
@@ -230,7 +271,7 @@ public class OpenTestReportGeneratingListener implements TestExecutionListener {
 			});
 			testIdentifier.getSource().ifPresent(
 				source -> started.append(sources(), sources -> addTestSource(source, sources)));
-		});
+		}));
 	}
 
 	private void addTestSource(TestSource source, Sources sources) {
@@ -274,7 +315,8 @@ public class OpenTestReportGeneratingListener implements TestExecutionListener {
 	@Override
 	public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
 		String id = inProgressIds.get(testIdentifier.getUniqueIdObject());
-		eventsFileWriter.append(reported(id, Instant.now()), //
+		Instant now = Instant.now();
+		write(writer -> writer.append(reported(id, now), //
 			reported -> reported.append(attachments(), //
 				attachments -> {
 					Map<String, String> keyValuePairs = entry.getKeyValuePairs();
@@ -289,7 +331,7 @@ public class OpenTestReportGeneratingListener implements TestExecutionListener {
 						attachments.append(data(entry.getTimestamp()), //
 							data -> keyValuePairs.forEach(data::addEntry));
 					}
-				}));
+				})));
 	}
 
 	private static void attachOutput(Attachments attachments, LocalDateTime timestamp, @Nullable String content,
@@ -302,21 +344,24 @@ public class OpenTestReportGeneratingListener implements TestExecutionListener {
 	@Override
 	public void fileEntryPublished(TestIdentifier testIdentifier, FileEntry entry) {
 		String id = inProgressIds.get(testIdentifier.getUniqueIdObject());
-		eventsFileWriter.append(reported(id, Instant.now()), //
+		Instant now = Instant.now();
+		String path = requireNonNull(outputDir).relativize(entry.getPath()).toString();
+		write(writer -> writer.append(reported(id, now), //
 			reported -> reported.append(attachments(), attachments -> attachments.append(file(entry.getTimestamp()), //
 				file -> {
-					file.withPath(requireNonNull(outputDir).relativize(entry.getPath()).toString());
+					file.withPath(path);
 					entry.getMediaType().ifPresent(file::withMediaType);
-				})));
+				}))));
 	}
 
 	@Override
 	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
 		String id = inProgressIds.remove(testIdentifier.getUniqueIdObject());
-		eventsFileWriter.append(finished(id, Instant.now()), //
+		Instant now = Instant.now();
+		write(writer -> writer.append(finished(id, now), //
 			finished -> finished.append(result(convertStatus(testExecutionResult.getStatus())), //
 				result -> testExecutionResult.getThrowable() //
-						.ifPresent(throwable -> result.append(throwable(throwable)))));
+						.ifPresent(throwable -> result.append(throwable(throwable))))));
 	}
 
 	private Result.Status convertStatus(TestExecutionResult.Status status) {
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.suite.api;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.apiguardian.api.API;
+
+/**
+ * {@code @SuiteResourceLock} declares exclusive resources that are used by
+ * the annotated suite.
+ *
+ * <p>If suites are executed in parallel, suites that declare the same
+ * resource key are never executed concurrently. Suites without any
+ * {@code @SuiteResourceLock} declaration may be executed concurrently with
+ * any other suite.
+ *
+ * <p>If suites are executed sequentially, this annotation has no effect.
+ *
+ * @since 6.0
+ * @see Suite
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Inherited
+@Documented
+@API(status = EXPERIMENTAL, since = "6.0")
+public @interface SuiteResourceLock {
+
+	/**
+	 * The keys of the exclusive resources used by the annotated suite.
+	 */
+	String[] value();
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.suite.engine;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_ADAPTIVE_MAX_PARALLELISM_PROPERTY_NAME;
+import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME;
+import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_CUSTOM_CLASS_PROPERTY_NAME;
+import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_DYNAMIC_FACTOR_PROPERTY_NAME;
+import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_FIXED_MAX_POOL_SIZE_PROPERTY_NAME;
+import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_FIXED_PARALLELISM_PROPERTY_NAME;
+import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_FIXED_SATURATE_PROPERTY_NAME;
+import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_STRATEGY_PROPERTY_NAME;
+
+import org.apiguardian.api.API;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfigurationStrategy;
+import org.junit.platform.suite.api.SuiteResourceLock;
+
+/**
+ * Collection of constants related to the {@link SuiteTestEngine}.
+ *
+ * @since 6.0
+ * @see org.junit.platform.engine.ConfigurationParameters
+ */
+@API(status = EXPERIMENTAL, since = "6.0")
+public final class Constants {
+
+	/**
+	 * Property name used to enable parallel execution of suites: {@value}
+	 *
+	 * <p>Suites that declare the same
+	 * {@link SuiteResourceLock @SuiteResourceLock} are never executed
+	 * concurrently. The tests within each suite are executed as configured
+	 * for the test engines the suite delegates to.
+	 *
+	 * <p>By default, suites are executed sequentially.
+	 */
+	public static final String PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME = "junit.platform.suite.execution.parallel.enabled";
+
+	static final String PARALLEL_CONFIG_PREFIX = "junit.platform.suite.execution.parallel.config.";
+
+	/**
+	 * Property name used to select the
+	 * {@link ParallelExecutionConfigurationStrategy} for the parallel
+	 * execution of suites: {@value}
+	 *
+	 * <p>Potential values: {@code dynamic} (default), {@code fixed},
+	 * {@code adaptive}, or {@code custom}.
+	 */
+	public static final String PARALLEL_CONFIG_STRATEGY_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
+			+ CONFIG_STRATEGY_PROPERTY_NAME;
+
+	/**
+	 * Property name used to set the desired parallelism for the {@code fixed}
+	 * configuration strategy: {@value}
+	 *
+	 * <p>No default value; must be a positive integer.
+	 */
+	public static final String PARALLEL_CONFIG_FIXED_PARALLELISM_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
+			+ CONFIG_FIXED_PARALLELISM_PROPERTY_NAME;
+
+	/**
+	 * Property name used to configure the maximum pool size of the underlying
+	 * fork-join pool for the {@code fixed} configuration strategy: {@value}
+	 *
+	 * <p>Value must be an integer and greater than or equal to
+	 * {@value #PARALLEL_CONFIG_FIXED_PARALLELISM_PROPERTY_NAME}; defaults to
+	 * {@code 256 + fixed.parallelism}.
+	 */
+	public static final String PARALLEL_CONFIG_FIXED_MAX_POOL_SIZE_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
+			+ CONFIG_FIXED_MAX_POOL_SIZE_PROPERTY_NAME;
+
+	/**
+	 * Property name used to disable saturation of the underlying fork-join pool
+	 * for the {@code fixed} configuration strategy: {@value}
+	 *
+	 * <p>Value must either {@code true} or {@code false}; defaults to {@code true}.
+	 */
+	public static final String PARALLEL_CONFIG_FIXED_SATURATE_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
+			+ CONFIG_FIXED_SATURATE_PROPERTY_NAME;
+
+	/**
+	 * Property name used to set the factor to be multiplied with the number of
+	 * available processors/cores to determine the desired parallelism for the
+	 * {@code dynamic} configuration strategy: {@value}
+	 *
+	 * <p>Value must be a positive decimal number; defaults to {@code 1}.
+	 */
+	public static final String PARALLEL_CONFIG_DYNAMIC_FACTOR_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
+			+ CONFIG_DYNAMIC_FACTOR_PROPERTY_NAME;
+
+	/**
+	 * Property name used to set the minimum parallelism for the
+	 * {@code adaptive} configuration strategy: {@value}
+	 *
+	 * <p>Value must be a positive integer; defaults to {@code 1}.
+	 */
+	public static final String PARALLEL_CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
+			+ CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME;
+
+	/**
+	 * Property name used to set the maximum parallelism for the
+	 * {@code adaptive} configuration strategy: {@value}
+	 *
+	 * <p>Value must be an integer and greater than or equal to
+	 * {@value #PARALLEL_CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME};
+	 * defaults to twice the number of available processors/cores.
+	 */
+	public static final String PARALLEL_CONFIG_ADAPTIVE_MAX_PARALLELISM_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
+			+ CONFIG_ADAPTIVE_MAX_PARALLELISM_PROPERTY_NAME;
+
+	/**
+	 * Property name used to specify the fully qualified class name of the
+	 * {@link ParallelExecutionConfigurationStrategy} to be used for the
+	 * {@code custom} configuration strategy: {@value}
+	 */
+	public static final String PARALLEL_CONFIG_CUSTOM_CLASS_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
+			+ CONFIG_CUSTOM_CLASS_PROPERTY_NAME;
+
+	private Constants() {
+		/* no-op */
+	}
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.suite.engine;
+
+import static java.util.Objects.requireNonNullElse;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.config.PrefixedConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.ConcurrentTestTask;
+import org.junit.platform.engine.support.hierarchical.ForkJoinPoolHierarchicalTestExecutorService;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService;
+import org.junit.platform.engine.support.hierarchical.LockManager;
+import org.junit.platform.suite.api.SuiteResourceLock;
+
+/**
+ * Executes suites concurrently via a {@link ForkJoinPoolHierarchicalTestExecutorService}.
+ *
+ * <p>The parallelism is shared by all suites and configured via the
+ * configuration parameters starting with
+ * {@value Constants#PARALLEL_CONFIG_PREFIX}. Suites that declare the same
+ * {@link SuiteResourceLock @SuiteResourceLock} are never executed
+ * concurrently.
+ *
+ * @since 6.0
+ */
+class ParallelSuiteExecutor {
+
+	private static final Logger logger = LoggerFactory.getLogger(ParallelSuiteExecutor.class);
+
+	private final ConfigurationParameters configurationParameters;
+
+	ParallelSuiteExecutor(ConfigurationParameters configurationParameters) {
+		this.configurationParameters = configurationParameters;
+	}
+
+	void execute(SuiteEngineDescriptor engineDescriptor, List<SuiteTestDescriptor> suiteTestDescriptors,
+			Consumer<SuiteTestDescriptor> action) {
+		LockManager lockManager = new LockManager();
+		List<ConcurrentTestTask> testTasks = suiteTestDescriptors.stream() //
+				.map(it -> new ConcurrentTestTask(it, lockManager.getLockForResources(it.getExclusiveResources()),
+					() -> action.accept(it))) //
+				.toList();
+
+		try (HierarchicalTestExecutorService executorService = new ForkJoinPoolHierarchicalTestExecutorService(
+			new PrefixedConfigurationParameters(configurationParameters, Constants.PARALLEL_CONFIG_PREFIX))) {
+			Future<@Nullable Void> future = executorService.submit(new ConcurrentTestTask(engineDescriptor,
+				lockManager.getLockForResources(List.of()), () -> executorService.invokeAll(testTasks)));
+			future.get();
+		}
+		catch (InterruptedException e) {
+			logger.warn(e, () -> "Interruption while waiting for parallel suite execution to finish");
+			Thread.currentThread().interrupt();
+		}
+		catch (ExecutionException e) {
+			throw ExceptionUtils.throwAsUncheckedException(requireNonNullElse(e.getCause(), e));
+		}
+	}
+
+}
@@ -15,9 +15,11 @@ import static java.util.function.Predicate.isEqual;
 import static java.util.stream.Collectors.joining;
 import static org.junit.platform.commons.support.AnnotationSupport.findAnnotation;
 import static org.junit.platform.commons.util.FunctionUtils.where;
+import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ_WRITE;
 import static org.junit.platform.suite.engine.SuiteLauncherDiscoveryRequestBuilder.request;
 
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
@@ -40,6 +42,7 @@ import org.junit.platform.engine.reporting.OutputDirectoryProvider;
 import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
 import org.junit.platform.engine.support.descriptor.ClassSource;
 import org.junit.platform.engine.support.discovery.DiscoveryIssueReporter;
+import org.junit.platform.engine.support.hierarchical.ExclusiveResource;
 import org.junit.platform.engine.support.hierarchical.OpenTest4JAwareThrowableCollector;
 import org.junit.platform.engine.support.hierarchical.ThrowableCollector;
 import org.junit.platform.engine.support.store.Namespace;
@@ -50,6 +53,7 @@ import org.junit.platform.launcher.core.LauncherDiscoveryResult;
 import org.junit.platform.launcher.listeners.TestExecutionSummary;
 import org.junit.platform.suite.api.Suite;
 import org.junit.platform.suite.api.SuiteDisplayName;
+import org.junit.platform.suite.api.SuiteResourceLock;
 
 /**
  * {@link TestDescriptor} for tests based on the JUnit Platform Suite API.
@@ -148,6 +152,18 @@ final class SuiteTestDescriptor extends AbstractTestDescriptor {
 		// @formatter:on
 	}
 
+	List<ExclusiveResource> getExclusiveResources() {
+		// @formatter:off
+		return findAnnotation(suiteClass, SuiteResourceLock.class).stream()
+				.flatMap(resourceLock -> Arrays.stream(resourceLock.value()))
+				.filter(StringUtils::isNotBlank)
+				.map(String::strip)
+				.distinct()
+				.map(key -> new ExclusiveResource(key, READ_WRITE))
+				.toList();
+		// @formatter:on
+	}
+
 	void execute(EngineExecutionListener parentEngineExecutionListener,
 			NamespacedHierarchicalStore<Namespace> requestLevelStore) {
 		parentEngineExecutionListener.executionStarted(this);
@@ -12,9 +12,12 @@ package org.junit.platform.suite.engine;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.apiguardian.api.API;
+import org.junit.platform.commons.support.scanning.DefaultClasspathScanner;
+import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.EngineDiscoveryRequest;
 import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.ExecutionRequest;
@@ -57,8 +60,12 @@ public final class SuiteTestEngine implements TestEngine {
 	@Override
 	public TestDescriptor discover(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId) {
 		SuiteEngineDescriptor engineDescriptor = new SuiteEngineDescriptor(uniqueId);
-		new DiscoverySelectorResolver().resolveSelectors(discoveryRequest, engineDescriptor);
-		return engineDescriptor;
+		// Suites frequently select overlapping packages so each classpath root
+		// is only traversed once while discovering all suites.
+		return DefaultClasspathScanner.withCachedScanResults(() -> {
+			new DiscoverySelectorResolver().resolveSelectors(discoveryRequest, engineDescriptor);
+			return engineDescriptor;
+		});
 	}
 
 	@Override
@@ -70,12 +77,25 @@ public final class SuiteTestEngine implements TestEngine {
 		engineExecutionListener.executionStarted(suiteEngineDescriptor);
 
 		// @formatter:off
-		suiteEngineDescriptor.getChildren()
+		List<SuiteTestDescriptor> suiteTestDescriptors = suiteEngineDescriptor.getChildren()
 				.stream()
 				.map(SuiteTestDescriptor.class::cast)
-				.forEach(suiteTestDescriptor -> suiteTestDescriptor.execute(engineExecutionListener, requestLevelStore));
+				.toList();
 		// @formatter:on
+		ConfigurationParameters configurationParameters = request.getConfigurationParameters();
+		if (suiteTestDescriptors.size() > 1 && isParallelExecutionEnabled(configurationParameters)) {
+			new ParallelSuiteExecutor(configurationParameters).execute(suiteEngineDescriptor, suiteTestDescriptors,
+				suiteTestDescriptor -> suiteTestDescriptor.execute(engineExecutionListener, requestLevelStore));
+		}
+		else {
+			suiteTestDescriptors.forEach(
+				suiteTestDescriptor -> suiteTestDescriptor.execute(engineExecutionListener, requestLevelStore));
+		}
 		engineExecutionListener.executionFinished(suiteEngineDescriptor, TestExecutionResult.successful());
 	}
 
+	private static boolean isParallelExecutionEnabled(ConfigurationParameters configurationParameters) {
+		return configurationParameters.getBoolean(Constants.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME).orElse(false);
+	}
+
 }
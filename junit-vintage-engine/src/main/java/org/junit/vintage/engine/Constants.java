@@ -11,6 +11,7 @@
 package org.junit.vintage.engine;
 
 import static org.apiguardian.api.API.Status.DEPRECATED;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 
 import org.apiguardian.api.API;
@@ -72,6 +73,32 @@ public final class Constants {
 	@API(status = MAINTAINED, since = "5.13.3")
 	public static final String PARALLEL_METHOD_EXECUTION = "junit.vintage.execution.parallel.methods";
 
+	/**
+	 * Specifies exclusive resources of test classes that are executed in
+	 * parallel.
+	 *
+	 * <p>Set this property to a comma-separated list of entries of the form
+	 * {@code <class name pattern>=<resource key>}. Test classes whose fully
+	 * qualified names match a pattern are never executed concurrently with
+	 * other test classes that require the same resource key. A pattern may
+	 * contain {@code *} to match any sequence of characters, analogous to the
+	 * patterns used to deactivate conditions and listeners. If a test class
+	 * matches multiple patterns, it requires all of the corresponding
+	 * resources.
+	 *
+	 * <p>For example, {@code com.example.db.*=database, *IT=network} prevents
+	 * test classes in the {@code com.example.db} package from running
+	 * concurrently with each other and test classes whose names end with
+	 * {@code IT} from running concurrently with each other.
+	 *
+	 * <p>Only taken into account if {@linkplain #PARALLEL_CLASS_EXECUTION
+	 * parallel execution of test classes} is enabled.
+	 *
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String PARALLEL_EXCLUSIVE_RESOURCES = "junit.vintage.execution.parallel.exclusive-resources";
+
 	private Constants() {
 		/* no-op */
 	}
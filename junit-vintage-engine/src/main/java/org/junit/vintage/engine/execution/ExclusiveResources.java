@@ -0,0 +1,77 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.vintage.engine.execution;
+
+import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ_WRITE;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.ClassNamePatternFilterUtils;
+import org.junit.platform.commons.util.StringUtils;
+import org.junit.platform.engine.support.hierarchical.ExclusiveResource;
+
+/**
+ * Exclusive resources of test classes configured via
+ * {@value org.junit.vintage.engine.Constants#PARALLEL_EXCLUSIVE_RESOURCES}.
+ *
+ * @since 6.0
+ */
+class ExclusiveResources {
+
+	private static final Logger logger = LoggerFactory.getLogger(ExclusiveResources.class);
+
+	static final ExclusiveResources NONE = new ExclusiveResources(List.of());
+
+	private final List<Entry> entries;
+
+	private ExclusiveResources(List<Entry> entries) {
+		this.entries = entries;
+	}
+
+	static ExclusiveResources parse(@Nullable String value) {
+		if (StringUtils.isBlank(value)) {
+			return NONE;
+		}
+		List<Entry> entries = new ArrayList<>();
+		for (String entry : value.split(",")) {
+			int separatorIndex = entry.indexOf('=');
+			String pattern = separatorIndex < 0 ? "" : entry.substring(0, separatorIndex).strip();
+			String key = separatorIndex < 0 ? "" : entry.substring(separatorIndex + 1).strip();
+			if (pattern.isEmpty() || key.isEmpty()) {
+				logger.warn(() -> "Ignoring invalid exclusive resource entry: " + entry.strip());
+				continue;
+			}
+			entries.add(new Entry(ClassNamePatternFilterUtils.includeMatchingClassNames(pattern),
+				new ExclusiveResource(key, READ_WRITE)));
+		}
+		return new ExclusiveResources(entries);
+	}
+
+	boolean isEmpty() {
+		return entries.isEmpty();
+	}
+
+	List<ExclusiveResource> getExclusiveResources(String className) {
+		return entries.stream() //
+				.filter(entry -> entry.classNamePredicate.test(className)) //
+				.map(Entry::resource) //
+				.toList();
+	}
+
+	private record Entry(Predicate<String> classNamePredicate, ExclusiveResource resource) {
+	}
+
+}
@@ -33,8 +33,19 @@ import org.junit.vintage.engine.support.UniqueIdReader;
 import org.junit.vintage.engine.support.UniqueIdStringifier;
 
 /**
+ * Adapts the events reported by JUnit 4 to an {@link EngineExecutionListener}.
+ *
+ * <p>This listener is thread-safe so JUnit 4 does not have to serialize
+ * callbacks from runners that execute their children in parallel. Events for
+ * the same descriptor are ordered via {@link TestRun#runExclusively}: a
+ * descriptor is only marked as started, finished, or skipped after the
+ * corresponding event has been reported. Descriptors that share an equal
+ * {@link Description} are claimed atomically when they are looked up so that
+ * concurrent events for them are never reported for the same descriptor.
+ *
  * @since 4.12
  */
+@RunListener.ThreadSafe
 class RunListenerAdapter extends RunListener {
 
 	private final TestRun testRun;
@@ -140,8 +151,10 @@ class RunListenerAdapter extends RunListener {
 		UniqueId uniqueId = parent.getUniqueId().append(SEGMENT_TYPE_DYNAMIC, uniqueIdExtractor.apply(description));
 		VintageTestDescriptor dynamicDescriptor = new VintageTestDescriptor(uniqueId, description,
 			testSourceProvider.findTestSource(description));
-		parent.addChild(dynamicDescriptor);
-		testRun.registerDynamicTest(dynamicDescriptor);
+		testRun.runExclusively(parent, () -> {
+			parent.addChild(dynamicDescriptor);
+			testRun.registerDynamicTest(dynamicDescriptor);
+		});
 		dynamicTestRegistered(dynamicDescriptor);
 		return dynamicDescriptor;
 	}
@@ -246,22 +259,32 @@ class RunListenerAdapter extends RunListener {
 	private boolean canFinish(TestDescriptor testDescriptor) {
 		return testRun.isNotFinished(testDescriptor) //
 				&& testRun.isDescendantOfRunnerTestDescriptor(testDescriptor)
-				&& testRun.areAllFinishedOrSkipped(testDescriptor.getChildren());
+				&& testRun.areAllChildrenFinishedOrSkipped(testDescriptor);
 	}
 
 	private void fireExecutionSkipped(TestDescriptor testDescriptor, String reason) {
-		testRun.markSkipped(testDescriptor);
-		listener.executionSkipped(testDescriptor, reason);
+		testRun.runExclusively(testDescriptor, () -> {
+			listener.executionSkipped(testDescriptor, reason);
+			testRun.markSkipped(testDescriptor);
+		});
 	}
 
 	private void fireExecutionStarted(TestDescriptor testDescriptor, EventType eventType) {
-		testRun.markStarted(testDescriptor, eventType);
-		listener.executionStarted(testDescriptor);
+		testRun.runExclusively(testDescriptor, () -> {
+			if (testRun.isNotStarted(testDescriptor)) {
+				listener.executionStarted(testDescriptor);
+				testRun.markStarted(testDescriptor, eventType);
+			}
+		});
 	}
 
 	private void fireExecutionFinished(TestDescriptor testDescriptor) {
-		testRun.markFinished(testDescriptor);
-		listener.executionFinished(testDescriptor, testRun.getStoredResultOrSuccessful(testDescriptor));
+		testRun.runExclusively(testDescriptor, () -> {
+			if (testRun.isNotFinished(testDescriptor)) {
+				listener.executionFinished(testDescriptor, testRun.getStoredResultOrSuccessful(testDescriptor));
+				testRun.markFinished(testDescriptor);
+			}
+		});
 	}
 
 }
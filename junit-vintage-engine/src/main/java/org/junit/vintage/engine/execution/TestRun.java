@@ -11,8 +11,8 @@
 package org.junit.vintage.engine.execution;
 
 import static java.util.Collections.emptyList;
+import static java.util.Comparator.comparingLong;
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.toCollection;
 import static java.util.stream.Collectors.toMap;
 import static java.util.stream.Stream.concat;
 import static org.junit.platform.engine.TestExecutionResult.failed;
@@ -21,17 +21,18 @@ import static org.junit.platform.engine.TestExecutionResult.successful;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.Deque;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -43,6 +44,15 @@ import org.junit.vintage.engine.descriptor.VintageTestDescriptor;
 import org.opentest4j.MultipleFailuresError;
 
 /**
+ * Tracks the execution state of the descriptors of a single
+ * {@link RunnerTestDescriptor}.
+ *
+ * <p>Since runners may report events for their children from multiple threads
+ * (e.g. when executing test methods in parallel), all state is kept in
+ * concurrent data structures. Instead of a global lock, state transitions that
+ * need to be ordered with respect to the events reported for a descriptor are
+ * guarded by a lock per descriptor; see {@link #runExclusively}.
+ *
  * @since 4.12
  */
 class TestRun {
@@ -50,41 +60,70 @@ class TestRun {
 	private final RunnerTestDescriptor runnerTestDescriptor;
 	private final Set<TestDescriptor> runnerDescendants;
 	private final Map<Description, VintageDescriptors> descriptionToDescriptors;
-	private final Map<TestDescriptor, List<TestExecutionResult>> executionResults = new LinkedHashMap<>();
-	private final Set<TestDescriptor> skippedDescriptors = new LinkedHashSet<>();
-	private final Set<TestDescriptor> startedDescriptors = new HashSet<>();
-	private final Map<TestDescriptor, EventType> inProgressDescriptors = new LinkedHashMap<>();
-	private final Set<TestDescriptor> finishedDescriptors = new LinkedHashSet<>();
+	private final Map<TestDescriptor, Object> locks = new ConcurrentHashMap<>();
+	private final Map<TestDescriptor, Queue<TestExecutionResult>> executionResults = new ConcurrentHashMap<>();
+	private final Set<TestDescriptor> skippedDescriptors = ConcurrentHashMap.newKeySet();
+	private final Set<TestDescriptor> startedDescriptors = ConcurrentHashMap.newKeySet();
+	private final Map<TestDescriptor, InProgress> inProgressDescriptors = new ConcurrentHashMap<>();
+	private final Set<TestDescriptor> finishedDescriptors = ConcurrentHashMap.newKeySet();
+	private final AtomicLong startSequence = new AtomicLong();
 	private final ThreadLocal<Deque<VintageTestDescriptor>> inProgressDescriptorsByStartingThread = ThreadLocal.withInitial(
 		ArrayDeque::new);
 
 	TestRun(RunnerTestDescriptor runnerTestDescriptor) {
 		this.runnerTestDescriptor = runnerTestDescriptor;
-		runnerDescendants = new LinkedHashSet<>(runnerTestDescriptor.getDescendants());
+		runnerDescendants = ConcurrentHashMap.newKeySet();
+		runnerDescendants.addAll(runnerTestDescriptor.getDescendants());
 		// @formatter:off
 		descriptionToDescriptors = concat(Stream.of(runnerTestDescriptor), runnerDescendants.stream())
 				.map(VintageTestDescriptor.class::cast)
-				.collect(toMap(VintageTestDescriptor::getDescription, VintageDescriptors::new, VintageDescriptors::merge, HashMap::new));
+				.collect(toMap(VintageTestDescriptor::getDescription, VintageDescriptors::new, VintageDescriptors::merge, ConcurrentHashMap::new));
 		// @formatter:on
 	}
 
 	void registerDynamicTest(VintageTestDescriptor testDescriptor) {
-		descriptionToDescriptors.computeIfAbsent(testDescriptor.getDescription(), __ -> new VintageDescriptors()).add(
-			testDescriptor);
+		VintageDescriptors vintageDescriptors = descriptionToDescriptors.computeIfAbsent(
+			testDescriptor.getDescription(), __ -> new VintageDescriptors());
+		// dynamic tests are registered for the event that is about to be
+		// reported for them so they must not be picked up by other threads
+		vintageDescriptors.claim(testDescriptor);
+		vintageDescriptors.add(testDescriptor);
 		runnerDescendants.add(testDescriptor);
 	}
 
+	/**
+	 * Run the supplied action while holding the lock of the supplied
+	 * descriptor.
+	 *
+	 * <p>Actions for different descriptors may run concurrently while actions
+	 * for the same descriptor are serialized.
+	 */
+	void runExclusively(TestDescriptor testDescriptor, Runnable action) {
+		synchronized (getLock(testDescriptor)) {
+			action.run();
+		}
+	}
+
+	private boolean evaluateExclusively(TestDescriptor testDescriptor, BooleanSupplier condition) {
+		synchronized (getLock(testDescriptor)) {
+			return condition.getAsBoolean();
+		}
+	}
+
+	private Object getLock(TestDescriptor testDescriptor) {
+		return locks.computeIfAbsent(testDescriptor, __ -> new Object());
+	}
+
 	RunnerTestDescriptor getRunnerTestDescriptor() {
 		return runnerTestDescriptor;
 	}
 
 	Collection<TestDescriptor> getInProgressTestDescriptorsWithSyntheticStartEvents() {
-		List<TestDescriptor> result = inProgressDescriptors.entrySet().stream() //
-				.filter(entry -> entry.getValue().equals(EventType.SYNTHETIC)) //
+		return inProgressDescriptors.entrySet().stream() //
+				.filter(entry -> entry.getValue().eventType() == EventType.SYNTHETIC) //
+				.sorted(Entry.comparingByValue(comparingLong(InProgress::sequence).reversed())) //
 				.map(Entry::getKey) //
-				.collect(toCollection(ArrayList::new));
-		Collections.reverse(result);
-		return result;
+				.toList();
 	}
 
 	boolean isDescendantOfRunnerTestDescriptor(TestDescriptor testDescriptor) {
@@ -92,11 +131,20 @@ class TestRun {
 	}
 
 	boolean hasSyntheticStartEvent(TestDescriptor testDescriptor) {
-		return inProgressDescriptors.get(testDescriptor) == EventType.SYNTHETIC;
+		InProgress inProgress = inProgressDescriptors.get(testDescriptor);
+		return inProgress != null && inProgress.eventType() == EventType.SYNTHETIC;
 	}
 
+	/**
+	 * Look up the descriptor for the next event reported for the supplied
+	 * {@link Description}.
+	 *
+	 * <p>If multiple descriptors share an equal {@code Description}, the first
+	 * one that has neither been started nor skipped is <em>claimed</em>
+	 * atomically so that concurrent lookups never return the same descriptor.
+	 */
 	Optional<VintageTestDescriptor> lookupNextTestDescriptor(Description description) {
-		return lookupUnambiguouslyOrApplyFallback(description, VintageDescriptors::getNextUnstarted);
+		return lookupUnambiguouslyOrApplyFallback(description, VintageDescriptors::claimNextUnstarted);
 	}
 
 	Optional<VintageTestDescriptor> lookupCurrentTestDescriptor(Description description) {
@@ -123,7 +171,7 @@ class TestRun {
 	void markSkipped(TestDescriptor testDescriptor) {
 		skippedDescriptors.add(testDescriptor);
 		if (testDescriptor instanceof VintageTestDescriptor vintageDescriptor) {
-			getVintageDescriptors(vintageDescriptor).incrementSkippedOrStarted();
+			getVintageDescriptors(vintageDescriptor).claim(vintageDescriptor);
 		}
 	}
 
@@ -136,11 +184,11 @@ class TestRun {
 	}
 
 	void markStarted(TestDescriptor testDescriptor, EventType eventType) {
-		inProgressDescriptors.put(testDescriptor, eventType);
+		inProgressDescriptors.put(testDescriptor, new InProgress(eventType, startSequence.getAndIncrement()));
 		startedDescriptors.add(testDescriptor);
 		if (testDescriptor instanceof VintageTestDescriptor vintageDescriptor) {
 			inProgressDescriptorsByStartingThread.get().addLast(vintageDescriptor);
-			getVintageDescriptors(vintageDescriptor).incrementSkippedOrStarted();
+			getVintageDescriptors(vintageDescriptor).claim(vintageDescriptor);
 		}
 	}
 
@@ -169,8 +217,10 @@ class TestRun {
 		return finishedDescriptors.contains(testDescriptor);
 	}
 
-	boolean areAllFinishedOrSkipped(Set<? extends TestDescriptor> testDescriptors) {
-		return testDescriptors.stream().allMatch(this::isFinishedOrSkipped);
+	boolean areAllChildrenFinishedOrSkipped(TestDescriptor testDescriptor) {
+		// children of a descriptor are only modified while holding its lock
+		return evaluateExclusively(testDescriptor,
+			() -> testDescriptor.getChildren().stream().allMatch(this::isFinishedOrSkipped));
 	}
 
 	boolean isFinishedOrSkipped(TestDescriptor testDescriptor) {
@@ -178,17 +228,18 @@ class TestRun {
 	}
 
 	void storeResult(TestDescriptor testDescriptor, TestExecutionResult result) {
-		List<TestExecutionResult> testExecutionResults = executionResults.computeIfAbsent(testDescriptor,
-			key -> new ArrayList<>());
+		Queue<TestExecutionResult> testExecutionResults = executionResults.computeIfAbsent(testDescriptor,
+			key -> new ConcurrentLinkedQueue<>());
 		testExecutionResults.add(result);
 	}
 
 	TestExecutionResult getStoredResultOrSuccessful(TestDescriptor testDescriptor) {
-		List<TestExecutionResult> testExecutionResults = executionResults.get(testDescriptor);
+		Queue<TestExecutionResult> storedResults = executionResults.get(testDescriptor);
 
-		if (testExecutionResults == null) {
+		if (storedResults == null) {
 			return successful();
 		}
+		List<TestExecutionResult> testExecutionResults = List.copyOf(storedResults);
 		if (testExecutionResults.size() == 1) {
 			return testExecutionResults.get(0);
 		}
@@ -204,19 +255,22 @@ class TestRun {
 		return failed(multipleFailuresError);
 	}
 
+	private record InProgress(EventType eventType, long sequence) {
+	}
+
 	private static class VintageDescriptors {
 
 		private static final VintageDescriptors NONE = new VintageDescriptors(emptyList());
 
 		private final List<VintageTestDescriptor> descriptors;
-		private int skippedOrStartedCount;
+		private final Set<VintageTestDescriptor> claimedDescriptors = ConcurrentHashMap.newKeySet();
 
 		static VintageDescriptors merge(VintageDescriptors a, VintageDescriptors b) {
 			List<VintageTestDescriptor> mergedDescriptors = new ArrayList<>(
 				a.descriptors.size() + b.descriptors.size());
 			mergedDescriptors.addAll(a.descriptors);
 			mergedDescriptors.addAll(b.descriptors);
-			return new VintageDescriptors(mergedDescriptors);
+			return new VintageDescriptors(new CopyOnWriteArrayList<>(mergedDescriptors));
 		}
 
 		VintageDescriptors(VintageTestDescriptor vintageTestDescriptor) {
@@ -225,7 +279,7 @@ class TestRun {
 		}
 
 		VintageDescriptors() {
-			this(new ArrayList<>(1));
+			this(new CopyOnWriteArrayList<>());
 		}
 
 		VintageDescriptors(List<VintageTestDescriptor> descriptors) {
@@ -262,13 +316,19 @@ class TestRun {
 			// @formatter:on
 		}
 
-		public void incrementSkippedOrStarted() {
-			skippedOrStartedCount++;
+		void claim(VintageTestDescriptor descriptor) {
+			claimedDescriptors.add(descriptor);
 		}
 
-		public Optional<VintageTestDescriptor> getNextUnstarted() {
-			if (skippedOrStartedCount < descriptors.size()) {
-				return Optional.of(descriptors.get(skippedOrStartedCount));
+		/**
+		 * Returns the first descriptor that has not been claimed yet and claims
+		 * it in the same atomic step.
+		 */
+		Optional<VintageTestDescriptor> claimNextUnstarted() {
+			for (VintageTestDescriptor descriptor : descriptors) {
+				if (claimedDescriptors.add(descriptor)) {
+					return Optional.of(descriptor);
+				}
 			}
 			return Optional.empty();
 		}
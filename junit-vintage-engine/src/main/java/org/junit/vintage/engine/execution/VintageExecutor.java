@@ -21,15 +21,23 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.commons.util.ExceptionUtils;
 import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.ExecutionRequest;
 import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.support.hierarchical.ConcurrentTestTask;
+import org.junit.platform.engine.support.hierarchical.FixedParallelExecutionConfiguration;
+import org.junit.platform.engine.support.hierarchical.ForkJoinPoolHierarchicalTestExecutorService;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService;
+import org.junit.platform.engine.support.hierarchical.LockManager;
+import org.junit.platform.engine.support.hierarchical.ResourceLock;
 import org.junit.vintage.engine.Constants;
 import org.junit.vintage.engine.descriptor.RunnerTestDescriptor;
 import org.junit.vintage.engine.descriptor.VintageEngineDescriptor;
@@ -96,9 +104,14 @@ public class VintageExecutor {
 	}
 
 	private boolean executeInParallel() {
-		ExecutorService executorService = Executors.newWorkStealingPool(getThreadPoolSize());
+		int threadPoolSize = getThreadPoolSize();
 		RunnerExecutor runnerExecutor = new RunnerExecutor(engineExecutionListener);
 
+		if (!methods) {
+			return executeOnlyClassesInParallel(runnerExecutor, threadPoolSize);
+		}
+
+		ExecutorService executorService = Executors.newWorkStealingPool(threadPoolSize);
 		List<RunnerTestDescriptor> runnerTestDescriptors = collectRunnerTestDescriptors(executorService);
 
 		if (!classes) {
@@ -109,6 +122,17 @@ public class VintageExecutor {
 		return executeClassesInParallel(runnerTestDescriptors, runnerExecutor, executorService);
 	}
 
+	private ExclusiveResources getExclusiveResources() {
+		return ExclusiveResources.parse(
+			request.getConfigurationParameters().get(Constants.PARALLEL_EXCLUSIVE_RESOURCES).orElse(null));
+	}
+
+	private ResourceLock getResourceLock(RunnerTestDescriptor runnerTestDescriptor, LockManager lockManager,
+			ExclusiveResources exclusiveResources) {
+		String className = runnerTestDescriptor.getDescription().getClassName();
+		return lockManager.getLockForResources(exclusiveResources.getExclusiveResources(className));
+	}
+
 	private int getThreadPoolSize() {
 		Optional<String> optionalPoolSize = request.getConfigurationParameters().get(Constants.PARALLEL_POOL_SIZE);
 		if (optionalPoolSize.isPresent()) {
@@ -146,12 +170,44 @@ public class VintageExecutor {
 		}
 	}
 
+	/**
+	 * Execute all test classes via a {@link HierarchicalTestExecutorService}
+	 * that takes the configured exclusive resources into account.
+	 */
+	private boolean executeOnlyClassesInParallel(RunnerExecutor runnerExecutor, int threadPoolSize) {
+		LockManager lockManager = new LockManager();
+		ExclusiveResources exclusiveResources = getExclusiveResources();
+		List<ConcurrentTestTask> testTasks = engineDescriptor.getModifiableChildren().stream() //
+				.map(RunnerTestDescriptor.class::cast) //
+				.map(it -> new ConcurrentTestTask(it, getResourceLock(it, lockManager, exclusiveResources),
+					() -> runnerExecutor.execute(it))) //
+				.toList();
+
+		try (HierarchicalTestExecutorService executorService = new ForkJoinPoolHierarchicalTestExecutorService(
+			new FixedParallelExecutionConfiguration(threadPoolSize))) {
+			Future<@Nullable Void> future = executorService.submit(new ConcurrentTestTask(engineDescriptor,
+				lockManager.getLockForResources(List.of()), () -> executorService.invokeAll(testTasks)));
+			future.get();
+			return false;
+		}
+		catch (InterruptedException e) {
+			logger.warn(e, () -> "Interruption while waiting for parallel test execution to finish");
+			return true;
+		}
+		catch (ExecutionException e) {
+			throw ExceptionUtils.throwAsUncheckedException(requireNonNullElse(e.getCause(), e));
+		}
+	}
+
 	private boolean executeClassesInParallel(List<RunnerTestDescriptor> runnerTestDescriptors,
 			RunnerExecutor runnerExecutor, ExecutorService executorService) {
+		LockManager lockManager = new LockManager();
+		ExclusiveResources exclusiveResources = getExclusiveResources();
 		List<CompletableFuture<Void>> futures = new ArrayList<>();
 		for (RunnerTestDescriptor runnerTestDescriptor : runnerTestDescriptors) {
+			ResourceLock resourceLock = getResourceLock(runnerTestDescriptor, lockManager, exclusiveResources);
 			CompletableFuture<Void> future = CompletableFuture.runAsync(
-				() -> runnerExecutor.execute(runnerTestDescriptor), executorService);
+				() -> executeWithLock(runnerExecutor, runnerTestDescriptor, resourceLock), executorService);
 			futures.add(future);
 		}
 
@@ -173,6 +229,17 @@ public class VintageExecutor {
 		return wasInterrupted;
 	}
 
+	@SuppressWarnings("try")
+	private void executeWithLock(RunnerExecutor runnerExecutor, RunnerTestDescriptor runnerTestDescriptor,
+			ResourceLock resourceLock) {
+		try (ResourceLock lock = resourceLock.acquire()) {
+			runnerExecutor.execute(runnerTestDescriptor);
+		}
+		catch (InterruptedException e) {
+			throw ExceptionUtils.throwAsUncheckedException(e);
+		}
+	}
+
 	private void shutdownExecutorService(ExecutorService executorService) {
 		try {
 			executorService.shutdown();
@@ -19,6 +19,9 @@ import static org.junit.platform.testkit.engine.EventConditions.started;
 import static org.junit.platform.testkit.engine.EventConditions.test;
 import static org.junit.vintage.engine.descriptor.VintageTestDescriptor.SEGMENT_TYPE_RUNNER;
 import static org.junit.vintage.engine.descriptor.VintageTestDescriptor.SEGMENT_TYPE_TEST;
+import static org.junit.vintage.engine.samples.junit4.JUnit4ExclusiveResourcesTestCase.FirstSharedResourceTestCase;
+import static org.junit.vintage.engine.samples.junit4.JUnit4ExclusiveResourcesTestCase.SecondSharedResourceTestCase;
+import static org.junit.vintage.engine.samples.junit4.JUnit4ExclusiveResourcesTestCase.UnrelatedTestCase;
 import static org.junit.vintage.engine.samples.junit4.JUnit4ParallelClassesTestCase.FirstClassTestCase;
 import static org.junit.vintage.engine.samples.junit4.JUnit4ParallelClassesTestCase.SecondClassTestCase;
 import static org.junit.vintage.engine.samples.junit4.JUnit4ParallelClassesTestCase.ThirdClassTestCase;
@@ -30,6 +33,7 @@ import java.time.Instant;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
@@ -49,6 +53,7 @@ import org.junit.platform.testkit.engine.Event;
 import org.junit.platform.testkit.engine.Events;
 import org.junit.vintage.engine.Constants;
 import org.junit.vintage.engine.VintageTestEngine;
+import org.junit.vintage.engine.samples.junit4.JUnit4ExclusiveResourcesTestCase;
 import org.junit.vintage.engine.samples.junit4.JUnit4ParallelClassesTestCase;
 import org.junit.vintage.engine.samples.junit4.JUnit4ParallelMethodsTestCase;
 
@@ -77,6 +82,19 @@ class ParallelExecutionIntegrationTests {
 		assertThat(threadNames).hasSize(3);
 	}
 
+	@Test
+	void doesNotExecuteTestClassesSharingAnExclusiveResourceConcurrently() {
+		JUnit4ExclusiveResourcesTestCase.reset();
+
+		var events = executeInParallelSuccessfully(3, true, false,
+			Map.of(Constants.PARALLEL_EXCLUSIVE_RESOURCES,
+				"*FirstSharedResourceTestCase=shared, *SecondSharedResourceTestCase=shared"),
+			FirstSharedResourceTestCase.class, SecondSharedResourceTestCase.class, UnrelatedTestCase.class).list();
+
+		assertThat(getTimestampsFor(events, event(test(SEGMENT_TYPE_TEST), finishedSuccessfully()))).hasSize(3);
+		assertThat(JUnit4ExclusiveResourcesTestCase.maxConcurrentInvocations).hasValue(1);
+	}
+
 	@Test
 	void executesTestMethodsInParallel(TestReporter reporter) {
 		JUnit4ParallelMethodsTestCase.AbstractBlockingTestCase.threadNames.clear();
@@ -167,7 +185,13 @@ class ParallelExecutionIntegrationTests {
 
 	private Events executeInParallelSuccessfully(int poolSize, boolean parallelClasses, boolean parallelMethods,
 			Class<?>... testClasses) {
-		var events = execute(poolSize, parallelClasses, parallelMethods, testClasses).allEvents();
+		return executeInParallelSuccessfully(poolSize, parallelClasses, parallelMethods, Map.of(), testClasses);
+	}
+
+	private Events executeInParallelSuccessfully(int poolSize, boolean parallelClasses, boolean parallelMethods,
+			Map<String, String> configurationParameters, Class<?>... testClasses) {
+		var events = execute(poolSize, parallelClasses, parallelMethods, configurationParameters,
+			testClasses).allEvents();
 		try {
 			return events.assertStatistics(it -> it.failed(0));
 		}
@@ -177,16 +201,21 @@ class ParallelExecutionIntegrationTests {
 		}
 	}
 
-	@SuppressWarnings("deprecation")
 	private static EngineExecutionResults execute(int poolSize, boolean parallelClasses, boolean parallelMethods,
 			Class<?>... testClass) {
+		return execute(poolSize, parallelClasses, parallelMethods, Map.of(), testClass);
+	}
+
+	@SuppressWarnings("deprecation")
+	private static EngineExecutionResults execute(int poolSize, boolean parallelClasses, boolean parallelMethods,
+			Map<String, String> configurationParameters, Class<?>... testClass) {
 		return EngineTestKit.execute(new VintageTestEngine(),
-			request(poolSize, parallelClasses, parallelMethods, testClass));
+			request(poolSize, parallelClasses, parallelMethods, configurationParameters, testClass));
 	}
 
 	@SuppressWarnings("deprecation")
 	private static LauncherDiscoveryRequest request(int poolSize, boolean parallelClasses, boolean parallelMethods,
-			Class<?>... testClasses) {
+			Map<String, String> configurationParameters, Class<?>... testClasses) {
 		var classSelectors = Arrays.stream(testClasses) //
 				.map(DiscoverySelectors::selectClass) //
 				.toArray(ClassSelector[]::new);
@@ -197,6 +226,7 @@ class ParallelExecutionIntegrationTests {
 				.configurationParameter(Constants.PARALLEL_POOL_SIZE, String.valueOf(poolSize)) //
 				.configurationParameter(Constants.PARALLEL_CLASS_EXECUTION, String.valueOf(parallelClasses)) //
 				.configurationParameter(Constants.PARALLEL_METHOD_EXECUTION, String.valueOf(parallelMethods)) //
+				.configurationParameters(configurationParameters) //
 				.enableImplicitConfigurationParameters(false) //
 				.build();
 	}
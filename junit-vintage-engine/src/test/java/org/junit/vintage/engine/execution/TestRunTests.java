@@ -10,12 +10,21 @@
 
 package org.junit.vintage.engine.execution;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.runner.Description.createTestDescription;
 import static org.junit.vintage.engine.VintageUniqueIdBuilder.engineId;
 import static org.junit.vintage.engine.descriptor.VintageTestDescriptor.SEGMENT_TYPE_DYNAMIC;
 import static org.junit.vintage.engine.descriptor.VintageTestDescriptor.SEGMENT_TYPE_RUNNER;
+import static org.junit.vintage.engine.descriptor.VintageTestDescriptor.SEGMENT_TYPE_TEST;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.jupiter.api.Test;
 import org.junit.runners.BlockJUnit4ClassRunner;
@@ -59,4 +68,67 @@ class TestRunTests {
 		assertTrue(testRun.isDescendantOfRunnerTestDescriptor(dynamicTestDescriptor));
 	}
 
+	@Test
+	void claimsEachDescriptorWithDuplicateDescriptionOnlyOnceWhenLookedUpConcurrently() throws Exception {
+		Class<?> testClass = PlainJUnit4TestCaseWithSingleTestWhichFails.class;
+		var runnerId = engineId().append(SEGMENT_TYPE_RUNNER, testClass.getName());
+		var runnerTestDescriptor = new RunnerTestDescriptor(runnerId, testClass, new BlockJUnit4ClassRunner(testClass),
+			false);
+		int threadCount = 8;
+		List<VintageTestDescriptor> duplicateTestDescriptors = new ArrayList<>();
+		for (int i = 0; i < threadCount; i++) {
+			var duplicateTestDescriptor = new VintageTestDescriptor(
+				runnerId.append(SEGMENT_TYPE_TEST, "duplicate[" + i + "]"), createTestDescription(testClass, "duplicate"),
+				null);
+			runnerTestDescriptor.addChild(duplicateTestDescriptor);
+			duplicateTestDescriptors.add(duplicateTestDescriptor);
+		}
+
+		var testRun = new TestRun(runnerTestDescriptor);
+		var barrier = new CyclicBarrier(threadCount);
+		var executorService = Executors.newFixedThreadPool(threadCount);
+		try {
+			List<Future<Optional<VintageTestDescriptor>>> futures = new ArrayList<>();
+			for (int i = 0; i < threadCount; i++) {
+				futures.add(executorService.submit(() -> {
+					barrier.await(10, SECONDS);
+					return testRun.lookupNextTestDescriptor(createTestDescription(testClass, "duplicate"));
+				}));
+			}
+			List<VintageTestDescriptor> claimedTestDescriptors = new ArrayList<>();
+			for (var future : futures) {
+				claimedTestDescriptors.add(future.get(10, SECONDS).orElseThrow());
+			}
+
+			assertThat(claimedTestDescriptors).containsExactlyInAnyOrderElementsOf(duplicateTestDescriptors);
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+		assertThat(testRun.lookupNextTestDescriptor(createTestDescription(testClass, "duplicate"))).isEmpty();
+	}
+
+	@Test
+	void returnsInProgressDescriptorsWithSyntheticStartEventsInReverseStartOrder() throws Exception {
+		Class<?> testClass = PlainJUnit4TestCaseWithSingleTestWhichFails.class;
+		var runnerId = engineId().append(SEGMENT_TYPE_RUNNER, testClass.getName());
+		var runnerTestDescriptor = new RunnerTestDescriptor(runnerId, testClass, new BlockJUnit4ClassRunner(testClass),
+			false);
+		var childTestDescriptor = new VintageTestDescriptor(runnerId.append(SEGMENT_TYPE_DYNAMIC, "child"),
+			createTestDescription(testClass, "child"), null);
+		runnerTestDescriptor.addChild(childTestDescriptor);
+
+		var testRun = new TestRun(runnerTestDescriptor);
+		testRun.markStarted(runnerTestDescriptor, EventType.SYNTHETIC);
+		testRun.markStarted(childTestDescriptor, EventType.SYNTHETIC);
+
+		assertThat(testRun.getInProgressTestDescriptorsWithSyntheticStartEvents()) //
+				.containsExactly(childTestDescriptor, runnerTestDescriptor);
+
+		testRun.markFinished(childTestDescriptor);
+
+		assertThat(testRun.getInProgressTestDescriptorsWithSyntheticStartEvents()) //
+				.containsExactly(runnerTestDescriptor);
+	}
+
 }
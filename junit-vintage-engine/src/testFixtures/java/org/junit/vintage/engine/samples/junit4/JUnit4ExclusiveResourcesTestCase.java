@@ -0,0 +1,73 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.vintage.engine.samples.junit4;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+/**
+ * @since 6.0
+ */
+@RunWith(Enclosed.class)
+public class JUnit4ExclusiveResourcesTestCase {
+
+	public static final AtomicInteger concurrentInvocations = new AtomicInteger();
+	public static final AtomicInteger maxConcurrentInvocations = new AtomicInteger();
+	public static CountDownLatch unrelatedTestStarted = new CountDownLatch(1);
+	public static CountDownLatch sharedResourceTestsFinished = new CountDownLatch(2);
+
+	public static void reset() {
+		concurrentInvocations.set(0);
+		maxConcurrentInvocations.set(0);
+		unrelatedTestStarted = new CountDownLatch(1);
+		sharedResourceTestsFinished = new CountDownLatch(2);
+	}
+
+	public abstract static class AbstractSharedResourceTestCase {
+
+		@Test
+		public void test() throws Exception {
+			int concurrent = concurrentInvocations.incrementAndGet();
+			maxConcurrentInvocations.accumulateAndGet(concurrent, Math::max);
+			try {
+				// Hold the shared resource until a test class that does not
+				// use it is running concurrently.
+				assertTrue(unrelatedTestStarted.await(10, SECONDS));
+			}
+			finally {
+				concurrentInvocations.decrementAndGet();
+				sharedResourceTestsFinished.countDown();
+			}
+		}
+	}
+
+	public static class FirstSharedResourceTestCase extends AbstractSharedResourceTestCase {
+	}
+
+	public static class SecondSharedResourceTestCase extends AbstractSharedResourceTestCase {
+	}
+
+	public static class UnrelatedTestCase {
+
+		@Test
+		public void test() throws Exception {
+			unrelatedTestStarted.countDown();
+			assertTrue(sharedResourceTestsFinished.await(10, SECONDS));
+		}
+	}
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AutoClose;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.StatelessTestInstance;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestInstancePostProcessor;
+import org.junit.platform.testkit.engine.EngineExecutionResults;
+
+/**
+ * Integration tests for {@link StatelessTestInstance @StatelessTestInstance}.
+ *
+ * @since 6.0
+ */
+class StatelessTestInstanceTests extends AbstractJupiterTestEngineTests {
+
+	private static final List<String> events = new ArrayList<>();
+
+	@BeforeEach
+	void clearEvents() {
+		events.clear();
+	}
+
+	@Test
+	void reusesTestInstancesAndResetsTheirFields() {
+		EngineExecutionResults executionResults = executeTestsForClass(StatelessTestCase.class);
+
+		executionResults.testEvents().assertStatistics(stats -> stats.started(5).succeeded(5));
+		assertThat(events).containsExactly("constructor", "postProcess", "close", "afterAll");
+	}
+
+	@Test
+	void releasesTestInstancesAfterClosingMethodLevelStore() {
+		EngineExecutionResults executionResults = executeTestsForClass(MethodLevelStoreTestCase.class);
+
+		executionResults.testEvents().assertStatistics(stats -> stats.started(2).succeeded(2));
+		assertThat(events).containsExactly("constructor", "close 1", "close 2");
+	}
+
+	@Test
+	void createsTestInstancesPerMethodWithoutAnnotation() {
+		EngineExecutionResults executionResults = executeTestsForClass(StatefulTestCase.class);
+
+		executionResults.testEvents().assertStatistics(stats -> stats.started(2).succeeded(2));
+		assertThat(events).containsExactly("constructor", "constructor");
+	}
+
+	@Test
+	void doesNotReuseTestInstancesForTestMethodsRegisteringInstanceLifecycleExtensions() {
+		EngineExecutionResults executionResults = executeTestsForClass(MethodLevelPostProcessorTestCase.class);
+
+		executionResults.testEvents().assertStatistics(stats -> stats.started(3).succeeded(3));
+		assertThat(events).containsExactlyInAnyOrder("constructor", "constructor", "postProcess");
+	}
+
+	@Test
+	void doesNotReuseEnclosingTestInstancesOfNestedTestClasses() {
+		EngineExecutionResults executionResults = executeTestsForClass(EnclosingStatelessTestCase.class);
+
+		executionResults.testEvents().assertStatistics(stats -> stats.started(3).succeeded(3));
+		assertThat(events).containsExactly("constructor", "constructor", "constructor");
+	}
+
+	@Test
+	void hasNoEffectOnTestClassesWithPerClassLifecycle() {
+		EngineExecutionResults executionResults = executeTestsForClass(PerClassStatelessTestCase.class);
+
+		executionResults.testEvents().assertStatistics(stats -> stats.started(2).failed(1).succeeded(1));
+		assertThat(events).containsExactly("constructor");
+	}
+
+	// -------------------------------------------------------------------------
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	@StatelessTestInstance
+	@ExtendWith(RecordingPostProcessor.class)
+	static class StatelessTestCase {
+
+		@AutoClose
+		final AutoCloseable resource = () -> events.add("close");
+
+		int counter = 42;
+
+		@Nullable
+		List<String> list;
+
+		StatelessTestCase() {
+			events.add("constructor");
+		}
+
+		@BeforeEach
+		void assertFieldsHaveBeenReset() {
+			assertEquals(42, counter);
+			assertNull(list);
+			list = new ArrayList<>();
+		}
+
+		@Test
+		void first() {
+			counter++;
+		}
+
+		@Test
+		void second() {
+			counter = 0;
+		}
+
+		@RepeatedTest(3)
+		void repeated() {
+			counter--;
+		}
+
+		@AfterAll
+		static void afterAll() {
+			events.add("afterAll");
+		}
+	}
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	@StatelessTestInstance
+	@ExtendWith(StoreRecordingCallback.class)
+	@TestMethodOrder(OrderAnnotation.class)
+	static class MethodLevelStoreTestCase {
+
+		int counter;
+
+		MethodLevelStoreTestCase() {
+			events.add("constructor");
+		}
+
+		@Test
+		@Order(1)
+		void first() {
+			assertEquals(0, counter);
+			counter = 1;
+		}
+
+		@Test
+		@Order(2)
+		void second() {
+			assertEquals(0, counter);
+			counter = 2;
+		}
+	}
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	static class StatefulTestCase {
+
+		StatefulTestCase() {
+			events.add("constructor");
+		}
+
+		@Test
+		void first() {
+		}
+
+		@Test
+		void second() {
+		}
+	}
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	@StatelessTestInstance
+	static class MethodLevelPostProcessorTestCase {
+
+		MethodLevelPostProcessorTestCase() {
+			events.add("constructor");
+		}
+
+		@Test
+		void first() {
+		}
+
+		@Test
+		void second() {
+		}
+
+		@Test
+		@ExtendWith(RecordingPostProcessor.class)
+		void withPostProcessor() {
+		}
+	}
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	@StatelessTestInstance
+	static class EnclosingStatelessTestCase {
+
+		EnclosingStatelessTestCase() {
+			events.add("constructor");
+		}
+
+		@Test
+		void test() {
+		}
+
+		@Nested
+		class NestedTestCase {
+
+			@Test
+			void first() {
+			}
+
+			@Test
+			void second() {
+			}
+		}
+	}
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	@StatelessTestInstance
+	@TestInstance(Lifecycle.PER_CLASS)
+	static class PerClassStatelessTestCase {
+
+		int counter;
+
+		PerClassStatelessTestCase() {
+			events.add("constructor");
+		}
+
+		@Test
+		void first() {
+			assertEquals(0, counter++);
+		}
+
+		@Test
+		void second() {
+			assertEquals(0, counter++);
+		}
+	}
+
+	static class StoreRecordingCallback implements BeforeEachCallback {
+
+		@Override
+		public void beforeEach(ExtensionContext context) {
+			MethodLevelStoreTestCase testInstance = (MethodLevelStoreTestCase) context.getRequiredTestInstance();
+			AutoCloseable resource = () -> events.add("close " + testInstance.counter);
+			context.getStore(ExtensionContext.Namespace.GLOBAL).put("resource", resource);
+		}
+	}
+
+	static class RecordingPostProcessor implements TestInstancePostProcessor {
+
+		@Override
+		public void postProcessTestInstance(Object testInstance, ExtensionContext context) {
+			events.add("postProcess");
+		}
+	}
+
+}
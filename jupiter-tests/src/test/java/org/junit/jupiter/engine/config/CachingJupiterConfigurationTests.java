@@ -30,6 +30,7 @@ import org.junit.jupiter.api.extension.ExecutionCondition;
 import org.junit.jupiter.api.io.TempDirFactory;
 import org.junit.jupiter.api.parallel.ExecutionMode;
 import org.junit.jupiter.engine.descriptor.CustomDisplayNameGenerator;
+import org.junit.jupiter.engine.support.MethodInvocationStrategy;
 
 /**
  * Unit tests for {@link CachingJupiterConfiguration}.
@@ -137,6 +138,16 @@ class CachingJupiterConfigurationTests {
 		verify(delegate, only()).getDefaultTempDirFactorySupplier();
 	}
 
+	@Test
+	void cachesMethodInvocationStrategy() {
+		when(delegate.getMethodInvocationStrategy()).thenReturn(MethodInvocationStrategy.METHOD_HANDLES);
+
+		assertThat(cache.getMethodInvocationStrategy()).isSameAs(MethodInvocationStrategy.METHOD_HANDLES);
+		assertThat(cache.getMethodInvocationStrategy()).isSameAs(MethodInvocationStrategy.METHOD_HANDLES);
+
+		verify(delegate, only()).getMethodInvocationStrategy();
+	}
+
 	@Test
 	void doesNotCacheRawParameters() {
 		when(delegate.getRawConfigurationParameter("foo")).thenReturn(Optional.of("bar")).thenReturn(
@@ -36,6 +36,7 @@ import org.junit.jupiter.api.io.CleanupMode;
 import org.junit.jupiter.api.io.TempDirFactory;
 import org.junit.jupiter.engine.Constants;
 import org.junit.jupiter.engine.descriptor.CustomDisplayNameGenerator;
+import org.junit.jupiter.engine.support.MethodInvocationStrategy;
 import org.junit.platform.commons.PreconditionViolationException;
 import org.junit.platform.engine.ConfigurationParameters;
 
@@ -155,6 +156,25 @@ class DefaultJupiterConfigurationTests {
 		assertThat(supplier.get()).isSameAs(TempDirFactory.Standard.INSTANCE);
 	}
 
+	@Test
+	void shouldGetReflectionAsDefaultMethodInvocationStrategyWithoutConfigParamSet() {
+		JupiterConfiguration configuration = new DefaultJupiterConfiguration(mock(), dummyOutputDirectoryProvider(),
+			mock());
+
+		assertThat(configuration.getMethodInvocationStrategy()).isEqualTo(MethodInvocationStrategy.REFLECTION);
+	}
+
+	@Test
+	void shouldGetMethodInvocationStrategyWithConfigParamSet() {
+		ConfigurationParameters parameters = mock();
+		String key = Constants.METHOD_INVOCATION_STRATEGY_PROPERTY_NAME;
+		when(parameters.get(key)).thenReturn(Optional.of("method_handles"));
+		JupiterConfiguration configuration = new DefaultJupiterConfiguration(parameters, dummyOutputDirectoryProvider(),
+			mock());
+
+		assertThat(configuration.getMethodInvocationStrategy()).isEqualTo(MethodInvocationStrategy.METHOD_HANDLES);
+	}
+
 	private void assertDefaultConfigParam(@Nullable String configValue, Lifecycle expected) {
 		ConfigurationParameters configParams = mock();
 		when(configParams.get(KEY)).thenReturn(Optional.ofNullable(configValue));
@@ -10,6 +10,7 @@
 
 package org.junit.jupiter.engine.extension;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.junit.jupiter.engine.Constants.DEACTIVATE_CONDITIONS_PATTERN_PROPERTY_NAME;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
@@ -19,13 +20,17 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
 import org.junit.jupiter.api.extension.ExecutionCondition;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.engine.AbstractJupiterTestEngineTests;
 import org.junit.jupiter.engine.JupiterTestEngine;
 import org.junit.jupiter.engine.extension.sub.AlwaysDisabledCondition;
@@ -121,6 +126,20 @@ class ExecutionConditionTests extends AbstractJupiterTestEngineTests {
 		assertExecutionConditionOverride(deactivatePattern, 4, 2, 2);
 	}
 
+	@Test
+	void cacheableConditionIsEvaluatedOncePerElement() {
+		CountingCondition.evaluations.set(0);
+		CacheableCountingCondition.evaluations.set(0);
+
+		executeTestsForClass(TestCaseWithCountingConditions.class).testEvents().assertStatistics(
+			stats -> stats.started(3).succeeded(3));
+
+		// class + test template + 3 repetitions
+		assertThat(CountingCondition.evaluations).hasValue(5);
+		// class + test method
+		assertThat(CacheableCountingCondition.evaluations).hasValue(2);
+	}
+
 	private void assertExecutionConditionOverride(String deactivatePattern, int testStartedCount, int testFailedCount) {
 		// @formatter:off
 		LauncherDiscoveryRequest request = request()
@@ -203,6 +222,41 @@ class ExecutionConditionTests extends AbstractJupiterTestEngineTests {
 
 	}
 
+	@ExtendWith({ CountingCondition.class, CacheableCountingCondition.class })
+	static class TestCaseWithCountingConditions {
+
+		@RepeatedTest(3)
+		void repeatedTest() {
+		}
+	}
+
+	static class CountingCondition implements ExecutionCondition {
+
+		static final AtomicInteger evaluations = new AtomicInteger();
+
+		@Override
+		public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+			evaluations.incrementAndGet();
+			return ConditionEvaluationResult.enabled("counted");
+		}
+	}
+
+	static class CacheableCountingCondition extends CountingCondition {
+
+		static final AtomicInteger evaluations = new AtomicInteger();
+
+		@Override
+		public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+			evaluations.incrementAndGet();
+			return ConditionEvaluationResult.enabled("counted");
+		}
+
+		@Override
+		public boolean isResultCacheable() {
+			return true;
+		}
+	}
+
 	@Target({ ElementType.METHOD, ElementType.TYPE })
 	@Retention(RetentionPolicy.RUNTIME)
 	@ExtendWith({ AlwaysDisabledCondition.class, AnotherAlwaysDisabledCondition.class })
@@ -11,14 +11,20 @@
 package org.junit.jupiter.engine.extension;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.condition.OS.WINDOWS;
+import static org.junit.platform.engine.support.store.NamespacedHierarchicalStore.CloseAction.closeAutoCloseables;
 
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout.ThreadMode;
@@ -37,6 +43,14 @@ class SeparateThreadTimeoutInvocationTests {
 
 	private static final long PREEMPTIVE_TIMEOUT_MILLIS = WINDOWS.isCurrentOs() ? 1000 : 100;
 
+	private final NamespacedHierarchicalStore<Namespace> store = new NamespacedHierarchicalStore<>(null,
+		closeAutoCloseables());
+
+	@AfterEach
+	void closeStore() {
+		store.close();
+	}
+
 	@Test
 	@DisplayName("throws timeout exception when timeout duration is exceeded")
 	void throwsTimeoutException() {
@@ -60,6 +74,76 @@ class SeparateThreadTimeoutInvocationTests {
 		assertThat(invocationThreadName).isNotEqualTo(Thread.currentThread().getName());
 	}
 
+	@Test
+	@DisplayName("reuses thread for subsequent invocations")
+	void reusesThreadForSubsequentInvocations() throws Throwable {
+		var firstThread = aSeparateThreadInvocation(Thread::currentThread).proceed();
+		awaitIdle(firstThread);
+		var secondThread = aSeparateThreadInvocation(Thread::currentThread).proceed();
+		assertThat(secondThread).isSameAs(firstThread);
+	}
+
+	@Test
+	@DisplayName("restores thread state before reusing thread")
+	void restoresThreadStateBeforeReusingThread() throws Throwable {
+		AtomicReference<String> originalName = new AtomicReference<>();
+		var firstThread = aSeparateThreadInvocation(() -> {
+			Thread thread = Thread.currentThread();
+			originalName.set(thread.getName());
+			thread.setName("modified");
+			thread.setPriority(Thread.MIN_PRIORITY);
+			thread.setUncaughtExceptionHandler((__, ___) -> {
+			});
+			thread.setContextClassLoader(new URLClassLoader(new URL[0]));
+			thread.interrupt();
+			return thread;
+		}).proceed();
+		awaitIdle(firstThread);
+
+		AtomicBoolean interrupted = new AtomicBoolean(true);
+		var secondThread = aSeparateThreadInvocation(() -> {
+			interrupted.set(Thread.currentThread().isInterrupted());
+			return Thread.currentThread();
+		}).proceed();
+
+		assertThat(secondThread).isSameAs(firstThread);
+		assertThat(interrupted).isFalse();
+		assertThat(secondThread.getName()).isEqualTo(originalName.get());
+		assertThat(secondThread.getPriority()).isEqualTo(Thread.NORM_PRIORITY);
+		assertThat(secondThread.getUncaughtExceptionHandler()).isSameAs(secondThread.getThreadGroup());
+	}
+
+	@Test
+	@DisplayName("executes invocation with context class loader of invoking thread")
+	void usesContextClassLoaderOfInvokingThread() throws Throwable {
+		var originalClassLoader = Thread.currentThread().getContextClassLoader();
+		try (var classLoader = new URLClassLoader(new URL[0], originalClassLoader)) {
+			awaitIdle(aSeparateThreadInvocation(Thread::currentThread).proceed());
+
+			Thread.currentThread().setContextClassLoader(classLoader);
+			var contextClassLoader = aSeparateThreadInvocation(
+				() -> Thread.currentThread().getContextClassLoader()).proceed();
+
+			assertThat(contextClassLoader).isSameAs(classLoader);
+		}
+		finally {
+			Thread.currentThread().setContextClassLoader(originalClassLoader);
+		}
+	}
+
+	@Test
+	@DisplayName("does not inherit inheritable thread-local values")
+	void doesNotInheritInheritableThreadLocalValues() throws Throwable {
+		var threadLocal = new InheritableThreadLocal<String>();
+		threadLocal.set("value");
+		try {
+			assertThat(aSeparateThreadInvocation(threadLocal::get).proceed()).isNull();
+		}
+		finally {
+			threadLocal.remove();
+		}
+	}
+
 	@Test
 	@DisplayName("throws invocation exception")
 	void shouldThrowInvocationException() {
@@ -71,15 +155,24 @@ class SeparateThreadTimeoutInvocationTests {
 				.hasMessage("hi!");
 	}
 
-	private static <T extends @Nullable Object> SeparateThreadTimeoutInvocation<T> aSeparateThreadInvocation(
+	/**
+	 * Wait until the supplied pooled thread waits for the next invocation.
+	 */
+	private static void awaitIdle(Thread thread) throws InterruptedException {
+		long deadline = System.nanoTime() + SECONDS.toNanos(10);
+		while (thread.getState() != Thread.State.TIMED_WAITING && System.nanoTime() < deadline) {
+			Thread.sleep(1);
+		}
+	}
+
+	private <T extends @Nullable Object> SeparateThreadTimeoutInvocation<T> aSeparateThreadInvocation(
 			Invocation<T> invocation) {
 		var namespace = ExtensionContext.Namespace.create(SeparateThreadTimeoutInvocationTests.class);
-		var store = new NamespaceAwareStore(new NamespacedHierarchicalStore<>(null),
-			Namespace.create(namespace.getParts()));
 		var parameters = new TimeoutInvocationParameters<>(invocation,
 			new TimeoutDuration(PREEMPTIVE_TIMEOUT_MILLIS, MILLISECONDS), () -> "method()",
 			PreInterruptCallbackInvocation.NOOP);
-		return (SeparateThreadTimeoutInvocation<T>) new TimeoutInvocationFactory(store) //
-				.create(ThreadMode.SEPARATE_THREAD, parameters);
+		return (SeparateThreadTimeoutInvocation<T>) new TimeoutInvocationFactory(
+			new NamespaceAwareStore(store, Namespace.create(namespace.getParts()))) //
+					.create(ThreadMode.SEPARATE_THREAD, parameters);
 	}
 }
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.extension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.testkit.engine.EventConditions.container;
+import static org.junit.platform.testkit.engine.EventConditions.event;
+import static org.junit.platform.testkit.engine.EventConditions.finishedWithFailure;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.message;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.StoreScope;
+import org.junit.jupiter.api.extension.SharedResource;
+import org.junit.jupiter.api.extension.SharedResourceFactory;
+import org.junit.jupiter.engine.AbstractJupiterTestEngineTests;
+
+/**
+ * Integration tests for {@link SharedResource @SharedResource} and
+ * {@link SharedResourceFactory}.
+ *
+ * @since 6.0
+ */
+class SharedResourceTests extends AbstractJupiterTestEngineTests {
+
+	@BeforeEach
+	void resetCounters() {
+		CountingFactory.instances.set(0);
+		FailingFactory.invocations.set(0);
+	}
+
+	@Test
+	void createsSharedResourceOnceForAllTestClasses() {
+		var results = executeTests(request -> request.selectors(selectClass(FirstTestCase.class),
+			selectClass(SecondTestCase.class)));
+
+		results.testEvents().assertStatistics(stats -> stats.started(2).succeeded(2));
+		assertThat(CountingFactory.instances).hasValue(1);
+	}
+
+	@Test
+	void failingFactoryOnlyFailsDependentTestClasses() {
+		var results = executeTests(request -> request.selectors(selectClass(FirstTestCase.class),
+			selectClass(FailingResourceTestCase.class), selectClass(AnotherFailingResourceTestCase.class)));
+
+		results.testEvents().assertStatistics(stats -> stats.started(1).succeeded(1));
+		results.containerEvents().assertThatEvents() //
+				.haveExactly(2, event(container(), finishedWithFailure(message("resource unavailable"))));
+		assertThat(FailingFactory.invocations).hasValue(1);
+	}
+
+	static class Resource {
+
+		final int id;
+
+		Resource(int id) {
+			this.id = id;
+		}
+	}
+
+	static class CountingFactory implements SharedResourceFactory<Resource> {
+
+		static final AtomicInteger instances = new AtomicInteger();
+
+		@Override
+		public Resource createResource() {
+			return new Resource(instances.incrementAndGet());
+		}
+	}
+
+	static class FailingFactory implements SharedResourceFactory<Resource> {
+
+		static final AtomicInteger invocations = new AtomicInteger();
+
+		@Override
+		public Resource createResource() {
+			invocations.incrementAndGet();
+			throw new IllegalStateException("resource unavailable");
+		}
+	}
+
+	private static Resource getResource(ExtensionContext context, Class<?> factoryClass) {
+		return context.getStore(StoreScope.LAUNCHER_SESSION, SharedResourceFactory.NAMESPACE) //
+				.get(factoryClass, Resource.class);
+	}
+
+	@SharedResource(CountingFactory.class)
+	static class FirstTestCase {
+
+		@Test
+		void test(ExtensionContext context) {
+			assertThat(getResource(context, CountingFactory.class)).isNotNull();
+		}
+	}
+
+	@SharedResource(CountingFactory.class)
+	static class SecondTestCase {
+
+		@Test
+		void test(ExtensionContext context) {
+			assertThat(getResource(context, CountingFactory.class).id).isEqualTo(1);
+		}
+	}
+
+	@SharedResource(FailingFactory.class)
+	static class FailingResourceTestCase {
+
+		@BeforeAll
+		static void beforeAll() {
+			throw new AssertionError("should not be called");
+		}
+
+		@Test
+		void test() {
+		}
+	}
+
+	@SharedResource(FailingFactory.class)
+	static class AnotherFailingResourceTestCase {
+
+		@Test
+		void test() {
+		}
+	}
+
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.stream.Stream;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.engine.AbstractJupiterTestEngineTests;
+import org.junit.jupiter.engine.Constants;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.platform.commons.PreconditionViolationException;
+import org.junit.platform.commons.util.ReflectionUtils;
+
+/**
+ * Tests for {@link MethodInvocationStrategy}.
+ *
+ * @since 6.0
+ */
+class MethodInvocationStrategyTests extends AbstractJupiterTestEngineTests {
+
+	private final Target target = new Target();
+
+	@Test
+	void invokesInstanceMethodViaMethodHandle() {
+		var result = invoke("concat", target, "foo", 42);
+
+		assertThat(result).isEqualTo("foo42");
+	}
+
+	@Test
+	void invokesStaticMethodViaMethodHandle() {
+		var result = invoke("staticNegate", null, true);
+
+		assertThat(result).isEqualTo(false);
+	}
+
+	@Test
+	void invokesPrivateVoidMethodViaMethodHandle() {
+		var result = invoke("increment", target);
+
+		assertThat(result).isNull();
+		assertThat(target.counter).isEqualTo(1);
+	}
+
+	@Test
+	void invokesVarargsMethodWithFixedArity() {
+		var result = invoke("join", target, (Object) new String[] { "a", "b" });
+
+		assertThat(result).isEqualTo("ab");
+	}
+
+	@Test
+	void rethrowsExceptionThrownByMethodUnwrapped() {
+		var exception = assertThrows(IOException.class, () -> invoke("fail", target));
+
+		assertThat(exception).hasMessage("boom");
+	}
+
+	@Test
+	void rejectsNullTargetForInstanceMethod() {
+		var exception = assertThrows(PreconditionViolationException.class, () -> invoke("increment", null));
+
+		assertThat(exception).hasMessageContaining("on a null target");
+	}
+
+	@Test
+	void executesTestClassWithMethodHandlesStrategy() {
+		var results = executeTests(request -> request //
+				.selectors(selectClass(MethodHandlesTestCase.class)) //
+				.configurationParameter(Constants.METHOD_INVOCATION_STRATEGY_PROPERTY_NAME, "method_handles"));
+
+		results.testEvents().assertStatistics(stats -> stats.started(8).succeeded(7).failed(1));
+	}
+
+	private static @Nullable Object invoke(String methodName, @Nullable Object target, @Nullable Object... args) {
+		Method method = ReflectionUtils.findMethods(Target.class, m -> m.getName().equals(methodName)).get(0);
+		return MethodInvocationStrategy.METHOD_HANDLES.invoke(method, target, args);
+	}
+
+	@SuppressWarnings("unused")
+	static class Target {
+
+		int counter;
+
+		String concat(String prefix, int suffix) {
+			return prefix + suffix;
+		}
+
+		static boolean staticNegate(boolean value) {
+			return !value;
+		}
+
+		private void increment() {
+			counter++;
+		}
+
+		String join(String... parts) {
+			return String.join("", parts);
+		}
+
+		void fail() throws IOException {
+			throw new IOException("boom");
+		}
+	}
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	static class MethodHandlesTestCase {
+
+		private int counter;
+
+		@BeforeEach
+		void increment() {
+			counter++;
+		}
+
+		@Test
+		void test(TestInfo testInfo) {
+			assertThat(counter).isEqualTo(1);
+			assertThat(testInfo.getTestMethod()).isPresent();
+		}
+
+		@RepeatedTest(3)
+		void repeated() {
+			assertThat(counter).isEqualTo(1);
+		}
+
+		@ParameterizedTest
+		@ValueSource(ints = { 1, 2 })
+		void parameterized(int value) {
+			assertThat(value).isPositive();
+		}
+
+		@Test
+		void failing() {
+			throw new AssertionError("expected");
+		}
+
+		@TestFactory
+		Stream<DynamicTest> factory() {
+			return Stream.of(dynamicTest("dynamic", () -> {
+			}));
+		}
+	}
+
+}
@@ -21,6 +21,7 @@ import static org.junit.platform.commons.test.ConcurrencyTestingUtils.executeCon
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.lang.module.ModuleFinder;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -532,6 +533,38 @@ class DefaultClasspathScannerTests {
 		assertThat(classes).isEmpty();
 	}
 
+	@Test
+	void reusesClassFilesOfScannedRootsWhileScanResultsAreCached(@TempDir Path tempDir) throws Exception {
+		List<String> requestedClassNames = new ArrayList<>();
+		var scanner = new DefaultClasspathScanner(ClassLoaderUtils::getDefaultClassLoader, (name, classLoader) -> {
+			requestedClassNames.add(name);
+			return Try.failure(new ClassNotFoundException(name));
+		});
+		Files.createFile(tempDir.resolve("First.class"));
+
+		DefaultClasspathScanner.withCachedScanResults(() -> {
+			scanner.scanForClassesInClasspathRoot(tempDir.toUri(), allClasses);
+			createFile(tempDir.resolve("Second.class"));
+			return scanner.scanForClassesInClasspathRoot(tempDir.toUri(), allClasses);
+		});
+
+		assertThat(requestedClassNames).containsExactly("First", "First");
+
+		requestedClassNames.clear();
+		scanner.scanForClassesInClasspathRoot(tempDir.toUri(), allClasses);
+
+		assertThat(requestedClassNames).containsExactlyInAnyOrder("First", "Second");
+	}
+
+	private static void createFile(Path file) {
+		try {
+			Files.createFile(file);
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
 	private boolean inDefaultPackage(Class<?> clazz) {
 		// OpenJDK returns NULL for the default package.
 		var pkg = clazz.getPackage();
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.support.scanning;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @since 6.0
+ */
+class JarEntryIndexTests {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void findsDirectoryOfJarUris() throws Exception {
+		var jarFile = tempDir.resolve("folder with spaces/test.jar");
+
+		assertThat(JarEntryIndex.findDirectory(jarFile.toUri())) //
+				.contains(new JarEntryIndex.Directory(jarFile, ""));
+		assertThat(JarEntryIndex.findDirectory(URI.create("jar:" + jarFile.toUri() + "!/"))) //
+				.contains(new JarEntryIndex.Directory(jarFile, ""));
+		assertThat(JarEntryIndex.findDirectory(URI.create("jar:" + jarFile.toUri() + "!/org/example"))) //
+				.contains(new JarEntryIndex.Directory(jarFile, "org/example/"));
+	}
+
+	@Test
+	void ignoresUrisOfDirectoriesAndNestedJars() {
+		assertThat(JarEntryIndex.findDirectory(tempDir.toUri())).isEmpty();
+		assertThat(JarEntryIndex.findDirectory(URI.create("jar:file:/outer.jar!/lib/inner.jar!/"))).isEmpty();
+		assertThat(JarEntryIndex.findDirectory(URI.create("jar:nested:/outer.jar/!lib/inner.jar!/"))).isEmpty();
+	}
+
+	@Test
+	void listsClassFilesInDirectoryAndSubdirectories() throws Exception {
+		var jarFile = createJar("a.jar", "org/", "org/example/", "org/example/Foo.class",
+			"org/example/package-info.class", "org/example/sub/Bar.class", "org/example/sub/bar.txt",
+			"org/examples/Baz.class", "module-info.class", "Root.class");
+
+		var index = JarEntryIndex.get(jarFile);
+
+		assertThat(classFiles(index, "org/example/")) //
+				.containsExactly("org/example/Foo.class", "org/example/sub/Bar.class");
+		assertThat(classFiles(index, "")) //
+				.containsExactly("Root.class", "org/example/Foo.class", "org/example/sub/Bar.class",
+					"org/examples/Baz.class");
+		assertThat(index.containsDirectory("org/example/sub/")).isTrue();
+		assertThat(index.containsDirectory("org/exam/")).isFalse();
+		assertThat(index.containsDirectory("")).isTrue();
+	}
+
+	@Test
+	void reusesIndexUntilJarFileChanges() throws Exception {
+		var jarFile = createJar("b.jar", "Foo.class");
+
+		var index = JarEntryIndex.get(jarFile);
+		assertThat(JarEntryIndex.get(jarFile)).isSameAs(index);
+
+		createJar("b.jar", "Foo.class", "Bar.class");
+		Files.setLastModifiedTime(jarFile, FileTime.from(Instant.now().plusSeconds(60)));
+
+		var updatedIndex = JarEntryIndex.get(jarFile);
+		assertThat(updatedIndex).isNotSameAs(index);
+		assertThat(classFiles(updatedIndex, "")).containsExactly("Bar.class", "Foo.class");
+	}
+
+	private Path createJar(String fileName, String... entryNames) throws IOException {
+		var jarFile = tempDir.resolve(fileName);
+		try (var out = new JarOutputStream(Files.newOutputStream(jarFile))) {
+			for (var entryName : entryNames) {
+				out.putNextEntry(new ZipEntry(entryName));
+				out.closeEntry();
+			}
+		}
+		return jarFile;
+	}
+
+	private static List<String> classFiles(JarEntryIndex index, String directoryName) {
+		List<String> classFiles = new ArrayList<>();
+		index.forEachClassFile(directoryName, classFiles::add);
+		return classFiles;
+	}
+
+}
@@ -10,9 +10,16 @@
 
 package org.junit.platform.commons.util;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.lang.module.ModuleDescriptor;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+
 import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.support.scanning.ClassFilter;
 
 /**
  * Unit tests for {@link ModuleUtils}.
@@ -34,4 +41,31 @@ class ModuleUtilsTests {
 		assertEquals(expected, ModuleUtils.isJavaPlatformModuleSystemAvailable());
 	}
 
+	@Test
+	void findsClassesInModulesAndAppliesClassPredicateOnCallingThread() {
+		Set<Thread> predicateThreads = new CopyOnWriteArraySet<>();
+		var filter = ClassFilter.of(name -> name.startsWith("java.lang.") && name.contains("Module"), clazz -> {
+			predicateThreads.add(Thread.currentThread());
+			return !clazz.isInterface();
+		});
+
+		var classes = ModuleUtils.findAllClassesInModules(List.of("java.base", "java.logging", "unknown.module"),
+			filter);
+
+		assertThat(classes).containsOnlyKeys("java.base", "java.logging", "unknown.module");
+		assertThat(classes.get("java.base")).contains(Module.class, ModuleDescriptor.class, ModuleLayer.class);
+		assertThat(classes.get("java.logging")).isEmpty();
+		assertThat(classes.get("unknown.module")).isEmpty();
+		assertThat(predicateThreads).containsExactly(Thread.currentThread());
+	}
+
+	@Test
+	void findsSameClassesInSingleModule() {
+		var filter = ClassFilter.of(name -> name.startsWith("java.util."), clazz -> true);
+
+		assertThat(ModuleUtils.findAllClassesInModule("java.base", filter)) //
+				.containsExactlyElementsOf(ModuleUtils.findAllClassesInModules(List.of("java.base"), filter).get(
+					"java.base"));
+	}
+
 }
@@ -550,6 +550,22 @@ class CommandLineOptionsParsingTests {
 		assertOptionWithMissingRequiredArgumentThrowsException("--uid", "--select-unique-id");
 	}
 
+	@ParameterizedTest
+	@EnumSource
+	void parseValidFailedTestsJournal(ArgsType type) {
+		// @formatter:off
+		assertAll(
+			() -> assertNull(type.parseArgLine("").discovery.getFailedTestsJournal()),
+			() -> assertEquals(Path.of("failed.txt"), type.parseArgLine("--rerun-failed failed.txt").discovery.getFailedTestsJournal())
+		);
+		// @formatter:on
+	}
+
+	@Test
+	void parseInvalidFailedTestsJournal() {
+		assertOptionWithMissingRequiredArgumentThrowsException("--rerun-failed");
+	}
+
 	@ParameterizedTest
 	@EnumSource
 	void parseClasspathScanningEntries(ArgsType type) {
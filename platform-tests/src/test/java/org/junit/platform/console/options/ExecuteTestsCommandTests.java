@@ -106,6 +106,17 @@ class ExecuteTestsCommandTests {
 		// @formatter:on
 	}
 
+	@Test
+	void parseValidClassDataArchive() {
+		var file = Path.of("build", "junit.jsa");
+		// @formatter:off
+		assertAll(
+				() -> assertEquals(Optional.empty(), parseArgs().getClassDataArchive()),
+				() -> assertEquals(Optional.of(file), parseArgs("--class-data-archive", "build/junit.jsa").getClassDataArchive())
+		);
+		// @formatter:on
+	}
+
 	private ExecuteTestsCommand parseArgs(String... args) {
 		command.parseArgs(args);
 		return command;
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console.tasks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.JUnitException;
+
+/**
+ * @since 6.0
+ */
+class ClassDataSharingArchiveTests {
+
+	private final Path file = Path.of("build", "junit.jsa").toAbsolutePath();
+	private final List<Path> dumpedFiles = new ArrayList<>();
+	private final AtomicBoolean dumped = new AtomicBoolean();
+	private final StringWriter out = new StringWriter();
+
+	@Test
+	void dumpsArchiveWhenDynamicDumpInfoIsRecorded() {
+		dumpIfNecessary("-XX:+RecordDynamicDumpInfo");
+
+		assertThat(dumpedFiles).containsExactly(file);
+		assertThat(out.toString()).contains("Created class data sharing archive",
+			"-XX:SharedArchiveFile=" + file);
+	}
+
+	@Test
+	void dumpsArchiveOnlyOncePerJvm() {
+		dumpIfNecessary("-XX:+RecordDynamicDumpInfo");
+		dumpIfNecessary("-XX:+RecordDynamicDumpInfo");
+
+		assertThat(dumpedFiles).containsExactly(file);
+	}
+
+	@Test
+	void doesNotDumpArchiveThatIsAlreadyInUse() {
+		dumpIfNecessary("-XX:+RecordDynamicDumpInfo", "-XX:SharedArchiveFile=build/junit.jsa");
+
+		assertThat(dumpedFiles).isEmpty();
+		assertThat(out.toString()).isEmpty();
+	}
+
+	@Test
+	void doesNotDumpArchiveThatIsCreatedOnExit() {
+		dumpIfNecessary("-XX:ArchiveClassesAtExit=" + file);
+
+		assertThat(dumpedFiles).isEmpty();
+		assertThat(out.toString()).contains("will be written to " + file + " on exit");
+	}
+
+	@Test
+	void printsRequiredJvmOptionsIfArchiveCannotBeCreated() {
+		dumpIfNecessary("-Xmx1g");
+
+		assertThat(dumpedFiles).isEmpty();
+		assertThat(out.toString()).contains("Cannot create class data sharing archive",
+			"-XX:ArchiveClassesAtExit=" + file, "-XX:+RecordDynamicDumpInfo");
+	}
+
+	@Test
+	void printsWarningInsteadOfFailingIfArchiveCannotBeDumped() {
+		new ClassDataSharingArchive(file, List.of("-XX:+RecordDynamicDumpInfo"), archiveFile -> {
+			throw new JUnitException("Failed", new IllegalStateException("not supported"));
+		}, dumped).dumpIfNecessary(new PrintWriter(out));
+
+		assertThat(out.toString()) //
+				.startsWith("WARNING: Failed to create class data sharing archive " + file) //
+				.contains("not supported") //
+				.doesNotContain("-XX:SharedArchiveFile=");
+	}
+
+	@Test
+	void printsMessageIfManagementModuleIsNotAvailable() {
+		new ClassDataSharingArchive(file, null, dumpedFiles::add, dumped).dumpIfNecessary(new PrintWriter(out));
+
+		assertThat(dumpedFiles).isEmpty();
+		assertThat(out.toString()).contains("java.management module is not available");
+	}
+
+	private void dumpIfNecessary(String... inputArguments) {
+		new ClassDataSharingArchive(file, List.of(inputArguments), dumpedFiles::add, dumped) //
+				.dumpIfNecessary(new PrintWriter(out));
+	}
+
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console.tasks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @since 6.0
+ */
+@Timeout(10)
+class ConsoleDaemonTests {
+
+	private final StringWriter out = new StringWriter();
+	private final StringWriter err = new StringWriter();
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void forwardsArgumentsOutputAndExitCodesOfRequests() throws Exception {
+		List<List<String>> requests = new CopyOnWriteArrayList<>();
+
+		try (var daemon = ConsoleDaemon.bind(0)) {
+			var token = writeToken(daemon);
+			var serving = serveInBackground(daemon, (args, requestOut, requestErr) -> {
+				requests.add(List.of(args));
+				requestOut.print("x".repeat(10_000));
+				requestErr.println("warning");
+				return args.length;
+			});
+
+			var firstExitCode = ConsoleDaemon.run(daemon.getPort(), token,
+				new String[] { "execute", "--scan-classpath" }, new PrintWriter(out), new PrintWriter(err));
+			var secondExitCode = ConsoleDaemon.run(daemon.getPort(), token, new String[] { "engines" },
+				new PrintWriter(new StringWriter()), new PrintWriter(new StringWriter()));
+			ConsoleDaemon.stop(daemon.getPort(), token, new PrintWriter(new StringWriter()));
+
+			serving.get(5, TimeUnit.SECONDS);
+			assertThat(firstExitCode).isEqualTo(2);
+			assertThat(secondExitCode).isEqualTo(1);
+		}
+
+		assertThat(requests).containsExactly(List.of("execute", "--scan-classpath"), List.of("engines"));
+		assertThat(out.toString()).isEqualTo("x".repeat(10_000));
+		assertThat(err.toString()).isEqualToIgnoringNewLines("warning");
+	}
+
+	@Test
+	void forwardsStandardStreamsWrittenWhileHandlingRequests() throws Exception {
+		try (var daemon = ConsoleDaemon.bind(0)) {
+			var token = writeToken(daemon);
+			var serving = serveInBackground(daemon, (args, requestOut, requestErr) -> {
+				System.out.print("output of t\u00e9st");
+				System.err.println("error of test");
+				return 0;
+			});
+
+			var exitCode = ConsoleDaemon.run(daemon.getPort(), token, new String[] { "execute" },
+				new PrintWriter(out), new PrintWriter(err));
+			ConsoleDaemon.stop(daemon.getPort(), token, new PrintWriter(new StringWriter()));
+
+			serving.get(5, TimeUnit.SECONDS);
+			assertThat(exitCode).isZero();
+		}
+
+		assertThat(out.toString()).isEqualTo("output of t\u00e9st");
+		assertThat(err.toString()).isEqualToIgnoringNewLines("error of test");
+	}
+
+	@Test
+	void rejectsRequestsWithInvalidToken() throws Exception {
+		List<List<String>> requests = new CopyOnWriteArrayList<>();
+
+		try (var daemon = ConsoleDaemon.bind(0)) {
+			var token = writeToken(daemon);
+			var serving = serveInBackground(daemon, (args, requestOut, requestErr) -> {
+				requests.add(List.of(args));
+				return 0;
+			});
+
+			var rejectedExitCode = ConsoleDaemon.run(daemon.getPort(), "invalid", new String[] { "engines" },
+				new PrintWriter(out), new PrintWriter(err));
+			var rejectedStopExitCode = ConsoleDaemon.stop(daemon.getPort(), "invalid",
+				new PrintWriter(new StringWriter()));
+			var acceptedExitCode = ConsoleDaemon.run(daemon.getPort(), token, new String[] { "engines" },
+				new PrintWriter(new StringWriter()), new PrintWriter(new StringWriter()));
+			ConsoleDaemon.stop(daemon.getPort(), token, new PrintWriter(new StringWriter()));
+
+			serving.get(5, TimeUnit.SECONDS);
+			assertThat(rejectedExitCode).isEqualTo(-1);
+			assertThat(rejectedStopExitCode).isEqualTo(-1);
+			assertThat(acceptedExitCode).isZero();
+		}
+
+		assertThat(requests).containsExactly(List.of("engines"));
+		assertThat(out.toString()).isEmpty();
+		assertThat(err.toString()).isEqualToIgnoringNewLines("Invalid daemon token");
+	}
+
+	@Test
+	void keepsServingAfterInvalidRequests() throws Exception {
+		List<List<String>> requests = new CopyOnWriteArrayList<>();
+
+		try (var daemon = ConsoleDaemon.bind(0)) {
+			var token = writeToken(daemon);
+			var serving = serveInBackground(daemon, (args, requestOut, requestErr) -> {
+				if ("fail".equals(args[0])) {
+					throw new IllegalStateException("request handler failure");
+				}
+				requests.add(List.of(args));
+				return 0;
+			});
+
+			var unknownCommandErr = new StringBuilder();
+			int unknownCommandExitCode;
+			try (var socket = new Socket(InetAddress.getLoopbackAddress(), daemon.getPort())) {
+				var request = new DataOutputStream(socket.getOutputStream());
+				request.writeUTF(token);
+				request.writeUTF("bogus");
+				request.flush();
+				unknownCommandExitCode = readResponse(new DataInputStream(socket.getInputStream()), unknownCommandErr);
+			}
+			try (var socket = new Socket(InetAddress.getLoopbackAddress(), daemon.getPort())) {
+				// disconnect before sending a complete request
+				new DataOutputStream(socket.getOutputStream()).writeUTF(token);
+			}
+			var failedExitCode = ConsoleDaemon.run(daemon.getPort(), token, new String[] { "fail" },
+				new PrintWriter(out), new PrintWriter(err));
+			var exitCode = ConsoleDaemon.run(daemon.getPort(), token, new String[] { "engines" },
+				new PrintWriter(new StringWriter()), new PrintWriter(new StringWriter()));
+			ConsoleDaemon.stop(daemon.getPort(), token, new PrintWriter(new StringWriter()));
+
+			serving.get(5, TimeUnit.SECONDS);
+			assertThat(unknownCommandExitCode).isEqualTo(-1);
+			assertThat(unknownCommandErr.toString()).isEqualToIgnoringNewLines("Unknown daemon command: bogus");
+			assertThat(failedExitCode).isEqualTo(-1);
+			assertThat(err.toString()).contains("request handler failure");
+			assertThat(exitCode).isZero();
+		}
+
+		assertThat(requests).containsExactly(List.of("engines"));
+	}
+
+	@Test
+	@DisabledOnOs(OS.WINDOWS)
+	void writesTokenFileOnlyAccessibleByOwnerAndDeletesItOnClose() throws Exception {
+		var tokenFile = tempDir.resolve("daemon").resolve("daemon.token");
+
+		try (var daemon = ConsoleDaemon.bind(0)) {
+			daemon.writeTokenFile(tokenFile);
+
+			assertThat(ConsoleDaemon.readTokenFile(tokenFile)).hasSize(64);
+			assertThat(Files.getPosixFilePermissions(tokenFile)) //
+					.isEqualTo(PosixFilePermissions.fromString("rw-------"));
+			assertThat(Files.getPosixFilePermissions(tokenFile.getParent())) //
+					.isEqualTo(PosixFilePermissions.fromString("rwx------"));
+		}
+
+		assertThat(tokenFile).doesNotExist();
+	}
+
+	private static CompletableFuture<Void> serveInBackground(ConsoleDaemon daemon,
+			ConsoleDaemon.RequestHandler requestHandler) {
+		return CompletableFuture.runAsync(() -> {
+			try {
+				daemon.serve(requestHandler);
+			}
+			catch (Exception ex) {
+				throw new RuntimeException(ex);
+			}
+		});
+	}
+
+	private static int readResponse(DataInputStream response, StringBuilder err) throws Exception {
+		while (true) {
+			byte frameType = response.readByte();
+			if (frameType == 0) {
+				return response.readInt();
+			}
+			String text = response.readUTF();
+			if (frameType == 2) {
+				err.append(text);
+			}
+		}
+	}
+
+	private String writeToken(ConsoleDaemon daemon) throws Exception {
+		var tokenFile = tempDir.resolve("daemon.token");
+		daemon.writeTokenFile(tokenFile);
+		return ConsoleDaemon.readTokenFile(tokenFile);
+	}
+
+}
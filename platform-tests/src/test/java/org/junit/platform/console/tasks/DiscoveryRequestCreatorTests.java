@@ -27,6 +27,7 @@ import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUri;
 
 import java.io.File;
 import java.net.URI;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
@@ -34,8 +35,10 @@ import java.util.Map.Entry;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.platform.commons.PreconditionViolationException;
 import org.junit.platform.console.options.TestDiscoveryOptions;
+import org.junit.platform.engine.DiscoverySelector;
 import org.junit.platform.engine.Filter;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.discovery.ClassNameFilter;
@@ -111,6 +114,28 @@ class DiscoveryRequestCreatorTests {
 		assertThat(cause).hasMessageContaining("not supported");
 	}
 
+	@Test
+	void convertsFailedTestsJournalOption(@TempDir Path tempDir) throws Exception {
+		var journalFile = Files.writeString(tempDir.resolve("failed.txt"),
+			"[engine:junit-jupiter]/[class:SomeTest]/[method:test()]\n");
+		options.setFailedTestsJournal(journalFile);
+
+		var request = convert();
+
+		assertThat(request.getSelectorsByType(DiscoverySelector.class)).containsExactly(
+			selectUniqueId("[engine:junit-jupiter]/[class:SomeTest]/[method:test()]"));
+	}
+
+	@Test
+	void doesNotSupportFailedTestsJournalAndExplicitSelectors() {
+		options.setFailedTestsJournal(Path.of("failed.txt"));
+		options.setSelectedClasses(List.of(selectClass("SomeTest")));
+
+		Throwable cause = assertThrows(PreconditionViolationException.class, this::convert);
+
+		assertThat(cause).hasMessageContaining("not supported");
+	}
+
 	@Test
 	void convertsDefaultIncludeClassNamePatternOption() {
 		options.setScanClasspath(true);
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console.tasks;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @since 6.0
+ */
+class ReusableClassLoadersTests {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void returnsEmptyOptionalWithoutClasspathEntries() {
+		try (var classLoaders = new ReusableClassLoaders()) {
+			assertThat(classLoaders.getClassLoader(List.of())).isEmpty();
+		}
+	}
+
+	@Test
+	void reusesClassLoaderWhileClasspathEntriesAreUnchanged() throws Exception {
+		var jar = Files.writeString(tempDir.resolve("dependency.jar"), "jar");
+		var classes = Files.createDirectory(tempDir.resolve("classes"));
+
+		try (var classLoaders = new ReusableClassLoaders()) {
+			var first = classLoaders.getClassLoader(List.of(jar, classes)).orElseThrow();
+			var second = classLoaders.getClassLoader(List.of(jar, classes)).orElseThrow();
+
+			assertThat(second).isSameAs(first);
+		}
+	}
+
+	@Test
+	void replacesOnlyOutputDirectoryClassLoaderWhenDirectoryChanges() throws Exception {
+		var jar = Files.writeString(tempDir.resolve("dependency.jar"), "jar");
+		var classes = Files.createDirectory(tempDir.resolve("classes"));
+
+		try (var classLoaders = new ReusableClassLoaders()) {
+			var first = classLoaders.getClassLoader(List.of(jar, classes)).orElseThrow();
+			Files.writeString(classes.resolve("Foo.class"), "changed");
+			var second = classLoaders.getClassLoader(List.of(jar, classes)).orElseThrow();
+
+			assertThat(second).isNotSameAs(first);
+			assertThat(second.getParent()).isSameAs(first.getParent());
+		}
+	}
+
+	@Test
+	void replacesAllClassLoadersWhenDependenciesChange() throws Exception {
+		var jar = Files.writeString(tempDir.resolve("dependency.jar"), "jar");
+		var classes = Files.createDirectory(tempDir.resolve("classes"));
+
+		try (var classLoaders = new ReusableClassLoaders()) {
+			var first = classLoaders.getClassLoader(List.of(jar, classes)).orElseThrow();
+			Files.writeString(jar, "modified jar");
+			var second = classLoaders.getClassLoader(List.of(jar, classes)).orElseThrow();
+
+			assertThat(second).isNotSameAs(first);
+			assertThat(second.getParent()).isNotSameAs(first.getParent());
+		}
+	}
+
+	@Test
+	void looksUpResourcesInOrderOfClasspathEntries() throws Exception {
+		var classes = Files.createDirectory(tempDir.resolve("classes"));
+		Files.writeString(classes.resolve("resource.txt"), "classes");
+		var jar = createJar(tempDir.resolve("dependency.jar"), "resource.txt", "jar");
+
+		try (var classLoaders = new ReusableClassLoaders()) {
+			var directoryFirst = classLoaders.getClassLoader(List.of(classes, jar)).orElseThrow();
+			assertThat(readResource(directoryFirst, "resource.txt")).isEqualTo("classes");
+
+			var jarFirst = classLoaders.getClassLoader(List.of(jar, classes)).orElseThrow();
+			assertThat(readResource(jarFirst, "resource.txt")).isEqualTo("jar");
+		}
+	}
+
+	private static Path createJar(Path file, String entryName, String content) throws Exception {
+		try (var jar = new JarOutputStream(Files.newOutputStream(file))) {
+			jar.putNextEntry(new JarEntry(entryName));
+			jar.write(content.getBytes(UTF_8));
+			jar.closeEntry();
+		}
+		return file;
+	}
+
+	private static String readResource(ClassLoader classLoader, String name) throws Exception {
+		try (var resource = classLoader.getResourceAsStream(name)) {
+			return new String(requireNonNull(resource).readAllBytes(), UTF_8);
+		}
+	}
+
+}
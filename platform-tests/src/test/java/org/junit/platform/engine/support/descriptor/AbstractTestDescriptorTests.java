@@ -19,6 +19,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -162,6 +163,33 @@ class AbstractTestDescriptorTests implements TestDescriptorOrderChildrenTests {
 			UniqueId.forEngine("testEngine"));
 	}
 
+	@Test
+	void findByUniqueIdInTreeWithUnrelatedUniqueIds() {
+		assertThat(engineDescriptor.findByUniqueId(UniqueId.root("leaf", "leaf11-1"))).containsSame(leaf111);
+		assertThat(engineDescriptor.findByUniqueId(UniqueId.root("group", "group1"))).containsSame(group1);
+		assertThat(engineDescriptor.findByUniqueId(engineDescriptor.getUniqueId())).containsSame(engineDescriptor);
+		assertThat(engineDescriptor.findByUniqueId(UniqueId.root("leaf", "unknown"))).isEmpty();
+	}
+
+	@Test
+	void findByUniqueIdSearchesDescendantsWithMatchingPrefixFirst() {
+		List<UniqueId> searched = new ArrayList<>();
+		var engineId = UniqueId.forEngine("engine");
+		var engine = new EngineDescriptor(engineId, "engine");
+		for (int i = 0; i < 10; i++) {
+			var groupId = engineId.append("group", String.valueOf(i));
+			var group = new SearchRecordingDescriptor(groupId, searched);
+			engine.addChild(group);
+			for (int j = 0; j < 10; j++) {
+				group.addChild(new SearchRecordingDescriptor(groupId.append("leaf", String.valueOf(j)), searched));
+			}
+		}
+		var targetId = engineId.append("group", "7").append("leaf", "3");
+
+		assertThat(engine.findByUniqueId(targetId)).map(TestDescriptor::getUniqueId).contains(targetId);
+		assertThat(searched).containsExactly(engineId.append("group", "7"), targetId);
+	}
+
 	private List<UniqueId> getAncestorsUniqueIds(TestDescriptor descriptor) {
 		return descriptor.getAncestors().stream().map(TestDescriptor::getUniqueId).toList();
 	}
@@ -193,3 +221,25 @@ class LeafDescriptor extends AbstractTestDescriptor {
 	}
 
 }
+
+class SearchRecordingDescriptor extends AbstractTestDescriptor {
+
+	private final List<UniqueId> searched;
+
+	SearchRecordingDescriptor(UniqueId uniqueId, List<UniqueId> searched) {
+		super(uniqueId, uniqueId.toString());
+		this.searched = searched;
+	}
+
+	@Override
+	public Type getType() {
+		return getChildren().isEmpty() ? Type.TEST : Type.CONTAINER;
+	}
+
+	@Override
+	public Optional<? extends TestDescriptor> findByUniqueId(UniqueId uniqueId) {
+		searched.add(getUniqueId());
+		return super.findByUniqueId(uniqueId);
+	}
+
+}
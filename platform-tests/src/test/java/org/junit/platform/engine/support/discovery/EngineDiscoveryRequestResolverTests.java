@@ -10,14 +10,24 @@
 
 package org.junit.platform.engine.support.discovery;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.platform.engine.DiscoveryIssue.Severity.INFO;
 import static org.junit.platform.engine.DiscoveryIssue.Severity.WARNING;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectModule;
 import static org.junit.platform.engine.support.discovery.SelectorResolver.Resolution.unresolved;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
 import org.junit.jupiter.api.Test;
 import org.junit.platform.engine.DiscoveryIssue;
 import org.junit.platform.engine.UniqueId;
@@ -79,4 +89,55 @@ public class EngineDiscoveryRequestResolverTests {
 		verify(listener).issueEncountered(engineId, DiscoveryIssue.create(WARNING, "Engine"));
 	}
 
+	@Test
+	void reportsSelectorResolverInvocations() {
+		var selectorResolver = new SelectorResolver() {
+			@Override
+			public Resolution resolve(ClassSelector selector, Context context) {
+				return unresolved();
+			}
+		};
+		var resolver = EngineDiscoveryRequestResolver.builder() //
+				.addSelectorResolver(selectorResolver) //
+				.build();
+
+		var engineId = UniqueId.forEngine("engine");
+		var engineDescriptor = new EngineDescriptor(engineId, "Engine");
+		var listener = mock(LauncherDiscoveryListener.class);
+		var selector = selectClass(EngineDiscoveryRequestResolverTests.class);
+		var request = request() //
+				.selectors(selector) //
+				.listeners(listener) //
+				.build();
+
+		resolver.resolve(request, engineDescriptor);
+
+		verify(listener).selectorResolverInvoked(eq(engineId), eq(selector), eq(selectorResolver.getClass()),
+			any(Duration.class));
+	}
+
+	@Test
+	void resolvesClassesInAllSelectedModules() {
+		List<Class<?>> resolvedClasses = new ArrayList<>();
+		var resolver = EngineDiscoveryRequestResolver.builder() //
+				.addClassContainerSelectorResolver(clazz -> clazz == Optional.class || clazz == Logger.class) //
+				.addSelectorResolver(new SelectorResolver() {
+					@Override
+					public Resolution resolve(ClassSelector selector, Context context) {
+						resolvedClasses.add(selector.getJavaClass());
+						return unresolved();
+					}
+				}) //
+				.build();
+
+		var engineDescriptor = new EngineDescriptor(UniqueId.forEngine("engine"), "Engine");
+		var request = request() //
+				.selectors(selectModule("java.base"), selectModule("java.logging")) //
+				.build();
+
+		resolver.resolve(request, engineDescriptor);
+
+		assertThat(resolvedClasses).containsExactlyInAnyOrder(Optional.class, Logger.class);
+	}
+
 }
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.support.hierarchical.AdaptiveParallelismController.computeParallelism;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.support.hierarchical.AdaptiveParallelismController.Sample;
+
+/**
+ * @since 6.0
+ */
+class AdaptiveParallelismControllerTests {
+
+	private static final int MIN_PARALLELISM = 2;
+	private static final int MAX_PARALLELISM = 32;
+	private static final int AVAILABLE_PROCESSORS = 8;
+
+	@Test
+	void increasesParallelismWhenWorkersAreBusyAndCpuIsUnderutilized() {
+		assertThat(compute(8, new Sample(0.3, 8, 10))).isEqualTo(10);
+		assertThat(compute(2, new Sample(0.1, 2, 1))).isEqualTo(3);
+	}
+
+	@Test
+	void doesNotIncreaseParallelismBeyondMaximum() {
+		assertThat(compute(30, new Sample(0.3, 30, 10))).isEqualTo(MAX_PARALLELISM);
+		assertThat(compute(MAX_PARALLELISM, new Sample(0.3, 40, 10))).isEqualTo(MAX_PARALLELISM);
+	}
+
+	@Test
+	void keepsParallelismWhenNoTasksAreQueuedOrWorkersAreIdle() {
+		assertThat(compute(8, new Sample(0.3, 8, 0))).isEqualTo(8);
+		assertThat(compute(8, new Sample(0.3, 5, 10))).isEqualTo(8);
+		assertThat(compute(8, new Sample(0.8, 8, 10))).isEqualTo(8);
+	}
+
+	@Test
+	void decreasesParallelismWhenCpuIsSaturated() {
+		assertThat(compute(16, new Sample(0.99, 16, 10))).isEqualTo(12);
+		assertThat(compute(9, new Sample(0.99, 9, 10))).isEqualTo(AVAILABLE_PROCESSORS);
+	}
+
+	@Test
+	void doesNotDecreaseParallelismBelowAvailableProcessorsOrMinimum() {
+		assertThat(compute(AVAILABLE_PROCESSORS, new Sample(1.0, 8, 10))).isEqualTo(AVAILABLE_PROCESSORS);
+		assertThat(computeParallelism(12, new Sample(1.0, 12, 10), 12, MAX_PARALLELISM,
+			AVAILABLE_PROCESSORS)).isEqualTo(12);
+	}
+
+	private static int compute(int currentParallelism, Sample sample) {
+		return computeParallelism(currentParallelism, sample, MIN_PARALLELISM, MAX_PARALLELISM, AVAILABLE_PROCESSORS);
+	}
+
+}
@@ -15,6 +15,7 @@ import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
@@ -56,6 +57,40 @@ class CompositeLockTests {
 		inOrder.verify(lock1).unlock();
 	}
 
+	@Test
+	@SuppressWarnings("resource")
+	void acquiresAvailableLocksWithoutBlocking() throws Exception {
+		var lock1 = mock(Lock.class);
+		var lock2 = mock(Lock.class);
+		when(lock1.tryLock()).thenReturn(true);
+		when(lock2.tryLock()).thenReturn(true);
+
+		new CompositeLock(anyResources(2), List.of(lock1, lock2)).acquire();
+
+		var inOrder = inOrder(lock1, lock2);
+		inOrder.verify(lock1).tryLock();
+		inOrder.verify(lock2).tryLock();
+		verify(lock1, never()).lockInterruptibly();
+		verify(lock2, never()).lockInterruptibly();
+	}
+
+	@Test
+	@SuppressWarnings("resource")
+	void releasesLocksAcquiredWithoutBlockingBeforeWaitingForUnavailableLock() throws Exception {
+		var lock1 = mock(Lock.class);
+		var lock2 = mock(Lock.class);
+		when(lock1.tryLock()).thenReturn(true);
+
+		new CompositeLock(anyResources(2), List.of(lock1, lock2)).acquire();
+
+		var inOrder = inOrder(lock1, lock2);
+		inOrder.verify(lock1).tryLock();
+		inOrder.verify(lock2).tryLock();
+		inOrder.verify(lock1).unlock();
+		inOrder.verify(lock1).lockInterruptibly();
+		inOrder.verify(lock2).lockInterruptibly();
+	}
+
 	@Test
 	@SuppressWarnings("resource")
 	void releasesLocksInReverseOrderWhenInterruptedDuringAcquire() throws Exception {
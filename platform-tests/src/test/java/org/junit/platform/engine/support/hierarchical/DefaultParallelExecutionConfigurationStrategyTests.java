@@ -103,6 +103,82 @@ class DefaultParallelExecutionConfigurationStrategyTests {
 		assertThat(configuration.getSaturatePredicate().test(null)).isFalse();
 	}
 
+	@Test
+	void adaptiveStrategyCreatesValidConfiguration() {
+		when(configParams.get("adaptive.min-parallelism")).thenReturn(Optional.of("2"));
+		when(configParams.get("adaptive.max-parallelism")).thenReturn(Optional.of("1000"));
+
+		ParallelExecutionConfigurationStrategy strategy = DefaultParallelExecutionConfigurationStrategy.ADAPTIVE;
+		var configuration = strategy.createConfiguration(configParams);
+
+		var availableProcessors = Runtime.getRuntime().availableProcessors();
+		assertThat(configuration).isInstanceOf(AdaptiveParallelExecutionConfiguration.class);
+		assertThat(configuration.getParallelism()).isEqualTo(Math.max(2, availableProcessors));
+		assertThat(configuration.getCorePoolSize()).isEqualTo(Math.max(2, availableProcessors));
+		assertThat(configuration.getMinimumRunnable()).isEqualTo(Math.max(2, availableProcessors));
+		assertThat(configuration.getMaxPoolSize()).isEqualTo(256 + 1000);
+		assertThat(configuration.getKeepAliveSeconds()).isEqualTo(30);
+		assertThat(configuration.getSaturatePredicate()).isNotNull();
+		assertThat(configuration.getSaturatePredicate().test(null)).isTrue();
+
+		var adaptiveConfiguration = (AdaptiveParallelExecutionConfiguration) configuration;
+		assertThat(adaptiveConfiguration.getMinParallelism()).isEqualTo(2);
+		assertThat(adaptiveConfiguration.getMaxParallelism()).isEqualTo(1000);
+	}
+
+	@Test
+	void adaptiveStrategyUsesDefaultsWhenPropertiesAreNotPresent() {
+		ParallelExecutionConfigurationStrategy strategy = DefaultParallelExecutionConfigurationStrategy.ADAPTIVE;
+		var configuration = (AdaptiveParallelExecutionConfiguration) strategy.createConfiguration(configParams);
+
+		var availableProcessors = Runtime.getRuntime().availableProcessors();
+		assertThat(configuration.getParallelism()).isEqualTo(availableProcessors);
+		assertThat(configuration.getMinParallelism()).isEqualTo(1);
+		assertThat(configuration.getMaxParallelism()).isEqualTo(availableProcessors * 2);
+		assertThat(configuration.getMaxPoolSize()).isEqualTo(256 + (availableProcessors * 2));
+	}
+
+	@Test
+	void adaptiveStrategyLimitsInitialParallelismToMaximum() {
+		when(configParams.get("adaptive.max-parallelism")).thenReturn(Optional.of("1"));
+		when(configParams.get("adaptive.max-pool-size")).thenReturn(Optional.of("1"));
+		when(configParams.get("adaptive.saturate")).thenReturn(Optional.of("false"));
+
+		ParallelExecutionConfigurationStrategy strategy = DefaultParallelExecutionConfigurationStrategy.ADAPTIVE;
+		var configuration = strategy.createConfiguration(configParams);
+
+		assertThat(configuration.getParallelism()).isEqualTo(1);
+		assertThat(configuration.getMaxPoolSize()).isEqualTo(1);
+		assertThat(configuration.getSaturatePredicate()).isNotNull();
+		assertThat(configuration.getSaturatePredicate().test(null)).isFalse();
+	}
+
+	@Test
+	void adaptiveStrategyThrowsExceptionWhenMinimumParallelismIsZero() {
+		when(configParams.get("adaptive.min-parallelism")).thenReturn(Optional.of("0"));
+
+		ParallelExecutionConfigurationStrategy strategy = DefaultParallelExecutionConfigurationStrategy.ADAPTIVE;
+		assertThrows(JUnitException.class, () -> strategy.createConfiguration(configParams));
+	}
+
+	@Test
+	void adaptiveStrategyThrowsExceptionWhenMaximumIsLessThanMinimumParallelism() {
+		when(configParams.get("adaptive.min-parallelism")).thenReturn(Optional.of("4"));
+		when(configParams.get("adaptive.max-parallelism")).thenReturn(Optional.of("3"));
+
+		ParallelExecutionConfigurationStrategy strategy = DefaultParallelExecutionConfigurationStrategy.ADAPTIVE;
+		assertThrows(JUnitException.class, () -> strategy.createConfiguration(configParams));
+	}
+
+	@Test
+	void adaptiveStrategyThrowsExceptionWhenMaxPoolSizeIsLessThanMaximumParallelism() {
+		when(configParams.get("adaptive.max-parallelism")).thenReturn(Optional.of("4"));
+		when(configParams.get("adaptive.max-pool-size")).thenReturn(Optional.of("3"));
+
+		ParallelExecutionConfigurationStrategy strategy = DefaultParallelExecutionConfigurationStrategy.ADAPTIVE;
+		assertThrows(JUnitException.class, () -> strategy.createConfiguration(configParams));
+	}
+
 	@Test
 	void customStrategyCreatesValidConfiguration() {
 		when(configParams.get("custom.class")).thenReturn(
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.moditect.jfrunit.ExpectedEvent.event;
+import static org.moditect.jfrunit.JfrEventsAssert.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.extension.DisabledOnOpenJ9;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.junit.jupiter.engine.JupiterTestEngine;
+import org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly;
+import org.moditect.jfrunit.EnableEvent;
+import org.moditect.jfrunit.JfrEventTest;
+import org.moditect.jfrunit.JfrEvents;
+
+/**
+ * Integration tests for the Java Flight Recorder events emitted during
+ * hierarchical test execution.
+ *
+ * @since 6.0
+ */
+@JfrEventTest
+@DisabledOnOpenJ9
+public class FlightRecordingSupportIntegrationTests {
+
+	public JfrEvents jfrEvents = new JfrEvents();
+
+	@Test
+	@EnableEvent("org.junit.*")
+	void reportsLifecycleExtensionAndLockEvents() {
+		var launcher = LauncherFactoryForTestingPurposesOnly.createLauncher(new JupiterTestEngine());
+		var request = request() //
+				.selectors(selectClass(TestCase.class)) //
+				.configurationParameter("junit.jupiter.execution.parallel.enabled", "true") //
+				.build();
+
+		launcher.execute(request);
+		jfrEvents.awaitEvents();
+
+		assertThat(jfrEvents) //
+				.contains(event("org.junit.NodePhase") //
+						.with("displayName", "test(TestInfo)") //
+						.with("phase", "before")) //
+				.contains(event("org.junit.NodePhase") //
+						.with("displayName", "test(TestInfo)") //
+						.with("phase", "after")) //
+				.contains(event("org.junit.NodePhase") //
+						.with("displayName", "JUnit Jupiter") //
+						.with("phase", "prepare")) //
+				.contains(event("org.junit.ResourceLockAcquisition") //
+						.with("exclusive", true)) //
+				.contains(event("org.junit.ExtensionCallback") //
+						.with("callbackType", "BeforeEachCallback")) //
+				.contains(event("org.junit.ParameterResolution") //
+						.with("index", 0) //
+						.with("parameterType", TestInfo.class.getName()));
+	}
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	@ResourceLock("shared")
+	static class TestCase {
+
+		@BeforeEach
+		void beforeEach() {
+		}
+
+		@Test
+		void test(TestInfo testInfo) {
+		}
+	}
+
+}
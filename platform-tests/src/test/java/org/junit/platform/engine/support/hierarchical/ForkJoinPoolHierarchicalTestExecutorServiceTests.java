@@ -31,6 +31,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.jspecify.annotations.Nullable;
@@ -243,6 +244,47 @@ class ForkJoinPoolHierarchicalTestExecutorServiceTests {
 				.values().extracting(it -> it.completion.isCompletedExceptionally()).containsOnly(false);
 	}
 
+	@Test
+	void compensatesForBlockedWorkersWithAdaptiveConfiguration() throws Throwable {
+		var configuration = new AdaptiveParallelExecutionConfiguration(2, 1, 2, 256, 1, __ -> true);
+
+		var released = new CountDownLatch(1);
+		var blocked = new CountDownLatch(1);
+
+		var unmanagedBlockingTask = taskFactory.create("unmanagedBlockingTask", NopLock.INSTANCE, released::await);
+		var managedBlockingTask = taskFactory.create("managedBlockingTask", NopLock.INSTANCE,
+			() -> ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+				@Override
+				public boolean block() throws InterruptedException {
+					blocked.countDown();
+					released.await();
+					return true;
+				}
+
+				@Override
+				public boolean isReleasable() {
+					return released.getCount() == 0;
+				}
+			}));
+		var releasingTask = taskFactory.create("releasingTask", NopLock.INSTANCE, released::countDown);
+
+		withForkJoinPoolHierarchicalTestExecutorService(configuration, TaskEventListener.NOOP, service -> {
+			var unmanagedBlockingFuture = service.submit(unmanagedBlockingTask);
+			await(unmanagedBlockingTask.started, unmanagedBlockingTask.identifier + " to be started");
+			var managedBlockingFuture = service.submit(managedBlockingTask);
+			await(blocked, managedBlockingTask.identifier + " to be blocked");
+
+			// Both workers are occupied, so the releasing task can only be
+			// executed by a worker that compensates for the blocked one.
+			service.submit(releasingTask).get();
+			unmanagedBlockingFuture.get();
+			managedBlockingFuture.get();
+		});
+
+		assertThat(taskFactory.tasks) //
+				.values().extracting(it -> it.completion.isCompletedExceptionally()).containsOnly(false);
+	}
+
 	private Map<String, DummyTestTask> runWithAttemptedWorkStealing(TaskEventListener taskEventListener,
 			DummyTestTask taskToBeStolen, ResourceLock initialLock, Runnable waitAction) throws Throwable {
 
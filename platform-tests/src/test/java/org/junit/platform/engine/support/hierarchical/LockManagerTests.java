@@ -129,6 +129,15 @@ class LockManagerTests {
 				.isSameAs(lockManager.getLockForResource(ExclusiveResource.GLOBAL_READ_WRITE));
 	}
 
+	@ParameterizedTest
+	@EnumSource
+	void usesStripedReadWriteLockForGlobalResource(LockMode globalLockMode) {
+		var lock = getSingleLock(GLOBAL_KEY, globalLockMode);
+
+		assertThat(lock.getClass().getEnclosingClass()).isEqualTo(StripedReadWriteLock.class);
+		assertThat(lock).isSameAs(getSingleLock(GLOBAL_KEY, globalLockMode));
+	}
+
 	private Lock getSingleLock(String key, LockMode lockMode) {
 		return getLocks(Set.of(new ExclusiveResource(key, lockMode)), SingleLock.class).getFirst();
 	}
@@ -25,6 +25,7 @@ import static org.junit.jupiter.engine.Constants.PARALLEL_CONFIG_FIXED_PARALLELI
 import static org.junit.jupiter.engine.Constants.PARALLEL_CONFIG_STRATEGY_PROPERTY_NAME;
 import static org.junit.jupiter.engine.Constants.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME;
 import static org.junit.platform.commons.util.CollectionUtils.getOnlyElement;
+import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.RESOURCE_LOCK_STATISTICS_ENABLED_PROPERTY_NAME;
 import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.GLOBAL_KEY;
 import static org.junit.platform.testkit.engine.EventConditions.container;
 import static org.junit.platform.testkit.engine.EventConditions.event;
@@ -114,6 +115,34 @@ class ParallelExecutionIntegrationTests {
 		assertThat(ThreadReporter.getThreadNames(events)).hasSize(3);
 	}
 
+	@Test
+	void publishesResourceLockStatisticsForEngineWhenEnabled() {
+		var configParams = Map.of( //
+			DEFAULT_PARALLEL_EXECUTION_MODE, "concurrent", //
+			RESOURCE_LOCK_STATISTICS_ENABLED_PROPERTY_NAME, "true" //
+		);
+		var events = executeWithFixedParallelism(3, configParams, SuccessfulWithMethodLockTestCase.class) //
+				.allEvents() //
+				.assertStatistics(it -> it.failed(0));
+
+		var reportEntry = getOnlyElement(events.reportingEntryPublished() //
+				.filter(event -> event.getTestDescriptor().getParent().isEmpty()) //
+				.map(event -> event.getPayload(ReportEntry.class).orElseThrow()) //
+				.toList());
+		assertThat(reportEntry.getKeyValuePairs()) //
+				.containsKeys("resourceLock[" + GLOBAL_KEY + "|READ]") //
+				.hasEntrySatisfying("resourceLock[sharedResource|READ_WRITE]",
+					value -> assertThat(value).startsWith("acquisitions=3, "));
+	}
+
+	@Test
+	void doesNotPublishResourceLockStatisticsByDefault() {
+		var events = executeConcurrentlySuccessfully(3, SuccessfulWithMethodLockTestCase.class);
+
+		assertThat(events.reportingEntryPublished() //
+				.filter(event -> event.getTestDescriptor().getParent().isEmpty())).isEmpty();
+	}
+
 	@Test
 	void successfulTestWithClassLock() {
 		var events = executeConcurrentlySuccessfully(3, SuccessfulWithClassLockTestCase.class).list();
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ;
+import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ_WRITE;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @since 6.0
+ */
+class ResourceLockStatisticsTests {
+
+	private static final ExclusiveResource A = new ExclusiveResource("a", READ_WRITE);
+	private static final ExclusiveResource B = new ExclusiveResource("b", READ);
+
+	private final ResourceLockStatistics statistics = ResourceLockStatistics.create();
+	private final LockManager lockManager = new LockManager(statistics);
+
+	@Test
+	void recordsUncontendedAcquisitionsOfSingleAndCompositeLocks() throws Exception {
+		lockManager.getLockForResource(A).acquire().close();
+		lockManager.getLockForResources(List.of(A, B)).acquire().close();
+
+		var entries = statistics.getEntries();
+		assertThat(entries).containsOnlyKeys(A, B);
+		assertThat(entries.get(A).acquisitions.sum()).isEqualTo(2);
+		assertThat(entries.get(A).contendedAcquisitions.sum()).isZero();
+		assertThat(entries.get(B).acquisitions.sum()).isEqualTo(1);
+		assertThat(entries.get(B).contendedAcquisitions.sum()).isZero();
+	}
+
+	@Test
+	void recordsContendedAcquisitions() throws Exception {
+		var lock = lockManager.getLockForResource(A);
+		var acquired = new CountDownLatch(1);
+		var release = new CountDownLatch(1);
+		var thread = new Thread(() -> {
+			try (var __ = lock.acquire()) {
+				acquired.countDown();
+				release.await();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		thread.start();
+		acquired.await();
+
+		new Thread(() -> {
+			sleep(50);
+			release.countDown();
+		}).start();
+		lock.acquire().close();
+		thread.join();
+
+		var entry = statistics.getEntries().get(A);
+		assertThat(entry.acquisitions.sum()).isEqualTo(2);
+		assertThat(entry.contendedAcquisitions.sum()).isEqualTo(1);
+		assertThat(entry.maxWaitNanos.get()).isPositive();
+		assertThat(entry.estimateContendedWaitNanos(0.5)) //
+				.isPositive() //
+				.isLessThanOrEqualTo(entry.maxWaitNanos.get());
+	}
+
+	@Test
+	void recordsDeferredTasks() {
+		((AbstractResourceLock) lockManager.getLockForResources(List.of(A, B))).taskDeferred();
+		((AbstractResourceLock) lockManager.getLockForResource(B)).taskDeferred();
+
+		var entries = statistics.getEntries();
+		assertThat(entries.get(A).deferrals.sum()).isEqualTo(1);
+		assertThat(entries.get(B).deferrals.sum()).isEqualTo(2);
+		assertThat(entries.get(B).acquisitions.sum()).isZero();
+	}
+
+	@Test
+	void createsReportEntryOrderedByWaitingTime() {
+		statistics.recordAcquisition(List.of(B), 1_000_000, true);
+		statistics.recordAcquisition(List.of(A), 3_000_000, true);
+		statistics.recordAcquisition(List.of(A), 0, false);
+		statistics.recordDeferral(List.of(A));
+
+		var keyValuePairs = statistics.toReportEntry().getKeyValuePairs();
+
+		assertThat(keyValuePairs).containsExactly( //
+			entry("resourceLock[a|READ_WRITE]",
+				"acquisitions=2, contended=1, deferred=1, wait=3.000 ms, contended wait p50=3.000 ms, p90=3.000 ms, p99=3.000 ms, max=3.000 ms"),
+			entry("resourceLock[b|READ]",
+				"acquisitions=1, contended=1, deferred=0, wait=1.000 ms, contended wait p50=1.000 ms, p90=1.000 ms, p99=1.000 ms, max=1.000 ms"));
+	}
+
+	@Test
+	void estimatesPercentilesOfContendedWaitingTimes() {
+		for (int i = 0; i < 9; i++) {
+			statistics.recordAcquisition(List.of(A), 1_000, true);
+		}
+		statistics.recordAcquisition(List.of(A), 1_000_000, true);
+
+		var entry = statistics.getEntries().get(A);
+		assertThat(entry.estimateContendedWaitNanos(0.5)).isEqualTo(1_023L);
+		assertThat(entry.estimateContendedWaitNanos(0.9)).isEqualTo(1_023L);
+		assertThat(entry.estimateContendedWaitNanos(0.99)).isEqualTo(1_000_000L);
+	}
+
+	@Test
+	void disabledStatisticsDoNotRecordAnything() throws Exception {
+		var disabledLockManager = new LockManager(ResourceLockStatistics.DISABLED);
+
+		disabledLockManager.getLockForResources(List.of(A, B)).acquire().close();
+		((AbstractResourceLock) disabledLockManager.getLockForResource(A)).taskDeferred();
+
+		assertThat(ResourceLockStatistics.DISABLED.isEmpty()).isTrue();
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
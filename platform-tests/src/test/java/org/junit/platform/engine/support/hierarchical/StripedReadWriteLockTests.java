@@ -0,0 +1,226 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @since 6.0
+ */
+class StripedReadWriteLockTests {
+
+	private final StripedReadWriteLock lock = new StripedReadWriteLock(4);
+
+	@Test
+	void allowsConcurrentReaders() throws Exception {
+		lock.readLock().lock();
+		try {
+			assertThat(inOtherThread(() -> tryLockAndUnlock(lock.readLock()))).isTrue();
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Test
+	void readersExcludeWriters() throws Exception {
+		lock.readLock().lock();
+		try {
+			assertThat(inOtherThread(() -> tryLockAndUnlock(lock.writeLock()))).isFalse();
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+
+		assertThat(inOtherThread(() -> tryLockAndUnlock(lock.writeLock()))).isTrue();
+	}
+
+	@Test
+	void writersExcludeReadersAndWriters() throws Exception {
+		lock.writeLock().lock();
+		try {
+			assertThat(inOtherThread(() -> tryLockAndUnlock(lock.readLock()))).isFalse();
+			assertThat(inOtherThread(() -> tryLockAndUnlock(lock.writeLock()))).isFalse();
+		}
+		finally {
+			lock.writeLock().unlock();
+		}
+
+		assertThat(inOtherThread(() -> tryLockAndUnlock(lock.readLock()))).isTrue();
+	}
+
+	@Test
+	void locksAreReentrant() throws Exception {
+		lock.readLock().lock();
+		lock.readLock().lock();
+		lock.readLock().unlock();
+		assertThat(lock.hasReaders()).isTrue();
+		lock.readLock().unlock();
+		assertThat(lock.hasReaders()).isFalse();
+
+		lock.writeLock().lock();
+		lock.writeLock().lock();
+		lock.writeLock().unlock();
+		assertThat(inOtherThread(() -> tryLockAndUnlock(lock.readLock()))).isFalse();
+		lock.writeLock().unlock();
+		assertThat(inOtherThread(() -> tryLockAndUnlock(lock.readLock()))).isTrue();
+	}
+
+	@Test
+	void writerMayAcquireReadLockAndKeepItAfterReleasingWriteLock() throws Exception {
+		lock.writeLock().lock();
+		lock.readLock().lock();
+		lock.writeLock().unlock();
+		try {
+			assertThat(inOtherThread(() -> tryLockAndUnlock(lock.readLock()))).isTrue();
+			assertThat(inOtherThread(() -> tryLockAndUnlock(lock.writeLock()))).isFalse();
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+
+		assertThat(lock.hasReaders()).isFalse();
+		assertThat(inOtherThread(() -> tryLockAndUnlock(lock.writeLock()))).isTrue();
+	}
+
+	@Test
+	void writerWaitsForReadersToDrain() throws Exception {
+		var writerAcquired = new AtomicBoolean();
+		lock.readLock().lock();
+		var writer = CompletableFuture.runAsync(() -> {
+			lock.writeLock().lock();
+			writerAcquired.set(true);
+			lock.writeLock().unlock();
+		});
+		try {
+			MILLISECONDS.sleep(50);
+			assertThat(writerAcquired).isFalse();
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+
+		writer.get();
+		assertThat(writerAcquired).isTrue();
+	}
+
+	@Test
+	void waitingWriterCanBeInterrupted() throws Exception {
+		var interrupted = new CountDownLatch(1);
+		lock.readLock().lock();
+		try {
+			var writer = new Thread(() -> {
+				try {
+					lock.writeLock().lockInterruptibly();
+				}
+				catch (InterruptedException e) {
+					interrupted.countDown();
+				}
+			});
+			writer.start();
+			MILLISECONDS.sleep(50);
+			writer.interrupt();
+			writer.join();
+			assertThat(interrupted.getCount()).isZero();
+			assertThat(inOtherThread(() -> tryLockAndUnlock(lock.readLock()))).isTrue();
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Test
+	void throwsExceptionWhenUnlockingLockThatIsNotHeld() {
+		assertThrows(IllegalMonitorStateException.class, () -> lock.readLock().unlock());
+		assertThrows(IllegalMonitorStateException.class, () -> lock.writeLock().unlock());
+	}
+
+	@Test
+	void guaranteesMutualExclusionUnderContention() throws Exception {
+		var readers = new AtomicInteger();
+		var writers = new AtomicInteger();
+		var violations = new AtomicInteger();
+		ExecutorService executorService = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				int threadIndex = i;
+				futures.add(executorService.submit(() -> {
+					for (int j = 0; j < 10_000; j++) {
+						if ((j + threadIndex) % 50 == 0) {
+							lock.writeLock().lock();
+							try {
+								if (writers.incrementAndGet() != 1 || readers.get() != 0) {
+									violations.incrementAndGet();
+								}
+								writers.decrementAndGet();
+							}
+							finally {
+								lock.writeLock().unlock();
+							}
+						}
+						else {
+							lock.readLock().lock();
+							try {
+								readers.incrementAndGet();
+								if (writers.get() != 0) {
+									violations.incrementAndGet();
+								}
+								readers.decrementAndGet();
+							}
+							finally {
+								lock.readLock().unlock();
+							}
+						}
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+
+		assertThat(violations).hasValue(0);
+		assertThat(lock.hasReaders()).isFalse();
+	}
+
+	private static boolean tryLockAndUnlock(Lock lock) {
+		if (lock.tryLock()) {
+			lock.unlock();
+			return true;
+		}
+		return false;
+	}
+
+	private static <T> T inOtherThread(Supplier<T> action) throws Exception {
+		return CompletableFuture.supplyAsync(action).get();
+	}
+
+}
@@ -423,6 +423,54 @@ public class NamespacedHierarchicalStoreTests {
 			verifyNoMoreInteractions(closeAction);
 		}
 
+		@Test
+		void callsCloseActionForReplacedValueInItsNewInsertionPosition() throws Throwable {
+			store.put(namespace, "key1", "value1");
+			store.put(namespace, "key2", "value2");
+			store.put(namespace, "key1", "value3");
+
+			store.close();
+			assertClosed();
+
+			var inOrder = inOrder(closeAction);
+			inOrder.verify(closeAction).close(namespace, "key1", "value3");
+			inOrder.verify(closeAction).close(namespace, "key2", "value2");
+
+			verifyNoMoreInteractions(closeAction);
+		}
+
+		@Test
+		void callsCloseActionInReverseInsertionOrderAcrossNamespaces() throws Throwable {
+			store.put("ns1", key, "value1");
+			store.getOrComputeIfAbsent("ns2", key, __ -> "value2");
+			store.put("ns1", "key2", "value3");
+
+			store.close();
+			assertClosed();
+
+			var inOrder = inOrder(closeAction);
+			inOrder.verify(closeAction).close("ns1", "key2", "value3");
+			inOrder.verify(closeAction).close("ns2", key, "value2");
+			inOrder.verify(closeAction).close("ns1", key, "value1");
+
+			verifyNoMoreInteractions(closeAction);
+		}
+
+		@Test
+		void callsCloseActionOnlyForCurrentValueAfterConcurrentReplacements() throws Throwable {
+			AtomicInteger counter = new AtomicInteger();
+			executeConcurrently(10, () -> {
+				store.put(namespace, key, counter.incrementAndGet());
+			});
+			var currentValue = requireNonNull(store.get(namespace, key));
+
+			store.close();
+			assertClosed();
+
+			verify(closeAction).close(namespace, key, currentValue);
+			verifyNoMoreInteractions(closeAction);
+		}
+
 		@Test
 		void doesNotCallCloseActionForNullValues() {
 			store.put(namespace, key, null);
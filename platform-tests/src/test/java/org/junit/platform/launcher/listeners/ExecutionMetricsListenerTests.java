@@ -0,0 +1,191 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.junit.platform.launcher.listeners;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.launcher.LauncherConstants.DEACTIVATE_LISTENERS_PATTERN_PROPERTY_NAME;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly.createLauncherConfigBuilderWithDisabledServiceLoading;
+import static org.junit.platform.launcher.core.OutputDirectoryProviders.hierarchicalOutputDirectoryProvider;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.engine.JupiterTestEngine;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly;
+import org.junit.platform.launcher.listeners.ExecutionMetrics.Dimension;
+import org.junit.platform.launcher.listeners.ExecutionMetrics.Phase;
+
+/**
+ * @since 6.0
+ */
+class ExecutionMetricsListenerTests {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void recordsDurationsByEngineClassTagAndPhase() {
+		var listener = new ExecutionMetricsListener();
+		var launcher = LauncherFactoryForTestingPurposesOnly.createLauncher(new JupiterTestEngine());
+		launcher.registerLauncherDiscoveryListeners(listener);
+
+		launcher.execute(createEnabledRequest(TestCase.class), listener);
+
+		var metrics = listener.getMetrics();
+		assertThat(metrics.getHistogram(Dimension.ENGINE, "junit-jupiter", Phase.DISCOVERY)) //
+				.hasValueSatisfying(histogram -> assertThat(histogram.getCount()).isEqualTo(1));
+		assertThat(metrics.getHistogram(Dimension.ENGINE, "junit-jupiter", Phase.TEST)) //
+				.hasValueSatisfying(histogram -> assertThat(histogram.getCount()).isEqualTo(2));
+		assertThat(metrics.getHistogram(Dimension.CLASS, TestCase.class.getName(), Phase.BEFORE)) //
+				.hasValueSatisfying(histogram -> assertThat(histogram.getCount()).isEqualTo(1));
+		assertThat(metrics.getHistogram(Dimension.CLASS, TestCase.class.getName(), Phase.AFTER)) //
+				.hasValueSatisfying(histogram -> assertThat(histogram.getCount()).isEqualTo(1));
+		assertThat(metrics.getHistogram(Dimension.TAG, "fast", Phase.TEST)) //
+				.hasValueSatisfying(histogram -> assertThat(histogram.getCount()).isEqualTo(1));
+	}
+
+	@Test
+	void recordsClassPhasesOnlyForClassContainers() {
+		var listener = new ExecutionMetricsListener();
+		var launcher = LauncherFactoryForTestingPurposesOnly.createLauncher(new JupiterTestEngine());
+
+		launcher.execute(createEnabledRequest(RepeatedTestCase.class), listener);
+
+		var metrics = listener.getMetrics();
+		assertThat(metrics.getHistogram(Dimension.CLASS, RepeatedTestCase.class.getName(), Phase.BEFORE)) //
+				.hasValueSatisfying(histogram -> assertThat(histogram.getCount()).isEqualTo(1));
+		assertThat(metrics.getHistogram(Dimension.CLASS, RepeatedTestCase.class.getName(), Phase.TEST)) //
+				.hasValueSatisfying(histogram -> assertThat(histogram.getCount()).isEqualTo(2));
+		assertThat(metrics.getHistogram(Dimension.ENGINE, "junit-jupiter", Phase.BEFORE)) //
+				.hasValueSatisfying(histogram -> assertThat(histogram.getCount()).isEqualTo(3));
+	}
+
+	@Test
+	void writesReportsIfAutomaticallyRegisteredListenerIsEnabled() throws Exception {
+		var launcher = createLauncherWithTestExecutionListenerAutoRegistration();
+
+		launcher.execute(createEnabledRequest(TestCase.class));
+
+		assertThat(Files.readString(tempDir.resolve(ExecutionMetricsListener.JSON_FILE_NAME))) //
+				.contains("\"dimension\":\"engine\",\"name\":\"junit-jupiter\",\"phase\":\"discovery\"");
+		assertThat(Files.readString(tempDir.resolve(ExecutionMetricsListener.JSON_FILE_NAME))) //
+				.contains("\"dimension\":\"class\",\"name\":\"" + TestCase.class.getName() + "\",\"phase\":\"test\"");
+		assertThat(Files.readString(tempDir.resolve(ExecutionMetricsListener.PROMETHEUS_FILE_NAME))) //
+				.contains("# TYPE junit_execution_duration_seconds summary",
+					"junit_execution_duration_seconds_count{dimension=\"tag\",name=\"fast\",phase=\"test\"} 1");
+	}
+
+	@Test
+	void doesNotRecordDiscoveryDurationsIfDiscoveryListenerAutoRegistrationIsDisabled() throws Exception {
+		var launcher = LauncherFactory.create(createLauncherConfigBuilderWithDisabledServiceLoading() //
+				.enableTestExecutionListenerAutoRegistration(true) //
+				.addTestEngines(new JupiterTestEngine()) //
+				.build());
+
+		launcher.execute(createEnabledRequest(TestCase.class));
+
+		assertThat(Files.readString(tempDir.resolve(ExecutionMetricsListener.JSON_FILE_NAME))) //
+				.contains("\"phase\":\"test\"") //
+				.doesNotContain("\"phase\":\"discovery\"");
+	}
+
+	@Test
+	void doesNotWriteReportsIfAutomaticallyRegisteredListenerIsDisabled() {
+		var launcher = createLauncherWithTestExecutionListenerAutoRegistration();
+
+		launcher.execute(createRequest(TestCase.class).build());
+
+		assertThat(tempDir.resolve(ExecutionMetricsListener.JSON_FILE_NAME)).doesNotExist();
+		assertThat(tempDir.resolve(ExecutionMetricsListener.PROMETHEUS_FILE_NAME)).doesNotExist();
+	}
+
+	@Test
+	void doesNotWriteReportsIfAutomaticallyRegisteredListenerIsDeactivated() {
+		var originalValue = System.getProperty(DEACTIVATE_LISTENERS_PATTERN_PROPERTY_NAME);
+		System.setProperty(DEACTIVATE_LISTENERS_PATTERN_PROPERTY_NAME, "*.ExecutionMetricsListener");
+		try {
+			var launcher = createLauncherWithTestExecutionListenerAutoRegistration();
+
+			launcher.execute(createEnabledRequest(TestCase.class));
+		}
+		finally {
+			if (originalValue == null) {
+				System.clearProperty(DEACTIVATE_LISTENERS_PATTERN_PROPERTY_NAME);
+			}
+			else {
+				System.setProperty(DEACTIVATE_LISTENERS_PATTERN_PROPERTY_NAME, originalValue);
+			}
+		}
+
+		assertThat(tempDir.resolve(ExecutionMetricsListener.JSON_FILE_NAME)).doesNotExist();
+	}
+
+	private static Launcher createLauncherWithTestExecutionListenerAutoRegistration() {
+		return LauncherFactory.create(createLauncherConfigBuilderWithDisabledServiceLoading() //
+				.enableLauncherDiscoveryListenerAutoRegistration(true) //
+				.enableTestExecutionListenerAutoRegistration(true) //
+				.addTestEngines(new JupiterTestEngine()) //
+				.build());
+	}
+
+	private LauncherDiscoveryRequest createEnabledRequest(Class<?> testClass) {
+		return createRequest(testClass) //
+				.configurationParameter(ExecutionMetricsListener.LISTENER_ENABLED_PROPERTY_NAME, "true") //
+				.build();
+	}
+
+	private LauncherDiscoveryRequestBuilder createRequest(Class<?> testClass) {
+		return request() //
+				.selectors(selectClass(testClass)) //
+				.outputDirectoryProvider(hierarchicalOutputDirectoryProvider(tempDir));
+	}
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	static class TestCase {
+
+		@BeforeAll
+		static void beforeAll() {
+		}
+
+		@Test
+		@Tag("fast")
+		void fast() {
+		}
+
+		@Test
+		void other() {
+		}
+
+		@AfterAll
+		static void afterAll() {
+		}
+	}
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	static class RepeatedTestCase {
+
+		@RepeatedTest(2)
+		void repeated() {
+		}
+	}
+
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.listeners;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.junit.platform.launcher.core.OutputDirectoryProviders.hierarchicalOutputDirectoryProvider;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.engine.JupiterTestEngine;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.engine.discovery.UniqueIdSelector;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly;
+
+/**
+ * @since 6.0
+ */
+class FailedTestTrackingListenerTests {
+
+	private static final String ENGINE_ID = "[engine:junit-jupiter]";
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void writesUniqueIdsOfFailedTestsAndContainers() throws Exception {
+		execute(true, selectClass(PartiallyFailingTestCase.class), selectClass(FailingContainerTestCase.class));
+
+		assertThat(Files.readAllLines(journalFile())).containsExactly( //
+			uniqueId(FailingContainerTestCase.class), //
+			uniqueId(PartiallyFailingTestCase.class) + "/[method:failing()]");
+	}
+
+	@Test
+	void writesEmptyJournalIfNoTestsFailed() throws Exception {
+		execute(true, selectClass(PassingTestCase.class));
+
+		assertThat(Files.readAllLines(journalFile())).isEmpty();
+	}
+
+	@Test
+	void doesNotWriteJournalIfDisabled() {
+		execute(false, selectClass(PartiallyFailingTestCase.class));
+
+		assertThat(journalFile()).doesNotExist();
+	}
+
+	@Test
+	void selectsFailedTestsFromJournal() throws Exception {
+		Files.write(journalFile(), List.of(uniqueId(PartiallyFailingTestCase.class) + "/[method:failing()]", "",
+			uniqueId(FailingContainerTestCase.class)));
+
+		var selectors = request().selectFailedTests(journalFile()).build().getSelectorsByType(
+			DiscoverySelector.class);
+
+		assertThat(selectors).containsExactly( //
+			selectUniqueId(uniqueId(PartiallyFailingTestCase.class) + "/[method:failing()]"), //
+			selectUniqueId(uniqueId(FailingContainerTestCase.class)));
+	}
+
+	@Test
+	void rerunsOnlyFailedTests() {
+		execute(true, selectClass(PartiallyFailingTestCase.class), selectClass(PassingTestCase.class));
+
+		var summaryListener = new SummaryGeneratingListener();
+		createLauncher().execute(request() //
+				.selectFailedTests(journalFile()) //
+				.outputDirectoryProvider(hierarchicalOutputDirectoryProvider(tempDir)) //
+				.build(),
+			summaryListener);
+
+		var summary = summaryListener.getSummary();
+		assertThat(summary.getTestsStartedCount()).isEqualTo(1);
+		assertThat(summary.getTestsFailedCount()).isEqualTo(1);
+	}
+
+	@Test
+	void reportsMissingJournal() {
+		var builder = request();
+		var missingFile = tempDir.resolve("missing.txt");
+
+		var exception = assertThrows(JUnitException.class, () -> builder.selectFailedTests(missingFile));
+
+		assertThat(exception).hasMessage("Failed to read journal of failed tests: " + missingFile);
+		assertThat(builder.build().getSelectorsByType(UniqueIdSelector.class)).isEmpty();
+	}
+
+	private void execute(boolean enabled, DiscoverySelector... selectors) {
+		createLauncher().execute(request() //
+				.selectors(selectors) //
+				.configurationParameter(FailedTestTrackingListener.LISTENER_ENABLED_PROPERTY_NAME,
+					String.valueOf(enabled)) //
+				.outputDirectoryProvider(hierarchicalOutputDirectoryProvider(tempDir)) //
+				.build(),
+			new FailedTestTrackingListener());
+	}
+
+	private static Launcher createLauncher() {
+		return LauncherFactoryForTestingPurposesOnly.createLauncher(new JupiterTestEngine());
+	}
+
+	private Path journalFile() {
+		return tempDir.resolve(FailedTestTrackingListener.JOURNAL_FILE_NAME);
+	}
+
+	private static String uniqueId(Class<?> testClass) {
+		return ENGINE_ID + "/[class:" + testClass.getName() + "]";
+	}
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	static class PartiallyFailingTestCase {
+
+		@Test
+		void passing() {
+		}
+
+		@Test
+		void failing() {
+			fail("expected");
+		}
+	}
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	static class FailingContainerTestCase {
+
+		@BeforeAll
+		static void beforeAll() {
+			fail("expected");
+		}
+
+		@Test
+		void test() {
+		}
+	}
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	static class PassingTestCase {
+
+		@Test
+		void test() {
+		}
+	}
+
+}
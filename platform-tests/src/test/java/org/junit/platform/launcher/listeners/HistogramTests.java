@@ -0,0 +1,84 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.junit.platform.launcher.listeners;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.PreconditionViolationException;
+
+/**
+ * @since 6.0
+ */
+class HistogramTests {
+
+	private final Histogram histogram = new Histogram();
+
+	@Test
+	void returnsZeroForEmptyHistogram() {
+		assertThat(histogram.getCount()).isZero();
+		assertThat(histogram.getMin()).isZero();
+		assertThat(histogram.getMax()).isZero();
+		assertThat(histogram.getValueAtPercentile(99)).isZero();
+	}
+
+	@Test
+	void tracksCountTotalMinAndMaxExactly() {
+		histogram.record(3);
+		histogram.record(1_000_000_007);
+		histogram.record(42);
+
+		assertThat(histogram.getCount()).isEqualTo(3);
+		assertThat(histogram.getTotal()).isEqualTo(1_000_000_052);
+		assertThat(histogram.getMin()).isEqualTo(3);
+		assertThat(histogram.getMax()).isEqualTo(1_000_000_007);
+		assertThat(histogram.getValueAtPercentile(100)).isEqualTo(1_000_000_007);
+	}
+
+	@Test
+	void recordsSmallValuesExactly() {
+		IntStream.range(0, 64).forEach(histogram::record);
+
+		assertThat(histogram.getValueAtPercentile(50)).isEqualTo(31);
+	}
+
+	@Test
+	void computesPercentilesWithinRelativeError() {
+		IntStream.rangeClosed(1, 10_000).forEach(i -> histogram.record(i * 1_000L));
+
+		assertThat(histogram.getValueAtPercentile(50)).isCloseTo(5_000_000L, within(5_000_000L / 32));
+		assertThat(histogram.getValueAtPercentile(90)).isCloseTo(9_000_000L, within(9_000_000L / 32));
+		assertThat(histogram.getValueAtPercentile(99)).isCloseTo(9_900_000L, within(9_900_000L / 32));
+	}
+
+	@Test
+	void recordsValuesConcurrently() {
+		var futures = IntStream.range(0, 8) //
+				.mapToObj(__ -> CompletableFuture.runAsync(
+					() -> IntStream.range(0, 10_000).forEach(i -> histogram.record(i)))) //
+				.toArray(CompletableFuture[]::new);
+		CompletableFuture.allOf(futures).join();
+
+		assertThat(histogram.getCount()).isEqualTo(80_000);
+		assertThat(histogram.getMax()).isEqualTo(9_999);
+	}
+
+	@Test
+	void rejectsNegativeValuesAndInvalidPercentiles() {
+		assertThrows(PreconditionViolationException.class, () -> histogram.record(-1));
+		assertThrows(PreconditionViolationException.class, () -> histogram.getValueAtPercentile(101));
+	}
+
+}
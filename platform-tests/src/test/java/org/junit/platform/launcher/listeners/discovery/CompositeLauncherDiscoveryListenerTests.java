@@ -14,6 +14,7 @@ import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqu
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 
+import java.time.Duration;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -24,6 +25,7 @@ import org.junit.platform.engine.UniqueId;
 import org.junit.platform.launcher.EngineDiscoveryResult;
 import org.junit.platform.launcher.LauncherDiscoveryListener;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.PostDiscoveryFilter;
 import org.mockito.InOrder;
 
 class CompositeLauncherDiscoveryListenerTests {
@@ -39,13 +41,17 @@ class CompositeLauncherDiscoveryListenerTests {
 		var selector = selectUniqueId(engineId);
 		var selectorResolutionResult = SelectorResolutionResult.resolved();
 		var discoveryIssue = DiscoveryIssue.create(Severity.WARNING, "message");
+		var duration = Duration.ofMillis(42);
+		var postDiscoveryFilter = mock(PostDiscoveryFilter.class);
 
 		var composite = new CompositeLauncherDiscoveryListener(List.of(firstListener, secondListener));
 		composite.launcherDiscoveryStarted(launcherDiscoveryRequest);
 		composite.engineDiscoveryStarted(engineId);
 		composite.selectorProcessed(engineId, selector, selectorResolutionResult);
 		composite.issueEncountered(engineId, discoveryIssue);
+		composite.selectorResolverInvoked(engineId, selector, Object.class, duration);
 		composite.engineDiscoveryFinished(engineId, engineDiscoveryResult);
+		composite.postDiscoveryFilterApplied(postDiscoveryFilter, duration);
 		composite.launcherDiscoveryFinished(launcherDiscoveryRequest);
 
 		InOrder inOrder = inOrder(firstListener, secondListener);
@@ -59,9 +65,13 @@ class CompositeLauncherDiscoveryListenerTests {
 		inOrder.verify(secondListener).selectorProcessed(engineId, selector, selectorResolutionResult);
 		inOrder.verify(firstListener).issueEncountered(engineId, discoveryIssue);
 		inOrder.verify(secondListener).issueEncountered(engineId, discoveryIssue);
+		inOrder.verify(firstListener).selectorResolverInvoked(engineId, selector, Object.class, duration);
+		inOrder.verify(secondListener).selectorResolverInvoked(engineId, selector, Object.class, duration);
 
 		inOrder.verify(secondListener).engineDiscoveryFinished(engineId, engineDiscoveryResult);
 		inOrder.verify(firstListener).engineDiscoveryFinished(engineId, engineDiscoveryResult);
+		inOrder.verify(firstListener).postDiscoveryFilterApplied(postDiscoveryFilter, duration);
+		inOrder.verify(secondListener).postDiscoveryFilterApplied(postDiscoveryFilter, duration);
 		inOrder.verify(secondListener).launcherDiscoveryFinished(launcherDiscoveryRequest);
 		inOrder.verify(firstListener).launcherDiscoveryFinished(launcherDiscoveryRequest);
 	}
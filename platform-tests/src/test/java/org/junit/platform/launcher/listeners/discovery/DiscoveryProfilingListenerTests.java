@@ -0,0 +1,143 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.listeners.discovery;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectMethod;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly.createLauncherConfigBuilderWithDisabledServiceLoading;
+import static org.junit.platform.launcher.core.OutputDirectoryProviders.hierarchicalOutputDirectoryProvider;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.engine.JupiterTestEngine;
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherDiscoveryListener;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly;
+
+/**
+ * @since 6.0
+ */
+class DiscoveryProfilingListenerTests {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void profilesResolversPackagesAndFilters() {
+		var listener = (DiscoveryProfilingListener) LauncherDiscoveryListeners.profiling();
+		var launcher = LauncherFactoryForTestingPurposesOnly.createLauncher(new JupiterTestEngine());
+
+		launcher.discover(createRequest() //
+				.listeners(listener) //
+				.filters(new NamedFilter()) //
+				.build());
+
+		var profile = listener.getProfile();
+		assertThat(profile.getTotalNanos()).isPositive();
+		assertThat(profile.getResolvers()).isNotEmpty();
+		assertThat(profile.getPackages()).containsKey(TestCase.class.getPackageName());
+		assertThat(profile.getPackages().get(TestCase.class.getPackageName()).getCount()).isGreaterThanOrEqualTo(2);
+		assertThat(profile.getFilters()).containsOnlyKeys(NamedFilter.NAME);
+		assertThat(tempDir.resolve(DiscoveryProfilingListener.REPORT_FILE_NAME)).exists();
+	}
+
+	@Test
+	void writesReportIfAutomaticallyRegisteredListenerIsEnabled() throws Exception {
+		var launcher = createLauncherWithDiscoveryListenerAutoRegistration();
+
+		launcher.discover(createRequest() //
+				.configurationParameter(DiscoveryProfilingListener.LISTENER_ENABLED_PROPERTY_NAME, "true") //
+				.build());
+
+		assertThat(Files.readString(tempDir.resolve(DiscoveryProfilingListener.REPORT_FILE_NAME))) //
+				.startsWith("Test discovery took ") //
+				.contains("[engine:junit-jupiter]", "Selector resolvers", "ClassSelector", "Packages",
+					TestCase.class.getPackageName());
+	}
+
+	@Test
+	void doesNotWriteReportIfAutomaticallyRegisteredListenerIsDisabled() {
+		var launcher = createLauncherWithDiscoveryListenerAutoRegistration();
+
+		launcher.discover(createRequest().build());
+
+		assertThat(tempDir.resolve(DiscoveryProfilingListener.REPORT_FILE_NAME)).doesNotExist();
+	}
+
+	@Test
+	void doesNotReportResolverInvocationsIfProfilingIsDisabled() {
+		var invocations = new AtomicInteger();
+		var launcher = LauncherFactoryForTestingPurposesOnly.createLauncher(new JupiterTestEngine());
+
+		launcher.discover(createRequest() //
+				.listeners(new LauncherDiscoveryListener() {
+					@Override
+					public void selectorResolverInvoked(UniqueId engineId, DiscoverySelector selector,
+							Class<?> resolverClass, Duration duration) {
+						invocations.incrementAndGet();
+					}
+				}) //
+				.build());
+
+		assertThat(invocations).hasValue(0);
+	}
+
+	private static Launcher createLauncherWithDiscoveryListenerAutoRegistration() {
+		return LauncherFactory.create(createLauncherConfigBuilderWithDisabledServiceLoading() //
+				.enableLauncherDiscoveryListenerAutoRegistration(true) //
+				.addTestEngines(new JupiterTestEngine()) //
+				.build());
+	}
+
+	private LauncherDiscoveryRequestBuilder createRequest() {
+		return request() //
+				.selectors(selectClass(TestCase.class), selectMethod(TestCase.class, "test")) //
+				.outputDirectoryProvider(hierarchicalOutputDirectoryProvider(tempDir));
+	}
+
+	private static class NamedFilter implements PostDiscoveryFilter {
+
+		static final String NAME = "named filter";
+
+		@Override
+		public FilterResult apply(TestDescriptor object) {
+			return FilterResult.included("always");
+		}
+
+		@Override
+		public String toString() {
+			return NAME;
+		}
+	}
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	static class TestCase {
+
+		@Test
+		void test() {
+		}
+	}
+
+}
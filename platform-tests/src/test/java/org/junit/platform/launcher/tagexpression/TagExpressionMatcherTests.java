@@ -0,0 +1,96 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.tagexpression;
+
+import static java.util.stream.Collectors.toSet;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.platform.engine.TestTag;
+
+/**
+ * @since 6.0
+ */
+class TagExpressionMatcherTests {
+
+	private static final List<Set<TestTag>> tagSets = List.of(Set.of(), tags("a"), tags("b"), tags("c"),
+		tags("a", "b"), tags("a", "c"), tags("b", "c"), tags("a", "b", "c"), tags("d"), tags("a", "d"));
+
+	@ParameterizedTest
+	@ValueSource(strings = { "a", "!a", "a & b", "a | b", "!(a & b) | c", "a & !b & !c", "any()", "none()",
+			"none() | a", "any() & !a", "!none() & !any()" })
+	void matchesSameTagsAsExpression(String infixTagExpression) {
+		var expression = parse(infixTagExpression);
+		var matcher = TagExpressionMatcher.compile(List.of(expression));
+
+		for (var tags : tagSets) {
+			assertThat(matcher.matches(tags)).describedAs("%s %s", infixTagExpression, tags) //
+					.isEqualTo(expression.evaluate(tags));
+		}
+	}
+
+	@Test
+	void matchesIfAnyExpressionMatches() {
+		var matcher = TagExpressionMatcher.compile(List.of(parse("a & b"), parse("c"), parse("none()")));
+
+		assertThat(matcher.matches(Set.of())).isTrue();
+		assertThat(matcher.matches(tags("a"))).isFalse();
+		assertThat(matcher.matches(tags("a", "b"))).isTrue();
+		assertThat(matcher.matches(tags("c", "d"))).isTrue();
+		assertThat(matcher.matches(tags("d"))).isFalse();
+	}
+
+	@Test
+	void matchesExpressionsReferencingManyTags() {
+		for (int tagCount : new int[] { 20, 63, 100 }) {
+			var names = IntStream.range(0, tagCount).mapToObj(i -> "t" + i).toList();
+			var matcher = TagExpressionMatcher.compile(
+				List.of(parse(String.join(" & ", names)), parse("!t0 & " + names.get(tagCount - 1))));
+
+			assertThat(matcher.matches(tags(names.toArray(String[]::new)))).isTrue();
+			assertThat(matcher.matches(tags(names.get(tagCount - 1)))).isTrue();
+			assertThat(matcher.matches(tags(names.get(0), names.get(tagCount - 1)))).isFalse();
+			assertThat(matcher.matches(Set.of())).isFalse();
+		}
+	}
+
+	@Test
+	void evaluatesCustomExpressionsAsIs() {
+		List<Set<TestTag>> evaluatedTags = new ArrayList<>();
+		TagExpression custom = tags -> {
+			evaluatedTags.add(Set.copyOf(tags));
+			return tags.size() == 2;
+		};
+		var matcher = TagExpressionMatcher.compile(List.of(parse("a"), TagExpressions.not(custom)));
+
+		assertThat(matcher.matches(tags("a", "b"))).isTrue();
+		assertThat(matcher.matches(tags("b", "c"))).isFalse();
+		assertThat(matcher.matches(tags("b"))).isTrue();
+		assertThat(evaluatedTags).containsExactly(tags("b", "c"), tags("b"));
+	}
+
+	private static TagExpression parse(String infixTagExpression) {
+		return TagExpression.parseFrom(infixTagExpression).tagExpressionOrThrow(IllegalArgumentException::new);
+	}
+
+	private static Set<TestTag> tags(String... names) {
+		return Stream.of(names).map(TestTag::create).collect(toSet());
+	}
+
+}
@@ -22,6 +22,7 @@ import static org.junit.platform.launcher.LauncherConstants.OUTPUT_DIR_PROPERTY_
 import static org.junit.platform.launcher.LauncherConstants.OUTPUT_DIR_UNIQUE_NUMBER_PLACEHOLDER;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
 import static org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly.createLauncher;
+import static org.junit.platform.reporting.open.xml.OpenTestReportGeneratingListener.ASYNC_ENABLED_PROPERTY_NAME;
 import static org.junit.platform.reporting.open.xml.OpenTestReportGeneratingListener.ENABLED_PROPERTY_NAME;
 import static org.junit.platform.reporting.open.xml.OpenTestReportGeneratingListener.GIT_ENABLED_PROPERTY_NAME;
 import static org.junit.platform.reporting.testutil.FileUtils.findPath;
@@ -177,6 +178,32 @@ public class OpenTestReportGeneratingListenerTests {
 				.areIdentical();
 	}
 
+	@Test
+	void writesAllEventsInOrderWhenAsyncWritingIsEnabled(@TempDir Path tempDirectory) throws Exception {
+		var engine = new DemoHierarchicalTestEngine("dummy");
+		var numberOfTests = 100;
+		for (int i = 0; i < numberOfTests; i++) {
+			engine.addTest("test" + i, () -> {
+			});
+		}
+
+		executeTests(tempDirectory, engine, tempDirectory.resolve("junit-reports"),
+			Map.of(ASYNC_ENABLED_PROPERTY_NAME, "true"));
+
+		var xmlFile = findPath(tempDirectory, "glob:**/open-test-report.xml");
+		assertThat(validate(xmlFile)).isEmpty();
+
+		assertThatXml(xmlFile) //
+				.valueByXPath("count(/e:events/e:started[@parentId='1'])") //
+				.isEqualTo(numberOfTests);
+		assertThatXml(xmlFile) //
+				.valueByXPath("count(/e:events/e:finished)") //
+				.isEqualTo(numberOfTests + 1);
+		assertThatXml(xmlFile) //
+				.valueByXPath("/e:events/e:finished[last()]/@id") //
+				.isEqualTo(1);
+	}
+
 	@ParameterizedTest
 	@ValueSource(strings = { "https://github.com/junit-team/junit-framework.git",
 			"git@github.com:junit-team/junit-framework.git" })
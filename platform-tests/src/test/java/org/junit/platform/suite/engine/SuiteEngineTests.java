@@ -59,6 +59,7 @@ import org.junit.platform.suite.engine.testcases.DynamicTestsTestCase;
 import org.junit.platform.suite.engine.testcases.ErroneousTestCase;
 import org.junit.platform.suite.engine.testcases.JUnit4TestsTestCase;
 import org.junit.platform.suite.engine.testcases.MultipleTestsTestCase;
+import org.junit.platform.suite.engine.testcases.ParallelSuitesTestCase;
 import org.junit.platform.suite.engine.testcases.SingleTestTestCase;
 import org.junit.platform.suite.engine.testcases.TaggedTestTestCase;
 import org.junit.platform.suite.engine.testsuites.AbstractSuite;
@@ -75,6 +76,7 @@ import org.junit.platform.suite.engine.testsuites.InheritedSuite;
 import org.junit.platform.suite.engine.testsuites.MultiEngineSuite;
 import org.junit.platform.suite.engine.testsuites.MultipleSuite;
 import org.junit.platform.suite.engine.testsuites.NestedSuite;
+import org.junit.platform.suite.engine.testsuites.ParallelSuites;
 import org.junit.platform.suite.engine.testsuites.SelectByIdentifierSuite;
 import org.junit.platform.suite.engine.testsuites.SelectClassesSuite;
 import org.junit.platform.suite.engine.testsuites.SelectMethodsSuite;
@@ -629,6 +631,44 @@ class SuiteEngineTests {
 		// @formatter:on
 	}
 
+	@Test
+	void executesSuitesInParallel() {
+		ParallelSuitesTestCase.reset();
+
+		// @formatter:off
+		EngineTestKit.engine(ENGINE_ID)
+				.selectors(selectClass(ParallelSuites.FirstAwaitingSuite.class),
+					selectClass(ParallelSuites.SecondAwaitingSuite.class))
+				.configurationParameter(Constants.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, "true")
+				.configurationParameter(Constants.PARALLEL_CONFIG_STRATEGY_PROPERTY_NAME, "fixed")
+				.configurationParameter(Constants.PARALLEL_CONFIG_FIXED_PARALLELISM_PROPERTY_NAME, "2")
+				.execute()
+				.testEvents()
+				.assertStatistics(stats -> stats.started(2).succeeded(2));
+		// @formatter:on
+	}
+
+	@Test
+	void doesNotExecuteSuitesSharingAResourceLockConcurrently() {
+		ParallelSuitesTestCase.reset();
+
+		// @formatter:off
+		EngineTestKit.engine(ENGINE_ID)
+				.selectors(selectClass(ParallelSuites.FirstLockingSuite.class),
+					selectClass(ParallelSuites.SecondLockingSuite.class),
+					selectClass(ParallelSuites.ThirdLockingSuite.class),
+					selectClass(ParallelSuites.UnrelatedSuite.class))
+				.configurationParameter(Constants.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, "true")
+				.configurationParameter(Constants.PARALLEL_CONFIG_STRATEGY_PROPERTY_NAME, "fixed")
+				.configurationParameter(Constants.PARALLEL_CONFIG_FIXED_PARALLELISM_PROPERTY_NAME, "4")
+				.execute()
+				.testEvents()
+				.assertStatistics(stats -> stats.started(4).succeeded(4));
+		// @formatter:on
+
+		assertThat(ParallelSuitesTestCase.maxConcurrentInvocations).hasValue(1);
+	}
+
 	@Suite
 	@SelectClasses(SingleTestTestCase.class)
 	abstract private static class AbstractPrivateSuite {
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.suite.engine.testcases;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @since 6.0
+ */
+public class ParallelSuitesTestCase {
+
+	public static CyclicBarrier barrier = new CyclicBarrier(2);
+
+	public static final AtomicInteger concurrentInvocations = new AtomicInteger();
+
+	public static final AtomicInteger maxConcurrentInvocations = new AtomicInteger();
+
+	public static CountDownLatch unrelatedTestStarted = new CountDownLatch(1);
+
+	public static CountDownLatch exclusiveResourceTestsFinished = new CountDownLatch(3);
+
+	public static void reset() {
+		barrier = new CyclicBarrier(2);
+		concurrentInvocations.set(0);
+		maxConcurrentInvocations.set(0);
+		unrelatedTestStarted = new CountDownLatch(1);
+		exclusiveResourceTestsFinished = new CountDownLatch(3);
+	}
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	public static class AwaitingTestCase {
+
+		@Test
+		void awaitOtherSuite() throws Exception {
+			barrier.await(10, SECONDS);
+		}
+
+	}
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	public static class ExclusiveResourceTestCase {
+
+		@Test
+		void useExclusiveResource() throws Exception {
+			int concurrent = concurrentInvocations.incrementAndGet();
+			maxConcurrentInvocations.accumulateAndGet(concurrent, Math::max);
+			try {
+				// Hold the exclusive resource until a suite that does not use
+				// it is running concurrently.
+				assertTrue(unrelatedTestStarted.await(10, SECONDS));
+			}
+			finally {
+				concurrentInvocations.decrementAndGet();
+				exclusiveResourceTestsFinished.countDown();
+			}
+		}
+
+	}
+
+	@SuppressWarnings("JUnitMalformedDeclaration")
+	public static class UnrelatedTestCase {
+
+		@Test
+		void runConcurrentlyWithExclusiveResourceTests() throws Exception {
+			unrelatedTestStarted.countDown();
+			assertTrue(exclusiveResourceTestsFinished.await(10, SECONDS));
+		}
+
+	}
+
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.suite.engine.testsuites;
+
+import org.junit.platform.suite.api.SelectClasses;
+import org.junit.platform.suite.api.Suite;
+import org.junit.platform.suite.api.SuiteResourceLock;
+import org.junit.platform.suite.engine.SuiteEngineTests;
+import org.junit.platform.suite.engine.testcases.ParallelSuitesTestCase;
+
+/**
+ * Test suites used for parallel execution in {@link SuiteEngineTests}.
+ *
+ * @since 6.0
+ */
+@SuppressWarnings("NewClassNamingConvention")
+public class ParallelSuites {
+
+	@Suite
+	@SelectClasses(ParallelSuitesTestCase.AwaitingTestCase.class)
+	public static class FirstAwaitingSuite {
+	}
+
+	@Suite
+	@SelectClasses(ParallelSuitesTestCase.AwaitingTestCase.class)
+	public static class SecondAwaitingSuite {
+	}
+
+	@Suite
+	@SuiteResourceLock("shared")
+	@SelectClasses(ParallelSuitesTestCase.ExclusiveResourceTestCase.class)
+	public static class FirstLockingSuite {
+	}
+
+	@Suite
+	@SuiteResourceLock({ "other", "shared" })
+	@SelectClasses(ParallelSuitesTestCase.ExclusiveResourceTestCase.class)
+	public static class SecondLockingSuite {
+	}
+
+	@Suite
+	@SuiteResourceLock("shared")
+	@SelectClasses(ParallelSuitesTestCase.ExclusiveResourceTestCase.class)
+	public static class ThirdLockingSuite {
+	}
+
+	@Suite
+	@SelectClasses(ParallelSuitesTestCase.UnrelatedTestCase.class)
+	public static class UnrelatedSuite {
+	}
+
+}